@@ -239,6 +239,9 @@ void RenderFactoryMethods(const OpSpec& op, const Type& op_class,
   // Add control dependencies, if any.
   writer->Append("opBuilder = scope.applyControlDependencies(opBuilder);");
   writer->EndLine();
+  // Place the op on the device of the scope, if any.
+  writer->Append("opBuilder = scope.applyDevice(opBuilder);");
+  writer->EndLine();
 
   for (const AttributeSpec& attribute : op.attributes()) {
     WriteSetAttrDirective(attribute, false, writer);
@@ -294,13 +294,13 @@ import org.tensorflow.types.family.TType;
  *   Operand four = ops.constant(4);
  *   // Most builders are found within a group, and accept
  *   // Operand types as operands
- *   Operand nine = ops.math.add(four, ops.constant(5));
+ *   Operand nine = ops.math().add(four, ops.constant(5));
  *   // Multi-result operations however offer methods to
  *   // select a particular result for use.
  *   Operand result = 
- *       ops.math.add(ops.unique(s, a).y(), b);
+ *       ops.math().add(ops.unique(s, a).y(), b);
  *   // Optional attributes
- *   ops.linalg.matMul(a, b, MatMul.transposeA(true));
+ *   ops.linalg().matMul(a, b, MatMul.transposeA(true));
  *   // Naming operators
  *   ops.withName("foo").constant(5); // name "foo"
  *   // Names can exist in a hierarchy
@@ -308,60 +308,48 @@ import org.tensorflow.types.family.TType;
  *   sub.withName("bar").constant(4); // "sub/bar"
  * }
  * }</pre>
+ * <p>
+ * Instances of the operation groups are only created when first accessed, so
+ * that deriving a new API with {@link #withName(String)} or similar methods
+ * remains cheap.
  */
 public final class Ops {
   private final Scope scope;
 
-  public final NnOps nn;
+  private NnOps nn;
 
-  public final SummaryOps summary;
+  private SummaryOps summary;
 
-  public final ImageOps image;
+  private ImageOps image;
 
-  public final DataOps data;
+  private DataOps data;
 
-  public final IoOps io;
+  private IoOps io;
 
-  public final DtypesOps dtypes;
+  private DtypesOps dtypes;
 
-  public final LinalgOps linalg;
+  private LinalgOps linalg;
 
-  public final RandomOps random;
+  private RandomOps random;
 
-  public final StringsOps strings;
+  private StringsOps strings;
 
-  public final SparseOps sparse;
+  private SparseOps sparse;
 
-  public final BitwiseOps bitwise;
+  private BitwiseOps bitwise;
 
-  public final MathOps math;
+  private MathOps math;
 
-  public final AudioOps audio;
+  private AudioOps audio;
 
-  public final SignalOps signal;
+  private SignalOps signal;
 
-  public final TrainOps train;
+  private TrainOps train;
 
-  public final QuantizationOps quantization;
+  private QuantizationOps quantization;
 
   private Ops(Scope scope) {
     this.scope = scope;
-    nn = new NnOps(scope);
-    summary = new SummaryOps(scope);
-    image = new ImageOps(scope);
-    data = new DataOps(scope);
-    io = new IoOps(scope);
-    dtypes = new DtypesOps(scope);
-    linalg = new LinalgOps(scope);
-    random = new RandomOps(scope);
-    strings = new StringsOps(scope);
-    sparse = new SparseOps(scope);
-    bitwise = new BitwiseOps(scope);
-    math = new MathOps(scope);
-    audio = new AudioOps(scope);
-    signal = new SignalOps(scope);
-    train = new TrainOps(scope);
-    quantization = new QuantizationOps(scope);
   }
 
   /**
@@ -4628,6 +4616,15 @@ public final class Ops {
     return new Ops(scope.withControlDependencies(controls));
   }
 
+  /**
+   * Returns an API that places operations on the provided device.
+   *
+   * @see {@link Scope#withDevice(String)}
+   */
+  public Ops withDevice(String device) {
+    return new Ops(scope.withDevice(device));
+  }
+
   /**
    * Returns the current {@link Scope scope} of this API
    */
@@ -4639,112 +4636,192 @@ public final class Ops {
    * Returns an API for building {@code nn} operations
    */
   public final NnOps nn() {
-    return nn;
+    NnOps group = nn;
+    if (group == null) {
+      group = new NnOps(scope);
+      nn = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code summary} operations
    */
   public final SummaryOps summary() {
-    return summary;
+    SummaryOps group = summary;
+    if (group == null) {
+      group = new SummaryOps(scope);
+      summary = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code image} operations
    */
   public final ImageOps image() {
-    return image;
+    ImageOps group = image;
+    if (group == null) {
+      group = new ImageOps(scope);
+      image = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code data} operations
    */
   public final DataOps data() {
-    return data;
+    DataOps group = data;
+    if (group == null) {
+      group = new DataOps(scope);
+      data = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code io} operations
    */
   public final IoOps io() {
-    return io;
+    IoOps group = io;
+    if (group == null) {
+      group = new IoOps(scope);
+      io = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code dtypes} operations
    */
   public final DtypesOps dtypes() {
-    return dtypes;
+    DtypesOps group = dtypes;
+    if (group == null) {
+      group = new DtypesOps(scope);
+      dtypes = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code linalg} operations
    */
   public final LinalgOps linalg() {
-    return linalg;
+    LinalgOps group = linalg;
+    if (group == null) {
+      group = new LinalgOps(scope);
+      linalg = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code random} operations
    */
   public final RandomOps random() {
-    return random;
+    RandomOps group = random;
+    if (group == null) {
+      group = new RandomOps(scope);
+      random = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code strings} operations
    */
   public final StringsOps strings() {
-    return strings;
+    StringsOps group = strings;
+    if (group == null) {
+      group = new StringsOps(scope);
+      strings = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code sparse} operations
    */
   public final SparseOps sparse() {
-    return sparse;
+    SparseOps group = sparse;
+    if (group == null) {
+      group = new SparseOps(scope);
+      sparse = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code bitwise} operations
    */
   public final BitwiseOps bitwise() {
-    return bitwise;
+    BitwiseOps group = bitwise;
+    if (group == null) {
+      group = new BitwiseOps(scope);
+      bitwise = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code math} operations
    */
   public final MathOps math() {
-    return math;
+    MathOps group = math;
+    if (group == null) {
+      group = new MathOps(scope);
+      math = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code audio} operations
    */
   public final AudioOps audio() {
-    return audio;
+    AudioOps group = audio;
+    if (group == null) {
+      group = new AudioOps(scope);
+      audio = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code signal} operations
    */
   public final SignalOps signal() {
-    return signal;
+    SignalOps group = signal;
+    if (group == null) {
+      group = new SignalOps(scope);
+      signal = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code train} operations
    */
   public final TrainOps train() {
-    return train;
+    TrainOps group = train;
+    if (group == null) {
+      group = new TrainOps(scope);
+      train = group;
+    }
+    return group;
   }
 
   /**
    * Returns an API for building {@code quantization} operations
    */
   public final QuantizationOps quantization() {
-    return quantization;
+    QuantizationOps group = quantization;
+    if (group == null) {
+      group = new QuantizationOps(scope);
+      quantization = group;
+    }
+    return group;
   }
 
   /**
@@ -93,6 +93,7 @@ public final class AudioSpectrogram extends PrimitiveOp implements Operand<TFloa
     OperationBuilder opBuilder = scope.env().opBuilder("AudioSpectrogram", scope.makeOpName("AudioSpectrogram"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("window_size", windowSize);
     opBuilder.setAttr("stride", stride);
     if (options != null) {
@@ -89,6 +89,7 @@ public final class DecodeWav extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("DecodeWav", scope.makeOpName("DecodeWav"));
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.desiredChannels != null) {
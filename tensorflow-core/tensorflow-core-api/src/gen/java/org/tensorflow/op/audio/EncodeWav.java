@@ -55,6 +55,7 @@ public final class EncodeWav extends PrimitiveOp implements Operand<TString> {
     opBuilder.addInput(audio.asOutput());
     opBuilder.addInput(sampleRate.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new EncodeWav(opBuilder.build());
   }
   
@@ -103,6 +103,7 @@ public final class Mfcc extends PrimitiveOp implements Operand<TFloat> {
     opBuilder.addInput(spectrogram.asOutput());
     opBuilder.addInput(sampleRate.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.upperFrequencyLimit != null) {
@@ -68,6 +68,7 @@ public final class BitwiseAnd<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BitwiseAnd<T>(opBuilder.build());
   }
   
@@ -68,6 +68,7 @@ public final class BitwiseOr<T extends TNumber> extends PrimitiveOp implements O
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BitwiseOr<T>(opBuilder.build());
   }
   
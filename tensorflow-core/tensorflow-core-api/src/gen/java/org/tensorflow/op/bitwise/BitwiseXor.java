@@ -68,6 +68,7 @@ public final class BitwiseXor<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BitwiseXor<T>(opBuilder.build());
   }
   
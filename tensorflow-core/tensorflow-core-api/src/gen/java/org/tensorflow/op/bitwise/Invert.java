@@ -87,6 +87,7 @@ public final class Invert<T extends TNumber> extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("Invert", scope.makeOpName("Invert"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Invert<T>(opBuilder.build());
   }
   
@@ -79,6 +79,7 @@ public final class LeftShift<T extends TNumber> extends PrimitiveOp implements O
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new LeftShift<T>(opBuilder.build());
   }
   
@@ -82,6 +82,7 @@ public final class RightShift<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RightShift<T>(opBuilder.build());
   }
   
@@ -72,6 +72,7 @@ public final class Abort extends PrimitiveOp {
   public static Abort create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("Abort", scope.makeOpName("Abort"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.errorMsg != null) {
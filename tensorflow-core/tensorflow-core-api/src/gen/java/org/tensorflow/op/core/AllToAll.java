@@ -69,6 +69,7 @@ public final class AllToAll<T extends TType> extends PrimitiveOp implements Oper
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(groupAssignment.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("concat_dimension", concatDimension);
     opBuilder.setAttr("split_dimension", splitDimension);
     opBuilder.setAttr("split_count", splitCount);
@@ -36,6 +36,7 @@ public final class AnonymousMemoryCache extends PrimitiveOp {
   public static AnonymousMemoryCache create(Scope scope) {
     OperationBuilder opBuilder = scope.env().opBuilder("AnonymousMemoryCache", scope.makeOpName("AnonymousMemoryCache"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AnonymousMemoryCache(opBuilder.build());
   }
   
@@ -42,6 +42,7 @@ public final class AnonymousRandomSeedGenerator extends PrimitiveOp {
     opBuilder.addInput(seed.asOutput());
     opBuilder.addInput(seed2.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AnonymousRandomSeedGenerator(opBuilder.build());
   }
   
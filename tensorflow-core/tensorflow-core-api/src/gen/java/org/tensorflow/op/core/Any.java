@@ -73,6 +73,7 @@ public final class Any extends PrimitiveOp implements Operand<TBool> {
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.keepDims != null) {
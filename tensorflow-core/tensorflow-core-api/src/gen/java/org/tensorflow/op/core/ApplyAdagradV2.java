@@ -85,6 +85,7 @@ public final class ApplyAdagradV2<T extends TType> extends PrimitiveOp implement
     opBuilder.addInput(epsilon.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
@@ -82,6 +82,7 @@ public final class Assign<T extends TType> extends PrimitiveOp implements Operan
     opBuilder.addInput(ref.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.validateShape != null) {
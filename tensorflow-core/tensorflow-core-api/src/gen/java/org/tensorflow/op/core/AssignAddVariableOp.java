@@ -47,6 +47,7 @@ public final class AssignAddVariableOp extends PrimitiveOp {
     opBuilder.addInput(resource.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AssignAddVariableOp(opBuilder.build());
   }
   
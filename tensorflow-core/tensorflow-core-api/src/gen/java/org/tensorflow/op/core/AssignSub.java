@@ -71,6 +71,7 @@ public final class AssignSub<T extends TType> extends PrimitiveOp implements Ope
     opBuilder.addInput(ref.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
@@ -47,6 +47,7 @@ public final class AssignVariableOp extends PrimitiveOp {
     opBuilder.addInput(resource.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AssignVariableOp(opBuilder.build());
   }
   
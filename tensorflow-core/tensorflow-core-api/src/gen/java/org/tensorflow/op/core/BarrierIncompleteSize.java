@@ -44,6 +44,7 @@ public final class BarrierIncompleteSize extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("BarrierIncompleteSize", scope.makeOpName("BarrierIncompleteSize"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BarrierIncompleteSize(opBuilder.build());
   }
   
@@ -54,6 +54,7 @@ public final class BarrierInsertMany extends PrimitiveOp {
     opBuilder.addInput(keys.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("component_index", componentIndex);
     return new BarrierInsertMany(opBuilder.build());
   }
@@ -44,6 +44,7 @@ public final class BarrierReadySize extends PrimitiveOp implements Operand<TInt3
     OperationBuilder opBuilder = scope.env().opBuilder("BarrierReadySize", scope.makeOpName("BarrierReadySize"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BarrierReadySize(opBuilder.build());
   }
   
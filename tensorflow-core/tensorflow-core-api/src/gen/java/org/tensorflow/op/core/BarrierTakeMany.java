@@ -101,6 +101,7 @@ public final class BarrierTakeMany extends PrimitiveOp {
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(numElements.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] componentTypesArray = new DataType[componentTypes.size()];
     for (int i = 0; i < componentTypesArray.length; ++i) {
       componentTypesArray[i] = componentTypes.get(i);
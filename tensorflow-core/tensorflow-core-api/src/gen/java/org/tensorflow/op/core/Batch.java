@@ -143,6 +143,7 @@ public final class Batch extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("Batch", scope.makeOpName("Batch"));
     opBuilder.addInputList(Operands.asOutputs(inTensors));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_batch_threads", numBatchThreads);
     opBuilder.setAttr("max_batch_size", maxBatchSize);
     opBuilder.setAttr("batch_timeout_micros", batchTimeoutMicros);
@@ -100,6 +100,7 @@ public final class BatchMatMulV2<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.adjX != null) {
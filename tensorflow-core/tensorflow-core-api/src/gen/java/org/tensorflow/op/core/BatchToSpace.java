@@ -64,6 +64,7 @@ public final class BatchToSpace<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(crops.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("block_size", blockSize);
     return new BatchToSpace<T>(opBuilder.build());
   }
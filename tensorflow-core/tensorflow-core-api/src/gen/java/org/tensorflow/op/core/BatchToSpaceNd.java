@@ -152,6 +152,7 @@ public final class BatchToSpaceNd<T extends TType> extends PrimitiveOp implement
     opBuilder.addInput(blockShape.asOutput());
     opBuilder.addInput(crops.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BatchToSpaceNd<T>(opBuilder.build());
   }
   
@@ -96,6 +96,7 @@ public final class Bitcast<U extends TType> extends PrimitiveOp implements Opera
     OperationBuilder opBuilder = scope.env().opBuilder("Bitcast", scope.makeOpName("Bitcast"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("type", type);
     return new Bitcast<U>(opBuilder.build());
   }
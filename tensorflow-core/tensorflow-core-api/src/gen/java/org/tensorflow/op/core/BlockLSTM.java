@@ -118,6 +118,7 @@ public final class BlockLSTM<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(wco.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.forgetBias != null) {
@@ -83,6 +83,7 @@ public final class BlockLSTMGrad<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(csGrad.asOutput());
     opBuilder.addInput(hGrad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("use_peephole", usePeephole);
     return new BlockLSTMGrad<T>(opBuilder.build());
   }
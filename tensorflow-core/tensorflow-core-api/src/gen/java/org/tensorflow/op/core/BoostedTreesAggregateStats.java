@@ -52,6 +52,7 @@ public final class BoostedTreesAggregateStats extends PrimitiveOp implements Ope
     opBuilder.addInput(hessians.asOutput());
     opBuilder.addInput(feature.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("max_splits", maxSplits);
     opBuilder.setAttr("num_buckets", numBuckets);
     return new BoostedTreesAggregateStats(opBuilder.build());
@@ -52,6 +52,7 @@ public final class BoostedTreesBucketize extends PrimitiveOp implements Iterable
     opBuilder.addInputList(Operands.asOutputs(floatValues));
     opBuilder.addInputList(Operands.asOutputs(bucketBoundaries));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BoostedTreesBucketize(opBuilder.build());
   }
   
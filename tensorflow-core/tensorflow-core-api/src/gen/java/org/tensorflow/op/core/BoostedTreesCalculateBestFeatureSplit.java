@@ -83,6 +83,7 @@ public final class BoostedTreesCalculateBestFeatureSplit extends PrimitiveOp {
     opBuilder.addInput(treeComplexity.asOutput());
     opBuilder.addInput(minNodeWeight.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("logits_dimension", logitsDimension);
     if (options != null) {
       for (Options opts : options) {
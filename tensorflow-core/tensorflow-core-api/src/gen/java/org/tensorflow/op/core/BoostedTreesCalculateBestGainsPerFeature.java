@@ -65,6 +65,7 @@ public final class BoostedTreesCalculateBestGainsPerFeature extends PrimitiveOp
     opBuilder.addInput(treeComplexity.asOutput());
     opBuilder.addInput(minNodeWeight.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("max_splits", maxSplits);
     return new BoostedTreesCalculateBestGainsPerFeature(opBuilder.build());
   }
@@ -50,6 +50,7 @@ public final class BoostedTreesCenterBias extends PrimitiveOp implements Operand
     opBuilder.addInput(l1.asOutput());
     opBuilder.addInput(l2.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BoostedTreesCenterBias(opBuilder.build());
   }
   
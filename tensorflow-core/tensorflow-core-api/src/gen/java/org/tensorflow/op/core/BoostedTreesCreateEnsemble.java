@@ -45,6 +45,7 @@ public final class BoostedTreesCreateEnsemble extends PrimitiveOp {
     opBuilder.addInput(stampToken.asOutput());
     opBuilder.addInput(treeEnsembleSerialized.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BoostedTreesCreateEnsemble(opBuilder.build());
   }
   
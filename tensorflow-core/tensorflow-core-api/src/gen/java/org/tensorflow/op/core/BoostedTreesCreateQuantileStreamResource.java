@@ -65,6 +65,7 @@ public final class BoostedTreesCreateQuantileStreamResource extends PrimitiveOp
     opBuilder.addInput(epsilon.asOutput());
     opBuilder.addInput(numStreams.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.maxElements != null) {
@@ -47,6 +47,7 @@ public final class BoostedTreesDeserializeEnsemble extends PrimitiveOp {
     opBuilder.addInput(stampToken.asOutput());
     opBuilder.addInput(treeEnsembleSerialized.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BoostedTreesDeserializeEnsemble(opBuilder.build());
   }
   
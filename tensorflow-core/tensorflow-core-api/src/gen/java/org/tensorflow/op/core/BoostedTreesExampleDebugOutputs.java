@@ -52,6 +52,7 @@ public final class BoostedTreesExampleDebugOutputs extends PrimitiveOp implement
     opBuilder.addInput(treeEnsembleHandle.asOutput());
     opBuilder.addInputList(Operands.asOutputs(bucketizedFeatures));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("logits_dimension", logitsDimension);
     return new BoostedTreesExampleDebugOutputs(opBuilder.build());
   }
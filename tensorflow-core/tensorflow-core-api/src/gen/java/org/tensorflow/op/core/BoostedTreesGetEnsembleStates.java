@@ -42,6 +42,7 @@ public final class BoostedTreesGetEnsembleStates extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesGetEnsembleStates", scope.makeOpName("BoostedTreesGetEnsembleStates"));
     opBuilder.addInput(treeEnsembleHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BoostedTreesGetEnsembleStates(opBuilder.build());
   }
   
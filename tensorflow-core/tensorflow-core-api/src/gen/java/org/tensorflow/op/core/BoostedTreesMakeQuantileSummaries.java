@@ -52,6 +52,7 @@ public final class BoostedTreesMakeQuantileSummaries extends PrimitiveOp impleme
     opBuilder.addInput(exampleWeights.asOutput());
     opBuilder.addInput(epsilon.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BoostedTreesMakeQuantileSummaries(opBuilder.build());
   }
   
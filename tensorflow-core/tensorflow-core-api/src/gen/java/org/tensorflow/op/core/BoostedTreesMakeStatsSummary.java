@@ -53,6 +53,7 @@ public final class BoostedTreesMakeStatsSummary extends PrimitiveOp implements O
     opBuilder.addInput(hessians.asOutput());
     opBuilder.addInputList(Operands.asOutputs(bucketizedFeaturesList));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("max_splits", maxSplits);
     opBuilder.setAttr("num_buckets", numBuckets);
     return new BoostedTreesMakeStatsSummary(opBuilder.build());
@@ -47,6 +47,7 @@ public final class BoostedTreesQuantileStreamResourceAddSummaries extends Primit
     opBuilder.addInput(quantileStreamResourceHandle.asOutput());
     opBuilder.addInputList(Operands.asOutputs(summaries));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BoostedTreesQuantileStreamResourceAddSummaries(opBuilder.build());
   }
   
@@ -45,6 +45,7 @@ public final class BoostedTreesQuantileStreamResourceDeserialize extends Primiti
     opBuilder.addInput(quantileStreamResourceHandle.asOutput());
     opBuilder.addInputList(Operands.asOutputs(bucketBoundaries));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BoostedTreesQuantileStreamResourceDeserialize(opBuilder.build());
   }
   
@@ -69,6 +69,7 @@ public final class BoostedTreesQuantileStreamResourceFlush extends PrimitiveOp {
     opBuilder.addInput(quantileStreamResourceHandle.asOutput());
     opBuilder.addInput(numBuckets.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.generateQuantiles != null) {
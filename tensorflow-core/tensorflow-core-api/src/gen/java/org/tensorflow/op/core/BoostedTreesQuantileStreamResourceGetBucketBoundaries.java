@@ -48,6 +48,7 @@ public final class BoostedTreesQuantileStreamResourceGetBucketBoundaries extends
     OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesQuantileStreamResourceGetBucketBoundaries", scope.makeOpName("BoostedTreesQuantileStreamResourceGetBucketBoundaries"));
     opBuilder.addInput(quantileStreamResourceHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_features", numFeatures);
     return new BoostedTreesQuantileStreamResourceGetBucketBoundaries(opBuilder.build());
   }
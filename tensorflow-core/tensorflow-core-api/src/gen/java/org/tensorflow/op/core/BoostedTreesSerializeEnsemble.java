@@ -42,6 +42,7 @@ public final class BoostedTreesSerializeEnsemble extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesSerializeEnsemble", scope.makeOpName("BoostedTreesSerializeEnsemble"));
     opBuilder.addInput(treeEnsembleHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BoostedTreesSerializeEnsemble(opBuilder.build());
   }
   
@@ -62,6 +62,7 @@ public final class BoostedTreesSparseAggregateStats extends PrimitiveOp {
     opBuilder.addInput(featureValues.asOutput());
     opBuilder.addInput(featureShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("max_splits", maxSplits);
     opBuilder.setAttr("num_buckets", numBuckets);
     return new BoostedTreesSparseAggregateStats(opBuilder.build());
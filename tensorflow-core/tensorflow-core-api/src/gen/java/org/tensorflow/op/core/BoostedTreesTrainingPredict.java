@@ -58,6 +58,7 @@ public final class BoostedTreesTrainingPredict extends PrimitiveOp {
     opBuilder.addInput(cachedNodeIds.asOutput());
     opBuilder.addInputList(Operands.asOutputs(bucketizedFeatures));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("logits_dimension", logitsDimension);
     return new BoostedTreesTrainingPredict(opBuilder.build());
   }
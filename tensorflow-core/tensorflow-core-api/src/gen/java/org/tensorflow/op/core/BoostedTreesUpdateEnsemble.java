@@ -69,6 +69,7 @@ public final class BoostedTreesUpdateEnsemble extends PrimitiveOp {
     opBuilder.addInput(maxDepth.asOutput());
     opBuilder.addInput(learningRate.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("pruning_mode", pruningMode);
     return new BoostedTreesUpdateEnsemble(opBuilder.build());
   }
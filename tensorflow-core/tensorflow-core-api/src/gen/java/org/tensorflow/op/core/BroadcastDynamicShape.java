@@ -51,6 +51,7 @@ public final class BroadcastDynamicShape<T extends TNumber> extends PrimitiveOp
     opBuilder.addInput(s0.asOutput());
     opBuilder.addInput(s1.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BroadcastDynamicShape<T>(opBuilder.build());
   }
   
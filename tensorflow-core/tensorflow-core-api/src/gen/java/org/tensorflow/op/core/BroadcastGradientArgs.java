@@ -48,6 +48,7 @@ public final class BroadcastGradientArgs<T extends TNumber> extends PrimitiveOp
     opBuilder.addInput(s0.asOutput());
     opBuilder.addInput(s1.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BroadcastGradientArgs<T>(opBuilder.build());
   }
   
@@ -66,6 +66,7 @@ public final class BroadcastTo<T extends TType> extends PrimitiveOp implements O
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BroadcastTo<T>(opBuilder.build());
   }
   
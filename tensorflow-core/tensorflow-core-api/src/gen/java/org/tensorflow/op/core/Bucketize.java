@@ -58,6 +58,7 @@ public final class Bucketize extends PrimitiveOp implements Operand<TInt32> {
     OperationBuilder opBuilder = scope.env().opBuilder("Bucketize", scope.makeOpName("Bucketize"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     float[] boundariesArray = new float[boundaries.size()];
     for (int i = 0; i < boundariesArray.length; ++i) {
       boundariesArray[i] = boundaries.get(i);
@@ -63,6 +63,7 @@ public final class CSVDataset extends PrimitiveOp implements Operand<TType> {
     opBuilder.addInput(selectCols.asOutput());
     opBuilder.addInputList(Operands.asOutputs(recordDefaults));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     Shape[] outputShapesArray = new Shape[outputShapes.size()];
     for (int i = 0; i < outputShapesArray.length; ++i) {
       outputShapesArray[i] = outputShapes.get(i);
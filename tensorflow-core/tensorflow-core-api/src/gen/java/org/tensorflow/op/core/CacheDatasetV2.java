@@ -50,6 +50,7 @@ public final class CacheDatasetV2 extends PrimitiveOp implements Operand<TType>
     opBuilder.addInput(filename.asOutput());
     opBuilder.addInput(cache.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
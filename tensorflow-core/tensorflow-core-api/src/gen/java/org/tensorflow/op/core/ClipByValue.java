@@ -56,6 +56,7 @@ public final class ClipByValue<T extends TType> extends PrimitiveOp implements O
     opBuilder.addInput(clipValueMin.asOutput());
     opBuilder.addInput(clipValueMax.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ClipByValue<T>(opBuilder.build());
   }
   
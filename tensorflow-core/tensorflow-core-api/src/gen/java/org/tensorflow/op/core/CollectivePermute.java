@@ -53,6 +53,7 @@ public final class CollectivePermute<T extends TType> extends PrimitiveOp implem
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(sourceTargetPairs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new CollectivePermute<T>(opBuilder.build());
   }
   
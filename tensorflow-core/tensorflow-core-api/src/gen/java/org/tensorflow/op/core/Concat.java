@@ -51,6 +51,7 @@ public final class Concat<T extends TType> extends PrimitiveOp implements Operan
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Concat<T>(opBuilder.build());
   }
   
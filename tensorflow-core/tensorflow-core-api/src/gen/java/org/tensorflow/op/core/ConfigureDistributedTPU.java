@@ -78,6 +78,7 @@ public final class ConfigureDistributedTPU extends PrimitiveOp implements Operan
   public static ConfigureDistributedTPU create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("ConfigureDistributedTPU", scope.makeOpName("ConfigureDistributedTPU"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.embeddingConfig != null) {
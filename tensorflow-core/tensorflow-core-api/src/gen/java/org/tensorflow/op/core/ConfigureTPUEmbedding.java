@@ -38,6 +38,7 @@ public final class ConfigureTPUEmbedding extends PrimitiveOp {
   public static ConfigureTPUEmbedding create(Scope scope, String config) {
     OperationBuilder opBuilder = scope.env().opBuilder("ConfigureTPUEmbedding", scope.makeOpName("ConfigureTPUEmbedding"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("config", config);
     return new ConfigureTPUEmbedding(opBuilder.build());
   }
@@ -49,6 +49,7 @@ public final class ConsumeMutexLock extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("ConsumeMutexLock", scope.makeOpName("ConsumeMutexLock"));
     opBuilder.addInput(mutexLock.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ConsumeMutexLock(opBuilder.build());
   }
   
@@ -40,6 +40,7 @@ public final class ControlTrigger extends PrimitiveOp {
   public static ControlTrigger create(Scope scope) {
     OperationBuilder opBuilder = scope.env().opBuilder("ControlTrigger", scope.makeOpName("ControlTrigger"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ControlTrigger(opBuilder.build());
   }
   
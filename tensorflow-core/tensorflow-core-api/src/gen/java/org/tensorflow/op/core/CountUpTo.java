@@ -48,6 +48,7 @@ public final class CountUpTo<T extends TNumber> extends PrimitiveOp implements O
     OperationBuilder opBuilder = scope.env().opBuilder("CountUpTo", scope.makeOpName("CountUpTo"));
     opBuilder.addInput(ref.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("limit", limit);
     return new CountUpTo<T>(opBuilder.build());
   }
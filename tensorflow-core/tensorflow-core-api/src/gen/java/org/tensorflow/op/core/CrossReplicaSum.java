@@ -56,6 +56,7 @@ public final class CrossReplicaSum<T extends TNumber> extends PrimitiveOp implem
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(groupAssignment.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new CrossReplicaSum<T>(opBuilder.build());
   }
   
@@ -161,6 +161,7 @@ public final class CudnnRNNCanonicalToParamsV2<T extends TNumber> extends Primit
     opBuilder.addInputList(Operands.asOutputs(weights));
     opBuilder.addInputList(Operands.asOutputs(biases));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.rnnMode != null) {
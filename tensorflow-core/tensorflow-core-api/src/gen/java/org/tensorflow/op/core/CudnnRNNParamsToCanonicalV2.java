@@ -162,6 +162,7 @@ public final class CudnnRNNParamsToCanonicalV2<T extends TNumber> extends Primit
     opBuilder.addInput(inputSize.asOutput());
     opBuilder.addInput(params.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_params_weights", numParamsWeights);
     opBuilder.setAttr("num_params_biases", numParamsBiases);
     if (options != null) {
@@ -183,6 +183,7 @@ public final class CudnnRNNV3<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(params.asOutput());
     opBuilder.addInput(sequenceLengths.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.rnnMode != null) {
@@ -94,6 +94,7 @@ public final class CumulativeLogsumexp<T extends TNumber> extends PrimitiveOp im
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.exclusive != null) {
@@ -43,6 +43,7 @@ public final class DatasetCardinality extends PrimitiveOp implements Operand<TIn
     OperationBuilder opBuilder = scope.env().opBuilder("DatasetCardinality", scope.makeOpName("DatasetCardinality"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DatasetCardinality(opBuilder.build());
   }
   
@@ -44,6 +44,7 @@ public final class DatasetFromGraph extends PrimitiveOp implements Operand<TType
     OperationBuilder opBuilder = scope.env().opBuilder("DatasetFromGraph", scope.makeOpName("DatasetFromGraph"));
     opBuilder.addInput(graphDef.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DatasetFromGraph(opBuilder.build());
   }
   
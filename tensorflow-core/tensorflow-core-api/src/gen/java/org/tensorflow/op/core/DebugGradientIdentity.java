@@ -47,6 +47,7 @@ public final class DebugGradientIdentity<T extends TType> extends PrimitiveOp im
     OperationBuilder opBuilder = scope.env().opBuilder("DebugGradientIdentity", scope.makeOpName("DebugGradientIdentity"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DebugGradientIdentity<T>(opBuilder.build());
   }
   
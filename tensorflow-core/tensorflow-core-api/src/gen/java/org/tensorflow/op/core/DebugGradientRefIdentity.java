@@ -47,6 +47,7 @@ public final class DebugGradientRefIdentity<T extends TType> extends PrimitiveOp
     OperationBuilder opBuilder = scope.env().opBuilder("DebugGradientRefIdentity", scope.makeOpName("DebugGradientRefIdentity"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DebugGradientRefIdentity<T>(opBuilder.build());
   }
   
@@ -74,6 +74,7 @@ public final class DecodePaddedRaw<T extends TNumber> extends PrimitiveOp implem
     opBuilder.addInput(inputBytes.asOutput());
     opBuilder.addInput(fixedLength.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     if (options != null) {
       for (Options opts : options) {
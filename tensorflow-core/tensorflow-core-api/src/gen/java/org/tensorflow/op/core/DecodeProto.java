@@ -136,6 +136,7 @@ public final class DecodeProto extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("DecodeProtoV2", scope.makeOpName("DecodeProto"));
     opBuilder.addInput(bytes.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("message_type", messageType);
     String[] fieldNamesArray = new String[fieldNames.size()];
     for (int i = 0; i < fieldNamesArray.length; ++i) {
@@ -45,6 +45,7 @@ public final class DeepCopy<T extends TType> extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("DeepCopy", scope.makeOpName("DeepCopy"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DeepCopy<T>(opBuilder.build());
   }
   
@@ -41,6 +41,7 @@ public final class DeleteIterator extends PrimitiveOp {
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(deleter.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DeleteIterator(opBuilder.build());
   }
   
@@ -40,6 +40,7 @@ public final class DeleteMemoryCache extends PrimitiveOp {
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(deleter.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DeleteMemoryCache(opBuilder.build());
   }
   
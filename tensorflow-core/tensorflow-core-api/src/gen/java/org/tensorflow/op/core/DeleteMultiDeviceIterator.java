@@ -44,6 +44,7 @@ public final class DeleteMultiDeviceIterator extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(iterators));
     opBuilder.addInput(deleter.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DeleteMultiDeviceIterator(opBuilder.build());
   }
   
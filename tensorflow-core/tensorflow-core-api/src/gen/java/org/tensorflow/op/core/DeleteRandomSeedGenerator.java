@@ -40,6 +40,7 @@ public final class DeleteRandomSeedGenerator extends PrimitiveOp {
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(deleter.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DeleteRandomSeedGenerator(opBuilder.build());
   }
   
@@ -42,6 +42,7 @@ public final class DeleteSessionTensor extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("DeleteSessionTensor", scope.makeOpName("DeleteSessionTensor"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DeleteSessionTensor(opBuilder.build());
   }
   
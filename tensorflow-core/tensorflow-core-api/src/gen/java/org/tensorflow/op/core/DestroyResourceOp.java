@@ -65,6 +65,7 @@ public final class DestroyResourceOp extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("DestroyResourceOp", scope.makeOpName("DestroyResourceOp"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.ignoreLookupError != null) {
@@ -55,6 +55,7 @@ public final class DestroyTemporaryVariable<T extends TType> extends PrimitiveOp
     OperationBuilder opBuilder = scope.env().opBuilder("DestroyTemporaryVariable", scope.makeOpName("DestroyTemporaryVariable"));
     opBuilder.addInput(ref.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("var_name", varName);
     return new DestroyTemporaryVariable<T>(opBuilder.build());
   }
@@ -51,6 +51,7 @@ public final class DirectedInterleaveDataset extends PrimitiveOp implements Oper
     opBuilder.addInput(selectorInputDataset.asOutput());
     opBuilder.addInputList(Operands.asOutputs(dataInputDatasets));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
@@ -64,6 +64,7 @@ public final class DrawBoundingBoxesV2<T extends TNumber> extends PrimitiveOp im
     opBuilder.addInput(boxes.asOutput());
     opBuilder.addInput(colors.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DrawBoundingBoxesV2<T>(opBuilder.build());
   }
   
@@ -86,6 +86,7 @@ public final class DynamicPartition<T extends TType> extends PrimitiveOp impleme
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(partitions.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_partitions", numPartitions);
     return new DynamicPartition<T>(opBuilder.build());
   }
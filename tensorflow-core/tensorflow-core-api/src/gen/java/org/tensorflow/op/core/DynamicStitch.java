@@ -104,6 +104,7 @@ public final class DynamicStitch<T extends TType> extends PrimitiveOp implements
     opBuilder.addInputList(Operands.asOutputs(indices));
     opBuilder.addInputList(Operands.asOutputs(data));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DynamicStitch<T>(opBuilder.build());
   }
   
@@ -89,6 +89,7 @@ public final class EditDistance extends PrimitiveOp implements Operand<TFloat> {
     opBuilder.addInput(truthValues.asOutput());
     opBuilder.addInput(truthShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.normalize != null) {
@@ -124,6 +124,7 @@ public final class Einsum<T extends TType> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("Einsum", scope.makeOpName("Einsum"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("equation", equation);
     return new Einsum<T>(opBuilder.build());
   }
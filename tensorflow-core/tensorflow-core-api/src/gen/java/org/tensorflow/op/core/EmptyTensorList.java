@@ -56,6 +56,7 @@ public final class EmptyTensorList extends PrimitiveOp implements Operand<TType>
     opBuilder.addInput(elementShape.asOutput());
     opBuilder.addInput(maxNumElements.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("element_dtype", elementDtype);
     return new EmptyTensorList(opBuilder.build());
   }
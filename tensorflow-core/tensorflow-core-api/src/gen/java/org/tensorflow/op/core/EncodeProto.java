@@ -109,6 +109,7 @@ public final class EncodeProto extends PrimitiveOp implements Operand<TString> {
     opBuilder.addInput(sizes.asOutput());
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     String[] fieldNamesArray = new String[fieldNames.size()];
     for (int i = 0; i < fieldNamesArray.length; ++i) {
       fieldNamesArray[i] = fieldNames.get(i);
@@ -69,6 +69,7 @@ public final class EnqueueTPUEmbeddingIntegerBatch extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(batch));
     opBuilder.addInput(modeOverride.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.deviceOrdinal != null) {
@@ -116,6 +116,7 @@ public final class EnqueueTPUEmbeddingSparseTensorBatch extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(aggregationWeights));
     opBuilder.addInput(modeOverride.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] tableIdsArray = new long[tableIds.size()];
     for (int i = 0; i < tableIdsArray.length; ++i) {
       tableIdsArray[i] = tableIds.get(i);
@@ -50,6 +50,7 @@ public final class EnsureShape<T extends TType> extends PrimitiveOp implements O
     OperationBuilder opBuilder = scope.env().opBuilder("EnsureShape", scope.makeOpName("EnsureShape"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("shape", shape);
     return new EnsureShape<T>(opBuilder.build());
   }
@@ -79,6 +79,7 @@ public final class Enter<T extends TType> extends PrimitiveOp implements Operand
     OperationBuilder opBuilder = scope.env().opBuilder("Enter", scope.makeOpName("Enter"));
     opBuilder.addInput(data.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("frame_name", frameName);
     if (options != null) {
       for (Options opts : options) {
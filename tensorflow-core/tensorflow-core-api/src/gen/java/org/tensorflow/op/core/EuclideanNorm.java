@@ -74,6 +74,7 @@ public final class EuclideanNorm<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.keepDims != null) {
@@ -45,6 +45,7 @@ public final class Exit<T extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("Exit", scope.makeOpName("Exit"));
     opBuilder.addInput(data.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Exit<T>(opBuilder.build());
   }
   
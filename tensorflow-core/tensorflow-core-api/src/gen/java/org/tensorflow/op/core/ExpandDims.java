@@ -79,6 +79,7 @@ public final class ExpandDims<T extends TType> extends PrimitiveOp implements Op
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ExpandDims<T>(opBuilder.build());
   }
   
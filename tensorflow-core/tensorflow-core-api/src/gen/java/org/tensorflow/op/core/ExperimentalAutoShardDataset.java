@@ -59,6 +59,7 @@ public final class ExperimentalAutoShardDataset extends PrimitiveOp implements O
     opBuilder.addInput(numWorkers.asOutput());
     opBuilder.addInput(index.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
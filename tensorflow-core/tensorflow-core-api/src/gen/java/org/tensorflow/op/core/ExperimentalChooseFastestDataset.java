@@ -47,6 +47,7 @@ public final class ExperimentalChooseFastestDataset extends PrimitiveOp implemen
     OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalChooseFastestDataset", scope.makeOpName("ExperimentalChooseFastestDataset"));
     opBuilder.addInputList(Operands.asOutputs(inputDatasets));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_experiments", numExperiments);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
@@ -43,6 +43,7 @@ public final class ExperimentalDatasetCardinality extends PrimitiveOp implements
     OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalDatasetCardinality", scope.makeOpName("ExperimentalDatasetCardinality"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ExperimentalDatasetCardinality(opBuilder.build());
   }
   
@@ -45,6 +45,7 @@ public final class ExperimentalDatasetToTFRecord extends PrimitiveOp {
     opBuilder.addInput(filename.asOutput());
     opBuilder.addInput(compressionType.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ExperimentalDatasetToTFRecord(opBuilder.build());
   }
   
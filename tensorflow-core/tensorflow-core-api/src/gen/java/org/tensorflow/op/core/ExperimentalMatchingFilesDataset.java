@@ -41,6 +41,7 @@ public final class ExperimentalMatchingFilesDataset extends PrimitiveOp implemen
     OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalMatchingFilesDataset", scope.makeOpName("ExperimentalMatchingFilesDataset"));
     opBuilder.addInput(patterns.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ExperimentalMatchingFilesDataset(opBuilder.build());
   }
   
@@ -89,6 +89,7 @@ public final class ExperimentalParseExampleDataset extends PrimitiveOp implement
     opBuilder.addInput(numParallelCalls.asOutput());
     opBuilder.addInputList(Operands.asOutputs(denseDefaults));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     String[] sparseKeysArray = new String[sparseKeys.size()];
     for (int i = 0; i < sparseKeysArray.length; ++i) {
       sparseKeysArray[i] = sparseKeys.get(i);
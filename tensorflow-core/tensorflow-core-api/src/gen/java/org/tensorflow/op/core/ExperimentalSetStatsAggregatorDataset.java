@@ -52,6 +52,7 @@ public final class ExperimentalSetStatsAggregatorDataset extends PrimitiveOp imp
     opBuilder.addInput(tag.asOutput());
     opBuilder.addInput(counterPrefix.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
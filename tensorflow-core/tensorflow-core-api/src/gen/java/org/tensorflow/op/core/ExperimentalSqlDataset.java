@@ -51,6 +51,7 @@ public final class ExperimentalSqlDataset extends PrimitiveOp implements Operand
     opBuilder.addInput(dataSourceName.asOutput());
     opBuilder.addInput(query.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
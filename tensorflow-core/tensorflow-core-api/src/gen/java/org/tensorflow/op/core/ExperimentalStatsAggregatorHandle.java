@@ -68,6 +68,7 @@ public final class ExperimentalStatsAggregatorHandle extends PrimitiveOp impleme
   public static ExperimentalStatsAggregatorHandle create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalStatsAggregatorHandle", scope.makeOpName("ExperimentalStatsAggregatorHandle"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.container != null) {
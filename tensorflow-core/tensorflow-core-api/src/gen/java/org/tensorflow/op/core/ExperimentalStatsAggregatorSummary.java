@@ -41,6 +41,7 @@ public final class ExperimentalStatsAggregatorSummary extends PrimitiveOp implem
     OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalStatsAggregatorSummary", scope.makeOpName("ExperimentalStatsAggregatorSummary"));
     opBuilder.addInput(iterator.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ExperimentalStatsAggregatorSummary(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class ExperimentalUnbatchDataset extends PrimitiveOp implements Ope
     OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalUnbatchDataset", scope.makeOpName("ExperimentalUnbatchDataset"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
@@ -58,6 +58,7 @@ public final class ExtractVolumePatches<T extends TNumber> extends PrimitiveOp i
     OperationBuilder opBuilder = scope.env().opBuilder("ExtractVolumePatches", scope.makeOpName("ExtractVolumePatches"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] ksizesArray = new long[ksizes.size()];
     for (int i = 0; i < ksizesArray.length; ++i) {
       ksizesArray[i] = ksizes.get(i);
@@ -75,6 +75,7 @@ public final class Fill<U extends TType> extends PrimitiveOp implements Operand<
     opBuilder.addInput(dims.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Fill<U>(opBuilder.build());
   }
   
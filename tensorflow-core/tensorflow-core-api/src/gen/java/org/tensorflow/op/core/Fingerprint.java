@@ -77,6 +77,7 @@ public final class Fingerprint extends PrimitiveOp implements Operand<TUInt8> {
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(method.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Fingerprint(opBuilder.build());
   }
   
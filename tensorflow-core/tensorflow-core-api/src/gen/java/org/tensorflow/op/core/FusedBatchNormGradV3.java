@@ -110,6 +110,7 @@ public final class FusedBatchNormGradV3<T extends TNumber, U extends TNumber> ex
     opBuilder.addInput(reserveSpace2.asOutput());
     opBuilder.addInput(reserveSpace3.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.epsilon != null) {
@@ -99,6 +99,7 @@ public final class FusedBatchNormV3<T extends TNumber, U extends TNumber> extend
     opBuilder.addInput(mean.asOutput());
     opBuilder.addInput(variance.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.epsilon != null) {
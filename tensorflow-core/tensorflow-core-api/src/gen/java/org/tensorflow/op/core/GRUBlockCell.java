@@ -99,6 +99,7 @@ public final class GRUBlockCell<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(bRu.asOutput());
     opBuilder.addInput(bC.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new GRUBlockCell<T>(opBuilder.build());
   }
   
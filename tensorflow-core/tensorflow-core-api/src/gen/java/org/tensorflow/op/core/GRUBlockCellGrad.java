@@ -143,6 +143,7 @@ public final class GRUBlockCellGrad<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(c.asOutput());
     opBuilder.addInput(dH.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new GRUBlockCellGrad<T>(opBuilder.build());
   }
   
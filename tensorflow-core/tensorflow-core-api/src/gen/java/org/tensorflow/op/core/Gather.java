@@ -98,6 +98,7 @@ public final class Gather<T extends TType> extends PrimitiveOp implements Operan
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.batchDims != null) {
@@ -141,6 +141,7 @@ public final class GatherNd<T extends TType> extends PrimitiveOp implements Oper
     opBuilder.addInput(params.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new GatherNd<T>(opBuilder.build());
   }
   
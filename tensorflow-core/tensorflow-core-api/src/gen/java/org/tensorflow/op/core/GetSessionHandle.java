@@ -43,6 +43,7 @@ public final class GetSessionHandle extends PrimitiveOp implements Operand<TType
     OperationBuilder opBuilder = scope.env().opBuilder("GetSessionHandleV2", scope.makeOpName("GetSessionHandle"));
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new GetSessionHandle(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class GetSessionTensor<T extends TType> extends PrimitiveOp impleme
     OperationBuilder opBuilder = scope.env().opBuilder("GetSessionTensor", scope.makeOpName("GetSessionTensor"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new GetSessionTensor<T>(opBuilder.build());
   }
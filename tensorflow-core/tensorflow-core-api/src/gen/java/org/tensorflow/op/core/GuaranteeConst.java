@@ -52,6 +52,7 @@ public final class GuaranteeConst<T extends TType> extends PrimitiveOp implement
     OperationBuilder opBuilder = scope.env().opBuilder("GuaranteeConst", scope.makeOpName("GuaranteeConst"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new GuaranteeConst<T>(opBuilder.build());
   }
   
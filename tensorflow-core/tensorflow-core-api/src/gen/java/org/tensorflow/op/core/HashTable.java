@@ -89,6 +89,7 @@ public final class HashTable extends PrimitiveOp implements Operand<TType> {
   public static <T extends TType, U extends TType> HashTable create(Scope scope, DataType<T> keyDtype, DataType<U> valueDtype, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("HashTableV2", scope.makeOpName("HashTable"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("key_dtype", keyDtype);
     opBuilder.setAttr("value_dtype", valueDtype);
     if (options != null) {
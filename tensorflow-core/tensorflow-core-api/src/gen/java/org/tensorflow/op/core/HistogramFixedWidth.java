@@ -71,6 +71,7 @@ public final class HistogramFixedWidth<U extends TNumber> extends PrimitiveOp im
     opBuilder.addInput(valueRange.asOutput());
     opBuilder.addInput(nbins.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new HistogramFixedWidth<U>(opBuilder.build());
   }
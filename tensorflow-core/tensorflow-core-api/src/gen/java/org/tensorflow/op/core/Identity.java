@@ -45,6 +45,7 @@ public final class Identity<T extends TType> extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("Identity", scope.makeOpName("Identity"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Identity<T>(opBuilder.build());
   }
   
@@ -63,6 +63,7 @@ public final class IdentityN extends PrimitiveOp implements Iterable<Operand<TTy
     OperationBuilder opBuilder = scope.env().opBuilder("IdentityN", scope.makeOpName("IdentityN"));
     opBuilder.addInputList(Operands.asOutputs(input));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new IdentityN(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class InfeedDequeueTuple extends PrimitiveOp implements Iterable<Op
   public static InfeedDequeueTuple create(Scope scope, List<DataType<?>> dtypes, List<Shape> shapes) {
     OperationBuilder opBuilder = scope.env().opBuilder("InfeedDequeueTuple", scope.makeOpName("InfeedDequeueTuple"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] dtypesArray = new DataType[dtypes.size()];
     for (int i = 0; i < dtypesArray.length; ++i) {
       dtypesArray[i] = dtypes.get(i);
@@ -77,6 +77,7 @@ public final class InfeedEnqueueTuple extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("InfeedEnqueueTuple", scope.makeOpName("InfeedEnqueueTuple"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     Shape[] shapesArray = new Shape[shapes.size()];
     for (int i = 0; i < shapesArray.length; ++i) {
       shapesArray[i] = shapes.get(i);
@@ -46,6 +46,7 @@ public final class InitializeTable extends PrimitiveOp {
     opBuilder.addInput(keys.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new InitializeTable(opBuilder.build());
   }
   
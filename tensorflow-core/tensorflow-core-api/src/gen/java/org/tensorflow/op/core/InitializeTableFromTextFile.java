@@ -87,6 +87,7 @@ public final class InitializeTableFromTextFile extends PrimitiveOp {
     opBuilder.addInput(tableHandle.asOutput());
     opBuilder.addInput(filename.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("key_index", keyIndex);
     opBuilder.setAttr("value_index", valueIndex);
     if (options != null) {
@@ -52,6 +52,7 @@ public final class InplaceAdd<T extends TType> extends PrimitiveOp implements Op
     opBuilder.addInput(i.asOutput());
     opBuilder.addInput(v.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new InplaceAdd<T>(opBuilder.build());
   }
   
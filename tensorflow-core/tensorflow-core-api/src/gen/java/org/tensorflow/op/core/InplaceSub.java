@@ -52,6 +52,7 @@ public final class InplaceSub<T extends TType> extends PrimitiveOp implements Op
     opBuilder.addInput(i.asOutput());
     opBuilder.addInput(v.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new InplaceSub<T>(opBuilder.build());
   }
   
@@ -52,6 +52,7 @@ public final class InplaceUpdate<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(i.asOutput());
     opBuilder.addInput(v.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new InplaceUpdate<T>(opBuilder.build());
   }
   
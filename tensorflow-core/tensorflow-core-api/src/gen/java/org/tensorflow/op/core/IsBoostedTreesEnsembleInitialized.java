@@ -41,6 +41,7 @@ public final class IsBoostedTreesEnsembleInitialized extends PrimitiveOp impleme
     OperationBuilder opBuilder = scope.env().opBuilder("IsBoostedTreesEnsembleInitialized", scope.makeOpName("IsBoostedTreesEnsembleInitialized"));
     opBuilder.addInput(treeEnsembleHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new IsBoostedTreesEnsembleInitialized(opBuilder.build());
   }
   
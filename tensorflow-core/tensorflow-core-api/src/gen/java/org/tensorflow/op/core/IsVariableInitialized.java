@@ -46,6 +46,7 @@ public final class IsVariableInitialized extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("IsVariableInitialized", scope.makeOpName("IsVariableInitialized"));
     opBuilder.addInput(ref.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new IsVariableInitialized(opBuilder.build());
   }
   
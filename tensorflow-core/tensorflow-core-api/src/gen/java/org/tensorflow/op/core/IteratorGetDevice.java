@@ -41,6 +41,7 @@ public final class IteratorGetDevice extends PrimitiveOp implements Operand<TStr
     OperationBuilder opBuilder = scope.env().opBuilder("IteratorGetDevice", scope.makeOpName("IteratorGetDevice"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new IteratorGetDevice(opBuilder.build());
   }
   
@@ -50,6 +50,7 @@ public final class KMC2ChainInitialization extends PrimitiveOp implements Operan
     opBuilder.addInput(distances.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new KMC2ChainInitialization(opBuilder.build());
   }
   
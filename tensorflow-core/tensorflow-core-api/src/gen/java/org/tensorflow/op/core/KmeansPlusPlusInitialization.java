@@ -56,6 +56,7 @@ public final class KmeansPlusPlusInitialization extends PrimitiveOp implements O
     opBuilder.addInput(seed.asOutput());
     opBuilder.addInput(numRetriesPerSample.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new KmeansPlusPlusInitialization(opBuilder.build());
   }
   
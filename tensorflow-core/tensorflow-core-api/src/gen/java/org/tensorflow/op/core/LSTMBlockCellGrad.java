@@ -77,6 +77,7 @@ public final class LSTMBlockCellGrad<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(csGrad.asOutput());
     opBuilder.addInput(hGrad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("use_peephole", usePeephole);
     return new LSTMBlockCellGrad<T>(opBuilder.build());
   }
@@ -60,6 +60,7 @@ public final class LinSpace<T extends TNumber> extends PrimitiveOp implements Op
     opBuilder.addInput(stop.asOutput());
     opBuilder.addInput(num.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new LinSpace<T>(opBuilder.build());
   }
   
@@ -81,6 +81,7 @@ public final class LoadTPUEmbeddingADAMParameters extends PrimitiveOp {
     opBuilder.addInput(momenta.asOutput());
     opBuilder.addInput(velocities.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_shards", numShards);
     opBuilder.setAttr("shard_id", shardId);
     if (options != null) {
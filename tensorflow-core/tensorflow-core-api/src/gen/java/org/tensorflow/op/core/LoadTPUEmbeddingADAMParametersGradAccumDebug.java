@@ -83,6 +83,7 @@ public final class LoadTPUEmbeddingADAMParametersGradAccumDebug extends Primitiv
     opBuilder.addInput(velocities.asOutput());
     opBuilder.addInput(gradientAccumulators.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_shards", numShards);
     opBuilder.setAttr("shard_id", shardId);
     if (options != null) {
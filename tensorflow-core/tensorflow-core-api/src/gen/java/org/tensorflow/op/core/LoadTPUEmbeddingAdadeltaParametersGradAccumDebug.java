@@ -83,6 +83,7 @@ public final class LoadTPUEmbeddingAdadeltaParametersGradAccumDebug extends Prim
     opBuilder.addInput(updates.asOutput());
     opBuilder.addInput(gradientAccumulators.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_shards", numShards);
     opBuilder.setAttr("shard_id", shardId);
     if (options != null) {
@@ -81,6 +81,7 @@ public final class LoadTPUEmbeddingFTRLParameters extends PrimitiveOp {
     opBuilder.addInput(accumulators.asOutput());
     opBuilder.addInput(linears.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_shards", numShards);
     opBuilder.setAttr("shard_id", shardId);
     if (options != null) {
@@ -83,6 +83,7 @@ public final class LoadTPUEmbeddingMDLAdagradLightParameters extends PrimitiveOp
     opBuilder.addInput(weights.asOutput());
     opBuilder.addInput(benefits.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_shards", numShards);
     opBuilder.setAttr("shard_id", shardId);
     if (options != null) {
@@ -81,6 +81,7 @@ public final class LoadTPUEmbeddingRMSPropParameters extends PrimitiveOp {
     opBuilder.addInput(ms.asOutput());
     opBuilder.addInput(mom.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_shards", numShards);
     opBuilder.setAttr("shard_id", shardId);
     if (options != null) {
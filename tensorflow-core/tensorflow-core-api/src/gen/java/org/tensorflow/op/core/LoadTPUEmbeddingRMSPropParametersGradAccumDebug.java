@@ -83,6 +83,7 @@ public final class LoadTPUEmbeddingRMSPropParametersGradAccumDebug extends Primi
     opBuilder.addInput(mom.asOutput());
     opBuilder.addInput(gradientAccumulators.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_shards", numShards);
     opBuilder.setAttr("shard_id", shardId);
     if (options != null) {
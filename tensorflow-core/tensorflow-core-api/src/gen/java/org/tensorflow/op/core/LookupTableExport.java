@@ -49,6 +49,7 @@ public final class LookupTableExport<T extends TType, U extends TType> extends P
     OperationBuilder opBuilder = scope.env().opBuilder("LookupTableExportV2", scope.makeOpName("LookupTableExport"));
     opBuilder.addInput(tableHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Tkeys", Tkeys);
     opBuilder.setAttr("Tvalues", Tvalues);
     return new LookupTableExport<T, U>(opBuilder.build());
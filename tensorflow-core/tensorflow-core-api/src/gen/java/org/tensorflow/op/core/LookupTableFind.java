@@ -55,6 +55,7 @@ public final class LookupTableFind<U extends TType> extends PrimitiveOp implemen
     opBuilder.addInput(keys.asOutput());
     opBuilder.addInput(defaultValue.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new LookupTableFind<U>(opBuilder.build());
   }
   
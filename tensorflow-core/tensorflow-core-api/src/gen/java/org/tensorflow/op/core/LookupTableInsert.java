@@ -49,6 +49,7 @@ public final class LookupTableInsert extends PrimitiveOp {
     opBuilder.addInput(keys.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new LookupTableInsert(opBuilder.build());
   }
   
@@ -45,6 +45,7 @@ public final class LookupTableRemove extends PrimitiveOp {
     opBuilder.addInput(tableHandle.asOutput());
     opBuilder.addInput(keys.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new LookupTableRemove(opBuilder.build());
   }
   
@@ -43,6 +43,7 @@ public final class LookupTableSize extends PrimitiveOp implements Operand<TInt64
     OperationBuilder opBuilder = scope.env().opBuilder("LookupTableSizeV2", scope.makeOpName("LookupTableSize"));
     opBuilder.addInput(tableHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new LookupTableSize(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class LoopCond extends PrimitiveOp implements Operand<TBool> {
     OperationBuilder opBuilder = scope.env().opBuilder("LoopCond", scope.makeOpName("LoopCond"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new LoopCond(opBuilder.build());
   }
   
@@ -69,6 +69,7 @@ public final class Lu<T extends TType, U extends TNumber> extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("Lu", scope.makeOpName("Lu"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("output_idx_type", outputIdxType);
     return new Lu<T, U>(opBuilder.build());
   }
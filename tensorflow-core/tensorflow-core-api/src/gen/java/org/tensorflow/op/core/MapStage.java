@@ -101,6 +101,7 @@ public final class MapStage extends PrimitiveOp {
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] dtypesArray = new DataType[dtypes.size()];
     for (int i = 0; i < dtypesArray.length; ++i) {
       dtypesArray[i] = dtypes.get(i);
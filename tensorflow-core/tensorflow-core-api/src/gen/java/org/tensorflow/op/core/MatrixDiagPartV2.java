@@ -121,6 +121,7 @@ public final class MatrixDiagPartV2<T extends TType> extends PrimitiveOp impleme
     opBuilder.addInput(k.asOutput());
     opBuilder.addInput(paddingValue.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MatrixDiagPartV2<T>(opBuilder.build());
   }
   
@@ -147,6 +147,7 @@ public final class MatrixDiagV2<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(numCols.asOutput());
     opBuilder.addInput(paddingValue.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MatrixDiagV2<T>(opBuilder.build());
   }
   
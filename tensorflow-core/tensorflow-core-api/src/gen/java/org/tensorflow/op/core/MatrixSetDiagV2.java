@@ -123,6 +123,7 @@ public final class MatrixSetDiagV2<T extends TType> extends PrimitiveOp implemen
     opBuilder.addInput(diagonal.asOutput());
     opBuilder.addInput(k.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MatrixSetDiagV2<T>(opBuilder.build());
   }
   
@@ -53,6 +53,7 @@ public final class Merge<T extends TType> extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("Merge", scope.makeOpName("Merge"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Merge<T>(opBuilder.build());
   }
   
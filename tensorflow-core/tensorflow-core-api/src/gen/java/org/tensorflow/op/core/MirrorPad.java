@@ -80,6 +80,7 @@ public final class MirrorPad<T extends TType> extends PrimitiveOp implements Ope
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(paddings.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("mode", mode);
     return new MirrorPad<T>(opBuilder.build());
   }
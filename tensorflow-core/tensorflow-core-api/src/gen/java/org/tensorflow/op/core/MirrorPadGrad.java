@@ -67,6 +67,7 @@ public final class MirrorPadGrad<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(paddings.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("mode", mode);
     return new MirrorPadGrad<T>(opBuilder.build());
   }
@@ -50,6 +50,7 @@ public final class MulNoNan<T extends TType> extends PrimitiveOp implements Oper
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MulNoNan<T>(opBuilder.build());
   }
   
@@ -125,6 +125,7 @@ public final class MutableDenseHashTable extends PrimitiveOp implements Operand<
     opBuilder.addInput(emptyKey.asOutput());
     opBuilder.addInput(deletedKey.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("value_dtype", valueDtype);
     if (options != null) {
       for (Options opts : options) {
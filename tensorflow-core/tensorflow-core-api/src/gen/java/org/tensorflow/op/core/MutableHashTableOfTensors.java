@@ -98,6 +98,7 @@ public final class MutableHashTableOfTensors extends PrimitiveOp implements Oper
   public static <T extends TType, U extends TType> MutableHashTableOfTensors create(Scope scope, DataType<T> keyDtype, DataType<U> valueDtype, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("MutableHashTableOfTensorsV2", scope.makeOpName("MutableHashTableOfTensors"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("key_dtype", keyDtype);
     opBuilder.setAttr("value_dtype", valueDtype);
     if (options != null) {
@@ -72,6 +72,7 @@ public final class Mutex extends PrimitiveOp implements Operand<TType> {
   public static Mutex create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("MutexV2", scope.makeOpName("Mutex"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.container != null) {
@@ -79,6 +79,7 @@ public final class MutexLock extends PrimitiveOp implements Operand<TType> {
     OperationBuilder opBuilder = scope.env().opBuilder("MutexLock", scope.makeOpName("MutexLock"));
     opBuilder.addInput(mutex.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MutexLock(opBuilder.build());
   }
   
@@ -60,6 +60,7 @@ public final class NcclAllReduce<T extends TNumber> extends PrimitiveOp implemen
     OperationBuilder opBuilder = scope.env().opBuilder("NcclAllReduce", scope.makeOpName("NcclAllReduce"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("reduction", reduction);
     opBuilder.setAttr("num_devices", numDevices);
     opBuilder.setAttr("shared_name", sharedName);
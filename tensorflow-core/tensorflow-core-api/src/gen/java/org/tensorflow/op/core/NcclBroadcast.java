@@ -56,6 +56,7 @@ public final class NcclBroadcast<T extends TNumber> extends PrimitiveOp implemen
     OperationBuilder opBuilder = scope.env().opBuilder("NcclBroadcast", scope.makeOpName("NcclBroadcast"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("shape", shape);
     return new NcclBroadcast<T>(opBuilder.build());
   }
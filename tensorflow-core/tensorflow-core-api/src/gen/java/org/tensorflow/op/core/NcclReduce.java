@@ -55,6 +55,7 @@ public final class NcclReduce<T extends TNumber> extends PrimitiveOp implements
     OperationBuilder opBuilder = scope.env().opBuilder("NcclReduce", scope.makeOpName("NcclReduce"));
     opBuilder.addInputList(Operands.asOutputs(input));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("reduction", reduction);
     return new NcclReduce<T>(opBuilder.build());
   }
@@ -51,6 +51,7 @@ public final class NearestNeighbors extends PrimitiveOp {
     opBuilder.addInput(centers.asOutput());
     opBuilder.addInput(k.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new NearestNeighbors(opBuilder.build());
   }
   
@@ -56,6 +56,7 @@ public final class NextAfter<T extends TNumber> extends PrimitiveOp implements O
     opBuilder.addInput(x1.asOutput());
     opBuilder.addInput(x2.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new NextAfter<T>(opBuilder.build());
   }
   
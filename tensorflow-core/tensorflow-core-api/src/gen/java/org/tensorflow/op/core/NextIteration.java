@@ -45,6 +45,7 @@ public final class NextIteration<T extends TType> extends PrimitiveOp implements
     OperationBuilder opBuilder = scope.env().opBuilder("NextIteration", scope.makeOpName("NextIteration"));
     opBuilder.addInput(data.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new NextIteration<T>(opBuilder.build());
   }
   
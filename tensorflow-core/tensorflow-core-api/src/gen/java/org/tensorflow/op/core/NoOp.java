@@ -38,6 +38,7 @@ public final class NoOp extends PrimitiveOp {
   public static NoOp create(Scope scope) {
     OperationBuilder opBuilder = scope.env().opBuilder("NoOp", scope.makeOpName("NoOp"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new NoOp(opBuilder.build());
   }
   
@@ -107,6 +107,7 @@ public final class NonMaxSuppressionV5<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(scoreThreshold.asOutput());
     opBuilder.addInput(softNmsSigma.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.padToMaxOutputSize != null) {
@@ -154,6 +154,7 @@ public final class OneHot<U extends TType> extends PrimitiveOp implements Operan
     opBuilder.addInput(onValue.asOutput());
     opBuilder.addInput(offValue.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.axis != null) {
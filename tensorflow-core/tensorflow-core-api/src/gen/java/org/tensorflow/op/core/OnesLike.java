@@ -45,6 +45,7 @@ public final class OnesLike<T extends TType> extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("OnesLike", scope.makeOpName("OnesLike"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new OnesLike<T>(opBuilder.build());
   }
   
@@ -40,6 +40,7 @@ public final class OutfeedEnqueue extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("OutfeedEnqueue", scope.makeOpName("OutfeedEnqueue"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new OutfeedEnqueue(opBuilder.build());
   }
   
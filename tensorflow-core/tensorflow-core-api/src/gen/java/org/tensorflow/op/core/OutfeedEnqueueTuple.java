@@ -41,6 +41,7 @@ public final class OutfeedEnqueueTuple extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("OutfeedEnqueueTuple", scope.makeOpName("OutfeedEnqueueTuple"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new OutfeedEnqueueTuple(opBuilder.build());
   }
   
@@ -75,6 +75,7 @@ public final class Pad<T extends TType> extends PrimitiveOp implements Operand<T
     opBuilder.addInput(paddings.asOutput());
     opBuilder.addInput(constantValues.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Pad<T>(opBuilder.build());
   }
   
@@ -65,6 +65,7 @@ public final class ParallelConcat<T extends TType> extends PrimitiveOp implement
     OperationBuilder opBuilder = scope.env().opBuilder("ParallelConcat", scope.makeOpName("ParallelConcat"));
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("shape", shape);
     return new ParallelConcat<T>(opBuilder.build());
   }
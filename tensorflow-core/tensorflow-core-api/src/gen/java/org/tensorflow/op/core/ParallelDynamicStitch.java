@@ -103,6 +103,7 @@ public final class ParallelDynamicStitch<T extends TType> extends PrimitiveOp im
     opBuilder.addInputList(Operands.asOutputs(indices));
     opBuilder.addInputList(Operands.asOutputs(data));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ParallelDynamicStitch<T>(opBuilder.build());
   }
   
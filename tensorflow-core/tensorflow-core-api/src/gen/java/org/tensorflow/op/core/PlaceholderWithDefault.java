@@ -47,6 +47,7 @@ public final class PlaceholderWithDefault<T extends TType> extends PrimitiveOp i
     OperationBuilder opBuilder = scope.env().opBuilder("PlaceholderWithDefault", scope.makeOpName("PlaceholderWithDefault"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("shape", shape);
     return new PlaceholderWithDefault<T>(opBuilder.build());
   }
@@ -49,6 +49,7 @@ public final class PrivateThreadPoolDataset extends PrimitiveOp implements Opera
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(numThreads.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
@@ -56,6 +56,7 @@ public final class QuantizedConcat<T extends TType> extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(inputMins));
     opBuilder.addInputList(Operands.asOutputs(inputMaxes));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new QuantizedConcat<T>(opBuilder.build());
   }
   
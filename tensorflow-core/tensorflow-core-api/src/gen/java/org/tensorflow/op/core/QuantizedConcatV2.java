@@ -52,6 +52,7 @@ public final class QuantizedConcatV2<T extends TType> extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(inputMins));
     opBuilder.addInputList(Operands.asOutputs(inputMaxes));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new QuantizedConcatV2<T>(opBuilder.build());
   }
   
@@ -90,6 +90,7 @@ public final class QuantizedConv2DWithBiasSumAndRelu<V extends TType> extends Pr
     opBuilder.addInput(maxFilter.asOutput());
     opBuilder.addInput(summand.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     long[] stridesArray = new long[strides.size()];
     for (int i = 0; i < stridesArray.length; ++i) {
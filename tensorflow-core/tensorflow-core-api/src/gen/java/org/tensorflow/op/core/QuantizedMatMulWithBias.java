@@ -104,6 +104,7 @@ public final class QuantizedMatMulWithBias<W extends TType> extends PrimitiveOp
     opBuilder.addInput(minB.asOutput());
     opBuilder.addInput(maxB.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Toutput", Toutput);
     if (options != null) {
       for (Options opts : options) {
@@ -55,6 +55,7 @@ public final class QuantizedReshape<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(inputMin.asOutput());
     opBuilder.addInput(inputMax.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new QuantizedReshape<T>(opBuilder.build());
   }
   
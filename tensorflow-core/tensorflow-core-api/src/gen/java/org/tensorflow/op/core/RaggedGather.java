@@ -87,6 +87,7 @@ public final class RaggedGather<T extends TNumber, U extends TType> extends Prim
     opBuilder.addInput(paramsDenseValues.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("OUTPUT_RAGGED_RANK", OUTPUTRAGGEDRANK);
     return new RaggedGather<T, U>(opBuilder.build());
   }
@@ -69,6 +69,7 @@ public final class RaggedRange<U extends TNumber, T extends TNumber> extends Pri
     opBuilder.addInput(limits.asOutput());
     opBuilder.addInput(deltas.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Tsplits", Tsplits);
     return new RaggedRange<U, T>(opBuilder.build());
   }
@@ -52,6 +52,7 @@ public final class RaggedTensorToSparse<U extends TType> extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(rtNestedSplits));
     opBuilder.addInput(rtDenseValues.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RaggedTensorToSparse<U>(opBuilder.build());
   }
   
@@ -60,6 +60,7 @@ public final class RaggedTensorToVariant extends PrimitiveOp implements Operand<
     opBuilder.addInputList(Operands.asOutputs(rtNestedSplits));
     opBuilder.addInput(rtDenseValues.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("batched_input", batchedInput);
     return new RaggedTensorToVariant(opBuilder.build());
   }
@@ -62,6 +62,7 @@ public final class Range<T extends TNumber> extends PrimitiveOp implements Opera
     opBuilder.addInput(limit.asOutput());
     opBuilder.addInput(delta.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Range<T>(opBuilder.build());
   }
   
@@ -56,6 +56,7 @@ public final class Rank extends PrimitiveOp implements Operand<TInt32> {
     OperationBuilder opBuilder = scope.env().opBuilder("Rank", scope.makeOpName("Rank"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Rank(opBuilder.build());
   }
   
@@ -54,6 +54,7 @@ public final class ReadVariableOp<T extends TType> extends PrimitiveOp implement
     OperationBuilder opBuilder = scope.env().opBuilder("ReadVariableOp", scope.makeOpName("ReadVariableOp"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new ReadVariableOp<T>(opBuilder.build());
   }
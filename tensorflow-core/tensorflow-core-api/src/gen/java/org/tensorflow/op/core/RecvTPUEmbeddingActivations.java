@@ -52,6 +52,7 @@ public final class RecvTPUEmbeddingActivations extends PrimitiveOp implements It
   public static RecvTPUEmbeddingActivations create(Scope scope, Long numOutputs, String config) {
     OperationBuilder opBuilder = scope.env().opBuilder("RecvTPUEmbeddingActivations", scope.makeOpName("RecvTPUEmbeddingActivations"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_outputs", numOutputs);
     opBuilder.setAttr("config", config);
     return new RecvTPUEmbeddingActivations(opBuilder.build());
@@ -78,6 +78,7 @@ public final class RefEnter<T extends TType> extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("RefEnter", scope.makeOpName("RefEnter"));
     opBuilder.addInput(data.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("frame_name", frameName);
     if (options != null) {
       for (Options opts : options) {
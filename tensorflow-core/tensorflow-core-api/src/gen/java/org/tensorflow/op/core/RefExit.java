@@ -45,6 +45,7 @@ public final class RefExit<T extends TType> extends PrimitiveOp implements Opera
     OperationBuilder opBuilder = scope.env().opBuilder("RefExit", scope.makeOpName("RefExit"));
     opBuilder.addInput(data.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RefExit<T>(opBuilder.build());
   }
   
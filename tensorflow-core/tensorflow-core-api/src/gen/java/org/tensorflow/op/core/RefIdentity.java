@@ -43,6 +43,7 @@ public final class RefIdentity<T extends TType> extends PrimitiveOp implements O
     OperationBuilder opBuilder = scope.env().opBuilder("RefIdentity", scope.makeOpName("RefIdentity"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RefIdentity<T>(opBuilder.build());
   }
   
@@ -51,6 +51,7 @@ public final class RefMerge<T extends TType> extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("RefMerge", scope.makeOpName("RefMerge"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RefMerge<T>(opBuilder.build());
   }
   
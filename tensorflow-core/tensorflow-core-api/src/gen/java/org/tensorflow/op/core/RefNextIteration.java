@@ -45,6 +45,7 @@ public final class RefNextIteration<T extends TType> extends PrimitiveOp impleme
     OperationBuilder opBuilder = scope.env().opBuilder("RefNextIteration", scope.makeOpName("RefNextIteration"));
     opBuilder.addInput(data.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RefNextIteration<T>(opBuilder.build());
   }
   
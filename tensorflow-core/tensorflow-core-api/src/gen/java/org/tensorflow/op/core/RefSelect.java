@@ -49,6 +49,7 @@ public final class RefSelect<T extends TType> extends PrimitiveOp implements Ope
     opBuilder.addInput(index.asOutput());
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RefSelect<T>(opBuilder.build());
   }
   
@@ -53,6 +53,7 @@ public final class RefSwitch<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(pred.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RefSwitch<T>(opBuilder.build());
   }
   
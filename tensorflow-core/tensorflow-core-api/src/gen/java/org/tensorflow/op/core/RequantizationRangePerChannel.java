@@ -48,6 +48,7 @@ public final class RequantizationRangePerChannel extends PrimitiveOp {
     opBuilder.addInput(inputMin.asOutput());
     opBuilder.addInput(inputMax.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("clip_value_max", clipValueMax);
     return new RequantizationRangePerChannel(opBuilder.build());
   }
@@ -54,6 +54,7 @@ public final class RequantizePerChannel<U extends TType> extends PrimitiveOp {
     opBuilder.addInput(requestedOutputMin.asOutput());
     opBuilder.addInput(requestedOutputMax.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new RequantizePerChannel<U>(opBuilder.build());
   }
@@ -105,6 +105,7 @@ public final class Reshape<T extends TType> extends PrimitiveOp implements Opera
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Reshape<T>(opBuilder.build());
   }
   
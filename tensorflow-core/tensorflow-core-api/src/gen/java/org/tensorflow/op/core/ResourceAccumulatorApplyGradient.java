@@ -47,6 +47,7 @@ public final class ResourceAccumulatorApplyGradient extends PrimitiveOp {
     opBuilder.addInput(localStep.asOutput());
     opBuilder.addInput(gradient.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ResourceAccumulatorApplyGradient(opBuilder.build());
   }
   
@@ -41,6 +41,7 @@ public final class ResourceAccumulatorNumAccumulated extends PrimitiveOp impleme
     OperationBuilder opBuilder = scope.env().opBuilder("ResourceAccumulatorNumAccumulated", scope.makeOpName("ResourceAccumulatorNumAccumulated"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ResourceAccumulatorNumAccumulated(opBuilder.build());
   }
   
@@ -45,6 +45,7 @@ public final class ResourceAccumulatorSetGlobalStep extends PrimitiveOp {
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(newGlobalStep.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ResourceAccumulatorSetGlobalStep(opBuilder.build());
   }
   
@@ -55,6 +55,7 @@ public final class ResourceAccumulatorTakeGradient<T extends TType> extends Prim
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(numRequired.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new ResourceAccumulatorTakeGradient<T>(opBuilder.build());
   }
@@ -82,6 +82,7 @@ public final class ResourceApplyAdagradV2 extends PrimitiveOp {
     opBuilder.addInput(epsilon.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
@@ -88,6 +88,7 @@ public final class ResourceApplyKerasMomentum extends PrimitiveOp {
     opBuilder.addInput(grad.asOutput());
     opBuilder.addInput(momentum.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
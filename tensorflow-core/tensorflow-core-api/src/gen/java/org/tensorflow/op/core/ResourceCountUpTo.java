@@ -50,6 +50,7 @@ public final class ResourceCountUpTo<T extends TNumber> extends PrimitiveOp impl
     OperationBuilder opBuilder = scope.env().opBuilder("ResourceCountUpTo", scope.makeOpName("ResourceCountUpTo"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("limit", limit);
     opBuilder.setAttr("T", T);
     return new ResourceCountUpTo<T>(opBuilder.build());
@@ -48,6 +48,7 @@ public final class ResourceGatherNd<U extends TType> extends PrimitiveOp impleme
     opBuilder.addInput(resource.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new ResourceGatherNd<U>(opBuilder.build());
   }
@@ -67,6 +67,7 @@ public final class ResourceScatterMul extends PrimitiveOp {
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(updates.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ResourceScatterMul(opBuilder.build());
   }
   
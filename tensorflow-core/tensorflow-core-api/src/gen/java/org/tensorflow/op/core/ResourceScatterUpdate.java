@@ -58,6 +58,7 @@ public final class ResourceScatterUpdate extends PrimitiveOp {
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(updates.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ResourceScatterUpdate(opBuilder.build());
   }
   
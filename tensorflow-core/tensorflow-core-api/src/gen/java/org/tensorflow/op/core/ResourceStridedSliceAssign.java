@@ -114,6 +114,7 @@ public final class ResourceStridedSliceAssign extends PrimitiveOp {
     opBuilder.addInput(strides.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.beginMask != null) {
@@ -96,6 +96,7 @@ public final class Reverse<T extends TType> extends PrimitiveOp implements Opera
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Reverse<T>(opBuilder.build());
   }
   
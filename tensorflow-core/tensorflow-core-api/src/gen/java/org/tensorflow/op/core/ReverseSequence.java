@@ -123,6 +123,7 @@ public final class ReverseSequence<T extends TType> extends PrimitiveOp implemen
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(seqLengths.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("seq_dim", seqDim);
     if (options != null) {
       for (Options opts : options) {
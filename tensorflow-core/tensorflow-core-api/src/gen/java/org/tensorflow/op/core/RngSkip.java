@@ -49,6 +49,7 @@ public final class RngSkip extends PrimitiveOp {
     opBuilder.addInput(algorithm.asOutput());
     opBuilder.addInput(delta.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RngSkip(opBuilder.build());
   }
   
@@ -77,6 +77,7 @@ public final class Roll<T extends TType> extends PrimitiveOp implements Operand<
     opBuilder.addInput(shift.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Roll<T>(opBuilder.build());
   }
   
@@ -140,6 +140,7 @@ public final class Rpc extends PrimitiveOp implements Operand<TString> {
     opBuilder.addInput(method.asOutput());
     opBuilder.addInput(request.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.protocol != null) {
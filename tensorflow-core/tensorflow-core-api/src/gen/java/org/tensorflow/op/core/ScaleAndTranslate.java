@@ -80,6 +80,7 @@ public final class ScaleAndTranslate extends PrimitiveOp implements Operand<TFlo
     opBuilder.addInput(scale.asOutput());
     opBuilder.addInput(translation.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.kernelType != null) {
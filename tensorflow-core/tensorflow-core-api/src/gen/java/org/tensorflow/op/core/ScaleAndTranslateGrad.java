@@ -78,6 +78,7 @@ public final class ScaleAndTranslateGrad<T extends TNumber> extends PrimitiveOp
     opBuilder.addInput(scale.asOutput());
     opBuilder.addInput(translation.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.kernelType != null) {
@@ -129,6 +129,7 @@ public final class ScatterNd<U extends TType> extends PrimitiveOp implements Ope
     opBuilder.addInput(updates.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ScatterNd<U>(opBuilder.build());
   }
   
@@ -86,6 +86,7 @@ public final class ScatterNdNonAliasingAdd<T extends TType> extends PrimitiveOp
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(updates.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ScatterNdNonAliasingAdd<T>(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class SelectV2<T extends TType> extends PrimitiveOp implements Oper
     opBuilder.addInput(t.asOutput());
     opBuilder.addInput(e.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SelectV2<T>(opBuilder.build());
   }
   
@@ -54,6 +54,7 @@ public final class SendTPUEmbeddingGradients extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder.addInputList(Operands.asOutputs(learningRates));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("config", config);
     return new SendTPUEmbeddingGradients(opBuilder.build());
   }
@@ -72,6 +72,7 @@ public final class SetDiff1d<T extends TType, U extends TNumber> extends Primiti
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_idx", outIdx);
     return new SetDiff1d<T, U>(opBuilder.build());
   }
@@ -76,6 +76,7 @@ public final class SetSize extends PrimitiveOp implements Operand<TInt32> {
     opBuilder.addInput(setValues.asOutput());
     opBuilder.addInput(setShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.validateIndices != null) {
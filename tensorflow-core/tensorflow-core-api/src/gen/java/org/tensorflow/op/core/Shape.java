@@ -58,6 +58,7 @@ public final class Shape<U extends TNumber> extends PrimitiveOp implements Opera
     OperationBuilder opBuilder = scope.env().opBuilder("Shape", scope.makeOpName("Shape"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new Shape<U>(opBuilder.build());
   }
@@ -55,6 +55,7 @@ public final class ShapeN<U extends TNumber> extends PrimitiveOp implements Iter
     OperationBuilder opBuilder = scope.env().opBuilder("ShapeN", scope.makeOpName("ShapeN"));
     opBuilder.addInputList(Operands.asOutputs(input));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new ShapeN<U>(opBuilder.build());
   }
@@ -38,6 +38,7 @@ public final class ShutdownDistributedTPU extends PrimitiveOp {
   public static ShutdownDistributedTPU create(Scope scope) {
     OperationBuilder opBuilder = scope.env().opBuilder("ShutdownDistributedTPU", scope.makeOpName("ShutdownDistributedTPU"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ShutdownDistributedTPU(opBuilder.build());
   }
   
@@ -59,6 +59,7 @@ public final class Size<U extends TNumber> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("Size", scope.makeOpName("Size"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new Size<U>(opBuilder.build());
   }
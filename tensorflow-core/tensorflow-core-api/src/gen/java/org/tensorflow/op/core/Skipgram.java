@@ -84,6 +84,7 @@ public final class Skipgram extends PrimitiveOp {
   public static Skipgram create(Scope scope, String filename, Long batchSize, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("Skipgram", scope.makeOpName("Skipgram"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("filename", filename);
     opBuilder.setAttr("batch_size", batchSize);
     if (options != null) {
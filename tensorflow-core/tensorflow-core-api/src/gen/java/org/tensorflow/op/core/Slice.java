@@ -61,6 +61,7 @@ public final class Slice<T extends TType> extends PrimitiveOp implements Operand
     opBuilder.addInput(begin.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Slice<T>(opBuilder.build());
   }
   
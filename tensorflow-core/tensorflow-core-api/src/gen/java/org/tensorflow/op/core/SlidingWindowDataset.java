@@ -56,6 +56,7 @@ public final class SlidingWindowDataset extends PrimitiveOp implements Operand<T
     opBuilder.addInput(windowShift.asOutput());
     opBuilder.addInput(windowStride.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
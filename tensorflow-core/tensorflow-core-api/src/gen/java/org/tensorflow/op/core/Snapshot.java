@@ -45,6 +45,7 @@ public final class Snapshot<T extends TType> extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("Snapshot", scope.makeOpName("Snapshot"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Snapshot<T>(opBuilder.build());
   }
   
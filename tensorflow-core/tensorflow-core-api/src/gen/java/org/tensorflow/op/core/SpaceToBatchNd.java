@@ -151,6 +151,7 @@ public final class SpaceToBatchNd<T extends TType> extends PrimitiveOp implement
     opBuilder.addInput(blockShape.asOutput());
     opBuilder.addInput(paddings.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SpaceToBatchNd<T>(opBuilder.build());
   }
   
@@ -54,6 +54,7 @@ public final class Split<T extends TType> extends PrimitiveOp implements Iterabl
     opBuilder.addInput(axis.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_split", numSplit);
     return new Split<T>(opBuilder.build());
   }
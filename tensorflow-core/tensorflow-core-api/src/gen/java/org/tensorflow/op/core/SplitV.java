@@ -58,6 +58,7 @@ public final class SplitV<T extends TType> extends PrimitiveOp implements Iterab
     opBuilder.addInput(sizeSplits.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_split", numSplit);
     return new SplitV<T>(opBuilder.build());
   }
@@ -85,6 +85,7 @@ public final class Stack<T extends TType> extends PrimitiveOp implements Operand
     OperationBuilder opBuilder = scope.env().opBuilder("Pack", scope.makeOpName("Stack"));
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.axis != null) {
@@ -55,6 +55,7 @@ public final class StatefulRandomBinomial<V extends TNumber> extends PrimitiveOp
     opBuilder.addInput(counts.asOutput());
     opBuilder.addInput(probs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new StatefulRandomBinomial<V>(opBuilder.build());
   }
@@ -52,6 +52,7 @@ public final class StatefulStandardNormal<U extends TType> extends PrimitiveOp i
     opBuilder.addInput(resource.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new StatefulStandardNormal<U>(opBuilder.build());
   }
@@ -55,6 +55,7 @@ public final class StatefulStandardNormalV2<U extends TType> extends PrimitiveOp
     opBuilder.addInput(algorithm.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new StatefulStandardNormalV2<U>(opBuilder.build());
   }
@@ -54,6 +54,7 @@ public final class StatefulUniform<U extends TType> extends PrimitiveOp implemen
     opBuilder.addInput(algorithm.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new StatefulUniform<U>(opBuilder.build());
   }
@@ -52,6 +52,7 @@ public final class StatefulUniformFullInt<U extends TType> extends PrimitiveOp i
     opBuilder.addInput(algorithm.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new StatefulUniformFullInt<U>(opBuilder.build());
   }
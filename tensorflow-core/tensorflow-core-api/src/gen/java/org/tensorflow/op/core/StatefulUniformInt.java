@@ -60,6 +60,7 @@ public final class StatefulUniformInt<U extends TType> extends PrimitiveOp imple
     opBuilder.addInput(minval.asOutput());
     opBuilder.addInput(maxval.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new StatefulUniformInt<U>(opBuilder.build());
   }
   
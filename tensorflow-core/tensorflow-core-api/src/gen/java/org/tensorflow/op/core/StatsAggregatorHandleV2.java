@@ -67,6 +67,7 @@ public final class StatsAggregatorHandleV2 extends PrimitiveOp implements Operan
   public static StatsAggregatorHandleV2 create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("StatsAggregatorHandleV2", scope.makeOpName("StatsAggregatorHandleV2"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.container != null) {
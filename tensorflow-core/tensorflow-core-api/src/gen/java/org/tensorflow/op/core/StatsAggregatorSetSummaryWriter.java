@@ -41,6 +41,7 @@ public final class StatsAggregatorSetSummaryWriter extends PrimitiveOp {
     opBuilder.addInput(statsAggregator.asOutput());
     opBuilder.addInput(summary.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new StatsAggregatorSetSummaryWriter(opBuilder.build());
   }
   
@@ -70,6 +70,7 @@ public final class StopGradient<T extends TType> extends PrimitiveOp implements
     OperationBuilder opBuilder = scope.env().opBuilder("StopGradient", scope.makeOpName("StopGradient"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new StopGradient<T>(opBuilder.build());
   }
   
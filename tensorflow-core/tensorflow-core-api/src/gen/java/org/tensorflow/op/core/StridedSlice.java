@@ -219,6 +219,7 @@ public final class StridedSlice<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(end.asOutput());
     opBuilder.addInput(strides.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.beginMask != null) {
@@ -117,6 +117,7 @@ public final class StridedSliceAssign<T extends TType> extends PrimitiveOp imple
     opBuilder.addInput(strides.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.beginMask != null) {
@@ -119,6 +119,7 @@ public final class StridedSliceGrad<U extends TType> extends PrimitiveOp impleme
     opBuilder.addInput(strides.asOutput());
     opBuilder.addInput(dy.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.beginMask != null) {
@@ -62,6 +62,7 @@ public final class StringLower extends PrimitiveOp implements Operand<TString> {
     OperationBuilder opBuilder = scope.env().opBuilder("StringLower", scope.makeOpName("StringLower"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.encoding != null) {
@@ -66,6 +66,7 @@ public final class StringNGrams<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(dataSplits.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("separator", separator);
     long[] ngramWidthsArray = new long[ngramWidths.size()];
     for (int i = 0; i < ngramWidthsArray.length; ++i) {
@@ -62,6 +62,7 @@ public final class StringUpper extends PrimitiveOp implements Operand<TString> {
     OperationBuilder opBuilder = scope.env().opBuilder("StringUpper", scope.makeOpName("StringUpper"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.encoding != null) {
@@ -53,6 +53,7 @@ public final class SwitchCond<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(pred.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SwitchCond<T>(opBuilder.build());
   }
   
@@ -39,6 +39,7 @@ public final class TPUCompilationResult extends PrimitiveOp implements Operand<T
   public static TPUCompilationResult create(Scope scope) {
     OperationBuilder opBuilder = scope.env().opBuilder("TPUCompilationResult", scope.makeOpName("TPUCompilationResult"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TPUCompilationResult(opBuilder.build());
   }
   
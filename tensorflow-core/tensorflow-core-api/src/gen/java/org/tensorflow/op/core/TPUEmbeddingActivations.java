@@ -53,6 +53,7 @@ public final class TPUEmbeddingActivations extends PrimitiveOp implements Operan
     opBuilder.addInput(embeddingVariable.asOutput());
     opBuilder.addInput(slicedActivations.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("table_id", tableId);
     opBuilder.setAttr("lookup_id", lookupId);
     return new TPUEmbeddingActivations(opBuilder.build());
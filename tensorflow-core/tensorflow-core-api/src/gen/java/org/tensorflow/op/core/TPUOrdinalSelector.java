@@ -43,6 +43,7 @@ public final class TPUOrdinalSelector extends PrimitiveOp implements Operand<TIn
   public static TPUOrdinalSelector create(Scope scope) {
     OperationBuilder opBuilder = scope.env().opBuilder("TPUOrdinalSelector", scope.makeOpName("TPUOrdinalSelector"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TPUOrdinalSelector(opBuilder.build());
   }
   
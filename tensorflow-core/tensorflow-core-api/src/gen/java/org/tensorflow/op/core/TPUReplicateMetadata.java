@@ -130,6 +130,7 @@ public final class TPUReplicateMetadata extends PrimitiveOp {
   public static TPUReplicateMetadata create(Scope scope, Long numReplicas, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("TPUReplicateMetadata", scope.makeOpName("TPUReplicateMetadata"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_replicas", numReplicas);
     if (options != null) {
       for (Options opts : options) {
@@ -44,6 +44,7 @@ public final class TPUReplicatedInput<T extends TType> extends PrimitiveOp imple
     OperationBuilder opBuilder = scope.env().opBuilder("TPUReplicatedInput", scope.makeOpName("TPUReplicatedInput"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TPUReplicatedInput<T>(opBuilder.build());
   }
   
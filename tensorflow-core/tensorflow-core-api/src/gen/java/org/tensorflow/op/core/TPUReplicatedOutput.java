@@ -47,6 +47,7 @@ public final class TPUReplicatedOutput<T extends TType> extends PrimitiveOp impl
     OperationBuilder opBuilder = scope.env().opBuilder("TPUReplicatedOutput", scope.makeOpName("TPUReplicatedOutput"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_replicas", numReplicas);
     return new TPUReplicatedOutput<T>(opBuilder.build());
   }
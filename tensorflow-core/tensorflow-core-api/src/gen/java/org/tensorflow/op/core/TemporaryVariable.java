@@ -83,6 +83,7 @@ public final class TemporaryVariable<T extends TType> extends PrimitiveOp implem
   public static <T extends TType> TemporaryVariable<T> create(Scope scope, Shape shape, DataType<T> dtype, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("TemporaryVariable", scope.makeOpName("TemporaryVariable"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("shape", shape);
     opBuilder.setAttr("dtype", dtype);
     if (options != null) {
@@ -44,6 +44,7 @@ public final class TensorArrayClose extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("TensorArrayCloseV3", scope.makeOpName("TensorArrayClose"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorArrayClose(opBuilder.build());
   }
   
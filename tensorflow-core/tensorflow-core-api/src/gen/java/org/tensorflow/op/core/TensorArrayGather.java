@@ -78,6 +78,7 @@ public final class TensorArrayGather<T extends TType> extends PrimitiveOp implem
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(flowIn.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     if (options != null) {
       for (Options opts : options) {
@@ -84,6 +84,7 @@ public final class TensorArrayGrad extends PrimitiveOp {
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(flowIn.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("source", source);
     return new TensorArrayGrad(opBuilder.build());
   }
@@ -57,6 +57,7 @@ public final class TensorArrayGradWithShape extends PrimitiveOp {
     opBuilder.addInput(flowIn.asOutput());
     opBuilder.addInput(shapeToPrepend.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("source", source);
     return new TensorArrayGradWithShape(opBuilder.build());
   }
@@ -53,6 +53,7 @@ public final class TensorArrayRead<T extends TType> extends PrimitiveOp implemen
     opBuilder.addInput(index.asOutput());
     opBuilder.addInput(flowIn.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new TensorArrayRead<T>(opBuilder.build());
   }
@@ -53,6 +53,7 @@ public final class TensorArrayScatter extends PrimitiveOp implements Operand<TFl
     opBuilder.addInput(value.asOutput());
     opBuilder.addInput(flowIn.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorArrayScatter(opBuilder.build());
   }
   
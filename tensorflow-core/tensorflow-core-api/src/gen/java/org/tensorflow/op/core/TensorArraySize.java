@@ -46,6 +46,7 @@ public final class TensorArraySize extends PrimitiveOp implements Operand<TInt32
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(flowIn.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorArraySize(opBuilder.build());
   }
   
@@ -74,6 +74,7 @@ public final class TensorArraySplit extends PrimitiveOp implements Operand<TFloa
     opBuilder.addInput(lengths.asOutput());
     opBuilder.addInput(flowIn.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorArraySplit(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class TensorArrayUnpack extends PrimitiveOp implements Operand<TFlo
     opBuilder.addInput(value.asOutput());
     opBuilder.addInput(flowIn.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorArrayUnpack(opBuilder.build());
   }
   
@@ -51,6 +51,7 @@ public final class TensorArrayWrite extends PrimitiveOp implements Operand<TFloa
     opBuilder.addInput(value.asOutput());
     opBuilder.addInput(flowIn.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorArrayWrite(opBuilder.build());
   }
   
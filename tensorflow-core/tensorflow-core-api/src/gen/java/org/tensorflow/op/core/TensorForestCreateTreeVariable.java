@@ -42,6 +42,7 @@ public final class TensorForestCreateTreeVariable extends PrimitiveOp {
     opBuilder.addInput(treeHandle.asOutput());
     opBuilder.addInput(treeConfig.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorForestCreateTreeVariable(opBuilder.build());
   }
   
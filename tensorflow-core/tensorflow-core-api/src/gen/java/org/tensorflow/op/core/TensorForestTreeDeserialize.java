@@ -42,6 +42,7 @@ public final class TensorForestTreeDeserialize extends PrimitiveOp {
     opBuilder.addInput(treeHandle.asOutput());
     opBuilder.addInput(treeConfig.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorForestTreeDeserialize(opBuilder.build());
   }
   
@@ -41,6 +41,7 @@ public final class TensorForestTreeIsInitializedOp extends PrimitiveOp implement
     OperationBuilder opBuilder = scope.env().opBuilder("TensorForestTreeIsInitializedOp", scope.makeOpName("TensorForestTreeIsInitializedOp"));
     opBuilder.addInput(treeHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorForestTreeIsInitializedOp(opBuilder.build());
   }
   
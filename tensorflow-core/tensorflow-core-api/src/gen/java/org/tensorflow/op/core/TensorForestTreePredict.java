@@ -44,6 +44,7 @@ public final class TensorForestTreePredict extends PrimitiveOp implements Operan
     opBuilder.addInput(treeHandle.asOutput());
     opBuilder.addInput(denseFeatures.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("logits_dimension", logitsDimension);
     return new TensorForestTreePredict(opBuilder.build());
   }
@@ -41,6 +41,7 @@ public final class TensorForestTreeSerialize extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("TensorForestTreeSerialize", scope.makeOpName("TensorForestTreeSerialize"));
     opBuilder.addInput(treeHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorForestTreeSerialize(opBuilder.build());
   }
   
@@ -41,6 +41,7 @@ public final class TensorForestTreeSize extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("TensorForestTreeSize", scope.makeOpName("TensorForestTreeSize"));
     opBuilder.addInput(treeHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorForestTreeSize(opBuilder.build());
   }
   
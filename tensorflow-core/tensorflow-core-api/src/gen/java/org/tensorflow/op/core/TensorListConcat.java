@@ -76,6 +76,7 @@ public final class TensorListConcat<T extends TType> extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("TensorListConcat", scope.makeOpName("TensorListConcat"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("element_dtype", elementDtype);
     if (options != null) {
       for (Options opts : options) {
@@ -46,6 +46,7 @@ public final class TensorListConcatLists extends PrimitiveOp implements Operand<
     opBuilder.addInput(inputA.asOutput());
     opBuilder.addInput(inputB.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("element_dtype", elementDtype);
     return new TensorListConcatLists(opBuilder.build());
   }
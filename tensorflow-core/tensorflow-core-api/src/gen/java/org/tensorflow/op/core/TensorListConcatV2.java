@@ -66,6 +66,7 @@ public final class TensorListConcatV2<U extends TType> extends PrimitiveOp {
     opBuilder.addInput(elementShape.asOutput());
     opBuilder.addInput(leadingDims.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("element_dtype", elementDtype);
     return new TensorListConcatV2<U>(opBuilder.build());
   }
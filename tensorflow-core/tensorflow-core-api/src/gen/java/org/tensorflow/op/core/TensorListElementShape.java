@@ -51,6 +51,7 @@ public final class TensorListElementShape<T extends TNumber> extends PrimitiveOp
     OperationBuilder opBuilder = scope.env().opBuilder("TensorListElementShape", scope.makeOpName("TensorListElementShape"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("shape_type", shapeType);
     return new TensorListElementShape<T>(opBuilder.build());
   }
@@ -51,6 +51,7 @@ public final class TensorListFromTensor extends PrimitiveOp implements Operand<T
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(elementShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListFromTensor(opBuilder.build());
   }
   
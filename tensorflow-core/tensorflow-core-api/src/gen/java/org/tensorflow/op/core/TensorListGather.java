@@ -59,6 +59,7 @@ public final class TensorListGather<T extends TType> extends PrimitiveOp impleme
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(elementShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("element_dtype", elementDtype);
     return new TensorListGather<T>(opBuilder.build());
   }
@@ -50,6 +50,7 @@ public final class TensorListGetItem<T extends TType> extends PrimitiveOp implem
     opBuilder.addInput(index.asOutput());
     opBuilder.addInput(elementShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("element_dtype", elementDtype);
     return new TensorListGetItem<T>(opBuilder.build());
   }
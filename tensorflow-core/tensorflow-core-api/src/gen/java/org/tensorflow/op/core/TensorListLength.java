@@ -46,6 +46,7 @@ public final class TensorListLength extends PrimitiveOp implements Operand<TInt3
     OperationBuilder opBuilder = scope.env().opBuilder("TensorListLength", scope.makeOpName("TensorListLength"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListLength(opBuilder.build());
   }
   
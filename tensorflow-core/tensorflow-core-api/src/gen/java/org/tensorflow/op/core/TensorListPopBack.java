@@ -57,6 +57,7 @@ public final class TensorListPopBack<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(elementShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("element_dtype", elementDtype);
     return new TensorListPopBack<T>(opBuilder.build());
   }
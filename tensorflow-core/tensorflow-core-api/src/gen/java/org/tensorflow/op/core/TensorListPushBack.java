@@ -51,6 +51,7 @@ public final class TensorListPushBack extends PrimitiveOp implements Operand<TTy
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(tensor.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListPushBack(opBuilder.build());
   }
   
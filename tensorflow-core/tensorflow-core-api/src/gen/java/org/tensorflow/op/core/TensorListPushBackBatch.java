@@ -44,6 +44,7 @@ public final class TensorListPushBackBatch extends PrimitiveOp implements Operan
     opBuilder.addInput(inputHandles.asOutput());
     opBuilder.addInput(tensor.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListPushBackBatch(opBuilder.build());
   }
   
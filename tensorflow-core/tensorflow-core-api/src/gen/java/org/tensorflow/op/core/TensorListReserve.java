@@ -54,6 +54,7 @@ public final class TensorListReserve extends PrimitiveOp implements Operand<TTyp
     opBuilder.addInput(elementShape.asOutput());
     opBuilder.addInput(numElements.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("element_dtype", elementDtype);
     return new TensorListReserve(opBuilder.build());
   }
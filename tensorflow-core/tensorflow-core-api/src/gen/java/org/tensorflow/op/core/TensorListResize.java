@@ -51,6 +51,7 @@ public final class TensorListResize extends PrimitiveOp implements Operand<TType
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListResize(opBuilder.build());
   }
   
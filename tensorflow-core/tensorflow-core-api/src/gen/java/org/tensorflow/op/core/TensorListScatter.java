@@ -58,6 +58,7 @@ public final class TensorListScatter extends PrimitiveOp implements Operand<TTyp
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(elementShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListScatter(opBuilder.build());
   }
   
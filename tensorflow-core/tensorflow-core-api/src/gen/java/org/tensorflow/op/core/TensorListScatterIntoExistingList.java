@@ -56,6 +56,7 @@ public final class TensorListScatterIntoExistingList extends PrimitiveOp impleme
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListScatterIntoExistingList(opBuilder.build());
   }
   
@@ -63,6 +63,7 @@ public final class TensorListScatterV2 extends PrimitiveOp implements Operand<TT
     opBuilder.addInput(elementShape.asOutput());
     opBuilder.addInput(numElements.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListScatterV2(opBuilder.build());
   }
   
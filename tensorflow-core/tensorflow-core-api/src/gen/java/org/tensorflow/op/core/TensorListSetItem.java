@@ -47,6 +47,7 @@ public final class TensorListSetItem extends PrimitiveOp implements Operand<TTyp
     opBuilder.addInput(index.asOutput());
     opBuilder.addInput(item.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListSetItem(opBuilder.build());
   }
   
@@ -57,6 +57,7 @@ public final class TensorListSplit extends PrimitiveOp implements Operand<TType>
     opBuilder.addInput(elementShape.asOutput());
     opBuilder.addInput(lengths.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorListSplit(opBuilder.build());
   }
   
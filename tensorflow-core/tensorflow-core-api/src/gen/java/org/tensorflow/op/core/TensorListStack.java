@@ -77,6 +77,7 @@ public final class TensorListStack<T extends TType> extends PrimitiveOp implemen
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(elementShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("element_dtype", elementDtype);
     if (options != null) {
       for (Options opts : options) {
@@ -111,6 +111,7 @@ public final class TensorScatterAdd<T extends TType> extends PrimitiveOp impleme
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(updates.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorScatterAdd<T>(opBuilder.build());
   }
   
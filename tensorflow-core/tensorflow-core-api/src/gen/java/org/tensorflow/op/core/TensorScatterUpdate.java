@@ -122,6 +122,7 @@ public final class TensorScatterUpdate<T extends TType> extends PrimitiveOp impl
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(updates.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorScatterUpdate<T>(opBuilder.build());
   }
   
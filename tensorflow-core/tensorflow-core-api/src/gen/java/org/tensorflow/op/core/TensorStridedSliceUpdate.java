@@ -117,6 +117,7 @@ public final class TensorStridedSliceUpdate<T extends TType> extends PrimitiveOp
     opBuilder.addInput(strides.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.beginMask != null) {
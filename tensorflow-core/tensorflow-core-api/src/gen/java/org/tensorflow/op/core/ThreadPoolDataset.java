@@ -48,6 +48,7 @@ public final class ThreadPoolDataset extends PrimitiveOp implements Operand<TTyp
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(threadPool.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
@@ -82,6 +82,7 @@ public final class ThreadPoolHandle extends PrimitiveOp implements Operand<TType
   public static ThreadPoolHandle create(Scope scope, Long numThreads, String displayName, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("ThreadPoolHandle", scope.makeOpName("ThreadPoolHandle"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_threads", numThreads);
     opBuilder.setAttr("display_name", displayName);
     if (options != null) {
@@ -54,6 +54,7 @@ public final class Tile<T extends TType> extends PrimitiveOp implements Operand<
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(multiples.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Tile<T>(opBuilder.build());
   }
   
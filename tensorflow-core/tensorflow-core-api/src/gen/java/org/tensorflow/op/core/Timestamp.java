@@ -46,6 +46,7 @@ public final class Timestamp extends PrimitiveOp implements Operand<TDouble> {
   public static Timestamp create(Scope scope) {
     OperationBuilder opBuilder = scope.env().opBuilder("Timestamp", scope.makeOpName("Timestamp"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Timestamp(opBuilder.build());
   }
   
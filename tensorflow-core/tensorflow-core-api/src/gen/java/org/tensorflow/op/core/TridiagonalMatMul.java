@@ -55,6 +55,7 @@ public final class TridiagonalMatMul<T extends TType> extends PrimitiveOp implem
     opBuilder.addInput(subdiag.asOutput());
     opBuilder.addInput(rhs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TridiagonalMatMul<T>(opBuilder.build());
   }
   
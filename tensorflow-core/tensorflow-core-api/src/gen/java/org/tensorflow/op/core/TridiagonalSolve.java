@@ -77,6 +77,7 @@ public final class TridiagonalSolve<T extends TType> extends PrimitiveOp impleme
     opBuilder.addInput(diagonals.asOutput());
     opBuilder.addInput(rhs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.partialPivoting != null) {
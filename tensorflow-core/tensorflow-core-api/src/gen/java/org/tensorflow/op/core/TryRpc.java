@@ -143,6 +143,7 @@ public final class TryRpc extends PrimitiveOp {
     opBuilder.addInput(method.asOutput());
     opBuilder.addInput(request.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.protocol != null) {
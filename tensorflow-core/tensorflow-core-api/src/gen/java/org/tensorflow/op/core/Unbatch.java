@@ -99,6 +99,7 @@ public final class Unbatch<T extends TType> extends PrimitiveOp implements Opera
     opBuilder.addInput(batchIndex.asOutput());
     opBuilder.addInput(id.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("timeout_micros", timeoutMicros);
     if (options != null) {
       for (Options opts : options) {
@@ -96,6 +96,7 @@ public final class UnbatchGrad<T extends TType> extends PrimitiveOp implements O
     opBuilder.addInput(grad.asOutput());
     opBuilder.addInput(id.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.container != null) {
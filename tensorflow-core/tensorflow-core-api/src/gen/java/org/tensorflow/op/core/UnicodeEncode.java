@@ -104,6 +104,7 @@ public final class UnicodeEncode extends PrimitiveOp implements Operand<TString>
     opBuilder.addInput(inputValues.asOutput());
     opBuilder.addInput(inputSplits.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("output_encoding", outputEncoding);
     if (options != null) {
       for (Options opts : options) {
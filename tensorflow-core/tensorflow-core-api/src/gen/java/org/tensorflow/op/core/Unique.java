@@ -93,6 +93,7 @@ public final class Unique<T extends TType, V extends TNumber> extends PrimitiveO
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_idx", outIdx);
     return new Unique<T, V>(opBuilder.build());
   }
@@ -97,6 +97,7 @@ public final class UniqueWithCounts<T extends TType, V extends TNumber> extends
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_idx", outIdx);
     return new UniqueWithCounts<T, V>(opBuilder.build());
   }
@@ -56,6 +56,7 @@ public final class UnravelIndex<T extends TNumber> extends PrimitiveOp implement
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(dims.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new UnravelIndex<T>(opBuilder.build());
   }
   
@@ -97,6 +97,7 @@ public final class UnsortedSegmentJoin extends PrimitiveOp implements Operand<TS
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(numSegments.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.separator != null) {
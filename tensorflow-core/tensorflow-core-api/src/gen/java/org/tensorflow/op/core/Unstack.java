@@ -83,6 +83,7 @@ public final class Unstack<T extends TType> extends PrimitiveOp implements Itera
     OperationBuilder opBuilder = scope.env().opBuilder("Unpack", scope.makeOpName("Unstack"));
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num", num);
     if (options != null) {
       for (Options opts : options) {
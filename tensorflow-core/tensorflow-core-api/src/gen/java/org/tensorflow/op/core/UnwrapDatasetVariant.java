@@ -40,6 +40,7 @@ public final class UnwrapDatasetVariant extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("UnwrapDatasetVariant", scope.makeOpName("UnwrapDatasetVariant"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new UnwrapDatasetVariant(opBuilder.build());
   }
   
@@ -68,6 +68,7 @@ public final class UpperBound<U extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(sortedInputs.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new UpperBound<U>(opBuilder.build());
   }
@@ -43,6 +43,7 @@ public final class VarIsInitializedOp extends PrimitiveOp implements Operand<TBo
     OperationBuilder opBuilder = scope.env().opBuilder("VarIsInitializedOp", scope.makeOpName("VarIsInitializedOp"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new VarIsInitializedOp(opBuilder.build());
   }
   
@@ -82,6 +82,7 @@ public final class Variable<T extends TType> extends PrimitiveOp implements Oper
   public static <T extends TType> Variable<T> create(Scope scope, Shape shape, DataType<T> dtype, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("VariableV2", scope.makeOpName("Variable"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("shape", shape);
     opBuilder.setAttr("dtype", dtype);
     if (options != null) {
@@ -58,6 +58,7 @@ public final class VariableShape<T extends TNumber> extends PrimitiveOp implemen
     OperationBuilder opBuilder = scope.env().opBuilder("VariableShape", scope.makeOpName("VariableShape"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new VariableShape<T>(opBuilder.build());
   }
@@ -104,6 +104,7 @@ public final class Where extends PrimitiveOp implements Operand<TInt64> {
     OperationBuilder opBuilder = scope.env().opBuilder("Where", scope.makeOpName("Where"));
     opBuilder.addInput(condition.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Where(opBuilder.build());
   }
   
@@ -91,6 +91,7 @@ public final class Where3<T extends TType> extends PrimitiveOp implements Operan
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Where3<T>(opBuilder.build());
   }
   
@@ -44,6 +44,7 @@ public final class WorkerHeartbeat extends PrimitiveOp implements Operand<TStrin
     OperationBuilder opBuilder = scope.env().opBuilder("WorkerHeartbeat", scope.makeOpName("WorkerHeartbeat"));
     opBuilder.addInput(request.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new WorkerHeartbeat(opBuilder.build());
   }
   
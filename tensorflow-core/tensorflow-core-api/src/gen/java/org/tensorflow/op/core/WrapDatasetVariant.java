@@ -40,6 +40,7 @@ public final class WrapDatasetVariant extends PrimitiveOp implements Operand<TTy
     OperationBuilder opBuilder = scope.env().opBuilder("WrapDatasetVariant", scope.makeOpName("WrapDatasetVariant"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new WrapDatasetVariant(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class WriteKafka extends PrimitiveOp implements Operand<TString> {
     opBuilder.addInput(topic.asOutput());
     opBuilder.addInput(servers.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new WriteKafka(opBuilder.build());
   }
   
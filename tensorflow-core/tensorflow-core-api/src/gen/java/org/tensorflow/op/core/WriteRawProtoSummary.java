@@ -44,6 +44,7 @@ public final class WriteRawProtoSummary extends PrimitiveOp {
     opBuilder.addInput(step.asOutput());
     opBuilder.addInput(tensor.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new WriteRawProtoSummary(opBuilder.build());
   }
   
@@ -45,6 +45,7 @@ public final class ZerosLike<T extends TType> extends PrimitiveOp implements Ope
     OperationBuilder opBuilder = scope.env().opBuilder("ZerosLike", scope.makeOpName("ZerosLike"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ZerosLike<T>(opBuilder.build());
   }
   
@@ -43,6 +43,7 @@ public final class DatasetToGraph extends PrimitiveOp implements Operand<TString
     OperationBuilder opBuilder = scope.env().opBuilder("DatasetToGraph", scope.makeOpName("DatasetToGraph"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DatasetToGraph(opBuilder.build());
   }
   
@@ -45,6 +45,7 @@ public final class DatasetToTfRecord extends PrimitiveOp {
     opBuilder.addInput(filename.asOutput());
     opBuilder.addInput(compressionType.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DatasetToTfRecord(opBuilder.build());
   }
   
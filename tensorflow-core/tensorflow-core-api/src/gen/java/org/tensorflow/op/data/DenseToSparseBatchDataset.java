@@ -54,6 +54,7 @@ public final class DenseToSparseBatchDataset extends PrimitiveOp implements Oper
     opBuilder.addInput(batchSize.asOutput());
     opBuilder.addInput(rowShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
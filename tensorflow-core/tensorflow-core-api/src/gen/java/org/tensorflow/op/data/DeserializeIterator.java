@@ -44,6 +44,7 @@ public final class DeserializeIterator extends PrimitiveOp {
     opBuilder.addInput(resourceHandle.asOutput());
     opBuilder.addInput(serialized.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DeserializeIterator(opBuilder.build());
   }
   
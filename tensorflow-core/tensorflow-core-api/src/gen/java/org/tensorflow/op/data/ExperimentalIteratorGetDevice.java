@@ -41,6 +41,7 @@ public final class ExperimentalIteratorGetDevice extends PrimitiveOp implements
     OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalIteratorGetDevice", scope.makeOpName("ExperimentalIteratorGetDevice"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ExperimentalIteratorGetDevice(opBuilder.build());
   }
   
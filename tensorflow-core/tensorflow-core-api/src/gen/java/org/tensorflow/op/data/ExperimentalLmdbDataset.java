@@ -46,6 +46,7 @@ public final class ExperimentalLmdbDataset extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalLMDBDataset", scope.makeOpName("ExperimentalLmdbDataset"));
     opBuilder.addInput(filenames.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
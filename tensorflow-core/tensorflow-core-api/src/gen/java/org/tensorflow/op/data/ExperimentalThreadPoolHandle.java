@@ -82,6 +82,7 @@ public final class ExperimentalThreadPoolHandle extends PrimitiveOp implements O
   public static ExperimentalThreadPoolHandle create(Scope scope, Long numThreads, String displayName, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalThreadPoolHandle", scope.makeOpName("ExperimentalThreadPoolHandle"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_threads", numThreads);
     opBuilder.setAttr("display_name", displayName);
     if (options != null) {
@@ -52,6 +52,7 @@ public final class FixedLengthRecordDataset extends PrimitiveOp implements Opera
     opBuilder.addInput(bufferSize.asOutput());
     opBuilder.addInput(compressionType.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new FixedLengthRecordDataset(opBuilder.build());
   }
   
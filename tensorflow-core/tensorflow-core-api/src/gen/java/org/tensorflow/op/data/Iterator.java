@@ -45,6 +45,7 @@ public final class Iterator extends PrimitiveOp implements Operand<TType> {
   public static Iterator create(Scope scope, String sharedName, String container, List<DataType<?>> outputTypes, List<Shape> outputShapes) {
     OperationBuilder opBuilder = scope.env().opBuilder("IteratorV2", scope.makeOpName("Iterator"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("shared_name", sharedName);
     opBuilder.setAttr("container", container);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
@@ -43,6 +43,7 @@ public final class IteratorToStringHandle extends PrimitiveOp implements Operand
     OperationBuilder opBuilder = scope.env().opBuilder("IteratorToStringHandle", scope.makeOpName("IteratorToStringHandle"));
     opBuilder.addInput(resourceHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new IteratorToStringHandle(opBuilder.build());
   }
   
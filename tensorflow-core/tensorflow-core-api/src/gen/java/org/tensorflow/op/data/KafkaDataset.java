@@ -66,6 +66,7 @@ public final class KafkaDataset extends PrimitiveOp implements Operand<TType> {
     opBuilder.addInput(configGlobal.asOutput());
     opBuilder.addInput(configTopic.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new KafkaDataset(opBuilder.build());
   }
   
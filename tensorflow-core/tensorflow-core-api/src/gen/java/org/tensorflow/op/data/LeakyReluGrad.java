@@ -67,6 +67,7 @@ public final class LeakyReluGrad<T extends TNumber> extends PrimitiveOp implemen
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.alpha != null) {
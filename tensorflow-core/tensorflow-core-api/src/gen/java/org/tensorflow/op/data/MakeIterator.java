@@ -46,6 +46,7 @@ public final class MakeIterator extends PrimitiveOp {
     opBuilder.addInput(dataset.asOutput());
     opBuilder.addInput(iterator.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MakeIterator(opBuilder.build());
   }
   
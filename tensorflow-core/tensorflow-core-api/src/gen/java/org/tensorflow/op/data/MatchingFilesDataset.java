@@ -41,6 +41,7 @@ public final class MatchingFilesDataset extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("MatchingFilesDataset", scope.makeOpName("MatchingFilesDataset"));
     opBuilder.addInput(patterns.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MatchingFilesDataset(opBuilder.build());
   }
   
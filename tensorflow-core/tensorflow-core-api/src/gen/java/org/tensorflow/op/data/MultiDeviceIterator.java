@@ -49,6 +49,7 @@ public final class MultiDeviceIterator extends PrimitiveOp implements Operand<TT
   public static MultiDeviceIterator create(Scope scope, List<String> devices, String sharedName, String container, List<DataType<?>> outputTypes, List<Shape> outputShapes) {
     OperationBuilder opBuilder = scope.env().opBuilder("MultiDeviceIterator", scope.makeOpName("MultiDeviceIterator"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     String[] devicesArray = new String[devices.size()];
     for (int i = 0; i < devicesArray.length; ++i) {
       devicesArray[i] = devices.get(i);
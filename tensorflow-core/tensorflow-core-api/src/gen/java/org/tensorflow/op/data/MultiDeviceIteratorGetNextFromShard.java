@@ -54,6 +54,7 @@ public final class MultiDeviceIteratorGetNextFromShard extends PrimitiveOp imple
     opBuilder.addInput(shardNum.asOutput());
     opBuilder.addInput(incarnationId.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
@@ -45,6 +45,7 @@ public final class MultiDeviceIteratorInit extends PrimitiveOp implements Operan
     opBuilder.addInput(multiDeviceIterator.asOutput());
     opBuilder.addInput(maxBufferSize.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MultiDeviceIteratorInit(opBuilder.build());
   }
   
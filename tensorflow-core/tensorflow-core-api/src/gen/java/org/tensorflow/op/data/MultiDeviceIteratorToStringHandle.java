@@ -41,6 +41,7 @@ public final class MultiDeviceIteratorToStringHandle extends PrimitiveOp impleme
     OperationBuilder opBuilder = scope.env().opBuilder("MultiDeviceIteratorToStringHandle", scope.makeOpName("MultiDeviceIteratorToStringHandle"));
     opBuilder.addInput(multiDeviceIterator.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MultiDeviceIteratorToStringHandle(opBuilder.build());
   }
   
@@ -71,6 +71,7 @@ public final class OptimizeDataset extends PrimitiveOp implements Operand<TType>
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(optimizations.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
@@ -44,6 +44,7 @@ public final class OptionalFromValue extends PrimitiveOp implements Operand<TTyp
     OperationBuilder opBuilder = scope.env().opBuilder("OptionalFromValue", scope.makeOpName("OptionalFromValue"));
     opBuilder.addInputList(Operands.asOutputs(components));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new OptionalFromValue(opBuilder.build());
   }
   
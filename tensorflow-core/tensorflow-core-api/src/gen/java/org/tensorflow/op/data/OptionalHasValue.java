@@ -43,6 +43,7 @@ public final class OptionalHasValue extends PrimitiveOp implements Operand<TBool
     OperationBuilder opBuilder = scope.env().opBuilder("OptionalHasValue", scope.makeOpName("OptionalHasValue"));
     opBuilder.addInput(optional.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new OptionalHasValue(opBuilder.build());
   }
   
@@ -41,6 +41,7 @@ public final class OptionalNone extends PrimitiveOp implements Operand<TType> {
   public static OptionalNone create(Scope scope) {
     OperationBuilder opBuilder = scope.env().opBuilder("OptionalNone", scope.makeOpName("OptionalNone"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new OptionalNone(opBuilder.build());
   }
   
@@ -81,6 +81,7 @@ public final class PaddedBatchDataset extends PrimitiveOp implements Operand<TTy
     opBuilder.addInputList(Operands.asOutputs(paddingValues));
     opBuilder.addInput(dropRemainder.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     Shape[] outputShapesArray = new Shape[outputShapes.size()];
     for (int i = 0; i < outputShapesArray.length; ++i) {
       outputShapesArray[i] = outputShapes.get(i);
@@ -51,6 +51,7 @@ public final class RangeDataset extends PrimitiveOp implements Operand<TType> {
     opBuilder.addInput(stop.asOutput());
     opBuilder.addInput(step.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
@@ -43,6 +43,7 @@ public final class SerializeIterator extends PrimitiveOp implements Operand<TTyp
     OperationBuilder opBuilder = scope.env().opBuilder("SerializeIterator", scope.makeOpName("SerializeIterator"));
     opBuilder.addInput(resourceHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SerializeIterator(opBuilder.build());
   }
   
@@ -62,6 +62,7 @@ public final class ShuffleAndRepeatDataset extends PrimitiveOp implements Operan
     opBuilder.addInput(seed2.asOutput());
     opBuilder.addInput(count.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
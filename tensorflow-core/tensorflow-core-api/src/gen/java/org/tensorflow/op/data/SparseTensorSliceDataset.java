@@ -46,6 +46,7 @@ public final class SparseTensorSliceDataset extends PrimitiveOp implements Opera
     opBuilder.addInput(values.asOutput());
     opBuilder.addInput(denseShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseTensorSliceDataset(opBuilder.build());
   }
   
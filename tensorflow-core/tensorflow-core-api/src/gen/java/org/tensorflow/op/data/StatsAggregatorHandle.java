@@ -68,6 +68,7 @@ public final class StatsAggregatorHandle extends PrimitiveOp implements Operand<
   public static StatsAggregatorHandle create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("StatsAggregatorHandle", scope.makeOpName("StatsAggregatorHandle"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.container != null) {
@@ -49,6 +49,7 @@ public final class TextLineDataset extends PrimitiveOp implements Operand<TType>
     opBuilder.addInput(compressionType.asOutput());
     opBuilder.addInput(bufferSize.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TextLineDataset(opBuilder.build());
   }
   
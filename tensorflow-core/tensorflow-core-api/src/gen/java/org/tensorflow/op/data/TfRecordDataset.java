@@ -50,6 +50,7 @@ public final class TfRecordDataset extends PrimitiveOp implements Operand<TType>
     opBuilder.addInput(compressionType.asOutput());
     opBuilder.addInput(bufferSize.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TfRecordDataset(opBuilder.build());
   }
   
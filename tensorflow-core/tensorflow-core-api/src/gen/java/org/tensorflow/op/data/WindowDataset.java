@@ -59,6 +59,7 @@ public final class WindowDataset extends PrimitiveOp implements Operand<TType> {
     opBuilder.addInput(stride.asOutput());
     opBuilder.addInput(dropRemainder.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] outputTypesArray = new DataType[outputTypes.size()];
     for (int i = 0; i < outputTypesArray.length; ++i) {
       outputTypesArray[i] = outputTypes.get(i);
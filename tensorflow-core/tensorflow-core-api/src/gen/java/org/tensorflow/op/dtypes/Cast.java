@@ -67,6 +67,7 @@ public final class Cast<U extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("Cast", scope.makeOpName("Cast"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("DstT", DstT);
     if (options != null) {
       for (Options opts : options) {
@@ -65,6 +65,7 @@ public final class Complex<U extends TType> extends PrimitiveOp implements Opera
     opBuilder.addInput(real.asOutput());
     opBuilder.addInput(imag.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Tout", Tout);
     return new Complex<U>(opBuilder.build());
   }
@@ -59,6 +59,7 @@ public final class AdjustContrast<T extends TNumber> extends PrimitiveOp impleme
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(contrastFactor.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AdjustContrast<T>(opBuilder.build());
   }
   
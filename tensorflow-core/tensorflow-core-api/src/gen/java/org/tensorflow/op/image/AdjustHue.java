@@ -56,6 +56,7 @@ public final class AdjustHue<T extends TNumber> extends PrimitiveOp implements O
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(delta.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AdjustHue<T>(opBuilder.build());
   }
   
@@ -56,6 +56,7 @@ public final class AdjustSaturation<T extends TNumber> extends PrimitiveOp imple
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(scale.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AdjustSaturation<T>(opBuilder.build());
   }
   
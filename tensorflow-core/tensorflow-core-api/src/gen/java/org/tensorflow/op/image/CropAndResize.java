@@ -113,6 +113,7 @@ public final class CropAndResize extends PrimitiveOp implements Operand<TFloat>
     opBuilder.addInput(boxInd.asOutput());
     opBuilder.addInput(cropSize.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.method != null) {
@@ -84,6 +84,7 @@ public final class CropAndResizeGradBoxes extends PrimitiveOp implements Operand
     opBuilder.addInput(boxes.asOutput());
     opBuilder.addInput(boxInd.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.method != null) {
@@ -89,6 +89,7 @@ public final class CropAndResizeGradImage<T extends TNumber> extends PrimitiveOp
     opBuilder.addInput(boxInd.asOutput());
     opBuilder.addInput(imageSize.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("T", T);
     if (options != null) {
       for (Options opts : options) {
@@ -144,6 +144,7 @@ public final class DecodeAndCropJpeg extends PrimitiveOp implements Operand<TUIn
     opBuilder.addInput(contents.asOutput());
     opBuilder.addInput(cropWindow.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.channels != null) {
@@ -53,6 +53,7 @@ public final class DecodeGif extends PrimitiveOp implements Operand<TUInt8> {
     OperationBuilder opBuilder = scope.env().opBuilder("DecodeGif", scope.makeOpName("DecodeGif"));
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DecodeGif(opBuilder.build());
   }
   
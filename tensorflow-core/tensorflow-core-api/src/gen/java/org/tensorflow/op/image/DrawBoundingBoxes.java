@@ -62,6 +62,7 @@ public final class DrawBoundingBoxes<T extends TNumber> extends PrimitiveOp impl
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(boxes.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DrawBoundingBoxes<T>(opBuilder.build());
   }
   
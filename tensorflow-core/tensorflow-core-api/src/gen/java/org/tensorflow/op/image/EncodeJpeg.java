@@ -163,6 +163,7 @@ public final class EncodeJpeg extends PrimitiveOp implements Operand<TString> {
     OperationBuilder opBuilder = scope.env().opBuilder("EncodeJpeg", scope.makeOpName("EncodeJpeg"));
     opBuilder.addInput(image.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.format != null) {
@@ -51,6 +51,7 @@ public final class EncodeJpegVariableQuality extends PrimitiveOp implements Oper
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(quality.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new EncodeJpegVariableQuality(opBuilder.build());
   }
   
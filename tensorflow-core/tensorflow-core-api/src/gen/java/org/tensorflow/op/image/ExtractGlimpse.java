@@ -131,6 +131,7 @@ public final class ExtractGlimpse extends PrimitiveOp implements Operand<TFloat>
     opBuilder.addInput(size.asOutput());
     opBuilder.addInput(offsets.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.centered != null) {
@@ -53,6 +53,7 @@ public final class ExtractJpegShape<T extends TNumber> extends PrimitiveOp imple
     OperationBuilder opBuilder = scope.env().opBuilder("ExtractJpegShape", scope.makeOpName("ExtractJpegShape"));
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("output_type", outputType);
     return new ExtractJpegShape<T>(opBuilder.build());
   }
@@ -52,6 +52,7 @@ public final class HsvToRgb<T extends TNumber> extends PrimitiveOp implements Op
     OperationBuilder opBuilder = scope.env().opBuilder("HSVToRGB", scope.makeOpName("HsvToRgb"));
     opBuilder.addInput(images.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new HsvToRgb<T>(opBuilder.build());
   }
   
@@ -72,6 +72,7 @@ public final class NonMaxSuppressionWithOverlaps extends PrimitiveOp implements
     opBuilder.addInput(overlapThreshold.asOutput());
     opBuilder.addInput(scoreThreshold.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new NonMaxSuppressionWithOverlaps(opBuilder.build());
   }
   
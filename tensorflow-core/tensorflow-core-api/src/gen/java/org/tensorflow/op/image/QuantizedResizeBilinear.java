@@ -86,6 +86,7 @@ public final class QuantizedResizeBilinear<T extends TType> extends PrimitiveOp
     opBuilder.addInput(min.asOutput());
     opBuilder.addInput(max.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.alignCorners != null) {
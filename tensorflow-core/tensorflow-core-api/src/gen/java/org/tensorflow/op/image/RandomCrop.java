@@ -87,6 +87,7 @@ public final class RandomCrop<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(image.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.seed != null) {
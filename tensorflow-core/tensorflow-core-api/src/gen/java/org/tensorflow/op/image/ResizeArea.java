@@ -82,6 +82,7 @@ public final class ResizeArea extends PrimitiveOp implements Operand<TFloat> {
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.alignCorners != null) {
@@ -78,6 +78,7 @@ public final class ResizeBilinearGrad<T extends TNumber> extends PrimitiveOp imp
     opBuilder.addInput(grads.asOutput());
     opBuilder.addInput(originalImage.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.alignCorners != null) {
@@ -80,6 +80,7 @@ public final class ResizeNearestNeighbor<T extends TNumber> extends PrimitiveOp
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.alignCorners != null) {
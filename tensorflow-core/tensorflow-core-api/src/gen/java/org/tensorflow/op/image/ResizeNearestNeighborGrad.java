@@ -78,6 +78,7 @@ public final class ResizeNearestNeighborGrad<T extends TNumber> extends Primitiv
     opBuilder.addInput(grads.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.alignCorners != null) {
@@ -54,6 +54,7 @@ public final class RgbToHsv<T extends TNumber> extends PrimitiveOp implements Op
     OperationBuilder opBuilder = scope.env().opBuilder("RGBToHSV", scope.makeOpName("RgbToHsv"));
     opBuilder.addInput(images.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RgbToHsv<T>(opBuilder.build());
   }
   
@@ -166,6 +166,7 @@ public final class SampleDistortedBoundingBox<T extends TNumber> extends Primiti
     opBuilder.addInput(boundingBoxes.asOutput());
     opBuilder.addInput(minObjectCovered.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.seed != null) {
@@ -46,6 +46,7 @@ public final class DecodeBase64 extends PrimitiveOp implements Operand<TString>
     OperationBuilder opBuilder = scope.env().opBuilder("DecodeBase64", scope.makeOpName("DecodeBase64"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DecodeBase64(opBuilder.build());
   }
   
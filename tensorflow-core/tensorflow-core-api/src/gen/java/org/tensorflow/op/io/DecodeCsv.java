@@ -106,6 +106,7 @@ public final class DecodeCsv extends PrimitiveOp implements Iterable<Operand<TTy
     opBuilder.addInput(records.asOutput());
     opBuilder.addInputList(Operands.asOutputs(recordDefaults));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.fieldDelim != null) {
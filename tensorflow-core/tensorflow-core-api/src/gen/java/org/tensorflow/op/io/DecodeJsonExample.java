@@ -51,6 +51,7 @@ public final class DecodeJsonExample extends PrimitiveOp implements Operand<TStr
     OperationBuilder opBuilder = scope.env().opBuilder("DecodeJSONExample", scope.makeOpName("DecodeJsonExample"));
     opBuilder.addInput(jsonExamples.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DecodeJsonExample(opBuilder.build());
   }
   
@@ -70,6 +70,7 @@ public final class DecodeRaw<T extends TType> extends PrimitiveOp implements Ope
     OperationBuilder opBuilder = scope.env().opBuilder("DecodeRaw", scope.makeOpName("DecodeRaw"));
     opBuilder.addInput(bytes.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     if (options != null) {
       for (Options opts : options) {
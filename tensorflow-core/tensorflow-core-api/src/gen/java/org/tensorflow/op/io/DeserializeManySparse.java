@@ -92,6 +92,7 @@ public final class DeserializeManySparse<T extends TType> extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("DeserializeManySparse", scope.makeOpName("DeserializeManySparse"));
     opBuilder.addInput(serializedSparse.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new DeserializeManySparse<T>(opBuilder.build());
   }
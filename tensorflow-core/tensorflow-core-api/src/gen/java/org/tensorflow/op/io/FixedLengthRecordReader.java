@@ -111,6 +111,7 @@ public final class FixedLengthRecordReader extends PrimitiveOp implements Operan
   public static FixedLengthRecordReader create(Scope scope, Long recordBytes, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("FixedLengthRecordReaderV2", scope.makeOpName("FixedLengthRecordReader"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("record_bytes", recordBytes);
     if (options != null) {
       for (Options opts : options) {
@@ -75,6 +75,7 @@ public final class IdentityReader extends PrimitiveOp implements Operand<TType>
   public static IdentityReader create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("IdentityReaderV2", scope.makeOpName("IdentityReader"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.container != null) {
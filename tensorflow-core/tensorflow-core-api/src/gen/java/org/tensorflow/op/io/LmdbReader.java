@@ -72,6 +72,7 @@ public final class LmdbReader extends PrimitiveOp implements Operand<TString> {
   public static LmdbReader create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("LMDBReader", scope.makeOpName("LmdbReader"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.container != null) {
@@ -47,6 +47,7 @@ public final class MatchingFiles extends PrimitiveOp implements Operand<TString>
     OperationBuilder opBuilder = scope.env().opBuilder("MatchingFiles", scope.makeOpName("MatchingFiles"));
     opBuilder.addInput(pattern.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MatchingFiles(opBuilder.build());
   }
   
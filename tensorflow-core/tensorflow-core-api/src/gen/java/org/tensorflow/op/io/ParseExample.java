@@ -91,6 +91,7 @@ public final class ParseExample extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(denseKeys));
     opBuilder.addInputList(Operands.asOutputs(denseDefaults));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] sparseTypesArray = new DataType[sparseTypes.size()];
     for (int i = 0; i < sparseTypesArray.length; ++i) {
       sparseTypesArray[i] = sparseTypes.get(i);
@@ -162,6 +162,7 @@ public final class ParseSequenceExample extends PrimitiveOp {
     opBuilder.addInput(debugName.asOutput());
     opBuilder.addInputList(Operands.asOutputs(contextDenseDefaults));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     String[] featureListDenseMissingAssumedEmptyArray = new String[featureListDenseMissingAssumedEmpty.size()];
     for (int i = 0; i < featureListDenseMissingAssumedEmptyArray.length; ++i) {
       featureListDenseMissingAssumedEmptyArray[i] = featureListDenseMissingAssumedEmpty.get(i);
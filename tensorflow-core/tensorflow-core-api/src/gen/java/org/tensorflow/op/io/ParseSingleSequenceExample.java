@@ -131,6 +131,7 @@ public final class ParseSingleSequenceExample extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(contextDenseDefaults));
     opBuilder.addInput(debugName.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] contextSparseTypesArray = new DataType[contextSparseTypes.size()];
     for (int i = 0; i < contextSparseTypesArray.length; ++i) {
       contextSparseTypesArray[i] = contextSparseTypes.get(i);
@@ -49,6 +49,7 @@ public final class ParseTensor<T extends TType> extends PrimitiveOp implements O
     OperationBuilder opBuilder = scope.env().opBuilder("ParseTensor", scope.makeOpName("ParseTensor"));
     opBuilder.addInput(serialized.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new ParseTensor<T>(opBuilder.build());
   }
@@ -91,6 +91,7 @@ public final class QueueDequeueUpTo extends PrimitiveOp implements Iterable<Oper
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(n.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     DataType[] componentTypesArray = new DataType[componentTypes.size()];
     for (int i = 0; i < componentTypesArray.length; ++i) {
       componentTypesArray[i] = componentTypes.get(i);
@@ -46,6 +46,7 @@ public final class QueueIsClosed extends PrimitiveOp implements Operand<TBool> {
     OperationBuilder opBuilder = scope.env().opBuilder("QueueIsClosedV2", scope.makeOpName("QueueIsClosed"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new QueueIsClosed(opBuilder.build());
   }
   
@@ -43,6 +43,7 @@ public final class QueueSize extends PrimitiveOp implements Operand<TInt32> {
     OperationBuilder opBuilder = scope.env().opBuilder("QueueSizeV2", scope.makeOpName("QueueSize"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new QueueSize(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class ReaderNumRecordsProduced extends PrimitiveOp implements Opera
     OperationBuilder opBuilder = scope.env().opBuilder("ReaderNumRecordsProducedV2", scope.makeOpName("ReaderNumRecordsProduced"));
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ReaderNumRecordsProduced(opBuilder.build());
   }
   
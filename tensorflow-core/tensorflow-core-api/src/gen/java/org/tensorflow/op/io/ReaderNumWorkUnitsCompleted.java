@@ -43,6 +43,7 @@ public final class ReaderNumWorkUnitsCompleted extends PrimitiveOp implements Op
     OperationBuilder opBuilder = scope.env().opBuilder("ReaderNumWorkUnitsCompletedV2", scope.makeOpName("ReaderNumWorkUnitsCompleted"));
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ReaderNumWorkUnitsCompleted(opBuilder.build());
   }
   
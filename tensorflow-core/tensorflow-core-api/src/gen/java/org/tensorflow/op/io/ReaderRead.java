@@ -49,6 +49,7 @@ public final class ReaderRead extends PrimitiveOp {
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder.addInput(queueHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ReaderRead(opBuilder.build());
   }
   
@@ -53,6 +53,7 @@ public final class ReaderReadUpTo extends PrimitiveOp {
     opBuilder.addInput(queueHandle.asOutput());
     opBuilder.addInput(numRecords.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ReaderReadUpTo(opBuilder.build());
   }
   
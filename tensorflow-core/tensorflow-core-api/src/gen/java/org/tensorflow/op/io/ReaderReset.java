@@ -41,6 +41,7 @@ public final class ReaderReset extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("ReaderResetV2", scope.makeOpName("ReaderReset"));
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ReaderReset(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class ReaderRestoreState extends PrimitiveOp {
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder.addInput(state.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ReaderRestoreState(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class ReaderSerializeState extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("ReaderSerializeStateV2", scope.makeOpName("ReaderSerializeState"));
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ReaderSerializeState(opBuilder.build());
   }
   
@@ -62,6 +62,7 @@ public final class SerializeManySparse<U extends TType> extends PrimitiveOp impl
     opBuilder.addInput(sparseValues.asOutput());
     opBuilder.addInput(sparseShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new SerializeManySparse<U>(opBuilder.build());
   }
@@ -54,6 +54,7 @@ public final class SerializeSparse<U extends TType> extends PrimitiveOp implemen
     opBuilder.addInput(sparseValues.asOutput());
     opBuilder.addInput(sparseShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new SerializeSparse<U>(opBuilder.build());
   }
@@ -44,6 +44,7 @@ public final class SerializeTensor extends PrimitiveOp implements Operand<TStrin
     OperationBuilder opBuilder = scope.env().opBuilder("SerializeTensor", scope.makeOpName("SerializeTensor"));
     opBuilder.addInput(tensor.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SerializeTensor(opBuilder.build());
   }
   
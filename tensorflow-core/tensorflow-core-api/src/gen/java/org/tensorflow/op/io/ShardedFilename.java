@@ -50,6 +50,7 @@ public final class ShardedFilename extends PrimitiveOp implements Operand<TStrin
     opBuilder.addInput(shard.asOutput());
     opBuilder.addInput(numShards.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ShardedFilename(opBuilder.build());
   }
   
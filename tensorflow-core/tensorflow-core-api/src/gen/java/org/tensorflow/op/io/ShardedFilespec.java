@@ -46,6 +46,7 @@ public final class ShardedFilespec extends PrimitiveOp implements Operand<TStrin
     opBuilder.addInput(basename.asOutput());
     opBuilder.addInput(numShards.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ShardedFilespec(opBuilder.build());
   }
   
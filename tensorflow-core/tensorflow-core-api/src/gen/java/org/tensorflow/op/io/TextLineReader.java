@@ -81,6 +81,7 @@ public final class TextLineReader extends PrimitiveOp implements Operand<TType>
   public static TextLineReader create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("TextLineReaderV2", scope.makeOpName("TextLineReader"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.skipHeaderLines != null) {
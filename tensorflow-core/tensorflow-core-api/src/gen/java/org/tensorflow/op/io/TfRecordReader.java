@@ -81,6 +81,7 @@ public final class TfRecordReader extends PrimitiveOp implements Operand<TType>
   public static TfRecordReader create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("TFRecordReaderV2", scope.makeOpName("TfRecordReader"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.container != null) {
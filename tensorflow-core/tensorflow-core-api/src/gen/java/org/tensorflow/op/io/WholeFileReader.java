@@ -75,6 +75,7 @@ public final class WholeFileReader extends PrimitiveOp implements Operand<TType>
   public static WholeFileReader create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("WholeFileReaderV2", scope.makeOpName("WholeFileReader"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.container != null) {
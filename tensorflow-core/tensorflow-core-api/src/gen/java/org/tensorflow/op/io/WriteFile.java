@@ -46,6 +46,7 @@ public final class WriteFile extends PrimitiveOp {
     opBuilder.addInput(filename.asOutput());
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new WriteFile(opBuilder.build());
   }
   
@@ -90,6 +90,7 @@ public final class BandPart<T extends TType> extends PrimitiveOp implements Oper
     opBuilder.addInput(numLower.asOutput());
     opBuilder.addInput(numUpper.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BandPart<T>(opBuilder.build());
   }
   
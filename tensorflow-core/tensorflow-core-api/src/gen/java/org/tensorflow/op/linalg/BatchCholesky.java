@@ -44,6 +44,7 @@ public final class BatchCholesky<T extends TNumber> extends PrimitiveOp implemen
     OperationBuilder opBuilder = scope.env().opBuilder("BatchCholesky", scope.makeOpName("BatchCholesky"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BatchCholesky<T>(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class BatchCholeskyGrad<T extends TNumber> extends PrimitiveOp impl
     opBuilder.addInput(l.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BatchCholeskyGrad<T>(opBuilder.build());
   }
   
@@ -95,6 +95,7 @@ public final class BatchMatMul<T extends TType> extends PrimitiveOp implements O
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.adjX != null) {
@@ -48,6 +48,7 @@ public final class BatchMatrixBandPart<T extends TType> extends PrimitiveOp impl
     opBuilder.addInput(numLower.asOutput());
     opBuilder.addInput(numUpper.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BatchMatrixBandPart<T>(opBuilder.build());
   }
   
@@ -43,6 +43,7 @@ public final class BatchMatrixDeterminant<T extends TType> extends PrimitiveOp i
     OperationBuilder opBuilder = scope.env().opBuilder("BatchMatrixDeterminant", scope.makeOpName("BatchMatrixDeterminant"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BatchMatrixDeterminant<T>(opBuilder.build());
   }
   
@@ -43,6 +43,7 @@ public final class BatchMatrixDiag<T extends TType> extends PrimitiveOp implemen
     OperationBuilder opBuilder = scope.env().opBuilder("BatchMatrixDiag", scope.makeOpName("BatchMatrixDiag"));
     opBuilder.addInput(diagonal.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BatchMatrixDiag<T>(opBuilder.build());
   }
   
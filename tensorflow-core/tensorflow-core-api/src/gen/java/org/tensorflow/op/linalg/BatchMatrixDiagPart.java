@@ -43,6 +43,7 @@ public final class BatchMatrixDiagPart<T extends TType> extends PrimitiveOp impl
     OperationBuilder opBuilder = scope.env().opBuilder("BatchMatrixDiagPart", scope.makeOpName("BatchMatrixDiagPart"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BatchMatrixDiagPart<T>(opBuilder.build());
   }
   
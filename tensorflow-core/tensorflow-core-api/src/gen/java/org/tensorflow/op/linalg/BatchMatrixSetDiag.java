@@ -45,6 +45,7 @@ public final class BatchMatrixSetDiag<T extends TType> extends PrimitiveOp imple
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(diagonal.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BatchMatrixSetDiag<T>(opBuilder.build());
   }
   
@@ -66,6 +66,7 @@ public final class BatchMatrixSolve<T extends TNumber> extends PrimitiveOp imple
     opBuilder.addInput(matrix.asOutput());
     opBuilder.addInput(rhs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.adjoint != null) {
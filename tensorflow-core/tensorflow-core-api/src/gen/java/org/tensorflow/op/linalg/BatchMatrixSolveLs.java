@@ -69,6 +69,7 @@ public final class BatchMatrixSolveLs<T extends TNumber> extends PrimitiveOp imp
     opBuilder.addInput(rhs.asOutput());
     opBuilder.addInput(l2Regularizer.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.fast != null) {
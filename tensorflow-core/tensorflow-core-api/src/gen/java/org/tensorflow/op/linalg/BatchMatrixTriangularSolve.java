@@ -75,6 +75,7 @@ public final class BatchMatrixTriangularSolve<T extends TNumber> extends Primiti
     opBuilder.addInput(matrix.asOutput());
     opBuilder.addInput(rhs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.lower != null) {
@@ -55,6 +55,7 @@ public final class CholeskyGrad<T extends TNumber> extends PrimitiveOp implement
     opBuilder.addInput(l.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new CholeskyGrad<T>(opBuilder.build());
   }
   
@@ -52,6 +52,7 @@ public final class ConjugateTranspose<T extends TType> extends PrimitiveOp imple
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(perm.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ConjugateTranspose<T>(opBuilder.build());
   }
   
@@ -52,6 +52,7 @@ public final class Cross<T extends TNumber> extends PrimitiveOp implements Opera
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Cross<T>(opBuilder.build());
   }
   
@@ -49,6 +49,7 @@ public final class Det<T extends TType> extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("MatrixDeterminant", scope.makeOpName("Det"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Det<T>(opBuilder.build());
   }
   
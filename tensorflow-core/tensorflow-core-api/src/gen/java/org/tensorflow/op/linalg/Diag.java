@@ -72,6 +72,7 @@ public final class Diag<T extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("MatrixDiag", scope.makeOpName("Diag"));
     opBuilder.addInput(diagonal.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Diag<T>(opBuilder.build());
   }
   
@@ -74,6 +74,7 @@ public final class DiagPart<T extends TType> extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("MatrixDiagPart", scope.makeOpName("DiagPart"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DiagPart<T>(opBuilder.build());
   }
   
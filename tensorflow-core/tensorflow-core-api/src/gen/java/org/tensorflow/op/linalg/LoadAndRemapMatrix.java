@@ -126,6 +126,7 @@ public final class LoadAndRemapMatrix extends PrimitiveOp implements Operand<TFl
     opBuilder.addInput(colRemapping.asOutput());
     opBuilder.addInput(initializingValues.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_rows", numRows);
     opBuilder.setAttr("num_cols", numCols);
     if (options != null) {
@@ -55,6 +55,7 @@ public final class LogMatrixDeterminant<T extends TType> extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("LogMatrixDeterminant", scope.makeOpName("LogMatrixDeterminant"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new LogMatrixDeterminant<T>(opBuilder.build());
   }
   
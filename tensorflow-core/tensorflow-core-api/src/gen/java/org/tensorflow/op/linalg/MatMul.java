@@ -84,6 +84,7 @@ public final class MatMul<T extends TType> extends PrimitiveOp implements Operan
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.transposeA != null) {
@@ -59,6 +59,7 @@ public final class MatrixLogarithm<T extends TType> extends PrimitiveOp implemen
     OperationBuilder opBuilder = scope.env().opBuilder("MatrixLogarithm", scope.makeOpName("MatrixLogarithm"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MatrixLogarithm<T>(opBuilder.build());
   }
   
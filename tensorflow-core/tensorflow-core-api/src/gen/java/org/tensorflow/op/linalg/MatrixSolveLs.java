@@ -109,6 +109,7 @@ public final class MatrixSolveLs<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(rhs.asOutput());
     opBuilder.addInput(l2Regularizer.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.fast != null) {
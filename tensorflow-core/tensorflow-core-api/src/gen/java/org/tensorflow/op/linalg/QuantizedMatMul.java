@@ -94,6 +94,7 @@ public final class QuantizedMatMul<V extends TType> extends PrimitiveOp {
     opBuilder.addInput(minB.asOutput());
     opBuilder.addInput(maxB.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Toutput", Toutput);
     opBuilder.setAttr("Tactivation", Tactivation);
     if (options != null) {
@@ -60,6 +60,7 @@ public final class SetDiag<T extends TType> extends PrimitiveOp implements Opera
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(diagonal.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SetDiag<T>(opBuilder.build());
   }
   
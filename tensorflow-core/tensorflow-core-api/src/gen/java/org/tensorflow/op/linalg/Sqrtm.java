@@ -61,6 +61,7 @@ public final class Sqrtm<T extends TType> extends PrimitiveOp implements Operand
     OperationBuilder opBuilder = scope.env().opBuilder("MatrixSquareRoot", scope.makeOpName("Sqrtm"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Sqrtm<T>(opBuilder.build());
   }
   
@@ -63,6 +63,7 @@ public final class TensorDiag<T extends TType> extends PrimitiveOp implements Op
     OperationBuilder opBuilder = scope.env().opBuilder("Diag", scope.makeOpName("TensorDiag"));
     opBuilder.addInput(diagonal.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorDiag<T>(opBuilder.build());
   }
   
@@ -64,6 +64,7 @@ public final class TensorDiagPart<T extends TType> extends PrimitiveOp implement
     OperationBuilder opBuilder = scope.env().opBuilder("DiagPart", scope.makeOpName("TensorDiagPart"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorDiagPart<T>(opBuilder.build());
   }
   
@@ -51,6 +51,7 @@ public final class Transpose<T extends TType> extends PrimitiveOp implements Ope
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(perm.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Transpose<T>(opBuilder.build());
   }
   
@@ -127,6 +127,7 @@ public final class TriangularSolve<T extends TType> extends PrimitiveOp implemen
     opBuilder.addInput(matrix.asOutput());
     opBuilder.addInput(rhs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.lower != null) {
@@ -50,6 +50,7 @@ public final class Abs<T extends TNumber> extends PrimitiveOp implements Operand
     OperationBuilder opBuilder = scope.env().opBuilder("Abs", scope.makeOpName("Abs"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Abs<T>(opBuilder.build());
   }
   
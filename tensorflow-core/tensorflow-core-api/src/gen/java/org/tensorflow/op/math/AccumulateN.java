@@ -57,6 +57,7 @@ public final class AccumulateN<T extends TType> extends PrimitiveOp implements O
     OperationBuilder opBuilder = scope.env().opBuilder("AccumulateNV2", scope.makeOpName("AccumulateN"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("shape", shape);
     return new AccumulateN<T>(opBuilder.build());
   }
@@ -45,6 +45,7 @@ public final class Acos<T extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("Acos", scope.makeOpName("Acos"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Acos<T>(opBuilder.build());
   }
   
@@ -53,6 +53,7 @@ public final class Acosh<T extends TType> extends PrimitiveOp implements Operand
     OperationBuilder opBuilder = scope.env().opBuilder("Acosh", scope.makeOpName("Acosh"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Acosh<T>(opBuilder.build());
   }
   
@@ -54,6 +54,7 @@ public final class AddN<T extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("AddN", scope.makeOpName("AddN"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AddN<T>(opBuilder.build());
   }
   
@@ -65,6 +65,7 @@ public final class Angle<U extends TNumber> extends PrimitiveOp implements Opera
     OperationBuilder opBuilder = scope.env().opBuilder("Angle", scope.makeOpName("Angle"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Tout", Tout);
     return new Angle<U>(opBuilder.build());
   }
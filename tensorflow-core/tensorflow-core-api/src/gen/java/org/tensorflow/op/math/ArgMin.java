@@ -66,6 +66,7 @@ public final class ArgMin<V extends TNumber> extends PrimitiveOp implements Oper
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(dimension.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("output_type", outputType);
     return new ArgMin<V>(opBuilder.build());
   }
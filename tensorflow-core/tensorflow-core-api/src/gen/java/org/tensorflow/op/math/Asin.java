@@ -61,6 +61,7 @@ public final class Asin<T extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("Asin", scope.makeOpName("Asin"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Asin<T>(opBuilder.build());
   }
   
@@ -61,6 +61,7 @@ public final class Atan<T extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("Atan", scope.makeOpName("Atan"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Atan<T>(opBuilder.build());
   }
   
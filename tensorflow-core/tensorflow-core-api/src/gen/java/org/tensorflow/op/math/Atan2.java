@@ -54,6 +54,7 @@ public final class Atan2<T extends TNumber> extends PrimitiveOp implements Opera
     opBuilder.addInput(y.asOutput());
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Atan2<T>(opBuilder.build());
   }
   
@@ -51,6 +51,7 @@ public final class BesselI0e<T extends TNumber> extends PrimitiveOp implements O
     OperationBuilder opBuilder = scope.env().opBuilder("BesselI0e", scope.makeOpName("BesselI0e"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BesselI0e<T>(opBuilder.build());
   }
   
@@ -51,6 +51,7 @@ public final class BesselI1e<T extends TNumber> extends PrimitiveOp implements O
     OperationBuilder opBuilder = scope.env().opBuilder("BesselI1e", scope.makeOpName("BesselI1e"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new BesselI1e<T>(opBuilder.build());
   }
   
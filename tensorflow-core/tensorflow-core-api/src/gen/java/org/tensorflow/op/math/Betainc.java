@@ -61,6 +61,7 @@ public final class Betainc<T extends TNumber> extends PrimitiveOp implements Ope
     opBuilder.addInput(b.asOutput());
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Betainc<T>(opBuilder.build());
   }
   
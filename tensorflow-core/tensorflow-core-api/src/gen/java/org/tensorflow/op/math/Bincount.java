@@ -61,6 +61,7 @@ public final class Bincount<T extends TNumber> extends PrimitiveOp implements Op
     opBuilder.addInput(size.asOutput());
     opBuilder.addInput(weights.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Bincount<T>(opBuilder.build());
   }
   
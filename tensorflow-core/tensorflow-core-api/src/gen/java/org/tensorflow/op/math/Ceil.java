@@ -46,6 +46,7 @@ public final class Ceil<T extends TNumber> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("Ceil", scope.makeOpName("Ceil"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Ceil<T>(opBuilder.build());
   }
   
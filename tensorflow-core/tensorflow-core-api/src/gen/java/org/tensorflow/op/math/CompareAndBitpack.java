@@ -68,6 +68,7 @@ public final class CompareAndBitpack extends PrimitiveOp implements Operand<TUIn
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(threshold.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new CompareAndBitpack(opBuilder.build());
   }
   
@@ -54,6 +54,7 @@ public final class ComplexAbs<U extends TNumber> extends PrimitiveOp implements
     OperationBuilder opBuilder = scope.env().opBuilder("ComplexAbs", scope.makeOpName("ComplexAbs"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Tout", Tout);
     return new ComplexAbs<U>(opBuilder.build());
   }
@@ -59,6 +59,7 @@ public final class Conj<T extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("Conj", scope.makeOpName("Conj"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Conj<T>(opBuilder.build());
   }
   
@@ -56,6 +56,7 @@ public final class Cos<T extends TType> extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("Cos", scope.makeOpName("Cos"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Cos<T>(opBuilder.build());
   }
   
@@ -103,6 +103,7 @@ public final class Cumsum<T extends TType> extends PrimitiveOp implements Operan
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.exclusive != null) {
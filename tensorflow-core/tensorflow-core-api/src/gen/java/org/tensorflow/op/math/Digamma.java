@@ -48,6 +48,7 @@ public final class Digamma<T extends TNumber> extends PrimitiveOp implements Ope
     OperationBuilder opBuilder = scope.env().opBuilder("Digamma", scope.makeOpName("Digamma"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Digamma<T>(opBuilder.build());
   }
   
@@ -50,6 +50,7 @@ public final class Div<T extends TType> extends PrimitiveOp implements Operand<T
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Div<T>(opBuilder.build());
   }
   
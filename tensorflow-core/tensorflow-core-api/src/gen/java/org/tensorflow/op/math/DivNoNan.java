@@ -51,6 +51,7 @@ public final class DivNoNan<T extends TType> extends PrimitiveOp implements Oper
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new DivNoNan<T>(opBuilder.build());
   }
   
@@ -79,6 +79,7 @@ public final class Equal extends PrimitiveOp implements Operand<TBool> {
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.incompatibleShapeError != null) {
@@ -46,6 +46,7 @@ public final class Erf<T extends TNumber> extends PrimitiveOp implements Operand
     OperationBuilder opBuilder = scope.env().opBuilder("Erf", scope.makeOpName("Erf"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Erf<T>(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class Erfc<T extends TNumber> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("Erfc", scope.makeOpName("Erfc"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Erfc<T>(opBuilder.build());
   }
   
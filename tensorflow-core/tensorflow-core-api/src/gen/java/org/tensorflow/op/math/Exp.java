@@ -71,6 +71,7 @@ public final class Exp<T extends TType> extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("Exp", scope.makeOpName("Exp"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Exp<T>(opBuilder.build());
   }
   
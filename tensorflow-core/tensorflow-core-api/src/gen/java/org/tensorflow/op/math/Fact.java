@@ -41,6 +41,7 @@ public final class Fact extends PrimitiveOp implements Operand<TString> {
   public static Fact create(Scope scope) {
     OperationBuilder opBuilder = scope.env().opBuilder("Fact", scope.makeOpName("Fact"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Fact(opBuilder.build());
   }
   
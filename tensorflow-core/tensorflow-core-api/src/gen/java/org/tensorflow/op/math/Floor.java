@@ -46,6 +46,7 @@ public final class Floor<T extends TNumber> extends PrimitiveOp implements Opera
     OperationBuilder opBuilder = scope.env().opBuilder("Floor", scope.makeOpName("Floor"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Floor<T>(opBuilder.build());
   }
   
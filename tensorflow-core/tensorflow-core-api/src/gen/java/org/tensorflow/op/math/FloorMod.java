@@ -54,6 +54,7 @@ public final class FloorMod<T extends TNumber> extends PrimitiveOp implements Op
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new FloorMod<T>(opBuilder.build());
   }
   
@@ -50,6 +50,7 @@ public final class GreaterEqual extends PrimitiveOp implements Operand<TBool> {
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new GreaterEqual(opBuilder.build());
   }
   
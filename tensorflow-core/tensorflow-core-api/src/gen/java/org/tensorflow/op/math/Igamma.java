@@ -61,6 +61,7 @@ public final class Igamma<T extends TNumber> extends PrimitiveOp implements Oper
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Igamma<T>(opBuilder.build());
   }
   
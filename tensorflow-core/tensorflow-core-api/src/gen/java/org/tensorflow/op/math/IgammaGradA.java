@@ -46,6 +46,7 @@ public final class IgammaGradA<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new IgammaGradA<T>(opBuilder.build());
   }
   
@@ -61,6 +61,7 @@ public final class Igammac<T extends TNumber> extends PrimitiveOp implements Ope
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Igammac<T>(opBuilder.build());
   }
   
@@ -61,6 +61,7 @@ public final class Imag<U extends TNumber> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("Imag", scope.makeOpName("Imag"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Tout", Tout);
     return new Imag<U>(opBuilder.build());
   }
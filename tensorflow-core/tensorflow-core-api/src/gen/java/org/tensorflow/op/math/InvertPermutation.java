@@ -62,6 +62,7 @@ public final class InvertPermutation<T extends TNumber> extends PrimitiveOp impl
     OperationBuilder opBuilder = scope.env().opBuilder("InvertPermutation", scope.makeOpName("InvertPermutation"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new InvertPermutation<T>(opBuilder.build());
   }
   
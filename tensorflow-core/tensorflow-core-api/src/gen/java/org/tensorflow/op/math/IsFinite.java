@@ -49,6 +49,7 @@ public final class IsFinite extends PrimitiveOp implements Operand<TBool> {
     OperationBuilder opBuilder = scope.env().opBuilder("IsFinite", scope.makeOpName("IsFinite"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new IsFinite(opBuilder.build());
   }
   
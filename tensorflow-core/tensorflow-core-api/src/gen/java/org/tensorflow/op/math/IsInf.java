@@ -49,6 +49,7 @@ public final class IsInf extends PrimitiveOp implements Operand<TBool> {
     OperationBuilder opBuilder = scope.env().opBuilder("IsInf", scope.makeOpName("IsInf"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new IsInf(opBuilder.build());
   }
   
@@ -49,6 +49,7 @@ public final class IsNan extends PrimitiveOp implements Operand<TBool> {
     OperationBuilder opBuilder = scope.env().opBuilder("IsNan", scope.makeOpName("IsNan"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new IsNan(opBuilder.build());
   }
   
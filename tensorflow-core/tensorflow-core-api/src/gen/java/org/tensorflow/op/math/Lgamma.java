@@ -46,6 +46,7 @@ public final class Lgamma<T extends TNumber> extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("Lgamma", scope.makeOpName("Lgamma"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Lgamma<T>(opBuilder.build());
   }
   
@@ -47,6 +47,7 @@ public final class Log<T extends TType> extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("Log", scope.makeOpName("Log"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Log<T>(opBuilder.build());
   }
   
@@ -51,6 +51,7 @@ public final class Minimum<T extends TNumber> extends PrimitiveOp implements Ope
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Minimum<T>(opBuilder.build());
   }
   
@@ -54,6 +54,7 @@ public final class Mod<T extends TNumber> extends PrimitiveOp implements Operand
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Mod<T>(opBuilder.build());
   }
   
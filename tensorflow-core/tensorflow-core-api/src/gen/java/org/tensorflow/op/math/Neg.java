@@ -47,6 +47,7 @@ public final class Neg<T extends TType> extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("Neg", scope.makeOpName("Neg"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Neg<T>(opBuilder.build());
   }
   
@@ -55,6 +55,7 @@ public final class Polygamma<T extends TNumber> extends PrimitiveOp implements O
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Polygamma<T>(opBuilder.build());
   }
   
@@ -52,6 +52,7 @@ public final class PopulationCount extends PrimitiveOp implements Operand<TUInt8
     OperationBuilder opBuilder = scope.env().opBuilder("PopulationCount", scope.makeOpName("PopulationCount"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new PopulationCount(opBuilder.build());
   }
   
@@ -56,6 +56,7 @@ public final class Pow<T extends TType> extends PrimitiveOp implements Operand<T
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Pow<T>(opBuilder.build());
   }
   
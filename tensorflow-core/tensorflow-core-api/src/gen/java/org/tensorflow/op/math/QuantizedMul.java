@@ -58,6 +58,7 @@ public final class QuantizedMul<V extends TType> extends PrimitiveOp {
     opBuilder.addInput(minY.asOutput());
     opBuilder.addInput(maxY.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Toutput", Toutput);
     return new QuantizedMul<V>(opBuilder.build());
   }
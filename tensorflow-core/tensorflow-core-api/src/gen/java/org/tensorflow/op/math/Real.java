@@ -61,6 +61,7 @@ public final class Real<U extends TNumber> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("Real", scope.makeOpName("Real"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("Tout", Tout);
     return new Real<U>(opBuilder.build());
   }
@@ -52,6 +52,7 @@ public final class RealDiv<T extends TType> extends PrimitiveOp implements Opera
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RealDiv<T>(opBuilder.build());
   }
   
@@ -47,6 +47,7 @@ public final class Reciprocal<T extends TType> extends PrimitiveOp implements Op
     OperationBuilder opBuilder = scope.env().opBuilder("Reciprocal", scope.makeOpName("Reciprocal"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Reciprocal<T>(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class ReciprocalGrad<T extends TType> extends PrimitiveOp implement
     opBuilder.addInput(y.asOutput());
     opBuilder.addInput(dy.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ReciprocalGrad<T>(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class RsqrtGrad<T extends TType> extends PrimitiveOp implements Ope
     opBuilder.addInput(y.asOutput());
     opBuilder.addInput(dy.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RsqrtGrad<T>(opBuilder.build());
   }
   
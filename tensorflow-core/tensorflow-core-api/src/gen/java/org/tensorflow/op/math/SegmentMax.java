@@ -72,6 +72,7 @@ public final class SegmentMax<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SegmentMax<T>(opBuilder.build());
   }
   
@@ -73,6 +73,7 @@ public final class SegmentMean<T extends TType> extends PrimitiveOp implements O
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SegmentMean<T>(opBuilder.build());
   }
   
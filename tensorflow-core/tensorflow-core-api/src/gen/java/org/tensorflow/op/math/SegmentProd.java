@@ -72,6 +72,7 @@ public final class SegmentProd<T extends TType> extends PrimitiveOp implements O
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SegmentProd<T>(opBuilder.build());
   }
   
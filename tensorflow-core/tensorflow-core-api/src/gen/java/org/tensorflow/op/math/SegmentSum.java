@@ -72,6 +72,7 @@ public final class SegmentSum<T extends TType> extends PrimitiveOp implements Op
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SegmentSum<T>(opBuilder.build());
   }
   
@@ -47,6 +47,7 @@ public final class Sigmoid<T extends TType> extends PrimitiveOp implements Opera
     OperationBuilder opBuilder = scope.env().opBuilder("Sigmoid", scope.makeOpName("Sigmoid"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Sigmoid<T>(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class SigmoidGrad<T extends TType> extends PrimitiveOp implements O
     opBuilder.addInput(y.asOutput());
     opBuilder.addInput(dy.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SigmoidGrad<T>(opBuilder.build());
   }
   
@@ -55,6 +55,7 @@ public final class Sin<T extends TType> extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("Sin", scope.makeOpName("Sin"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Sin<T>(opBuilder.build());
   }
   
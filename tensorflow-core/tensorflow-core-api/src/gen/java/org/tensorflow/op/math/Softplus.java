@@ -46,6 +46,7 @@ public final class Softplus<T extends TNumber> extends PrimitiveOp implements Op
     OperationBuilder opBuilder = scope.env().opBuilder("Softplus", scope.makeOpName("Softplus"));
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Softplus<T>(opBuilder.build());
   }
   
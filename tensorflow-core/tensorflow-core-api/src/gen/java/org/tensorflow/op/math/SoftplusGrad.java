@@ -46,6 +46,7 @@ public final class SoftplusGrad<T extends TNumber> extends PrimitiveOp implement
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SoftplusGrad<T>(opBuilder.build());
   }
   
@@ -47,6 +47,7 @@ public final class Sqrt<T extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("Sqrt", scope.makeOpName("Sqrt"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Sqrt<T>(opBuilder.build());
   }
   
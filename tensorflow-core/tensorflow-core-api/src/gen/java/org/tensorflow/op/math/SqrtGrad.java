@@ -48,6 +48,7 @@ public final class SqrtGrad<T extends TType> extends PrimitiveOp implements Oper
     opBuilder.addInput(y.asOutput());
     opBuilder.addInput(dy.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SqrtGrad<T>(opBuilder.build());
   }
   
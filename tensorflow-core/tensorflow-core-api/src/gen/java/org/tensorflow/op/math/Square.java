@@ -47,6 +47,7 @@ public final class Square<T extends TType> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("Square", scope.makeOpName("Square"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Square<T>(opBuilder.build());
   }
   
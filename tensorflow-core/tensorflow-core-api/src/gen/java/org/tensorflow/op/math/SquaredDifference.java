@@ -50,6 +50,7 @@ public final class SquaredDifference<T extends TType> extends PrimitiveOp implem
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SquaredDifference<T>(opBuilder.build());
   }
   
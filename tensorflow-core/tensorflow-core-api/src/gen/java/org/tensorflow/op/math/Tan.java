@@ -56,6 +56,7 @@ public final class Tan<T extends TType> extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("Tan", scope.makeOpName("Tan"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Tan<T>(opBuilder.build());
   }
   
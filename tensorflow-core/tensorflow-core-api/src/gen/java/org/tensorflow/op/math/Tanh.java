@@ -55,6 +55,7 @@ public final class Tanh<T extends TType> extends PrimitiveOp implements Operand<
     OperationBuilder opBuilder = scope.env().opBuilder("Tanh", scope.makeOpName("Tanh"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Tanh<T>(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class TanhGrad<T extends TType> extends PrimitiveOp implements Oper
     opBuilder.addInput(y.asOutput());
     opBuilder.addInput(dy.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TanhGrad<T>(opBuilder.build());
   }
   
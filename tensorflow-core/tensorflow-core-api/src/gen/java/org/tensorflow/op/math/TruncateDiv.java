@@ -55,6 +55,7 @@ public final class TruncateDiv<T extends TType> extends PrimitiveOp implements O
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TruncateDiv<T>(opBuilder.build());
   }
   
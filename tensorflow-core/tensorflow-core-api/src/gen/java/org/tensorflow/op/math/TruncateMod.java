@@ -54,6 +54,7 @@ public final class TruncateMod<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TruncateMod<T>(opBuilder.build());
   }
   
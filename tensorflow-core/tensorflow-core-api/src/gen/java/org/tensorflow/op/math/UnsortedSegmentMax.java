@@ -81,6 +81,7 @@ public final class UnsortedSegmentMax<T extends TNumber> extends PrimitiveOp imp
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(numSegments.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new UnsortedSegmentMax<T>(opBuilder.build());
   }
   
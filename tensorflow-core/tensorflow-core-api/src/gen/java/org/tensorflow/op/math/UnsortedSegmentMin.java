@@ -75,6 +75,7 @@ public final class UnsortedSegmentMin<T extends TNumber> extends PrimitiveOp imp
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(numSegments.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new UnsortedSegmentMin<T>(opBuilder.build());
   }
   
@@ -74,6 +74,7 @@ public final class UnsortedSegmentProd<T extends TType> extends PrimitiveOp impl
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(numSegments.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new UnsortedSegmentProd<T>(opBuilder.build());
   }
   
@@ -77,6 +77,7 @@ public final class UnsortedSegmentSum<T extends TType> extends PrimitiveOp imple
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(numSegments.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new UnsortedSegmentSum<T>(opBuilder.build());
   }
   
@@ -47,6 +47,7 @@ public final class Xdivy<T extends TType> extends PrimitiveOp implements Operand
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Xdivy<T>(opBuilder.build());
   }
   
@@ -47,6 +47,7 @@ public final class Xlogy<T extends TType> extends PrimitiveOp implements Operand
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Xlogy<T>(opBuilder.build());
   }
   
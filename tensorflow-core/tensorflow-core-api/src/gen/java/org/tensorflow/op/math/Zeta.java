@@ -52,6 +52,7 @@ public final class Zeta<T extends TNumber> extends PrimitiveOp implements Operan
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(q.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Zeta<T>(opBuilder.build());
   }
   
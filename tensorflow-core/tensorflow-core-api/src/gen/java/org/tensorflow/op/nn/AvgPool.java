@@ -77,6 +77,7 @@ public final class AvgPool<T extends TNumber> extends PrimitiveOp implements Ope
     OperationBuilder opBuilder = scope.env().opBuilder("AvgPool", scope.makeOpName("AvgPool"));
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] ksizeArray = new long[ksize.size()];
     for (int i = 0; i < ksizeArray.length; ++i) {
       ksizeArray[i] = ksize.get(i);
@@ -79,6 +79,7 @@ public final class AvgPool3dGrad<T extends TNumber> extends PrimitiveOp implemen
     opBuilder.addInput(origInputShape.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] ksizeArray = new long[ksize.size()];
     for (int i = 0; i < ksizeArray.length; ++i) {
       ksizeArray[i] = ksize.get(i);
@@ -76,6 +76,7 @@ public final class AvgPoolGrad<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(origInputShape.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] ksizeArray = new long[ksize.size()];
     for (int i = 0; i < ksizeArray.length; ++i) {
       ksizeArray[i] = ksize.get(i);
@@ -65,6 +65,7 @@ public final class BatchNormWithGlobalNormalization<T extends TType> extends Pri
     opBuilder.addInput(beta.asOutput());
     opBuilder.addInput(gamma.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("variance_epsilon", varianceEpsilon);
     opBuilder.setAttr("scale_after_normalization", scaleAfterNormalization);
     return new BatchNormWithGlobalNormalization<T>(opBuilder.build());
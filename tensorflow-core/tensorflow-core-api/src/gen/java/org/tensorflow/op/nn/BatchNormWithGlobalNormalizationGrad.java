@@ -64,6 +64,7 @@ public final class BatchNormWithGlobalNormalizationGrad<T extends TType> extends
     opBuilder.addInput(gamma.asOutput());
     opBuilder.addInput(backprop.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("variance_epsilon", varianceEpsilon);
     opBuilder.setAttr("scale_after_normalization", scaleAfterNormalization);
     return new BatchNormWithGlobalNormalizationGrad<T>(opBuilder.build());
@@ -76,6 +76,7 @@ public final class BiasAdd<T extends TType> extends PrimitiveOp implements Opera
     opBuilder.addInput(value.asOutput());
     opBuilder.addInput(bias.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.dataFormat != null) {
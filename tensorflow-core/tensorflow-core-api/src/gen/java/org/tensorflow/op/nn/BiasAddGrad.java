@@ -75,6 +75,7 @@ public final class BiasAddGrad<T extends TType> extends PrimitiveOp implements O
     OperationBuilder opBuilder = scope.env().opBuilder("BiasAddGrad", scope.makeOpName("BiasAddGrad"));
     opBuilder.addInput(outBackprop.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.dataFormat != null) {
@@ -84,6 +84,7 @@ public final class ComputeAccidentalHits extends PrimitiveOp {
     opBuilder.addInput(trueClasses.asOutput());
     opBuilder.addInput(sampledCandidates.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_true", numTrue);
     if (options != null) {
       for (Options opts : options) {
@@ -117,6 +117,7 @@ public final class Conv2dBackpropInput<T extends TNumber> extends PrimitiveOp im
     opBuilder.addInput(filter.asOutput());
     opBuilder.addInput(outBackprop.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] stridesArray = new long[strides.size()];
     for (int i = 0; i < stridesArray.length; ++i) {
       stridesArray[i] = strides.get(i);
@@ -77,6 +77,7 @@ public final class CtcBeamSearchDecoder extends PrimitiveOp {
     opBuilder.addInput(inputs.asOutput());
     opBuilder.addInput(sequenceLength.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("beam_width", beamWidth);
     opBuilder.setAttr("top_paths", topPaths);
     if (options != null) {
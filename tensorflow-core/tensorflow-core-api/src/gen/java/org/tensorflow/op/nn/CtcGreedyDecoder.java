@@ -77,6 +77,7 @@ public final class CtcGreedyDecoder extends PrimitiveOp {
     opBuilder.addInput(inputs.asOutput());
     opBuilder.addInput(sequenceLength.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.mergeRepeated != null) {
@@ -99,6 +99,7 @@ public final class CtcLoss extends PrimitiveOp {
     opBuilder.addInput(labelsValues.asOutput());
     opBuilder.addInput(sequenceLength.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.preprocessCollapseRepeated != null) {
@@ -158,6 +158,7 @@ public final class CudnnRnn<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(inputC.asOutput());
     opBuilder.addInput(params.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.rnnMode != null) {
@@ -174,6 +174,7 @@ public final class CudnnRnnBackprop<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(reserveSpace.asOutput());
     opBuilder.addInput(hostReserved.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.rnnMode != null) {
@@ -151,6 +151,7 @@ public final class CudnnRnnCanonicalToParams<T extends TNumber> extends Primitiv
     opBuilder.addInputList(Operands.asOutputs(weights));
     opBuilder.addInputList(Operands.asOutputs(biases));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.rnnMode != null) {
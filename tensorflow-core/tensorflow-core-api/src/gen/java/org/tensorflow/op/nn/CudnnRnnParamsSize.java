@@ -150,6 +150,7 @@ public final class CudnnRnnParamsSize<U extends TNumber> extends PrimitiveOp imp
     opBuilder.addInput(numUnits.asOutput());
     opBuilder.addInput(inputSize.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("T", T);
     opBuilder.setAttr("S", S);
     if (options != null) {
@@ -151,6 +151,7 @@ public final class CudnnRnnParamsToCanonical<T extends TNumber> extends Primitiv
     opBuilder.addInput(inputSize.asOutput());
     opBuilder.addInput(params.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_params", numParams);
     if (options != null) {
       for (Options opts : options) {
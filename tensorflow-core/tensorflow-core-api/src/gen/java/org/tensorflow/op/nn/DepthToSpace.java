@@ -146,6 +146,7 @@ public final class DepthToSpace<T extends TType> extends PrimitiveOp implements
     OperationBuilder opBuilder = scope.env().opBuilder("DepthToSpace", scope.makeOpName("DepthToSpace"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("block_size", blockSize);
     if (options != null) {
       for (Options opts : options) {
@@ -49,6 +49,7 @@ public final class Elu<T extends TNumber> extends PrimitiveOp implements Operand
     OperationBuilder opBuilder = scope.env().opBuilder("Elu", scope.makeOpName("Elu"));
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Elu<T>(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class EluGrad<T extends TNumber> extends PrimitiveOp implements Ope
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(outputs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new EluGrad<T>(opBuilder.build());
   }
   
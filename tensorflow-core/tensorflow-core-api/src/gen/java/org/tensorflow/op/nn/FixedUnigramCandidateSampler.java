@@ -169,6 +169,7 @@ public final class FixedUnigramCandidateSampler extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("FixedUnigramCandidateSampler", scope.makeOpName("FixedUnigramCandidateSampler"));
     opBuilder.addInput(trueClasses.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_true", numTrue);
     opBuilder.setAttr("num_sampled", numSampled);
     opBuilder.setAttr("unique", unique);
@@ -88,6 +88,7 @@ public final class FractionalAvgPoolGrad<T extends TNumber> extends PrimitiveOp
     opBuilder.addInput(rowPoolingSequence.asOutput());
     opBuilder.addInput(colPoolingSequence.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.overlapping != null) {
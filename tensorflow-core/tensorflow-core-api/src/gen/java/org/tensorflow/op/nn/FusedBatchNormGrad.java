@@ -106,6 +106,7 @@ public final class FusedBatchNormGrad<T extends TNumber, U extends TNumber> exte
     opBuilder.addInput(reserveSpace1.asOutput());
     opBuilder.addInput(reserveSpace2.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.epsilon != null) {
@@ -70,6 +70,7 @@ public final class FusedPadConv2d<T extends TNumber> extends PrimitiveOp impleme
     opBuilder.addInput(paddings.asOutput());
     opBuilder.addInput(filter.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("mode", mode);
     long[] stridesArray = new long[strides.size()];
     for (int i = 0; i < stridesArray.length; ++i) {
@@ -93,6 +93,7 @@ public final class FusedResizeAndPadConv2d<T extends TNumber> extends PrimitiveO
     opBuilder.addInput(paddings.asOutput());
     opBuilder.addInput(filter.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("mode", mode);
     long[] stridesArray = new long[strides.size()];
     for (int i = 0; i < stridesArray.length; ++i) {
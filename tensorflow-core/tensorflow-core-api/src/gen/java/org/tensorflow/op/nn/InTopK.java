@@ -65,6 +65,7 @@ public final class InTopK extends PrimitiveOp implements Operand<TBool> {
     opBuilder.addInput(targets.asOutput());
     opBuilder.addInput(k.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new InTopK(opBuilder.build());
   }
   
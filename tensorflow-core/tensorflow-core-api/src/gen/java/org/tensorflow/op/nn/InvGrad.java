@@ -48,6 +48,7 @@ public final class InvGrad<T extends TType> extends PrimitiveOp implements Opera
     opBuilder.addInput(y.asOutput());
     opBuilder.addInput(dy.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new InvGrad<T>(opBuilder.build());
   }
   
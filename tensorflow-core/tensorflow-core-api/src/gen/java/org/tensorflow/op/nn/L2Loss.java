@@ -50,6 +50,7 @@ public final class L2Loss<T extends TNumber> extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("L2Loss", scope.makeOpName("L2Loss"));
     opBuilder.addInput(t.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new L2Loss<T>(opBuilder.build());
   }
   
@@ -95,6 +95,7 @@ public final class LocalResponseNormalizationGrad<T extends TNumber> extends Pri
     opBuilder.addInput(inputImage.asOutput());
     opBuilder.addInput(outputImage.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.depthRadius != null) {
@@ -50,6 +50,7 @@ public final class LogSoftmax<T extends TNumber> extends PrimitiveOp implements
     OperationBuilder opBuilder = scope.env().opBuilder("LogSoftmax", scope.makeOpName("LogSoftmax"));
     opBuilder.addInput(logits.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new LogSoftmax<T>(opBuilder.build());
   }
   
@@ -76,6 +76,7 @@ public final class MaxPool<T extends TType> extends PrimitiveOp implements Opera
     opBuilder.addInput(ksize.asOutput());
     opBuilder.addInput(strides.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("padding", padding);
     if (options != null) {
       for (Options opts : options) {
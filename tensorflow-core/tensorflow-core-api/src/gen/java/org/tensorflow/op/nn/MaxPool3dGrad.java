@@ -80,6 +80,7 @@ public final class MaxPool3dGrad<U extends TNumber> extends PrimitiveOp implemen
     opBuilder.addInput(origOutput.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] ksizeArray = new long[ksize.size()];
     for (int i = 0; i < ksizeArray.length; ++i) {
       ksizeArray[i] = ksize.get(i);
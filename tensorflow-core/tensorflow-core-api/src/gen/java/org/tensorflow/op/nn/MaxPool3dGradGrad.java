@@ -80,6 +80,7 @@ public final class MaxPool3dGradGrad<T extends TNumber> extends PrimitiveOp impl
     opBuilder.addInput(origOutput.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] ksizeArray = new long[ksize.size()];
     for (int i = 0; i < ksizeArray.length; ++i) {
       ksizeArray[i] = ksize.get(i);
@@ -81,6 +81,7 @@ public final class MaxPoolGrad<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(ksize.asOutput());
     opBuilder.addInput(strides.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("padding", padding);
     if (options != null) {
       for (Options opts : options) {
@@ -76,6 +76,7 @@ public final class MaxPoolGradGradWithArgmax<T extends TNumber> extends Primitiv
     opBuilder.addInput(grad.asOutput());
     opBuilder.addInput(argmax.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] ksizeArray = new long[ksize.size()];
     for (int i = 0; i < ksizeArray.length; ++i) {
       ksizeArray[i] = ksize.get(i);
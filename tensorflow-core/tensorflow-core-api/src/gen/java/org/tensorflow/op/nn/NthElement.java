@@ -79,6 +79,7 @@ public final class NthElement<T extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(n.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.reverse != null) {
@@ -89,6 +89,7 @@ public final class QuantizedBatchNormWithGlobalNormalization<U extends TType> ex
     opBuilder.addInput(gammaMin.asOutput());
     opBuilder.addInput(gammaMax.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     opBuilder.setAttr("variance_epsilon", varianceEpsilon);
     opBuilder.setAttr("scale_after_normalization", scaleAfterNormalization);
@@ -60,6 +60,7 @@ public final class QuantizedBiasAdd<V extends TType> extends PrimitiveOp {
     opBuilder.addInput(minBias.asOutput());
     opBuilder.addInput(maxBias.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new QuantizedBiasAdd<V>(opBuilder.build());
   }
@@ -108,6 +108,7 @@ public final class QuantizedInstanceNorm<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(xMin.asOutput());
     opBuilder.addInput(xMax.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.outputRangeGiven != null) {
@@ -56,6 +56,7 @@ public final class QuantizedMaxPool<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(minInput.asOutput());
     opBuilder.addInput(maxInput.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] ksizeArray = new long[ksize.size()];
     for (int i = 0; i < ksizeArray.length; ++i) {
       ksizeArray[i] = ksize.get(i);
@@ -52,6 +52,7 @@ public final class QuantizedRelu6<U extends TType> extends PrimitiveOp {
     opBuilder.addInput(minFeatures.asOutput());
     opBuilder.addInput(maxFeatures.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new QuantizedRelu6<U>(opBuilder.build());
   }
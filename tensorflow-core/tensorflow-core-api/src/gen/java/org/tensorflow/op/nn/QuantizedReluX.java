@@ -54,6 +54,7 @@ public final class QuantizedReluX<U extends TType> extends PrimitiveOp {
     opBuilder.addInput(minFeatures.asOutput());
     opBuilder.addInput(maxFeatures.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new QuantizedReluX<U>(opBuilder.build());
   }
@@ -46,6 +46,7 @@ public final class Relu6<T extends TNumber> extends PrimitiveOp implements Opera
     OperationBuilder opBuilder = scope.env().opBuilder("Relu6", scope.makeOpName("Relu6"));
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Relu6<T>(opBuilder.build());
   }
   
@@ -47,6 +47,7 @@ public final class Relu6Grad<T extends TNumber> extends PrimitiveOp implements O
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Relu6Grad<T>(opBuilder.build());
   }
   
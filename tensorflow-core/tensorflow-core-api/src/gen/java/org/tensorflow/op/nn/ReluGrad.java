@@ -47,6 +47,7 @@ public final class ReluGrad<T extends TNumber> extends PrimitiveOp implements Op
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ReluGrad<T>(opBuilder.build());
   }
   
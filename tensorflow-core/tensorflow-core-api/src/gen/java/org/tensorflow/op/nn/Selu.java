@@ -54,6 +54,7 @@ public final class Selu<T extends TNumber> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("Selu", scope.makeOpName("Selu"));
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Selu<T>(opBuilder.build());
   }
   
@@ -46,6 +46,7 @@ public final class SeluGrad<T extends TNumber> extends PrimitiveOp implements Op
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(outputs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SeluGrad<T>(opBuilder.build());
   }
   
@@ -50,6 +50,7 @@ public final class Softmax<T extends TNumber> extends PrimitiveOp implements Ope
     OperationBuilder opBuilder = scope.env().opBuilder("Softmax", scope.makeOpName("Softmax"));
     opBuilder.addInput(logits.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Softmax<T>(opBuilder.build());
   }
   
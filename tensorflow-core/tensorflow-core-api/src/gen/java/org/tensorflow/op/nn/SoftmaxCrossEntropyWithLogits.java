@@ -52,6 +52,7 @@ public final class SoftmaxCrossEntropyWithLogits<T extends TNumber> extends Prim
     opBuilder.addInput(features.asOutput());
     opBuilder.addInput(labels.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SoftmaxCrossEntropyWithLogits<T>(opBuilder.build());
   }
   
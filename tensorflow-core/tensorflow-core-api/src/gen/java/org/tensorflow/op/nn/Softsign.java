@@ -46,6 +46,7 @@ public final class Softsign<T extends TNumber> extends PrimitiveOp implements Op
     OperationBuilder opBuilder = scope.env().opBuilder("Softsign", scope.makeOpName("Softsign"));
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Softsign<T>(opBuilder.build());
   }
   
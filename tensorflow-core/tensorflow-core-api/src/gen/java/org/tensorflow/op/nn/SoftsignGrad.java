@@ -46,6 +46,7 @@ public final class SoftsignGrad<T extends TNumber> extends PrimitiveOp implement
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(features.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SoftsignGrad<T>(opBuilder.build());
   }
   
@@ -125,6 +125,7 @@ public final class SpaceToBatch<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(paddings.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("block_size", blockSize);
     return new SpaceToBatch<T>(opBuilder.build());
   }
@@ -140,6 +140,7 @@ public final class SpaceToDepth<T extends TType> extends PrimitiveOp implements
     OperationBuilder opBuilder = scope.env().opBuilder("SpaceToDepth", scope.makeOpName("SpaceToDepth"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("block_size", blockSize);
     if (options != null) {
       for (Options opts : options) {
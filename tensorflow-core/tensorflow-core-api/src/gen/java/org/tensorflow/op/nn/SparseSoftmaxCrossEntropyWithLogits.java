@@ -56,6 +56,7 @@ public final class SparseSoftmaxCrossEntropyWithLogits<T extends TNumber> extend
     opBuilder.addInput(features.asOutput());
     opBuilder.addInput(labels.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSoftmaxCrossEntropyWithLogits<T>(opBuilder.build());
   }
   
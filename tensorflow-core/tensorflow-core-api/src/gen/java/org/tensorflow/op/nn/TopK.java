@@ -82,6 +82,7 @@ public final class TopK<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(k.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.sorted != null) {
@@ -136,6 +136,7 @@ public final class Dequantize extends PrimitiveOp implements Operand<TFloat> {
     opBuilder.addInput(minRange.asOutput());
     opBuilder.addInput(maxRange.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.mode != null) {
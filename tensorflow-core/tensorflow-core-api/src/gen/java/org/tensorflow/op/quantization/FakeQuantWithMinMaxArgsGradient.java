@@ -92,6 +92,7 @@ public final class FakeQuantWithMinMaxArgsGradient extends PrimitiveOp implement
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(inputs.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.min != null) {
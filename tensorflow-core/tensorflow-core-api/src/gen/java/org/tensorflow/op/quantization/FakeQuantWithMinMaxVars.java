@@ -96,6 +96,7 @@ public final class FakeQuantWithMinMaxVars extends PrimitiveOp implements Operan
     opBuilder.addInput(min.asOutput());
     opBuilder.addInput(max.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.numBits != null) {
@@ -97,6 +97,7 @@ public final class FakeQuantWithMinMaxVarsPerChannel extends PrimitiveOp impleme
     opBuilder.addInput(min.asOutput());
     opBuilder.addInput(max.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.numBits != null) {
@@ -81,6 +81,7 @@ public final class FakeQuantWithMinMaxVarsPerChannelGradient extends PrimitiveOp
     opBuilder.addInput(min.asOutput());
     opBuilder.addInput(max.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.numBits != null) {
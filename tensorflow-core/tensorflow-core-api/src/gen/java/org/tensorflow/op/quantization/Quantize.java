@@ -166,6 +166,7 @@ public final class Quantize<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(minRange.asOutput());
     opBuilder.addInput(maxRange.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("T", T);
     if (options != null) {
       for (Options opts : options) {
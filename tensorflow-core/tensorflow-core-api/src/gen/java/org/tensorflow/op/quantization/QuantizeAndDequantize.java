@@ -94,6 +94,7 @@ public final class QuantizeAndDequantize<T extends TNumber> extends PrimitiveOp
     opBuilder.addInput(inputMax.asOutput());
     opBuilder.addInput(numBits.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.signedInput != null) {
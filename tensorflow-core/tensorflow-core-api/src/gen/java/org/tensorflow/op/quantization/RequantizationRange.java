@@ -53,6 +53,7 @@ public final class RequantizationRange extends PrimitiveOp {
     opBuilder.addInput(inputMin.asOutput());
     opBuilder.addInput(inputMax.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RequantizationRange(opBuilder.build());
   }
   
@@ -64,6 +64,7 @@ public final class Requantize<U extends TType> extends PrimitiveOp {
     opBuilder.addInput(requestedOutputMin.asOutput());
     opBuilder.addInput(requestedOutputMax.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new Requantize<U>(opBuilder.build());
   }
@@ -83,6 +83,7 @@ public final class Multinomial<U extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(logits.asOutput());
     opBuilder.addInput(numSamples.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("output_dtype", outputDtype);
     if (options != null) {
       for (Options opts : options) {
@@ -89,6 +89,7 @@ public final class ParameterizedTruncatedNormal<U extends TNumber> extends Primi
     opBuilder.addInput(minvals.asOutput());
     opBuilder.addInput(maxvals.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.seed != null) {
@@ -85,6 +85,7 @@ public final class RandomGamma<U extends TNumber> extends PrimitiveOp implements
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(alpha.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.seed != null) {
@@ -46,6 +46,7 @@ public final class RandomGammaGrad<T extends TNumber> extends PrimitiveOp implem
     opBuilder.addInput(alpha.asOutput());
     opBuilder.addInput(sample.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RandomGammaGrad<T>(opBuilder.build());
   }
   
@@ -94,6 +94,7 @@ public final class RandomPoisson<V extends TNumber> extends PrimitiveOp implemen
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(rate.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     if (options != null) {
       for (Options opts : options) {
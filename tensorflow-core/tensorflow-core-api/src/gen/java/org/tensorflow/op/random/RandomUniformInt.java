@@ -89,6 +89,7 @@ public final class RandomUniformInt<U extends TNumber> extends PrimitiveOp imple
     opBuilder.addInput(minval.asOutput());
     opBuilder.addInput(maxval.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.seed != null) {
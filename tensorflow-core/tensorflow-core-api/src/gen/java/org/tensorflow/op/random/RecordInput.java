@@ -109,6 +109,7 @@ public final class RecordInput extends PrimitiveOp implements Operand<TString> {
   public static RecordInput create(Scope scope, String filePattern, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("RecordInput", scope.makeOpName("RecordInput"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("file_pattern", filePattern);
     if (options != null) {
       for (Options opts : options) {
@@ -55,6 +55,7 @@ public final class StatelessMultinomial<V extends TNumber> extends PrimitiveOp i
     opBuilder.addInput(numSamples.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("output_dtype", outputDtype);
     return new StatelessMultinomial<V>(opBuilder.build());
   }
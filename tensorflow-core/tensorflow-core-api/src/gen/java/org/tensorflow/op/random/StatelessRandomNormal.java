@@ -55,6 +55,7 @@ public final class StatelessRandomNormal<V extends TNumber> extends PrimitiveOp
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new StatelessRandomNormal<V>(opBuilder.build());
   }
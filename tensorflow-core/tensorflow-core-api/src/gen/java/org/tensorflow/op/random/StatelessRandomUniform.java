@@ -56,6 +56,7 @@ public final class StatelessRandomUniform<V extends TNumber> extends PrimitiveOp
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new StatelessRandomUniform<V>(opBuilder.build());
   }
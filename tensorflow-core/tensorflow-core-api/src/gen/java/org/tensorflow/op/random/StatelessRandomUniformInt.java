@@ -54,6 +54,7 @@ public final class StatelessRandomUniformInt<V extends TNumber> extends Primitiv
     opBuilder.addInput(minval.asOutput());
     opBuilder.addInput(maxval.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new StatelessRandomUniformInt<V>(opBuilder.build());
   }
   
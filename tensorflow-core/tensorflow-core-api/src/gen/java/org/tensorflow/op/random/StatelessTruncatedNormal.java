@@ -57,6 +57,7 @@ public final class StatelessTruncatedNormal<V extends TNumber> extends Primitive
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new StatelessTruncatedNormal<V>(opBuilder.build());
   }
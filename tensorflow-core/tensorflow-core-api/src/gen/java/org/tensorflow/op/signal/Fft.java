@@ -48,6 +48,7 @@ public final class Fft<T extends TType> extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("FFT", scope.makeOpName("Fft"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Fft<T>(opBuilder.build());
   }
   
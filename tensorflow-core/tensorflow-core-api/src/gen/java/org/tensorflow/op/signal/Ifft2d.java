@@ -48,6 +48,7 @@ public final class Ifft2d<T extends TType> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("IFFT2D", scope.makeOpName("Ifft2d"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Ifft2d<T>(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class Ifft3d<T extends TType> extends PrimitiveOp implements Operan
     OperationBuilder opBuilder = scope.env().opBuilder("IFFT3D", scope.makeOpName("Ifft3d"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Ifft3d<T>(opBuilder.build());
   }
   
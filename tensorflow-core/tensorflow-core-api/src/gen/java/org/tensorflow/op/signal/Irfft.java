@@ -60,6 +60,7 @@ public final class Irfft extends PrimitiveOp implements Operand<TFloat> {
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(fftLength.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Irfft(opBuilder.build());
   }
   
@@ -61,6 +61,7 @@ public final class Irfft3d extends PrimitiveOp implements Operand<TFloat> {
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(fftLength.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Irfft3d(opBuilder.build());
   }
   
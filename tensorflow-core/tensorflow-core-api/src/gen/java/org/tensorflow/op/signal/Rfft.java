@@ -58,6 +58,7 @@ public final class Rfft extends PrimitiveOp implements Operand<TType> {
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(fftLength.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Rfft(opBuilder.build());
   }
   
@@ -59,6 +59,7 @@ public final class Rfft2d extends PrimitiveOp implements Operand<TType> {
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(fftLength.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Rfft2d(opBuilder.build());
   }
   
@@ -79,6 +79,7 @@ public final class DenseToDenseSetOperation<T extends TType> extends PrimitiveOp
     opBuilder.addInput(set1.asOutput());
     opBuilder.addInput(set2.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("set_operation", setOperation);
     if (options != null) {
       for (Options opts : options) {
@@ -94,6 +94,7 @@ public final class DenseToSparseSetOperation<T extends TType> extends PrimitiveO
     opBuilder.addInput(set2Values.asOutput());
     opBuilder.addInput(set2Shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("set_operation", setOperation);
     if (options != null) {
       for (Options opts : options) {
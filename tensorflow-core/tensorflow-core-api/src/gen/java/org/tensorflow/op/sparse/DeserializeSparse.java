@@ -91,6 +91,7 @@ public final class DeserializeSparse<U extends TType> extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("DeserializeSparse", scope.makeOpName("DeserializeSparse"));
     opBuilder.addInput(serializedSparse.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new DeserializeSparse<U>(opBuilder.build());
   }
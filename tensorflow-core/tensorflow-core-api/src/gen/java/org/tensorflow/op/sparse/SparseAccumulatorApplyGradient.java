@@ -60,6 +60,7 @@ public final class SparseAccumulatorApplyGradient extends PrimitiveOp {
     opBuilder.addInput(gradientValues.asOutput());
     opBuilder.addInput(gradientShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("has_known_shape", hasKnownShape);
     return new SparseAccumulatorApplyGradient(opBuilder.build());
   }
@@ -60,6 +60,7 @@ public final class SparseAccumulatorTakeGradient<T extends TType> extends Primit
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(numRequired.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new SparseAccumulatorTakeGradient<T>(opBuilder.build());
   }
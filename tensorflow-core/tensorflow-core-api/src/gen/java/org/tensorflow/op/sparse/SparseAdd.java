@@ -74,6 +74,7 @@ public final class SparseAdd<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(bShape.asOutput());
     opBuilder.addInput(thresh.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseAdd<T>(opBuilder.build());
   }
   
@@ -59,6 +59,7 @@ public final class SparseAddGrad<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(bIndices.asOutput());
     opBuilder.addInput(sumIndices.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseAddGrad<T>(opBuilder.build());
   }
   
@@ -95,6 +95,7 @@ public final class SparseConcat<T extends TType> extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder.addInputList(Operands.asOutputs(shapes));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("concat_dim", concatDim);
     return new SparseConcat<T>(opBuilder.build());
   }
@@ -99,6 +99,7 @@ public final class SparseCross<T extends TType> extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(shapes));
     opBuilder.addInputList(Operands.asOutputs(denseInputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("hashed_output", hashedOutput);
     opBuilder.setAttr("num_buckets", numBuckets);
     opBuilder.setAttr("hash_key", hashKey);
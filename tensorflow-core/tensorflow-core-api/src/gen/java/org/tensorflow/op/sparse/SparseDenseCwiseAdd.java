@@ -62,6 +62,7 @@ public final class SparseDenseCwiseAdd<T extends TType> extends PrimitiveOp impl
     opBuilder.addInput(spShape.asOutput());
     opBuilder.addInput(dense.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseDenseCwiseAdd<T>(opBuilder.build());
   }
   
@@ -56,6 +56,7 @@ public final class SparseDenseCwiseDiv<T extends TType> extends PrimitiveOp impl
     opBuilder.addInput(spShape.asOutput());
     opBuilder.addInput(dense.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseDenseCwiseDiv<T>(opBuilder.build());
   }
   
@@ -60,6 +60,7 @@ public final class SparseDenseCwiseMul<T extends TType> extends PrimitiveOp impl
     opBuilder.addInput(spShape.asOutput());
     opBuilder.addInput(dense.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseDenseCwiseMul<T>(opBuilder.build());
   }
   
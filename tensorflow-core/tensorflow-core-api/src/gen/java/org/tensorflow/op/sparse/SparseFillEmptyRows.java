@@ -92,6 +92,7 @@ public final class SparseFillEmptyRows<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(denseShape.asOutput());
     opBuilder.addInput(defaultValue.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseFillEmptyRows<T>(opBuilder.build());
   }
   
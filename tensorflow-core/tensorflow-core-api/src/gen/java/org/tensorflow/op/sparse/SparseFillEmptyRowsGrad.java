@@ -57,6 +57,7 @@ public final class SparseFillEmptyRowsGrad<T extends TType> extends PrimitiveOp
     opBuilder.addInput(reverseIndexMap.asOutput());
     opBuilder.addInput(gradValues.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseFillEmptyRowsGrad<T>(opBuilder.build());
   }
   
@@ -104,6 +104,7 @@ public final class SparseMatMul extends PrimitiveOp implements Operand<TFloat> {
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.transposeA != null) {
@@ -60,6 +60,7 @@ public final class SparseReorder<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(inputValues.asOutput());
     opBuilder.addInput(inputShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseReorder<T>(opBuilder.build());
   }
   
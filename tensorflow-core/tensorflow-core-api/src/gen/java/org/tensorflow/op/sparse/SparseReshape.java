@@ -64,6 +64,7 @@ public final class SparseReshape extends PrimitiveOp {
     opBuilder.addInput(inputShape.asOutput());
     opBuilder.addInput(newShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseReshape(opBuilder.build());
   }
   
@@ -56,6 +56,7 @@ public final class SparseSegmentMean<T extends TNumber> extends PrimitiveOp impl
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSegmentMean<T>(opBuilder.build());
   }
   
@@ -60,6 +60,7 @@ public final class SparseSegmentMeanWithNumSegments<T extends TNumber> extends P
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(numSegments.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSegmentMeanWithNumSegments<T>(opBuilder.build());
   }
   
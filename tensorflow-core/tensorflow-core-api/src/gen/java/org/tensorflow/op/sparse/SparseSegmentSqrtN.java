@@ -56,6 +56,7 @@ public final class SparseSegmentSqrtN<T extends TNumber> extends PrimitiveOp imp
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSegmentSqrtN<T>(opBuilder.build());
   }
   
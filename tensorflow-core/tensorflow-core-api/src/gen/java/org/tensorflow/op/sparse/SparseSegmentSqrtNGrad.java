@@ -56,6 +56,7 @@ public final class SparseSegmentSqrtNGrad<T extends TNumber> extends PrimitiveOp
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(outputDim0.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSegmentSqrtNGrad<T>(opBuilder.build());
   }
   
@@ -62,6 +62,7 @@ public final class SparseSegmentSqrtNWithNumSegments<T extends TNumber> extends
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(numSegments.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSegmentSqrtNWithNumSegments<T>(opBuilder.build());
   }
   
@@ -81,6 +81,7 @@ public final class SparseSegmentSum<T extends TNumber> extends PrimitiveOp imple
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSegmentSum<T>(opBuilder.build());
   }
   
@@ -81,6 +81,7 @@ public final class SparseSegmentSumWithNumSegments<T extends TNumber> extends Pr
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(numSegments.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSegmentSumWithNumSegments<T>(opBuilder.build());
   }
   
@@ -72,6 +72,7 @@ public final class SparseSlice<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(start.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSlice<T>(opBuilder.build());
   }
   
@@ -57,6 +57,7 @@ public final class SparseSliceGrad<T extends TType> extends PrimitiveOp implemen
     opBuilder.addInput(inputStart.asOutput());
     opBuilder.addInput(outputIndices.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSliceGrad<T>(opBuilder.build());
   }
   
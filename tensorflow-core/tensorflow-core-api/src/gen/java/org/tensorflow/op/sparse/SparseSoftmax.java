@@ -68,6 +68,7 @@ public final class SparseSoftmax<T extends TNumber> extends PrimitiveOp implemen
     opBuilder.addInput(spValues.asOutput());
     opBuilder.addInput(spShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSoftmax<T>(opBuilder.build());
   }
   
@@ -60,6 +60,7 @@ public final class SparseSparseMaximum<T extends TNumber> extends PrimitiveOp {
     opBuilder.addInput(bValues.asOutput());
     opBuilder.addInput(bShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSparseMaximum<T>(opBuilder.build());
   }
   
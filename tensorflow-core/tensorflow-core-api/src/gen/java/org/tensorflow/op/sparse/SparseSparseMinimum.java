@@ -59,6 +59,7 @@ public final class SparseSparseMinimum<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(bValues.asOutput());
     opBuilder.addInput(bShape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseSparseMinimum<T>(opBuilder.build());
   }
   
@@ -76,6 +76,7 @@ public final class SparseSplit<T extends TType> extends PrimitiveOp {
     opBuilder.addInput(values.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_split", numSplit);
     return new SparseSplit<T>(opBuilder.build());
   }
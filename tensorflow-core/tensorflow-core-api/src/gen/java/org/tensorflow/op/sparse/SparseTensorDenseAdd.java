@@ -54,6 +54,7 @@ public final class SparseTensorDenseAdd<U extends TType> extends PrimitiveOp imp
     opBuilder.addInput(aShape.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SparseTensorDenseAdd<U>(opBuilder.build());
   }
   
@@ -94,6 +94,7 @@ public final class SparseTensorDenseMatMul<U extends TType> extends PrimitiveOp
     opBuilder.addInput(aShape.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.adjointA != null) {
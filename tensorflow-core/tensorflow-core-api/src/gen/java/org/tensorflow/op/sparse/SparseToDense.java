@@ -94,6 +94,7 @@ public final class SparseToDense<U extends TType> extends PrimitiveOp implements
     opBuilder.addInput(sparseValues.asOutput());
     opBuilder.addInput(defaultValue.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.validateIndices != null) {
@@ -109,6 +109,7 @@ public final class SparseToSparseSetOperation<T extends TType> extends Primitive
     opBuilder.addInput(set2Values.asOutput());
     opBuilder.addInput(set2Shape.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("set_operation", setOperation);
     if (options != null) {
       for (Options opts : options) {
@@ -101,6 +101,7 @@ public final class ReduceJoin extends PrimitiveOp implements Operand<TString> {
     opBuilder.addInput(inputs.asOutput());
     opBuilder.addInput(reductionIndices.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.keepDims != null) {
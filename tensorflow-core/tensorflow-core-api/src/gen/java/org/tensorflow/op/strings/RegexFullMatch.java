@@ -53,6 +53,7 @@ public final class RegexFullMatch extends PrimitiveOp implements Operand<TBool>
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(pattern.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new RegexFullMatch(opBuilder.build());
   }
   
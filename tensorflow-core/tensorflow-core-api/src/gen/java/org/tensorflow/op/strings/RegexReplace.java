@@ -73,6 +73,7 @@ public final class RegexReplace extends PrimitiveOp implements Operand<TString>
     opBuilder.addInput(pattern.asOutput());
     opBuilder.addInput(rewrite.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.replaceGlobal != null) {
@@ -50,6 +50,7 @@ public final class StaticRegexFullMatch extends PrimitiveOp implements Operand<T
     OperationBuilder opBuilder = scope.env().opBuilder("StaticRegexFullMatch", scope.makeOpName("StaticRegexFullMatch"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("pattern", pattern);
     return new StaticRegexFullMatch(opBuilder.build());
   }
@@ -66,6 +66,7 @@ public final class StaticRegexReplace extends PrimitiveOp implements Operand<TSt
     OperationBuilder opBuilder = scope.env().opBuilder("StaticRegexReplace", scope.makeOpName("StaticRegexReplace"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("pattern", pattern);
     opBuilder.setAttr("rewrite", rewrite);
     if (options != null) {
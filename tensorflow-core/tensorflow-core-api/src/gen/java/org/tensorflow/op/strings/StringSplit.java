@@ -90,6 +90,7 @@ public final class StringSplit extends PrimitiveOp {
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(sep.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.maxsplit != null) {
@@ -143,6 +143,7 @@ public final class Substr extends PrimitiveOp implements Operand<TString> {
     opBuilder.addInput(pos.asOutput());
     opBuilder.addInput(len.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.unit != null) {
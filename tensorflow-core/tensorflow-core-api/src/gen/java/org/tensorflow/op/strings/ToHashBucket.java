@@ -52,6 +52,7 @@ public final class ToHashBucket extends PrimitiveOp implements Operand<TInt64> {
     OperationBuilder opBuilder = scope.env().opBuilder("StringToHashBucket", scope.makeOpName("ToHashBucket"));
     opBuilder.addInput(stringTensor.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_buckets", numBuckets);
     return new ToHashBucket(opBuilder.build());
   }
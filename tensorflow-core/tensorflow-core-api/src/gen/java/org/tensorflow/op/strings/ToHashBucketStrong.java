@@ -62,6 +62,7 @@ public final class ToHashBucketStrong extends PrimitiveOp implements Operand<TIn
     OperationBuilder opBuilder = scope.env().opBuilder("StringToHashBucketStrong", scope.makeOpName("ToHashBucketStrong"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("num_buckets", numBuckets);
     long[] keyArray = new long[key.size()];
     for (int i = 0; i < keyArray.length; ++i) {
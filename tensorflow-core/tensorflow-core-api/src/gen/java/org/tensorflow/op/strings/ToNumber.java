@@ -53,6 +53,7 @@ public final class ToNumber<T extends TNumber> extends PrimitiveOp implements Op
     OperationBuilder opBuilder = scope.env().opBuilder("StringToNumber", scope.makeOpName("ToNumber"));
     opBuilder.addInput(stringTensor.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("out_type", outType);
     return new ToNumber<T>(opBuilder.build());
   }
@@ -49,6 +49,7 @@ public final class UnicodeScript extends PrimitiveOp implements Operand<TInt32>
     OperationBuilder opBuilder = scope.env().opBuilder("UnicodeScript", scope.makeOpName("UnicodeScript"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new UnicodeScript(opBuilder.build());
   }
   
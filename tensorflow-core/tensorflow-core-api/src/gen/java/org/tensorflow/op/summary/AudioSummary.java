@@ -83,6 +83,7 @@ public final class AudioSummary extends PrimitiveOp implements Operand<TString>
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(sampleRate.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.maxOutputs != null) {
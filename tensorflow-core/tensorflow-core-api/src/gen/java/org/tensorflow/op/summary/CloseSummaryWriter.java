@@ -38,6 +38,7 @@ public final class CloseSummaryWriter extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("CloseSummaryWriter", scope.makeOpName("CloseSummaryWriter"));
     opBuilder.addInput(writer.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new CloseSummaryWriter(opBuilder.build());
   }
   
@@ -47,6 +47,7 @@ public final class CreateSummaryDbWriter extends PrimitiveOp {
     opBuilder.addInput(runName.asOutput());
     opBuilder.addInput(userName.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new CreateSummaryDbWriter(opBuilder.build());
   }
   
@@ -48,6 +48,7 @@ public final class CreateSummaryFileWriter extends PrimitiveOp {
     opBuilder.addInput(flushMillis.asOutput());
     opBuilder.addInput(filenameSuffix.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new CreateSummaryFileWriter(opBuilder.build());
   }
   
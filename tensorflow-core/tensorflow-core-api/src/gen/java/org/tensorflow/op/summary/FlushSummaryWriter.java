@@ -38,6 +38,7 @@ public final class FlushSummaryWriter extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("FlushSummaryWriter", scope.makeOpName("FlushSummaryWriter"));
     opBuilder.addInput(writer.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new FlushSummaryWriter(opBuilder.build());
   }
   
@@ -53,6 +53,7 @@ public final class HistogramSummary extends PrimitiveOp implements Operand<TStri
     opBuilder.addInput(tag.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new HistogramSummary(opBuilder.build());
   }
   
@@ -125,6 +125,7 @@ public final class ImageSummary extends PrimitiveOp implements Operand<TString>
     opBuilder.addInput(tag.asOutput());
     opBuilder.addInput(tensor.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.maxImages != null) {
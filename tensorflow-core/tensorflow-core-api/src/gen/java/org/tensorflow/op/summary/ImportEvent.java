@@ -41,6 +41,7 @@ public final class ImportEvent extends PrimitiveOp {
     opBuilder.addInput(writer.asOutput());
     opBuilder.addInput(event.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ImportEvent(opBuilder.build());
   }
   
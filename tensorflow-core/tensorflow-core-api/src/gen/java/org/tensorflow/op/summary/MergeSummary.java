@@ -53,6 +53,7 @@ public final class MergeSummary extends PrimitiveOp implements Operand<TString>
     OperationBuilder opBuilder = scope.env().opBuilder("MergeSummary", scope.makeOpName("MergeSummary"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new MergeSummary(opBuilder.build());
   }
   
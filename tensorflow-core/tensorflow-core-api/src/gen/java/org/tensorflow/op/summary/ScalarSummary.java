@@ -50,6 +50,7 @@ public final class ScalarSummary extends PrimitiveOp implements Operand<TString>
     opBuilder.addInput(tags.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new ScalarSummary(opBuilder.build());
   }
   
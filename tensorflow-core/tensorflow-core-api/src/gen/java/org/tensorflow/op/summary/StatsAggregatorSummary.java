@@ -41,6 +41,7 @@ public final class StatsAggregatorSummary extends PrimitiveOp implements Operand
     OperationBuilder opBuilder = scope.env().opBuilder("StatsAggregatorSummary", scope.makeOpName("StatsAggregatorSummary"));
     opBuilder.addInput(iterator.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new StatsAggregatorSummary(opBuilder.build());
   }
   
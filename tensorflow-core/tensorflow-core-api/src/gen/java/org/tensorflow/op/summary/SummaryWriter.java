@@ -67,6 +67,7 @@ public final class SummaryWriter extends PrimitiveOp implements Operand<TType> {
   public static SummaryWriter create(Scope scope, Options... options) {
     OperationBuilder opBuilder = scope.env().opBuilder("SummaryWriter", scope.makeOpName("SummaryWriter"));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.sharedName != null) {
@@ -49,6 +49,7 @@ public final class TensorSummary extends PrimitiveOp implements Operand<TString>
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(serializedSummaryMetadata.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TensorSummary(opBuilder.build());
   }
   
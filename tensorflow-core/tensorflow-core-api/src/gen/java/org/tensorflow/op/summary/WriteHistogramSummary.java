@@ -48,6 +48,7 @@ public final class WriteHistogramSummary extends PrimitiveOp {
     opBuilder.addInput(tag.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new WriteHistogramSummary(opBuilder.build());
   }
   
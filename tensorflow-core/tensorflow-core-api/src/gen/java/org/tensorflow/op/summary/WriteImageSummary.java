@@ -71,6 +71,7 @@ public final class WriteImageSummary extends PrimitiveOp {
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(badColor.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.maxImages != null) {
@@ -48,6 +48,7 @@ public final class WriteScalarSummary extends PrimitiveOp {
     opBuilder.addInput(tag.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new WriteScalarSummary(opBuilder.build());
   }
   
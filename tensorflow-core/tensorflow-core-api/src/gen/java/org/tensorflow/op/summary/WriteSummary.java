@@ -49,6 +49,7 @@ public final class WriteSummary extends PrimitiveOp {
     opBuilder.addInput(tag.asOutput());
     opBuilder.addInput(summaryMetadata.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new WriteSummary(opBuilder.build());
   }
   
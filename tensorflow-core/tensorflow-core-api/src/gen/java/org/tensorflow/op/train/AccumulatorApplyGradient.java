@@ -50,6 +50,7 @@ public final class AccumulatorApplyGradient extends PrimitiveOp {
     opBuilder.addInput(localStep.asOutput());
     opBuilder.addInput(gradient.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AccumulatorApplyGradient(opBuilder.build());
   }
   
@@ -44,6 +44,7 @@ public final class AccumulatorNumAccumulated extends PrimitiveOp implements Oper
     OperationBuilder opBuilder = scope.env().opBuilder("AccumulatorNumAccumulated", scope.makeOpName("AccumulatorNumAccumulated"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AccumulatorNumAccumulated(opBuilder.build());
   }
   
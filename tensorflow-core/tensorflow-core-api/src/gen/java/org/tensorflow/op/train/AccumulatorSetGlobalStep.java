@@ -48,6 +48,7 @@ public final class AccumulatorSetGlobalStep extends PrimitiveOp {
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(newGlobalStep.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new AccumulatorSetGlobalStep(opBuilder.build());
   }
   
@@ -58,6 +58,7 @@ public final class AccumulatorTakeGradient<T extends TType> extends PrimitiveOp
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(numRequired.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dtype", dtype);
     return new AccumulatorTakeGradient<T>(opBuilder.build());
   }
@@ -83,6 +83,7 @@ public final class ApplyAddSign<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(beta.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
@@ -70,6 +70,7 @@ public final class ApplyGradientDescent<T extends TType> extends PrimitiveOp imp
     opBuilder.addInput(alpha.asOutput());
     opBuilder.addInput(delta.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
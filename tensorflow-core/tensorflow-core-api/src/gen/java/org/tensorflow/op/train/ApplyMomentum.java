@@ -91,6 +91,7 @@ public final class ApplyMomentum<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(grad.asOutput());
     opBuilder.addInput(momentum.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
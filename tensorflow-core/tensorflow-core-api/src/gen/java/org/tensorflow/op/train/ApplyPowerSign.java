@@ -83,6 +83,7 @@ public final class ApplyPowerSign<T extends TType> extends PrimitiveOp implement
     opBuilder.addInput(beta.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
@@ -77,6 +77,7 @@ public final class ApplyProximalGradientDescent<T extends TType> extends Primiti
     opBuilder.addInput(l2.asOutput());
     opBuilder.addInput(delta.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
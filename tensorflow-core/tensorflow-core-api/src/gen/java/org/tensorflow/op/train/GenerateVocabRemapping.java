@@ -99,6 +99,7 @@ public final class GenerateVocabRemapping extends PrimitiveOp {
     opBuilder.addInput(newVocabFile.asOutput());
     opBuilder.addInput(oldVocabFile.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("new_vocab_offset", newVocabOffset);
     opBuilder.setAttr("num_new_vocab", numNewVocab);
     if (options != null) {
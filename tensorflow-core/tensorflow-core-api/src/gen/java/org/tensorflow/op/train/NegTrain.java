@@ -54,6 +54,7 @@ public final class NegTrain extends PrimitiveOp {
     opBuilder.addInput(labels.asOutput());
     opBuilder.addInput(lr.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     long[] vocabCountArray = new long[vocabCount.size()];
     for (int i = 0; i < vocabCountArray.length; ++i) {
       vocabCountArray[i] = vocabCount.get(i);
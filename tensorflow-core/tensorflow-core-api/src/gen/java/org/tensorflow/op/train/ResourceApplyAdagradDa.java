@@ -78,6 +78,7 @@ public final class ResourceApplyAdagradDa extends PrimitiveOp {
     opBuilder.addInput(l2.asOutput());
     opBuilder.addInput(globalStep.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
@@ -80,6 +80,7 @@ public final class ResourceApplyAddSign extends PrimitiveOp {
     opBuilder.addInput(beta.asOutput());
     opBuilder.addInput(grad.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
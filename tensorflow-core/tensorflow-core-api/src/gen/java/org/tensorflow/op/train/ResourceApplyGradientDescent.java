@@ -67,6 +67,7 @@ public final class ResourceApplyGradientDescent extends PrimitiveOp {
     opBuilder.addInput(alpha.asOutput());
     opBuilder.addInput(delta.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
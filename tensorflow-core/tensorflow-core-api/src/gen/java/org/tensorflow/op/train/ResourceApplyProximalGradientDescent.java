@@ -74,6 +74,7 @@ public final class ResourceApplyProximalGradientDescent extends PrimitiveOp {
     opBuilder.addInput(l2.asOutput());
     opBuilder.addInput(delta.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
@@ -81,6 +81,7 @@ public final class ResourceSparseApplyAdagradDa extends PrimitiveOp {
     opBuilder.addInput(l2.asOutput());
     opBuilder.addInput(globalStep.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
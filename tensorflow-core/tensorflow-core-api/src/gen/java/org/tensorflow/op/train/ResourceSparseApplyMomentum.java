@@ -93,6 +93,7 @@ public final class ResourceSparseApplyMomentum extends PrimitiveOp {
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(momentum.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
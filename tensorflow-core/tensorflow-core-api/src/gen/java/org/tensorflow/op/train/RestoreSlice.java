@@ -83,6 +83,7 @@ public final class RestoreSlice<T extends TType> extends PrimitiveOp implements
     opBuilder.addInput(tensorName.asOutput());
     opBuilder.addInput(shapeAndSlice.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("dt", dt);
     if (options != null) {
       for (Options opts : options) {
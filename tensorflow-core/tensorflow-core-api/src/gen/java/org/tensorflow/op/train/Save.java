@@ -55,6 +55,7 @@ public final class Save extends PrimitiveOp {
     opBuilder.addInput(shapeAndSlices.asOutput());
     opBuilder.addInputList(Operands.asOutputs(tensors));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new Save(opBuilder.build());
   }
   
@@ -81,6 +81,7 @@ public final class SaveSlices extends PrimitiveOp {
     opBuilder.addInput(shapesAndSlices.asOutput());
     opBuilder.addInputList(Operands.asOutputs(data));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SaveSlices(opBuilder.build());
   }
   
@@ -44,6 +44,7 @@ public final class SdcaFprint extends PrimitiveOp implements Operand<TInt64> {
     OperationBuilder opBuilder = scope.env().opBuilder("SdcaFprint", scope.makeOpName("SdcaFprint"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new SdcaFprint(opBuilder.build());
   }
   
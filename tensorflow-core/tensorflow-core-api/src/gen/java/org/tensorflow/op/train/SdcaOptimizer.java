@@ -114,6 +114,7 @@ public final class SdcaOptimizer extends PrimitiveOp {
     opBuilder.addInputList(Operands.asOutputs(denseWeights));
     opBuilder.addInput(exampleStateData.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("loss_type", lossType);
     opBuilder.setAttr("l1", l1);
     opBuilder.setAttr("l2", l2);
@@ -46,6 +46,7 @@ public final class SdcaShrinkL1 extends PrimitiveOp {
     OperationBuilder opBuilder = scope.env().opBuilder("SdcaShrinkL1", scope.makeOpName("SdcaShrinkL1"));
     opBuilder.addInputList(Operands.asOutputs(weights));
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     opBuilder.setAttr("l1", l1);
     opBuilder.setAttr("l2", l2);
     return new SdcaShrinkL1(opBuilder.build());
@@ -84,6 +84,7 @@ public final class SparseApplyAdagradDa<T extends TType> extends PrimitiveOp imp
     opBuilder.addInput(l2.asOutput());
     opBuilder.addInput(globalStep.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
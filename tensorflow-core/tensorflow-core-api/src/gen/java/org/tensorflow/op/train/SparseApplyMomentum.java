@@ -96,6 +96,7 @@ public final class SparseApplyMomentum<T extends TType> extends PrimitiveOp impl
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(momentum.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     if (options != null) {
       for (Options opts : options) {
         if (opts.useLocking != null) {
@@ -52,6 +52,7 @@ public final class TileGrad<T extends TType> extends PrimitiveOp implements Oper
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(multiples.asOutput());
     opBuilder = scope.applyControlDependencies(opBuilder);
+    opBuilder = scope.applyDevice(opBuilder);
     return new TileGrad<T>(opBuilder.build());
   }
   
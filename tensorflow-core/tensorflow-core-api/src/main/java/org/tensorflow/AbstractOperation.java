@@ -15,6 +15,8 @@ limitations under the License.
 
 package org.tensorflow;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 import org.tensorflow.tools.Shape;
 import org.tensorflow.types.family.TType;
 
@@ -86,4 +88,26 @@ abstract class AbstractOperation implements Operation {
    * @return output tensor
    */
   abstract Tensor<?> tensor(int outputIdx);
+
+  /**
+   * Returns a future completed with the tensor of the {@code outputIdx}th output of this operation.
+   *
+   * <p>This is only supported in an eager execution environment.
+   *
+   * @param outputIdx index of the output of this operation
+   * @return future output tensor
+   */
+  abstract CompletableFuture<Tensor<?>> tensorAsync(int outputIdx);
+
+  /**
+   * Reads raw bytes from the tensor of the {@code outputIdx}th output of this operation.
+   *
+   * <p>This is only supported in an eager execution environment.
+   *
+   * @param outputIdx index of the output of this operation
+   * @param byteOffset offset of the first byte to read in the tensor data
+   * @param numBytes number of bytes to read
+   * @return a buffer of {@code numBytes} bytes, in native byte order
+   */
+  abstract ByteBuffer readBytes(int outputIdx, long byteOffset, int numBytes);
 }
@@ -0,0 +1,64 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+/**
+ * A saved model bundle acquired for use.
+ *
+ * <p>The bundle remains open at least until its lease is closed. A lease must be closed once the
+ * bundle is no longer used by its owner, and is not meant to be shared between threads.
+ *
+ * @see ModelRegistry.Lease
+ * @see VersionedModel.Lease
+ */
+public abstract class BundleLease implements AutoCloseable {
+
+  /**
+   * Returns the leased bundle.
+   *
+   * @throws IllegalStateException if this lease has been closed
+   */
+  public SavedModelBundle bundle() {
+    if (closed) {
+      throw new IllegalStateException("Lease on " + describe() + " has been closed");
+    }
+    return sharedBundle.bundle();
+  }
+
+  /** Releases this lease. */
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      sharedBundle.release();
+    }
+  }
+
+  /** Describes the leased model, for error messages. */
+  abstract String describe();
+
+  private final SharedBundle sharedBundle;
+  private boolean closed = false;
+
+  /**
+   * Creates a lease on a shared bundle.
+   *
+   * @param sharedBundle bundle on which a reference has already been acquired for this lease
+   */
+  BundleLease(SharedBundle sharedBundle) {
+    this.sharedBundle = sharedBundle;
+  }
+}
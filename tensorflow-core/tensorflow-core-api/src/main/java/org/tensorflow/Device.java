@@ -0,0 +1,63 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+/**
+ * A device available to a {@link Session} or an {@link EagerSession} for computing operations.
+ *
+ * <p>The name of a device can be used to place operations on it, for example with {@link
+ * OperationBuilder#setDevice(String)} or {@link org.tensorflow.op.Scope#withDevice(String)}.
+ *
+ * @see Session#listDevices()
+ * @see EagerSession#listDevices()
+ */
+public final class Device {
+
+  /**
+   * Returns the fully qualified name of this device.
+   *
+   * <p>e.g. {@code /job:localhost/replica:0/task:0/device:CPU:0}
+   */
+  public String name() {
+    return name;
+  }
+
+  /** Returns the type of this device, e.g. {@code CPU} or {@code GPU}. */
+  public String type() {
+    return type;
+  }
+
+  /** Returns the amount of memory of this device, in bytes. */
+  public long memoryBytes() {
+    return memoryBytes;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("<%s '%s', %d bytes>", type, name, memoryBytes);
+  }
+
+  private final String name;
+  private final String type;
+  private final long memoryBytes;
+
+  // Invoked from native code
+  Device(String name, String type, long memoryBytes) {
+    this.name = name;
+    this.type = type;
+    this.memoryBytes = memoryBytes;
+  }
+}
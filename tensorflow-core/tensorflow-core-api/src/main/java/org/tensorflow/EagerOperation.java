@@ -15,6 +15,9 @@ limitations under the License.
 
 package org.tensorflow;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.tensorflow.tools.Shape;
 
@@ -38,8 +41,11 @@ class EagerOperation extends AbstractOperation {
     this.session = session;
     this.type = type;
     this.name = name;
-    this.nativeRef = new NativeReference(session, this, opNativeHandle, outputNativeHandles);
+    this.nativeRef =
+        new NativeReference(session, this, opNativeHandle, outputNativeHandles, type);
     this.outputTensors = new AtomicReferenceArray<>(outputNativeHandles.length);
+    this.outputShapes = new AtomicReferenceArray<>(outputNativeHandles.length);
+    this.outputDataTypes = new AtomicReferenceArray<>(outputNativeHandles.length);
   }
 
   @Override
@@ -75,29 +81,48 @@ class EagerOperation extends AbstractOperation {
   @Override
   public Shape shape(int outputIndex) {
     // If the tensor of this output has already been resolved, return its shape.
-    // Otherwise, retrieve the tensor shape from the native library.
+    // Otherwise, retrieve the tensor shape from the native library, in a single call, and keep it
+    // for subsequent requests.
     Tensor<?> tensor = outputTensors.get(outputIndex);
     if (tensor != null) {
       return tensor.shape();
     }
-    long outputNativeHandle = getUnsafeNativeHandle(outputIndex);
-    long[] shape = new long[numDims(outputNativeHandle)];
-    for (int i = 0; i < shape.length; ++i) {
-      shape[i] = dim(outputNativeHandle, i);
+    Shape shape = outputShapes.get(outputIndex);
+    if (shape == null) {
+      shape = Shape.make(shape(getUnsafeNativeHandle(outputIndex)));
+      outputShapes.lazySet(outputIndex, shape);
     }
-    return Shape.make(shape);
+    return shape;
   }
 
   @Override
   public DataType<?> dtype(int outputIndex) {
     // If the tensor of this output has already been resolved, return its datatype.
-    // Otherwise, retrieve the tensor datatype from the native library.
+    // Otherwise, retrieve the tensor datatype from the native library and keep it for subsequent
+    // requests.
     Tensor<?> tensor = outputTensors.get(outputIndex);
     if (tensor != null) {
       return tensor.dataType();
     }
-    long outputNativeHandle = getUnsafeNativeHandle(outputIndex);
-    return DataTypes.fromNativeCode(dataType(outputNativeHandle));
+    DataType<?> dataType = outputDataTypes.get(outputIndex);
+    if (dataType == null) {
+      dataType = DataTypes.fromNativeCode(dataType(getUnsafeNativeHandle(outputIndex)));
+      outputDataTypes.lazySet(outputIndex, dataType);
+    }
+    return dataType;
+  }
+
+  @Override
+  ByteBuffer readBytes(int outputIndex, long byteOffset, int numBytes) {
+    if (byteOffset < 0 || numBytes < 0) {
+      throw new IndexOutOfBoundsException(
+          "Cannot read " + numBytes + " bytes at offset " + byteOffset);
+    }
+    // Copy the bytes directly from the tensor handle, without attaching a new tensor to the
+    // session
+    byte[] bytes = new byte[numBytes];
+    readBytes(getUnsafeNativeHandle(outputIndex), byteOffset, bytes);
+    return ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
   }
 
   @Override
@@ -109,11 +134,24 @@ class EagerOperation extends AbstractOperation {
     return tensor;
   }
 
+  @Override
+  CompletableFuture<Tensor<?>> tensorAsync(final int outputIndex) {
+    Tensor<?> tensor = outputTensors.get(outputIndex);
+    if (tensor != null) {
+      return CompletableFuture.completedFuture(tensor);
+    }
+    // Resolving a tensor blocks until the operation has been executed, so do it in a separate
+    // thread to release the caller
+    return session.resolveAsync(() -> tensor(outputIndex));
+  }
+
   private final EagerSession session;
   private final NativeReference nativeRef;
   private final String type;
   private final String name;
   private final AtomicReferenceArray<Tensor<?>> outputTensors;
+  private final AtomicReferenceArray<Shape> outputShapes;
+  private final AtomicReferenceArray<DataType<?>> outputDataTypes;
 
   private Tensor<?> resolveTensor(int outputIndex) {
     // Take an optimistic approach, where we attempt to resolve the output tensor without locking.
@@ -131,10 +169,16 @@ class EagerOperation extends AbstractOperation {
   private static class NativeReference extends EagerSession.NativeReference {
 
     NativeReference(
-        EagerSession session, EagerOperation operation, long opHandle, long[] outputHandles) {
+        EagerSession session,
+        EagerOperation operation,
+        long opHandle,
+        long[] outputHandles,
+        String type) {
       super(session, operation);
       this.opHandle = opHandle;
       this.outputHandles = outputHandles;
+      this.type = type;
+      this.opHandleCache = session.opHandleCache();
     }
 
     @Override
@@ -146,16 +190,21 @@ class EagerOperation extends AbstractOperation {
             outputHandles[i] = 0L;
           }
         }
-        EagerOperation.delete(opHandle);
+        // Give the op handle back to the session so it can be reused, if possible
+        if (!opHandleCache.offer(type, opHandle)) {
+          EagerOperation.delete(opHandle);
+        }
         opHandle = 0L;
       }
     }
 
     private long opHandle;
     private final long[] outputHandles;
+    private final String type;
+    private final EagerSession.OpHandleCache opHandleCache;
   }
-  
-  private static native void delete(long handle);
+
+  static native void delete(long handle);
 
   private static native void deleteTensorHandle(long handle);
 
@@ -167,7 +216,7 @@ class EagerOperation extends AbstractOperation {
 
   private static native int dataType(long handle);
 
-  private static native int numDims(long handle);
+  private static native long[] shape(long handle);
 
-  private static native long dim(long handle, int index);
+  private static native void readBytes(long handle, long byteOffset, byte[] dst);
 }
@@ -28,7 +28,7 @@ final class EagerOperationBuilder implements OperationBuilder {
     this.session = session;
     this.type = type;
     this.name = name;
-    this.nativeRef = new NativeReference(session, this, allocate(session.nativeHandle(), type));
+    this.nativeRef = new NativeReference(session, this, allocateOrReuse(session, type));
   }
 
   @Override
@@ -218,8 +218,29 @@ final class EagerOperationBuilder implements OperationBuilder {
   private final String name;
   private final NativeReference nativeRef;
 
+  /**
+   * Returns a native handle for a new operation of the given type, reusing an idle one from the
+   * session if available.
+   */
+  private static long allocateOrReuse(EagerSession session, String type) {
+    long ctxHandle = session.nativeHandle();
+    long opHandle = session.opHandleCache().poll(type);
+    if (opHandle != 0L) {
+      try {
+        reset(ctxHandle, opHandle, type);
+        return opHandle;
+      } catch (RuntimeException e) {
+        // Resetting is a best effort, fallback to a new handle if it failed
+        delete(opHandle);
+      }
+    }
+    return allocate(ctxHandle, type);
+  }
+
   private static native long allocate(long ctxHandle, String type);
 
+  private static native void reset(long ctxHandle, long opHandle, String type);
+
   private static native void delete(long opHandle);
 
   private static native long[] execute(long opHandle);
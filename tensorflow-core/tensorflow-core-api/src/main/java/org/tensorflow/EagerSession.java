@@ -18,10 +18,26 @@ package org.tensorflow;
 import java.lang.ref.PhantomReference;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
-import java.util.IdentityHashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * An environment for executing TensorFlow operations eagerly.
@@ -127,6 +143,10 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
      *
      * <p>Synchronous execution is used by default.
      *
+     * <p>In asynchronous mode, errors raised while executing an operation are not reported when the
+     * operation is built but when its outputs are resolved or when {@link EagerSession#sync()} is
+     * invoked.
+     *
      * @param value true for asynchronous execution, false for synchronous.
      */
     public Options async(boolean value) {
@@ -161,6 +181,28 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
       return this;
     }
 
+    /**
+     * Controls how many native operation handles can be kept idle for reuse, per operation type.
+     *
+     * <p>Executing an operation eagerly normally requires a new native operation handle, which is
+     * released only when the operation is no longer referenced. When this value is greater than 0,
+     * released handles are instead kept by the session and reset to build later operations of the
+     * same type, saving the cost of allocating and deleting them.
+     *
+     * <p>Reusing handles relies on an experimental feature of the TensorFlow runtime and is
+     * therefore disabled (0) by default.
+     *
+     * @param value maximum number of idle handles kept per operation type, 0 to disable reuse
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public Options opHandleCacheSize(int value) {
+      if (value < 0) {
+        throw new IllegalArgumentException("Operation handle cache size cannot be negative");
+      }
+      opHandleCacheSize = value;
+      return this;
+    }
+
     /**
      * Configures the session based on the data found in the provided buffer, which is serialized
      * TensorFlow config proto.
@@ -190,12 +232,14 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
     private boolean async;
     private DevicePlacementPolicy devicePlacementPolicy;
     private ResourceCleanupStrategy resourceCleanupStrategy;
+    private int opHandleCacheSize;
     private byte[] config;
 
     private Options() {
       async = false;
       devicePlacementPolicy = DevicePlacementPolicy.SILENT;
       resourceCleanupStrategy = ResourceCleanupStrategy.IN_BACKGROUND;
+      opHandleCacheSize = 0;
       config = null;
     }
   }
@@ -344,6 +388,41 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
     return new EagerOperationBuilder(this, type, name);
   }
 
+  /**
+   * Returns the devices available to this session.
+   *
+   * <p>Operations can be placed explicitly on any of these devices using their name.
+   *
+   * @throws IllegalStateException if this session has been closed
+   */
+  public List<Device> listDevices() {
+    checkSession();
+    return Collections.unmodifiableList(Arrays.asList(listDevices(nativeHandle)));
+  }
+
+  /** Returns true if operations of this session are executed asynchronously. */
+  public boolean isAsync() {
+    return async;
+  }
+
+  /**
+   * Waits until all operations dispatched to this session have completed.
+   *
+   * <p>This is a synchronization barrier for sessions executing operations asynchronously: once it
+   * returns, the outputs of all operations built before the call are ready. If any of these
+   * operations failed, the error is thrown by this method and cleared from the session, so that it
+   * can continue to be used. In synchronous mode, this method returns immediately.
+   *
+   * @throws TensorFlowException if any pending operation failed
+   * @throws IllegalStateException if this session has been closed
+   */
+  public void sync() {
+    checkSession();
+    if (async) {
+      asyncWait(nativeHandle);
+    }
+  }
+
   long nativeHandle() {
     checkSession();
     return nativeHandle;
@@ -353,6 +432,68 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
     return resourceCleanupStrategy;
   }
 
+  OpHandleCache opHandleCache() {
+    return opHandleCache;
+  }
+
+  /**
+   * Computes a value in a separate thread, typically to wait for the outputs of an operation
+   * without blocking the caller.
+   *
+   * <p>Values are computed by a pool of at most {@link #MAX_RESOLVE_THREADS} threads, created on
+   * first use, so a burst of requests queues up instead of blocking a new thread per request. Idle
+   * threads are released after a while, and all of them when the session is closed. Futures still
+   * pending at that time are completed exceptionally with an {@link IllegalStateException}.
+   *
+   * @param resolver computes the value
+   * @return future completed with the computed value
+   * @throws IllegalStateException if this session has been closed
+   */
+  synchronized <T> CompletableFuture<T> resolveAsync(Supplier<T> resolver) {
+    checkSession();
+    if (resolveService == null) {
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              MAX_RESOLVE_THREADS,
+              MAX_RESOLVE_THREADS,
+              60L,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              RESOLVE_THREADS);
+      executor.allowCoreThreadTimeOut(true);
+      resolveService = executor;
+    }
+    CompletableFuture<T> future = new CompletableFuture<>();
+    pendingResolutions.add(future);
+    future.whenComplete((value, error) -> pendingResolutions.remove(future));
+    resolveService.execute(
+        () -> {
+          if (future.isDone()) {
+            return; // session has been closed before the resolution started
+          }
+          try {
+            future.complete(resolver.get());
+          } catch (Throwable t) {
+            future.completeExceptionally(t);
+          }
+        });
+    return future;
+  }
+
+  /**
+   * Returns statistics on the native resources currently tracked by this session.
+   *
+   * <p>These can be used to monitor if the cleanup of unused resources keeps up with their
+   * allocation, depending on the selected {@link ResourceCleanupStrategy}: if the {@link
+   * ResourceStats#lastCleanupDelayNanos() cleanup delay} keeps growing, garbage-collected
+   * resources are not released as fast as they are collected.
+   *
+   * @return a snapshot of the resource statistics of this session
+   */
+  public ResourceStats resourceStats() {
+    return nativeResources.stats();
+  }
+
   /**
    * A reference to one or more allocated native resources.
    *
@@ -415,52 +556,140 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
     private final NativeResourceCollector nativeResources;
   }
 
+  /**
+   * Statistics on the native resources tracked by an {@link EagerSession}.
+   *
+   * <p>Instances of this class are immutable snapshots, obtained by calling {@link
+   * EagerSession#resourceStats()}.
+   */
+  public static final class ResourceStats {
+
+    /**
+     * Returns the number of native references attached to the session.
+     *
+     * <p>This includes references to objects still in use and references to objects already
+     * garbage-collected but whose resources have not been released yet. The latter cannot be
+     * counted separately until they are drained from the garbage collector queue, so use {@link
+     * #lastCleanupDelayNanos()} to find out how long they wait before being released.
+     */
+    public long attachedReferences() {
+      return attachedReferences;
+    }
+
+    /** Returns the total number of references released after being garbage-collected. */
+    public long releasedReferences() {
+      return releasedReferences;
+    }
+
+    /** Returns the number of references released by the last cleanup batch. */
+    public int lastCleanupBatchSize() {
+      return lastCleanupBatchSize;
+    }
+
+    /**
+     * Returns the time, in nanoseconds, taken by the last cleanup batch to release its references.
+     */
+    public long lastCleanupDurationNanos() {
+      return lastCleanupDurationNanos;
+    }
+
+    /**
+     * Returns the maximum time, in nanoseconds, that the references released by the last cleanup
+     * batch have waited in the garbage collector queue before being released.
+     *
+     * <p>The garbage collector does not tell when it enqueues a reference, so this is measured from
+     * the last time the queue was found empty, which bounds the wait of all references enqueued
+     * since then.
+     */
+    public long lastCleanupDelayNanos() {
+      return lastCleanupDelayNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "attached=%d, released=%d, lastBatchSize=%d, lastBatchDurationNanos=%d, "
+              + "lastBatchDelayNanos=%d",
+          attachedReferences,
+          releasedReferences,
+          lastCleanupBatchSize,
+          lastCleanupDurationNanos,
+          lastCleanupDelayNanos);
+    }
+
+    private final long attachedReferences;
+    private final long releasedReferences;
+    private final int lastCleanupBatchSize;
+    private final long lastCleanupDurationNanos;
+    private final long lastCleanupDelayNanos;
+
+    private ResourceStats(
+        long attachedReferences,
+        long releasedReferences,
+        int lastCleanupBatchSize,
+        long lastCleanupDurationNanos,
+        long lastCleanupDelayNanos) {
+      this.attachedReferences = attachedReferences;
+      this.releasedReferences = releasedReferences;
+      this.lastCleanupBatchSize = lastCleanupBatchSize;
+      this.lastCleanupDurationNanos = lastCleanupDurationNanos;
+      this.lastCleanupDelayNanos = lastCleanupDelayNanos;
+    }
+  }
+
   /**
    * Collects native references attached to this session and releases their resources if they are no
    * longer needed.
+   *
+   * <p>References are tracked in a concurrent map so that threads attaching or detaching resources
+   * do not contend on a single lock. Garbage-collected references are drained from the queue in
+   * batches, and large batches are released in parallel.
    */
   private static class NativeResourceCollector {
 
+    /** Maximum number of references drained from the garbage queue at once. */
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    /** Minimum size of a batch for releasing its references in parallel. */
+    private static final int PARALLEL_CLEANUP_THRESHOLD = 256;
+
     NativeResourceCollector(ReferenceQueue<Object> garbageQueue) {
       this.garbageQueue = garbageQueue;
     }
 
     void attach(NativeReference nativeRef) {
-      synchronized (nativeRefs) {
-        nativeRefs.put(nativeRef, null);
-      }
+      nativeRefs.put(nativeRef, Boolean.TRUE);
     }
 
     void detach(NativeReference nativeRef) {
-      synchronized (nativeRefs) {
-        nativeRefs.remove(nativeRef);
-      }
+      nativeRefs.remove(nativeRef);
     }
 
-    void delete(NativeReference nativeRef) {
-      synchronized (nativeRefs) {
-        if (!nativeRefs.keySet().remove(nativeRef)) {
-          return; // safety check
-        }
+    boolean delete(NativeReference nativeRef) {
+      // Only the thread succeeding to remove the reference is allowed to release its resources
+      if (nativeRefs.remove(nativeRef) == null) {
+        return false; // safety check
       }
       nativeRef.delete();
+      return true;
     }
 
     void deleteAll() {
-      synchronized (nativeRefs) {
-        for (NativeReference nativeRef : nativeRefs.keySet()) {
-          nativeRef.delete();
-        }
-        nativeRefs.clear();
+      for (NativeReference nativeRef : nativeRefs.keySet()) {
+        delete(nativeRef);
       }
     }
 
     void tryCleanup() {
-      Reference<?> nativeRef;
-      synchronized (nativeRefs) {
-        while ((nativeRef = garbageQueue.poll()) != null) {
-          delete((NativeReference) nativeRef);
-        }
+      Reference<?> nativeRef = garbageQueue.poll();
+      if (nativeRef == null) {
+        queueEmptySince = System.nanoTime();
+        return; // fast path, nothing to cleanup
+      }
+      NativeReference[] batch = new NativeReference[MAX_BATCH_SIZE];
+      while (nativeRef != null) {
+        cleanup(nativeRef, batch);
+        nativeRef = garbageQueue.poll();
       }
     }
 
@@ -474,10 +703,16 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
             new Runnable() {
               @Override
               public void run() {
+                NativeReference[] batch = new NativeReference[MAX_BATCH_SIZE];
                 try {
                   while (cleanupInBackground) {
-                    NativeReference nativeRef = (NativeReference) garbageQueue.remove();
-                    delete(nativeRef);
+                    Reference<?> nativeRef = garbageQueue.poll();
+                    if (nativeRef == null) {
+                      nativeRef = garbageQueue.remove();
+                      // the queue remained empty until this reference was enqueued
+                      queueEmptySince = System.nanoTime();
+                    }
+                    cleanup(nativeRef, batch);
                   }
                 } catch (InterruptedException e) {
                   // exit
@@ -495,22 +730,189 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
       cleanupService.shutdownNow(); // returns without waiting for the thread to stop
     }
 
+    ResourceStats stats() {
+      return new ResourceStats(
+          nativeRefs.size(),
+          releasedRefs.sum(),
+          lastCleanupBatchSize,
+          lastCleanupDurationNanos,
+          lastCleanupDelayNanos);
+    }
+
     private final ExecutorService cleanupService = Executors.newSingleThreadExecutor();
-    private final Map<NativeReference, Void> nativeRefs = new IdentityHashMap<>();
+    private final Map<NativeReference, Boolean> nativeRefs = new ConcurrentHashMap<>();
     private final ReferenceQueue<Object> garbageQueue;
+    private final LongAdder releasedRefs = new LongAdder();
     private volatile boolean cleanupInBackground = false;
+    private volatile int lastCleanupBatchSize = 0;
+    private volatile long lastCleanupDurationNanos = 0L;
+    private volatile long lastCleanupDelayNanos = 0L;
+    private volatile long queueEmptySince = System.nanoTime();
+
+    /**
+     * Releases {@code first} and any other reference already pending in the queue, up to the
+     * capacity of {@code batch}.
+     */
+    private void cleanup(Reference<?> first, final NativeReference[] batch) {
+      long startTime = System.nanoTime();
+      // All references of this batch have been enqueued after the queue was last found empty
+      long enqueuedSince = queueEmptySince;
+      int batchSize = 0;
+      Reference<?> nativeRef = first;
+      while (nativeRef != null) {
+        batch[batchSize++] = (NativeReference) nativeRef;
+        if (batchSize == batch.length) {
+          break;
+        }
+        nativeRef = garbageQueue.poll();
+        if (nativeRef == null) {
+          queueEmptySince = System.nanoTime();
+        }
+      }
+      long numReleased = 0;
+      if (batchSize >= PARALLEL_CLEANUP_THRESHOLD) {
+        numReleased = IntStream.range(0, batchSize).parallel().filter(i -> delete(batch[i])).count();
+      } else {
+        for (int i = 0; i < batchSize; ++i) {
+          if (delete(batch[i])) {
+            ++numReleased;
+          }
+        }
+      }
+      Arrays.fill(batch, 0, batchSize, null); // do not retain references between batches
+      releasedRefs.add(numReleased);
+      long endTime = System.nanoTime();
+      lastCleanupBatchSize = batchSize;
+      lastCleanupDurationNanos = endTime - startTime;
+      lastCleanupDelayNanos = endTime - enqueuedSince;
+    }
+  }
+
+  /**
+   * Keeps native operation handles released by this session so they can be reset and reused to
+   * build new operations of the same type.
+   *
+   * <p>Handles are mostly released by the thread cleaning up garbage-collected operations, then
+   * picked up by any thread building a new operation. Therefore, idle handles are shared by all
+   * threads in lock-free queues, one per operation type.
+   */
+  static final class OpHandleCache {
+
+    OpHandleCache(int capacityPerType) {
+      this.capacityPerType = capacityPerType;
+    }
+
+    /**
+     * Takes an idle handle for an operation of the given type.
+     *
+     * @return an operation handle to reset before being used, or 0 if none is available
+     */
+    long poll(String type) {
+      if (capacityPerType == 0) {
+        return 0L;
+      }
+      IdleHandles idleHandles = handlesByType.get(type);
+      if (idleHandles == null) {
+        return 0L;
+      }
+      Long handle = idleHandles.queue.poll();
+      if (handle == null) {
+        return 0L;
+      }
+      idleHandles.size.decrementAndGet();
+      hits.increment();
+      return handle;
+    }
+
+    /** Returns the number of times an idle handle was taken from this cache to be reused. */
+    long hitCount() {
+      return hits.sum();
+    }
+
+    /**
+     * Offers an operation handle that is no longer in use.
+     *
+     * @return true if the cache took ownership of the handle, false if the caller must delete it
+     */
+    boolean offer(String type, long handle) {
+      if (capacityPerType == 0 || closed) {
+        return false;
+      }
+      IdleHandles idleHandles = handlesByType.get(type);
+      if (idleHandles == null) {
+        idleHandles = new IdleHandles();
+        IdleHandles previous = handlesByType.putIfAbsent(type, idleHandles);
+        if (previous != null) {
+          idleHandles = previous;
+        }
+      }
+      if (idleHandles.size.incrementAndGet() > capacityPerType) {
+        idleHandles.size.decrementAndGet();
+        return false;
+      }
+      idleHandles.queue.offer(handle);
+      if (closed) {
+        // the cache was closed concurrently, make sure the handle does not leak
+        deleteIdleHandles(idleHandles);
+      }
+      return true;
+    }
+
+    /** Deletes all idle handles and stops accepting new ones. */
+    void close() {
+      closed = true;
+      for (IdleHandles idleHandles : handlesByType.values()) {
+        deleteIdleHandles(idleHandles);
+      }
+    }
+
+    private static final class IdleHandles {
+      final Queue<Long> queue = new ConcurrentLinkedQueue<>();
+      final AtomicInteger size = new AtomicInteger();
+    }
+
+    private final int capacityPerType;
+    private final ConcurrentMap<String, IdleHandles> handlesByType = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private volatile boolean closed = false;
+
+    private static void deleteIdleHandles(IdleHandles idleHandles) {
+      Long handle;
+      while ((handle = idleHandles.queue.poll()) != null) {
+        idleHandles.size.decrementAndGet();
+        EagerOperation.delete(handle);
+      }
+    }
   }
 
+  /**
+   * Maximum number of threads resolving values asynchronously for a session.
+   *
+   * <p>Operations of a session are executed by TensorFlow independently of these threads, which
+   * only wait for their results, so a few of them are enough to keep up with the runtime.
+   */
+  private static final int MAX_RESOLVE_THREADS =
+      Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  private static final ThreadFactory RESOLVE_THREADS =
+      new DaemonThreadFactory("tensorflow-eager-resolve");
+
   private static volatile EagerSession defaultSession = null;
 
+  private final OpHandleCache opHandleCache;
   private final NativeResourceCollector nativeResources;
   private final ResourceCleanupStrategy resourceCleanupStrategy;
+  private final boolean async;
+  private ExecutorService resolveService = null;
+  private final Set<CompletableFuture<?>> pendingResolutions = ConcurrentHashMap.newKeySet();
   private long nativeHandle;
 
   private EagerSession(Options options, ReferenceQueue<Object> garbageQueue) {
     this.nativeResources = new NativeResourceCollector(garbageQueue);
+    this.opHandleCache = new OpHandleCache(options.opHandleCacheSize);
     this.nativeHandle = allocate(options.async, options.devicePlacementPolicy.code, options.config);
     this.resourceCleanupStrategy = options.resourceCleanupStrategy;
+    this.async = options.async;
 
     if (resourceCleanupStrategy == ResourceCleanupStrategy.IN_BACKGROUND) {
       nativeResources.startCleanupThread();
@@ -528,16 +930,50 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
       if (resourceCleanupStrategy == ResourceCleanupStrategy.IN_BACKGROUND) {
         nativeResources.stopCleanupThread();
       }
+      if (resolveService != null) {
+        stopResolveService();
+      }
+      opHandleCache.close();
       nativeResources.deleteAll();
       delete(nativeHandle);
       nativeHandle = 0L;
     }
   }
 
+  /**
+   * Completes pending resolutions and waits for their threads to return before the native context
+   * is released, since they might still be blocked in a native call using it.
+   */
+  private void stopResolveService() {
+    resolveService.shutdown();
+    for (CompletableFuture<?> future : pendingResolutions) {
+      future.completeExceptionally(new IllegalStateException("Eager session has been closed"));
+    }
+    if (async) {
+      try {
+        asyncWait(nativeHandle); // unblocks threads waiting for an operation to complete
+      } catch (TensorFlowException e) {
+        // ignore, outputs of the failing operations are no longer reachable
+      }
+    }
+    try {
+      while (!resolveService.awaitTermination(1, TimeUnit.SECONDS)) {
+        // keep waiting
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    resolveService = null;
+  }
+
   private static native long allocate(boolean async, int devicePlacementPolicy, byte[] config);
 
   private static native void delete(long handle);
 
+  private static native void asyncWait(long handle);
+
+  private static native Device[] listDevices(long handle);
+
   static {
     TensorFlow.init();
   }
@@ -15,6 +15,8 @@ limitations under the License.
 
 package org.tensorflow;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 import org.tensorflow.tools.Shape;
 
 /**
@@ -147,6 +149,16 @@ public final class GraphOperation extends AbstractOperation {
     throw new IllegalStateException("Graph tensors must be fetched by running a session");
   }
 
+  @Override
+  CompletableFuture<Tensor<?>> tensorAsync(int outputIdx) {
+    throw new IllegalStateException("Graph tensors must be fetched by running a session");
+  }
+
+  @Override
+  ByteBuffer readBytes(int outputIdx, long byteOffset, int numBytes) {
+    throw new IllegalStateException("Graph tensors must be fetched by running a session");
+  }
+
   long getUnsafeNativeHandle() {
     return unsafeNativeHandle;
   }
@@ -0,0 +1,386 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A registry of saved models, loaded on demand and evicted when running short of memory.
+ *
+ * <p>Models are registered by name with the {@link SavedModelBundle.Loader} that loads them, but
+ * are only loaded the first time they are {@link #acquire(String) acquired}. If multiple
+ * threads acquire a model that is not loaded yet, it is loaded only once and all of them wait for
+ * the same bundle.
+ *
+ * <p>The registry keeps track of the approximate native memory used by each bundle, estimated from
+ * the size of its variables and of its graph definition. When the total exceeds the memory budget
+ * of the registry, the least recently used bundles are evicted until it fits again (except for the
+ * last one loaded, which is always retained). An evicted bundle is closed only when all leases
+ * acquired on it have been released, so runs in progress are never interrupted. Acquiring an
+ * evicted model loads it again.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * try (ModelRegistry registry = ModelRegistry.create(4L * 1024 * 1024 * 1024)) {
+ *   registry.register("tenant_a", SavedModelBundle.loader("/models/a").withTags("serve"));
+ *   registry.register("tenant_b", SavedModelBundle.loader("/models/b").withTags("serve"));
+ *   ...
+ *   try (ModelRegistry.Lease lease = registry.acquire("tenant_a")) {
+ *     Tensor<?> result = lease.bundle().function(Signature.DEFAULT_KEY).call(input);
+ *     ...
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Instances of a {@code ModelRegistry} are thread-safe.
+ */
+public final class ModelRegistry implements AutoCloseable {
+
+  /**
+   * Creates a new registry.
+   *
+   * @param memoryBudget approximate amount of native memory, in bytes, that loaded models may use
+   * @return a new registry
+   * @throws IllegalArgumentException if {@code memoryBudget} is not positive
+   */
+  public static ModelRegistry create(long memoryBudget) {
+    if (memoryBudget <= 0) {
+      throw new IllegalArgumentException("Memory budget must be positive");
+    }
+    return new ModelRegistry(memoryBudget);
+  }
+
+  /** A model acquired from the registry. */
+  public static final class Lease extends BundleLease {
+
+    /** Returns the name of the model. */
+    public String name() {
+      return model.name;
+    }
+
+    @Override
+    String describe() {
+      return "model '" + model.name + "'";
+    }
+
+    private final Model model;
+
+    private Lease(Model model) {
+      super(model.sharedBundle);
+      this.model = model;
+    }
+  }
+
+  /**
+   * Registers a model.
+   *
+   * <p>The model is not loaded until it is acquired for the first time.
+   *
+   * @param name name of the model
+   * @param loader loader of the model
+   * @throws IllegalArgumentException if a model is already registered with this name
+   * @throws IllegalStateException if this registry has been closed
+   */
+  public void register(String name, SavedModelBundle.Loader loader) {
+    synchronized (lock) {
+      checkNotClosed();
+      if (loaders.putIfAbsent(name, loader) != null) {
+        throw new IllegalArgumentException("A model named '" + name + "' is already registered");
+      }
+    }
+  }
+
+  /**
+   * Unregisters a model.
+   *
+   * <p>If the model is loaded, it is evicted from the registry and its bundle is closed once all of
+   * its leases are released.
+   *
+   * @param name name of the model
+   * @return true if a model was registered with this name
+   */
+  public boolean unregister(String name) {
+    Model evicted;
+    synchronized (lock) {
+      if (loaders.remove(name) == null) {
+        return false;
+      }
+      evicted = models.remove(name);
+    }
+    if (evicted != null) {
+      evicted.sharedBundle.release();
+    }
+    return true;
+  }
+
+  /**
+   * Acquires a model, loading it if required.
+   *
+   * <p>If the model is being loaded by another thread, this method waits until that load completes.
+   *
+   * @param name name of the model
+   * @return a lease on the model, that must be closed once the model is no longer used
+   * @throws IllegalArgumentException if no model is registered with this name
+   * @throws IllegalStateException if this registry has been closed
+   * @throws TensorFlowException if the model failed to load
+   */
+  public Lease acquire(String name) {
+    while (true) {
+      SavedModelBundle.Loader loader;
+      CompletableFuture<Model> pendingLoad;
+      boolean loadHere = false;
+      synchronized (lock) {
+        checkNotClosed();
+        Model model = models.get(name);
+        if (model != null) {
+          // always succeeds, as the registry holds a reference on the models it contains
+          model.sharedBundle.tryAcquire();
+          return new Lease(model);
+        }
+        loader = loaders.get(name);
+        if (loader == null) {
+          throw new IllegalArgumentException("No model named '" + name + "' is registered");
+        }
+        pendingLoad = pendingLoads.get(name);
+        if (pendingLoad == null) {
+          pendingLoad = new CompletableFuture<>();
+          pendingLoads.put(name, pendingLoad);
+          loadHere = true;
+        }
+      }
+      if (loadHere) {
+        return load(name, loader, pendingLoad);
+      }
+      Model model;
+      try {
+        model = pendingLoad.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw e;
+      }
+      synchronized (lock) {
+        // The model might have been evicted right after being loaded, in which case we retry
+        if (models.get(name) == model && model.sharedBundle.tryAcquire()) {
+          return new Lease(model);
+        }
+      }
+    }
+  }
+
+  /** Returns true if the model registered with this name is currently loaded. */
+  public boolean isLoaded(String name) {
+    synchronized (lock) {
+      return models.containsKey(name);
+    }
+  }
+
+  /**
+   * Returns the approximate amount of native memory, in bytes, used by all loaded models.
+   *
+   * <p>This includes evicted models whose bundle is still open because some of their leases have
+   * not been released yet.
+   */
+  public long memoryUsage() {
+    synchronized (lock) {
+      return memoryUsage;
+    }
+  }
+
+  /** Returns the amount of native memory, in bytes, that loaded models may use. */
+  public long memoryBudget() {
+    return memoryBudget;
+  }
+
+  /**
+   * Closes this registry and all its models.
+   *
+   * <p>Models still acquired are closed as soon as their leases are released.
+   */
+  @Override
+  public void close() {
+    List<Model> evicted = new ArrayList<>();
+    synchronized (lock) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      evicted.addAll(models.values());
+      models.clear();
+      loaders.clear();
+    }
+    for (Model model : evicted) {
+      model.sharedBundle.release();
+    }
+  }
+
+  /**
+   * Estimates the native memory used by a bundle, from the size of its variables and graph.
+   *
+   * @param exportDir directory of the saved model
+   * @param bundle the loaded bundle
+   * @return an approximate size, in bytes
+   */
+  static long estimateMemoryUsage(String exportDir, SavedModelBundle bundle) {
+    long size = bundle.metaGraphDef() != null ? bundle.metaGraphDef().length : 0L;
+    Path variablesDir = Paths.get(exportDir, "variables");
+    if (Files.isDirectory(variablesDir)) {
+      try (Stream<Path> files = Files.walk(variablesDir)) {
+        size +=
+            files
+                .filter(Files::isRegularFile)
+                .mapToLong(
+                    f -> {
+                      try {
+                        return Files.size(f);
+                      } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                      }
+                    })
+                .sum();
+      } catch (IOException | UncheckedIOException e) {
+        // keep the estimate based on the graph only
+      }
+    }
+    return size;
+  }
+
+  /** A model loaded in the registry. */
+  private static final class Model {
+
+    Model(String name, long memoryUsage, SharedBundle sharedBundle) {
+      this.name = name;
+      this.memoryUsage = memoryUsage;
+      this.sharedBundle = sharedBundle;
+    }
+
+    private final String name;
+    private final long memoryUsage;
+
+    // The registry holds the first reference on the bundle, released when the model is evicted
+    private final SharedBundle sharedBundle;
+  }
+
+  private final Object lock = new Object();
+  private final long memoryBudget;
+  private final Map<String, SavedModelBundle.Loader> loaders = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Model>> pendingLoads = new HashMap<>();
+  private final LinkedHashMap<String, Model> models = new LinkedHashMap<>(16, 0.75f, true);
+  private long memoryUsage = 0L;
+  private boolean closed = false;
+
+  private ModelRegistry(long memoryBudget) {
+    this.memoryBudget = memoryBudget;
+  }
+
+  private Lease load(
+      String name, SavedModelBundle.Loader loader, CompletableFuture<Model> pendingLoad) {
+    Model model;
+    try {
+      SavedModelBundle bundle = loader.load();
+      long bundleMemoryUsage = estimateMemoryUsage(loader.exportDir(), bundle);
+      model =
+          new Model(
+              name,
+              bundleMemoryUsage,
+              new SharedBundle(bundle, b -> closeBundle(b, bundleMemoryUsage)));
+    } catch (Throwable e) {
+      // Complete the load on any failure, including errors, so waiting threads are released
+      synchronized (lock) {
+        pendingLoads.remove(name);
+      }
+      pendingLoad.completeExceptionally(e);
+      throw e;
+    }
+    List<Model> evicted = new ArrayList<>();
+    boolean discarded;
+    synchronized (lock) {
+      pendingLoads.remove(name);
+      discarded = closed || loaders.get(name) != loader;
+      if (!discarded) {
+        model.sharedBundle.tryAcquire();
+        models.put(name, model);
+        memoryUsage += model.memoryUsage;
+        evictLeastRecentlyUsed(model, evicted);
+      }
+    }
+    pendingLoad.complete(model);
+    for (Model m : evicted) {
+      m.sharedBundle.release();
+    }
+    if (discarded) {
+      // The registry was closed or the model unregistered while loading, discard the bundle
+      // without going through its shared reference, as its memory has never been counted
+      model.sharedBundle.bundle().close();
+      checkNotClosed();
+      throw new IllegalArgumentException(
+          "Model '" + name + "' has been unregistered while loading");
+    }
+    return new Lease(model);
+  }
+
+  // Must be called while holding the lock. Evicted models must be released once the lock is freed.
+  private void evictLeastRecentlyUsed(Model retained, List<Model> evicted) {
+    Iterator<Model> models = this.models.values().iterator();
+    long remainingUsage = memoryUsage;
+    while (remainingUsage > memoryBudget && models.hasNext()) {
+      Model model = models.next();
+      if (model != retained) {
+        models.remove();
+        evicted.add(model);
+        remainingUsage -= model.memoryUsage;
+      }
+    }
+  }
+
+  /**
+   * Closes the bundle of a model that is no longer retained by the registry nor leased, and
+   * releases its memory.
+   */
+  private void closeBundle(SavedModelBundle bundle, long bundleMemoryUsage) {
+    synchronized (lock) {
+      memoryUsage -= bundleMemoryUsage;
+    }
+    bundle.close();
+  }
+
+  private void checkNotClosed() {
+    synchronized (lock) {
+      if (closed) {
+        throw new IllegalStateException("Model registry has been closed");
+      }
+    }
+  }
+}
@@ -19,6 +19,31 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.channels.FileLock;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
 
 /**
  * Helper class for loading the TensorFlow Java native library.
@@ -38,14 +63,27 @@ import java.io.InputStream;
  * set of ClassLoader resources (under org/tensorflow/native/OS-ARCH). The resources paths used for
  * lookup must be consistent with any packaging (such as on Maven Central) of the TensorFlow Java
  * native libraries.
+ *
+ * <p>Libraries extracted from the resources are copied to a new temporary directory that is deleted
+ * when the JVM exits. Alternatively, they can be cached in a directory that persists across JVM
+ * runs, so that they are extracted only once per version, by setting the
+ * org.tensorflow.NativeLibrary.CACHE_DIR system property to the path of this directory. The cache
+ * directory is created if it does not exist, and is only used if it is owned by the current user
+ * and, on POSIX file systems, only accessible by this user (mode 0700). Since no other user can
+ * write to it, cached libraries are identified by the metadata of their resource (location, size,
+ * modification time and checksum recorded in the archive) and are not read again when reused.
  */
 final class NativeLibrary {
   private static final boolean DEBUG =
       System.getProperty("org.tensorflow.NativeLibrary.DEBUG") != null;
   private static final String JNI_LIBNAME = "tensorflow_jni";
+  private static final String CACHE_DIR_PROPERTY = "org.tensorflow.NativeLibrary.CACHE_DIR";
+  private static final Map<String, Long> loadTimes = new LinkedHashMap<>();
 
   public static void load() {
+    long time = System.nanoTime();
     org.bytedeco.javacpp.Loader.load(org.tensorflow.internal.c_api.global.tensorflow.class);
+    time = recordLoadTime("javacpp", time);
 
     if (isLoaded() || tryLoadLibrary()) {
       // Either:
@@ -56,6 +94,7 @@ final class NativeLibrary {
       // tensorflow/contrib/android include the required native code in differently named libraries.
       //
       // Doesn't matter how, but it seems the native code is loaded, so nothing else to do.
+      recordLoadTime("lookup", time);
       return;
     }
     // Native code is not present, perhaps it has been packaged into the .jar file containing this.
@@ -63,15 +102,14 @@ final class NativeLibrary {
     final String jniLibName = System.mapLibraryName(JNI_LIBNAME);
     final String jniResourceName = makeResourceName(jniLibName);
     log("jniResourceName: " + jniResourceName);
-    final InputStream jniResource =
-        NativeLibrary.class.getClassLoader().getResourceAsStream(jniResourceName);
+    final URL jniResource = NativeLibrary.class.getClassLoader().getResource(jniResourceName);
     // Extract the JNI's dependency
     final String frameworkLibName =
         getVersionedLibraryName(System.mapLibraryName("tensorflow_framework"));
     final String frameworkResourceName = makeResourceName(frameworkLibName);
     log("frameworkResourceName: " + frameworkResourceName);
-    final InputStream frameworkResource =
-        NativeLibrary.class.getClassLoader().getResourceAsStream(frameworkResourceName);
+    final URL frameworkResource =
+        NativeLibrary.class.getClassLoader().getResource(frameworkResourceName);
     // Do not complain if the framework resource wasn't found. This may just mean that we're
     // building with --config=monolithic (in which case it's not needed and not included).
     if (jniResource == null) {
@@ -84,15 +122,12 @@ final class NativeLibrary {
                   + " org.tensorflow.NativeLibrary.DEBUG=1 to the system properties of the JVM.",
               os(), architecture()));
     }
+    time = recordLoadTime("lookup", time);
+
     try {
-      // Create a temporary directory for the extracted resource and its dependencies.
-      final File tempPath = createTemporaryDirectory();
-      // Deletions are in the reverse order of requests, so we need to request that the directory be
-      // deleted first, so that it is empty when the request is fulfilled.
-      tempPath.deleteOnExit();
-      final String tempDirectory = tempPath.getCanonicalPath();
+      List<Library> libraries = new ArrayList<>();
       if (frameworkResource != null) {
-        extractResource(frameworkResource, frameworkLibName, tempDirectory);
+        libraries.add(new Library(frameworkLibName, frameworkResource));
       } else {
         log(
             frameworkResourceName
@@ -100,7 +135,8 @@ final class NativeLibrary {
                 + jniResourceName
                 + " is not built to depend on it.");
       }
-      System.load(extractResource(jniResource, jniLibName, tempDirectory));
+      libraries.add(new Library(jniLibName, jniResource));
+      extractAndLink(libraries, jniLibName, time);
     } catch (IOException e) {
       throw new UnsatisfiedLinkError(
           String.format(
@@ -108,6 +144,252 @@ final class NativeLibrary {
     }
   }
 
+  /**
+   * Returns the time spent in each phase of loading the native library, in nanoseconds.
+   *
+   * <p>Phases are listed in the order they have been executed:
+   *
+   * <ul>
+   *   <li>{@code javacpp}: loading the native C API bindings
+   *   <li>{@code lookup}: looking for an already loaded library, in the library path or in the
+   *       resources of the class path
+   *   <li>{@code extract}: extracting the library from the resources, or retrieving it from the
+   *       extraction cache
+   *   <li>{@code link}: linking the extracted library to the JVM
+   * </ul>
+   *
+   * <p>Phases that have not been executed, because the library was found without being extracted,
+   * are not listed.
+   */
+  static synchronized Map<String, Long> loadTimes() {
+    return Collections.unmodifiableMap(new LinkedHashMap<>(loadTimes));
+  }
+
+  /** A native library packaged as a resource. */
+  private static final class Library {
+
+    Library(String name, URL resource) {
+      this.name = name;
+      this.resource = resource;
+    }
+
+    InputStream open() throws IOException {
+      return resource.openStream();
+    }
+
+    private final String name;
+    private final URL resource;
+  }
+
+  /**
+   * Metadata identifying the version of a packaged library, read without decompressing it.
+   *
+   * <p>This is only required when the libraries are cached.
+   */
+  private static final class LibraryMetadata {
+
+    LibraryMetadata(Library library) throws IOException {
+      this.library = library;
+      final URLConnection connection = library.resource.openConnection();
+      if (connection instanceof JarURLConnection) {
+        final JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+        this.size = entry.getSize();
+        this.lastModified = entry.getTime();
+        this.crc = entry.getCrc();
+      } else {
+        this.size = connection.getContentLengthLong();
+        this.lastModified = connection.getLastModified();
+        this.crc = -1L;
+        connection.getInputStream().close();
+      }
+      if (size < 0) {
+        throw new IOException("Cannot find out the size of " + library.resource);
+      }
+    }
+
+    private final Library library;
+    private final long size;
+    private final long lastModified;
+    private final long crc; // -1 if unknown
+  }
+
+  private static void extractAndLink(List<Library> libraries, String jniLibName, long time)
+      throws IOException {
+    final String cacheDirectory = System.getProperty(CACHE_DIR_PROPERTY);
+    if (cacheDirectory != null && !cacheDirectory.isEmpty()) {
+      final File cacheRoot = new File(cacheDirectory);
+      try {
+        extractToCacheAndLink(libraries, jniLibName, cacheRoot, time);
+        return;
+      } catch (IOException | RuntimeException e) {
+        // Don't fail because of the cache, extracting the libraries as usual should still work
+        log("failed to use the native library cache in " + cacheRoot + ": " + e.toString());
+      }
+    }
+    // Create a temporary directory for the extracted resource and its dependencies.
+    final File tempPath = createTemporaryDirectory();
+    // Deletions are in the reverse order of requests, so we need to request that the directory be
+    // deleted first, so that it is empty when the request is fulfilled.
+    tempPath.deleteOnExit();
+    final String tempDirectory = tempPath.getCanonicalPath();
+    for (Library library : libraries) {
+      extractResource(library.open(), library.name, tempDirectory);
+    }
+    link(new File(tempDirectory, jniLibName), time);
+  }
+
+  /**
+   * Extracts libraries to a persistent cache directory, unless they already have been, and links
+   * them to the JVM.
+   *
+   * <p>Libraries are extracted to a directory named after a hash of their metadata, so different
+   * versions of the libraries never share the same directory. A file lock prevents concurrent JVMs
+   * from extracting the same libraries simultaneously, and each library is first extracted to a
+   * temporary file, then atomically renamed once its size and checksum have been verified. A
+   * library found in the cache is therefore complete and only needs to be of the expected size to
+   * be reused. The libraries are linked before releasing the lock, so that they cannot be replaced
+   * between their verification and their loading.
+   */
+  private static void extractToCacheAndLink(
+      List<Library> libraries, String jniLibName, File cacheRoot, long time) throws IOException {
+    checkCacheRoot(cacheRoot.toPath());
+    final List<LibraryMetadata> metadata = new ArrayList<>();
+    for (Library library : libraries) {
+      metadata.add(new LibraryMetadata(library));
+    }
+    final File cacheDir = new File(cacheRoot, cacheKey(metadata));
+    if (!cacheDir.isDirectory() && !cacheDir.mkdirs() && !cacheDir.isDirectory()) {
+      throw new IOException("Cannot create directory " + cacheDir);
+    }
+    final File lockFile = new File(cacheRoot, cacheDir.getName() + ".lock");
+    try (RandomAccessFile lockAccess = new RandomAccessFile(lockFile, "rw");
+        FileLock lock = lockAccess.getChannel().lock()) {
+      for (LibraryMetadata libraryMetadata : metadata) {
+        final Library library = libraryMetadata.library;
+        final File dst = new File(cacheDir, library.name);
+        if (dst.isFile() && dst.length() == libraryMetadata.size) {
+          log("reusing cached native library: " + dst);
+          continue;
+        }
+        final File tmp = File.createTempFile(library.name, ".tmp", cacheDir);
+        try {
+          log("extracting native library to cache: " + dst);
+          final CRC32 crc = new CRC32();
+          final long nbytes = copy(library.open(), tmp, crc);
+          if (nbytes != libraryMetadata.size
+              || (libraryMetadata.crc >= 0 && crc.getValue() != libraryMetadata.crc)) {
+            throw new IOException("Checksum mismatch when extracting " + library.name);
+          }
+          if (dst.exists() && !dst.delete()) {
+            throw new IOException("Cannot replace invalid cached library " + dst);
+          }
+          if (!tmp.renameTo(dst)) {
+            throw new IOException("Cannot rename " + tmp + " to " + dst);
+          }
+        } finally {
+          // no-op if the file has been renamed successfully
+          tmp.delete();
+        }
+      }
+      link(new File(cacheDir, jniLibName), time);
+    }
+  }
+
+  /**
+   * Creates the root of the cache if needed, and checks that it is a directory owned by the
+   * current user that other users cannot access.
+   */
+  private static void checkCacheRoot(Path cacheRoot) throws IOException {
+    final boolean posix =
+        FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    if (!Files.exists(cacheRoot, LinkOption.NOFOLLOW_LINKS)) {
+      if (posix) {
+        Files.createDirectories(
+            cacheRoot, PosixFilePermissions.asFileAttribute(PRIVATE_DIRECTORY_PERMISSIONS));
+      } else {
+        Files.createDirectories(cacheRoot);
+      }
+    }
+    if (!Files.isDirectory(cacheRoot, LinkOption.NOFOLLOW_LINKS)) {
+      throw new IOException(cacheRoot + " is not a directory");
+    }
+    final UserPrincipal currentUser =
+        FileSystems.getDefault()
+            .getUserPrincipalLookupService()
+            .lookupPrincipalByName(System.getProperty("user.name"));
+    if (!currentUser.equals(Files.getOwner(cacheRoot, LinkOption.NOFOLLOW_LINKS))) {
+      throw new IOException(cacheRoot + " is not owned by the current user");
+    }
+    if (posix) {
+      final Set<PosixFilePermission> permissions =
+          Files.getFileAttributeView(
+                  cacheRoot, PosixFileAttributeView.class, LinkOption.NOFOLLOW_LINKS)
+              .readAttributes()
+              .permissions();
+      if (!permissions.equals(PRIVATE_DIRECTORY_PERMISSIONS)) {
+        throw new IOException(
+            cacheRoot
+                + " must only be accessible by its owner (mode 0700), but has permissions "
+                + PosixFilePermissions.toString(permissions));
+      }
+    }
+  }
+
+  private static final Set<PosixFilePermission> PRIVATE_DIRECTORY_PERMISSIONS =
+      PosixFilePermissions.fromString("rwx------");
+
+  private static void link(File jniLib, long time) {
+    time = recordLoadTime("extract", time);
+    System.load(jniLib.getPath());
+    recordLoadTime("link", time);
+  }
+
+  private static String cacheKey(List<LibraryMetadata> metadata) {
+    StringBuilder key = new StringBuilder();
+    for (LibraryMetadata libraryMetadata : metadata) {
+      key.append(libraryMetadata.library.name)
+          .append(':')
+          .append(libraryMetadata.library.resource)
+          .append(':')
+          .append(libraryMetadata.size)
+          .append(':')
+          .append(libraryMetadata.lastModified)
+          .append(':')
+          .append(libraryMetadata.crc)
+          .append(';');
+    }
+    try {
+      return toHex(sha256().digest(key.toString().getBytes("UTF-8"))).substring(0, 32);
+    } catch (UnsupportedEncodingException e) {
+      // UTF-8 is required to be supported by all Java platforms
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is required to be supported by all Java platforms
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    final StringBuilder hex = new StringBuilder();
+    for (byte b : bytes) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  private static synchronized long recordLoadTime(String phase, long startTime) {
+    final long endTime = System.nanoTime();
+    loadTimes.put(phase, endTime - startTime);
+    log(String.format("%s took %d ms", phase, TimeUnit.NANOSECONDS.toMillis(endTime - startTime)));
+    return endTime;
+  }
+
   private static boolean tryLoadLibrary() {
     try {
       System.loadLibrary(JNI_LIBNAME);
@@ -196,7 +478,7 @@ final class NativeLibrary {
     dst.deleteOnExit();
     final String dstPath = dst.toString();
     log("extracting native library to: " + dstPath);
-    final long nbytes = copy(resource, dst);
+    final long nbytes = copy(resource, dst, null);
     log(String.format("copied %d bytes to %s", nbytes, dstPath));
     return dstPath;
   }
@@ -229,7 +511,7 @@ final class NativeLibrary {
     return "org/tensorflow/native/" + String.format("%s-%s/", os(), architecture()) + baseName;
   }
 
-  private static long copy(InputStream src, File dstFile) throws IOException {
+  private static long copy(InputStream src, File dstFile, CRC32 crc) throws IOException {
     FileOutputStream dst = new FileOutputStream(dstFile);
     try {
       byte[] buffer = new byte[1 << 20]; // 1MB
@@ -237,6 +519,9 @@ final class NativeLibrary {
       int n = 0;
       while ((n = src.read(buffer)) >= 0) {
         dst.write(buffer, 0, n);
+        if (crc != null) {
+          crc.update(buffer, 0, n);
+        }
         ret += n;
       }
       return ret;
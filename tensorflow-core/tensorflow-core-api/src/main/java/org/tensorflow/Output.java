@@ -15,8 +15,15 @@ limitations under the License.
 
 package org.tensorflow;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import org.tensorflow.tools.Shape;
+import org.tensorflow.types.TBool;
+import org.tensorflow.types.TDouble;
+import org.tensorflow.types.TFloat;
+import org.tensorflow.types.TInt32;
+import org.tensorflow.types.TInt64;
 import org.tensorflow.types.family.TType;
 
 /**
@@ -70,6 +77,93 @@ public final class Output<T extends TType> implements Operand<T> {
     return (Tensor<T>) operation.tensor(index);
   }
 
+  /**
+   * Returns a future completed with the tensor at this output, once it is ready.
+   *
+   * <p>When an {@link EagerSession} executes operations asynchronously, the tensor of an output
+   * might not be computed yet when the operation returns. While {@link #tensor()} blocks until it
+   * is, this method returns immediately. If the operation failed, the future is completed
+   * exceptionally with the error.
+   *
+   * <p>The same recommendations as for {@link #tensor()} apply to the tensor of the future.
+   *
+   * @return future tensor
+   * @throws IllegalStateException if this output results from a graph
+   * @see EagerSession#sync()
+   */
+  @SuppressWarnings("unchecked")
+  public CompletableFuture<Tensor<T>> tensorAsync() {
+    return operation.tensorAsync(index).thenApply(t -> (Tensor<T>) t);
+  }
+
+  /**
+   * Reads a slice of the raw data of the tensor at this output.
+   *
+   * <p>This operation is only supported on the outputs of an operation executed eagerly. Unlike
+   * {@link #tensor()}, the bytes are copied directly from the native handle of the output, without
+   * resolving a new {@link Tensor} in the session, which makes it cheaper for reading scalars or
+   * small slices of data. Tensors of variable-length elements, like strings, are not supported.
+   *
+   * @param byteOffset offset of the first byte to read in the tensor data
+   * @param numBytes number of bytes to read
+   * @return a new buffer of {@code numBytes} bytes, in native byte order
+   * @throws IllegalStateException if this output results from a graph
+   * @throws IndexOutOfBoundsException if the slice exceeds the bounds of the tensor data
+   */
+  public ByteBuffer readBytes(long byteOffset, int numBytes) {
+    return operation.readBytes(index, byteOffset, numBytes);
+  }
+
+  /**
+   * Returns the value of a scalar {@link TFloat} tensor at this output.
+   *
+   * @throws IllegalArgumentException if this output is not a float scalar
+   * @see #readBytes(long, int)
+   */
+  public float floatValue() {
+    return readScalar(TFloat.DTYPE).getFloat(0);
+  }
+
+  /**
+   * Returns the value of a scalar {@link TDouble} tensor at this output.
+   *
+   * @throws IllegalArgumentException if this output is not a double scalar
+   * @see #readBytes(long, int)
+   */
+  public double doubleValue() {
+    return readScalar(TDouble.DTYPE).getDouble(0);
+  }
+
+  /**
+   * Returns the value of a scalar {@link TInt32} tensor at this output.
+   *
+   * @throws IllegalArgumentException if this output is not an int scalar
+   * @see #readBytes(long, int)
+   */
+  public int intValue() {
+    return readScalar(TInt32.DTYPE).getInt(0);
+  }
+
+  /**
+   * Returns the value of a scalar {@link TInt64} tensor at this output.
+   *
+   * @throws IllegalArgumentException if this output is not a long scalar
+   * @see #readBytes(long, int)
+   */
+  public long longValue() {
+    return readScalar(TInt64.DTYPE).getLong(0);
+  }
+
+  /**
+   * Returns the value of a scalar {@link TBool} tensor at this output.
+   *
+   * @throws IllegalArgumentException if this output is not a boolean scalar
+   * @see #readBytes(long, int)
+   */
+  public boolean booleanValue() {
+    return readScalar(TBool.DTYPE).get(0) != 0;
+  }
+
   @Override
   public Output<T> asOutput() {
     return this;
@@ -109,6 +203,16 @@ public final class Output<T extends TType> implements Operand<T> {
     return operation.getUnsafeNativeHandle(index);
   }
 
+  private ByteBuffer readScalar(DataType<?> expectedDataType) {
+    DataType<?> dataType = operation.dtype(index);
+    if (dataType != expectedDataType || operation.shape(index).numDimensions() != 0) {
+      throw new IllegalArgumentException(
+          "Output of type " + dataType.name() + " and shape " + operation.shape(index)
+              + " is not a " + expectedDataType.name() + " scalar");
+    }
+    return operation.readBytes(index, 0L, expectedDataType.byteSize());
+  }
+
   private final AbstractOperation operation;
   private final int index;
 }
@@ -0,0 +1,199 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.tensorflow.tools.Shape;
+
+/**
+ * Minimal reader of the protocol buffer wire format.
+ *
+ * <p>The org.tensorflow package is free of any protocol buffer dependencies, so the few messages
+ * that the library needs to understand, like signatures of a saved model, are decoded by hand.
+ */
+final class ProtoReader {
+
+  static final int VARINT = 0;
+  static final int FIXED64 = 1;
+  static final int LENGTH_DELIMITED = 2;
+  static final int FIXED32 = 5;
+
+  /**
+   * Returns the tag of a field, as it is encoded in a message.
+   *
+   * @param fieldNumber number of the field
+   * @param wireType wire type of the field
+   */
+  static int tag(int fieldNumber, int wireType) {
+    return (fieldNumber << 3) | wireType;
+  }
+
+  ProtoReader(byte[] buffer) {
+    this(buffer, 0, buffer.length);
+  }
+
+  ProtoReader(byte[] buffer, int position, int limit) {
+    this.buffer = buffer;
+    this.position = position;
+    this.limit = limit;
+  }
+
+  boolean hasMore() {
+    return position < limit;
+  }
+
+  int readTag() {
+    return (int) readVarint();
+  }
+
+  long readVarint() {
+    long value = 0L;
+    for (int shift = 0; shift < 64; shift += 7) {
+      checkAvailable(1);
+      byte b = buffer[position++];
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint in protocol buffer");
+  }
+
+  int readFixed32() {
+    checkAvailable(4);
+    int value = 0;
+    for (int i = 0; i < 4; ++i) {
+      value |= (buffer[position++] & 0xFF) << (i * 8);
+    }
+    return value;
+  }
+
+  long readFixed64() {
+    checkAvailable(8);
+    long value = 0L;
+    for (int i = 0; i < 8; ++i) {
+      value |= (long) (buffer[position++] & 0xFF) << (i * 8);
+    }
+    return value;
+  }
+
+  String readString() {
+    int length = readLength();
+    String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+    position += length;
+    return value;
+  }
+
+  byte[] readBytes() {
+    int length = readLength();
+    byte[] value = Arrays.copyOfRange(buffer, position, position + length);
+    position += length;
+    return value;
+  }
+
+  ProtoReader readMessage() {
+    int length = readLength();
+    ProtoReader message = new ProtoReader(buffer, position, position + length);
+    position += length;
+    return message;
+  }
+
+  void skip(int tag) {
+    switch (tag & 0x7) {
+      case VARINT:
+        readVarint();
+        break;
+      case FIXED64:
+        checkAvailable(8);
+        position += 8;
+        break;
+      case LENGTH_DELIMITED:
+        int length = readLength();
+        position += length;
+        break;
+      case FIXED32:
+        checkAvailable(4);
+        position += 4;
+        break;
+      default:
+        throw new IllegalArgumentException(
+            "Unsupported wire type " + (tag & 0x7) + " in protocol buffer");
+    }
+  }
+
+  /**
+   * Decodes the remaining bytes of this reader as a {@code TensorShapeProto} message.
+   *
+   * @return the shape, where dimensions of unknown size are set to {@link Shape#UNKNOWN_SIZE}
+   */
+  Shape readTensorShape() {
+    List<Long> dims = new ArrayList<>();
+    boolean unknownRank = false;
+    while (hasMore()) {
+      int tag = readTag();
+      if (tag == SHAPE_DIM_TAG) {
+        ProtoReader dim = readMessage();
+        long size = 0L;
+        while (dim.hasMore()) {
+          int dimTag = dim.readTag();
+          if (dimTag == DIM_SIZE_TAG) {
+            size = dim.readVarint();
+          } else {
+            dim.skip(dimTag);
+          }
+        }
+        dims.add(size);
+      } else if (tag == SHAPE_UNKNOWN_RANK_TAG) {
+        unknownRank = readVarint() != 0;
+      } else {
+        skip(tag);
+      }
+    }
+    if (unknownRank) {
+      return Shape.unknown();
+    }
+    long[] dimSizes = new long[dims.size()];
+    for (int i = 0; i < dimSizes.length; ++i) {
+      dimSizes[i] = dims.get(i);
+    }
+    return Shape.make(dimSizes);
+  }
+
+  private static final int SHAPE_DIM_TAG = tag(2, LENGTH_DELIMITED);
+  private static final int SHAPE_UNKNOWN_RANK_TAG = tag(3, VARINT);
+  private static final int DIM_SIZE_TAG = tag(1, VARINT);
+
+  private final byte[] buffer;
+  private final int limit;
+  private int position;
+
+  private int readLength() {
+    long length = readVarint();
+    if (length < 0 || length > limit - position) {
+      throw new IllegalArgumentException("Truncated protocol buffer");
+    }
+    return (int) length;
+  }
+
+  private void checkAvailable(int numBytes) {
+    if (limit - position < numBytes) {
+      throw new IllegalArgumentException("Truncated protocol buffer");
+    }
+  }
+}
@@ -15,6 +15,27 @@ limitations under the License.
 
 package org.tensorflow;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
 /**
  * SavedModelBundle represents a model loaded from storage.
  *
@@ -27,9 +48,57 @@ package org.tensorflow;
 public class SavedModelBundle implements AutoCloseable {
   /** Options for loading a SavedModel. */
   public static final class Loader {
-    /** Load a <code>SavedModelBundle</code> with the configured options. */
+    /**
+     * Load a <code>SavedModelBundle</code> with the configured options.
+     *
+     * <p>If a warmup has been configured, it is completed before the bundle is returned. If the
+     * warmup fails, the bundle is closed and the error is thrown.
+     */
     public SavedModelBundle load() {
-      return SavedModelBundle.load(exportDir, tags, configProto, runOptions);
+      long startTime = System.nanoTime();
+      SavedModelBundle bundle = SavedModelBundle.load(exportDir, tags, configProto, runOptions);
+      long sessionLoadedTime = System.nanoTime();
+      if (warmupFromAssets || !warmupRequests.isEmpty()) {
+        try {
+          warmup(bundle);
+        } catch (RuntimeException e) {
+          bundle.close();
+          throw e;
+        }
+      }
+      long endTime = System.nanoTime();
+      bundle.loadTimings =
+          new LoadTimings(
+              sessionLoadedTime - startTime - bundle.signaturesNanos,
+              bundle.signaturesNanos,
+              endTime - sessionLoadedTime);
+      return bundle;
+    }
+
+    /**
+     * Loads a <code>SavedModelBundle</code> asynchronously with the configured options.
+     *
+     * <p>The model is loaded by a shared pool of daemon threads, of the size of the number of
+     * available processors, so that loading many models concurrently does not oversubscribe the
+     * machine.
+     *
+     * @return a future completed with the loaded bundle
+     * @see #load()
+     */
+    public CompletableFuture<SavedModelBundle> loadAsync() {
+      return loadAsync(LoadExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * Loads a <code>SavedModelBundle</code> asynchronously with the configured options, using the
+     * given executor.
+     *
+     * @param executor executor running the load
+     * @return a future completed with the loaded bundle
+     * @see #load()
+     */
+    public CompletableFuture<SavedModelBundle> loadAsync(Executor executor) {
+      return CompletableFuture.supplyAsync(this::load, executor);
     }
 
     /**
@@ -66,6 +135,81 @@ public class SavedModelBundle implements AutoCloseable {
       return this;
     }
 
+    /**
+     * Warms up the model with the requests found in its {@code
+     * assets.extra/tf_serving_warmup_requests} file, if any.
+     *
+     * <p>This file follows the format used by TensorFlow Serving, i.e. a TFRecord of {@code
+     * PredictionLog} messages. Only the prediction requests it contains are replayed.
+     */
+    public Loader withWarmupFromAssets() {
+      this.warmupFromAssets = true;
+      return this;
+    }
+
+    /**
+     * Warms up the model by calling a signature with sample inputs.
+     *
+     * <p>This method can be called multiple times to replay different requests. The caller keeps
+     * the ownership of the input tensors, which must remain valid until the model is loaded.
+     *
+     * @param signatureKey key of the signature to call
+     * @param inputs tensors to feed to each input of the signature, by key
+     */
+    public Loader withWarmupRequest(String signatureKey, Map<String, Tensor<?>> inputs) {
+      this.warmupRequests.add(new SavedModelWarmup.Request(signatureKey, inputs));
+      return this;
+    }
+
+    /**
+     * Restricts the warmup to the requests targeting one of the given signatures.
+     *
+     * <p>By default, requests are replayed on all signatures.
+     *
+     * @param signatureKeys keys of the signatures to warm up
+     */
+    public Loader withWarmupSignatures(String... signatureKeys) {
+      this.warmupSignatures = new HashSet<>(Arrays.asList(signatureKeys));
+      return this;
+    }
+
+    /**
+     * Sets the number of threads replaying warmup requests concurrently.
+     *
+     * <p>Using as many threads as the number of concurrent requests expected when serving the model
+     * allows to warm up the resources allocated for each of them. The default is 1.
+     *
+     * @param numThreads number of threads
+     * @throws IllegalArgumentException if {@code numThreads} is not positive
+     */
+    public Loader withWarmupThreads(int numThreads) {
+      if (numThreads <= 0) {
+        throw new IllegalArgumentException("Number of warmup threads must be positive");
+      }
+      this.warmupThreads = numThreads;
+      return this;
+    }
+
+    /**
+     * Sets the number of times each warmup request is replayed.
+     *
+     * <p>The default is 1.
+     *
+     * @param numIterations number of iterations
+     * @throws IllegalArgumentException if {@code numIterations} is not positive
+     */
+    public Loader withWarmupIterations(int numIterations) {
+      if (numIterations <= 0) {
+        throw new IllegalArgumentException("Number of warmup iterations must be positive");
+      }
+      this.warmupIterations = numIterations;
+      return this;
+    }
+
+    String exportDir() {
+      return exportDir;
+    }
+
     private Loader(String exportDir) {
       this.exportDir = exportDir;
     }
@@ -74,6 +218,145 @@ public class SavedModelBundle implements AutoCloseable {
     private String[] tags = null;
     private byte[] configProto = null;
     private byte[] runOptions = null;
+    private boolean warmupFromAssets = false;
+    private final List<SavedModelWarmup.Request> warmupRequests = new ArrayList<>();
+    private Set<String> warmupSignatures = null;
+    private int warmupThreads = 1;
+    private int warmupIterations = 1;
+
+    private void warmup(SavedModelBundle bundle) {
+      List<SavedModelWarmup.Request> assetRequests = Collections.emptyList();
+      if (warmupFromAssets) {
+        Path warmupFile = Paths.get(exportDir, SavedModelWarmup.WARMUP_FILE);
+        if (Files.exists(warmupFile)) {
+          try {
+            assetRequests = SavedModelWarmup.readRequests(warmupFile);
+          } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read warmup file " + warmupFile, e);
+          }
+        }
+      }
+      try {
+        List<SavedModelWarmup.Request> requests = new ArrayList<>();
+        for (SavedModelWarmup.Request request : warmupRequests) {
+          if (warmupSignatures == null || warmupSignatures.contains(request.signatureKey)) {
+            requests.add(request);
+          }
+        }
+        for (SavedModelWarmup.Request request : assetRequests) {
+          if (warmupSignatures == null || warmupSignatures.contains(request.signatureKey)) {
+            requests.add(request);
+          }
+        }
+        SavedModelWarmup.run(bundle, requests, warmupThreads, warmupIterations);
+      } finally {
+        SavedModelWarmup.closeRequests(assetRequests);
+      }
+    }
+  }
+
+  /**
+   * Time spent in each phase of loading a saved model.
+   *
+   * @see #loadTimings()
+   */
+  public static final class LoadTimings {
+
+    /**
+     * Returns the time spent creating the session, in nanoseconds.
+     *
+     * <p>This includes importing the graph, restoring the variables and running the initialization
+     * operations of the model, which are all performed by the same native call.
+     */
+    public long sessionNanos() {
+      return sessionNanos;
+    }
+
+    /** Returns the time spent decoding the signatures of the model, in nanoseconds. */
+    public long signaturesNanos() {
+      return signaturesNanos;
+    }
+
+    /** Returns the time spent warming up the model, in nanoseconds, or 0 if there was no warmup. */
+    public long warmupNanos() {
+      return warmupNanos;
+    }
+
+    /** Returns the total time spent loading the model, in nanoseconds. */
+    public long totalNanos() {
+      return sessionNanos + signaturesNanos + warmupNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "LoadTimings{session=%dms, signatures=%dms, warmup=%dms, total=%dms}",
+          TimeUnit.NANOSECONDS.toMillis(sessionNanos),
+          TimeUnit.NANOSECONDS.toMillis(signaturesNanos),
+          TimeUnit.NANOSECONDS.toMillis(warmupNanos),
+          TimeUnit.NANOSECONDS.toMillis(totalNanos()));
+    }
+
+    private final long sessionNanos;
+    private final long signaturesNanos;
+    private final long warmupNanos;
+
+    private LoadTimings(long sessionNanos, long signaturesNanos, long warmupNanos) {
+      this.sessionNanos = sessionNanos;
+      this.signaturesNanos = signaturesNanos;
+      this.warmupNanos = warmupNanos;
+    }
+  }
+
+  /**
+   * Loads multiple saved models concurrently.
+   *
+   * <p>At most {@code maxParallelism} models are loaded at the same time. If any of the models
+   * fails to load, all models that have been loaded successfully are closed and the returned
+   * future completes exceptionally with the first error.
+   *
+   * @param maxParallelism maximum number of models to load concurrently
+   * @param loaders loaders of each model
+   * @return a future completed with the loaded bundles, in the same order as {@code loaders}
+   * @throws IllegalArgumentException if {@code maxParallelism} is not positive
+   */
+  public static CompletableFuture<List<SavedModelBundle>> loadAll(
+      int maxParallelism, List<Loader> loaders) {
+    if (maxParallelism <= 0) {
+      throw new IllegalArgumentException("Maximum parallelism must be positive");
+    }
+    if (loaders.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.<SavedModelBundle>emptyList());
+    }
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(maxParallelism, loaders.size()), LOAD_THREADS);
+    final List<CompletableFuture<SavedModelBundle>> futures = new ArrayList<>(loaders.size());
+    for (Loader loader : loaders) {
+      futures.add(loader.loadAsync(executor));
+    }
+    CompletableFuture<List<SavedModelBundle>> result = new CompletableFuture<>();
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+        .whenComplete(
+            (ignored, error) -> {
+              executor.shutdown();
+              List<SavedModelBundle> bundles = new ArrayList<>(futures.size());
+              for (CompletableFuture<SavedModelBundle> future : futures) {
+                if (!future.isCompletedExceptionally()) {
+                  bundles.add(future.join());
+                }
+              }
+              if (error != null) {
+                for (SavedModelBundle bundle : bundles) {
+                  bundle.close();
+                }
+                result.completeExceptionally(
+                    error instanceof CompletionException ? error.getCause() : error);
+              } else {
+                result.complete(bundles);
+              }
+            });
+    return result;
   }
 
   /**
@@ -116,6 +399,43 @@ public class SavedModelBundle implements AutoCloseable {
     return metaGraphDef;
   }
 
+  /**
+   * Returns the signatures exported with the saved model, by key.
+   *
+   * <p>Signatures are decoded from the {@link #metaGraphDef() MetaGraphDef} when the model is
+   * loaded.
+   */
+  public Map<String, Signature> signatures() {
+    return signatures;
+  }
+
+  /**
+   * Returns a callable bound to a signature of the saved model.
+   *
+   * <p>Functions are created on first request, then can be called repeatedly and concurrently
+   * without resolving again the tensors of their signature.
+   *
+   * @param signatureKey key of the signature, e.g. {@link Signature#DEFAULT_KEY}
+   * @return function bound to the signature
+   * @throws IllegalArgumentException if no signature is exported with this key, or if some
+   *     tensors of this signature cannot be found in the graph of the model
+   */
+  public SignatureFunction function(String signatureKey) {
+    Signature signature = signatures.get(signatureKey);
+    if (signature == null) {
+      throw new IllegalArgumentException(
+          "No signature '" + signatureKey + "' in saved model, available signatures are "
+              + signatures.keySet());
+    }
+    return functions.computeIfAbsent(
+        signatureKey, k -> new SignatureFunction(signature, graph, session));
+  }
+
+  /** Returns the time spent in each phase of loading this model. */
+  public LoadTimings loadTimings() {
+    return loadTimings;
+  }
+
   /** Returns the graph that describes the computation performed by the model. */
   public Graph graph() {
     return graph;
@@ -143,11 +463,30 @@ public class SavedModelBundle implements AutoCloseable {
   private final Graph graph;
   private final Session session;
   private final byte[] metaGraphDef;
+  private final Map<String, Signature> signatures;
+  private final Map<String, SignatureFunction> functions;
+  private final long signaturesNanos;
+  private LoadTimings loadTimings;
 
   private SavedModelBundle(Graph graph, Session session, byte[] metaGraphDef) {
+    long startTime = System.nanoTime();
     this.graph = graph;
     this.session = session;
     this.metaGraphDef = metaGraphDef;
+    this.signatures = Collections.unmodifiableMap(Signature.fromMetaGraphDef(metaGraphDef));
+    this.functions = new ConcurrentHashMap<>();
+    this.signaturesNanos = System.nanoTime() - startTime;
+  }
+
+  private static final ThreadFactory LOAD_THREADS =
+      new DaemonThreadFactory("tensorflow-model-loader");
+
+  /** Lazily creates the executor shared by all asynchronous loads. */
+  private static final class LoadExecutorHolder {
+
+    private static final ExecutorService EXECUTOR =
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), LOAD_THREADS);
   }
 
   /**
@@ -160,7 +499,13 @@ public class SavedModelBundle implements AutoCloseable {
       long graphHandle, long sessionHandle, byte[] metaGraphDef) {
     Graph graph = new Graph(graphHandle);
     Session session = new Session(graph, sessionHandle);
-    return new SavedModelBundle(graph, session, metaGraphDef);
+    try {
+      return new SavedModelBundle(graph, session, metaGraphDef);
+    } catch (RuntimeException e) {
+      session.close();
+      graph.close();
+      throw e;
+    }
   }
 
   private static native SavedModelBundle load(
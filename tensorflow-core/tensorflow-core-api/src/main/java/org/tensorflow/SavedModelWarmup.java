@@ -0,0 +1,412 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import org.tensorflow.tools.Shape;
+import org.tensorflow.types.TBool;
+import org.tensorflow.types.TDouble;
+import org.tensorflow.types.TFloat;
+import org.tensorflow.types.TInt32;
+import org.tensorflow.types.TInt64;
+import org.tensorflow.types.TString;
+import org.tensorflow.types.TUInt8;
+
+/**
+ * Replays sample requests on a saved model before it is used, so that its kernels are initialized
+ * and its graph optimized ahead of the first real request.
+ *
+ * <p>Requests can be read from the warmup file that TensorFlow Serving looks for in a saved model,
+ * i.e. {@code assets.extra/tf_serving_warmup_requests}. This file is a TFRecord of {@code
+ * PredictionLog} messages, of which only the {@code predict_log} entries are replayed; entries
+ * using {@code tf.Example}, like classification or regression logs, are ignored.
+ *
+ * @see SavedModelBundle.Loader#withWarmupFromAssets()
+ */
+final class SavedModelWarmup {
+
+  /** Path of the warmup file, relative to the export directory of a saved model. */
+  static final String WARMUP_FILE = "assets.extra/tf_serving_warmup_requests";
+
+  /** A request to replay on a signature. */
+  static final class Request {
+
+    Request(String signatureKey, Map<String, Tensor<?>> inputs) {
+      this.signatureKey = signatureKey;
+      this.inputs = inputs;
+    }
+
+    final String signatureKey;
+    final Map<String, Tensor<?>> inputs;
+  }
+
+  /**
+   * Reads the requests of a warmup file.
+   *
+   * <p>The caller takes ownership of the input tensors of the returned requests.
+   *
+   * @param file the warmup file
+   * @return requests found in the file, in order
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is malformed
+   */
+  static List<Request> readRequests(Path file) throws IOException {
+    byte[] data = Files.readAllBytes(file);
+    List<Request> requests = new ArrayList<>();
+    try {
+      // A TFRecord is a sequence of records of the form:
+      //   uint64 length, uint32 length_crc, byte data[length], uint32 data_crc
+      // Checksums are not verified, a corrupted record fails to decode anyway.
+      ByteBuffer records = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+      for (int recordIdx = 0; records.remaining() > 0; ++recordIdx) {
+        if (records.remaining() < 12) {
+          throw new IllegalArgumentException("Truncated record in warmup file " + file);
+        }
+        long length = records.getLong();
+        records.getInt();
+        if (length < 0 || length > records.remaining() - 4) {
+          throw new IllegalArgumentException("Truncated record in warmup file " + file);
+        }
+        int position = records.position();
+        Request request;
+        try {
+          request = parsePredictionLog(new ProtoReader(data, position, position + (int) length));
+        } catch (IllegalArgumentException e) {
+          throw new IllegalArgumentException(
+              "Invalid record " + recordIdx + " in warmup file " + file + ": " + e.getMessage(), e);
+        }
+        if (request != null) {
+          requests.add(request);
+        }
+        records.position(position + (int) length + 4);
+      }
+    } catch (RuntimeException e) {
+      closeRequests(requests);
+      throw e;
+    }
+    return requests;
+  }
+
+  /**
+   * Replays requests on a bundle.
+   *
+   * <p>Each request is replayed {@code numIterations} times, distributed over {@code numThreads}
+   * threads. All output tensors are released immediately.
+   *
+   * @param bundle bundle to warm up
+   * @param requests requests to replay
+   * @param numThreads number of threads replaying the requests concurrently
+   * @param numIterations number of times each request is replayed
+   * @throws IllegalArgumentException if a request refers to an unknown signature or input
+   * @throws TensorFlowException if a request fails to run
+   */
+  static void run(
+      SavedModelBundle bundle, List<Request> requests, int numThreads, int numIterations) {
+    List<Callable<Void>> tasks = new ArrayList<>(requests.size() * numIterations);
+    for (int i = 0; i < numIterations; ++i) {
+      for (Request request : requests) {
+        final SignatureFunction function = bundle.function(request.signatureKey);
+        final Map<String, Tensor<?>> inputs = request.inputs;
+        tasks.add(
+            () -> {
+              closeAll(function.call(inputs).values());
+              return null;
+            });
+      }
+    }
+    if (numThreads <= 1 || tasks.size() <= 1) {
+      for (Callable<Void> task : tasks) {
+        try {
+          task.call();
+        } catch (RuntimeException e) {
+          throw e;
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        }
+      }
+      return;
+    }
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.min(numThreads, tasks.size()), WARMUP_THREADS);
+    try {
+      for (Future<Void> result : executor.invokeAll(tasks)) {
+        result.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while warming up saved model", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** Releases the input tensors of all requests. */
+  static void closeRequests(List<Request> requests) {
+    for (Request request : requests) {
+      closeAll(request.inputs.values());
+    }
+  }
+
+  private static final ThreadFactory WARMUP_THREADS =
+      new DaemonThreadFactory("tensorflow-model-warmup");
+
+  private static final int PREDICT_LOG_TAG = ProtoReader.tag(6, ProtoReader.LENGTH_DELIMITED);
+  private static final int PREDICT_REQUEST_TAG = ProtoReader.tag(1, ProtoReader.LENGTH_DELIMITED);
+  private static final int MODEL_SPEC_TAG = ProtoReader.tag(1, ProtoReader.LENGTH_DELIMITED);
+  private static final int INPUTS_TAG = ProtoReader.tag(2, ProtoReader.LENGTH_DELIMITED);
+  private static final int SIGNATURE_NAME_TAG = ProtoReader.tag(3, ProtoReader.LENGTH_DELIMITED);
+  private static final int MAP_KEY_TAG = ProtoReader.tag(1, ProtoReader.LENGTH_DELIMITED);
+  private static final int MAP_VALUE_TAG = ProtoReader.tag(2, ProtoReader.LENGTH_DELIMITED);
+
+  // Fields of a TensorProto
+  private static final int DTYPE = 1;
+  private static final int TENSOR_SHAPE = 2;
+  private static final int TENSOR_CONTENT = 4;
+  private static final int FLOAT_VAL = 5;
+  private static final int DOUBLE_VAL = 6;
+  private static final int INT_VAL = 7;
+  private static final int STRING_VAL = 8;
+  private static final int INT64_VAL = 10;
+  private static final int BOOL_VAL = 11;
+
+  private static Request parsePredictionLog(ProtoReader reader) {
+    while (reader.hasMore()) {
+      int tag = reader.readTag();
+      if (tag == PREDICT_LOG_TAG) {
+        ProtoReader predictLog = reader.readMessage();
+        while (predictLog.hasMore()) {
+          int predictLogTag = predictLog.readTag();
+          if (predictLogTag == PREDICT_REQUEST_TAG) {
+            return parsePredictRequest(predictLog.readMessage());
+          }
+          predictLog.skip(predictLogTag);
+        }
+      } else {
+        reader.skip(tag);
+      }
+    }
+    return null;
+  }
+
+  private static Request parsePredictRequest(ProtoReader reader) {
+    String signatureKey = Signature.DEFAULT_KEY;
+    Map<String, Tensor<?>> inputs = new HashMap<>();
+    try {
+      while (reader.hasMore()) {
+        int tag = reader.readTag();
+        if (tag == MODEL_SPEC_TAG) {
+          ProtoReader modelSpec = reader.readMessage();
+          while (modelSpec.hasMore()) {
+            int modelSpecTag = modelSpec.readTag();
+            if (modelSpecTag == SIGNATURE_NAME_TAG) {
+              String name = modelSpec.readString();
+              if (!name.isEmpty()) {
+                signatureKey = name;
+              }
+            } else {
+              modelSpec.skip(modelSpecTag);
+            }
+          }
+        } else if (tag == INPUTS_TAG) {
+          ProtoReader entry = reader.readMessage();
+          String key = "";
+          ProtoReader value = null;
+          while (entry.hasMore()) {
+            int entryTag = entry.readTag();
+            if (entryTag == MAP_KEY_TAG) {
+              key = entry.readString();
+            } else if (entryTag == MAP_VALUE_TAG) {
+              value = entry.readMessage();
+            } else {
+              entry.skip(entryTag);
+            }
+          }
+          if (value != null) {
+            Tensor<?> previous = inputs.put(key, parseTensor(key, value));
+            if (previous != null) {
+              previous.close();
+            }
+          }
+        } else {
+          reader.skip(tag);
+        }
+      }
+    } catch (RuntimeException e) {
+      closeAll(inputs.values());
+      throw e;
+    }
+    return new Request(signatureKey, inputs);
+  }
+
+  private static Tensor<?> parseTensor(String key, ProtoReader reader) {
+    int dataTypeCode = 0;
+    Shape shape = Shape.scalar();
+    byte[] content = null;
+    List<Object> values = new ArrayList<>();
+    while (reader.hasMore()) {
+      int tag = reader.readTag();
+      int wireType = tag & 0x7;
+      switch (tag >>> 3) {
+        case DTYPE:
+          dataTypeCode = (int) reader.readVarint();
+          break;
+        case TENSOR_SHAPE:
+          shape = reader.readMessage().readTensorShape();
+          break;
+        case TENSOR_CONTENT:
+          content = reader.readBytes();
+          break;
+        case STRING_VAL:
+          values.add(reader.readBytes());
+          break;
+        case FLOAT_VAL:
+        case DOUBLE_VAL:
+        case INT_VAL:
+        case INT64_VAL:
+        case BOOL_VAL:
+          if (wireType == ProtoReader.LENGTH_DELIMITED) {
+            // packed repeated values
+            ProtoReader packed = reader.readMessage();
+            while (packed.hasMore()) {
+              values.add(readNumber(packed, tag >>> 3));
+            }
+          } else {
+            values.add(readNumber(reader, tag >>> 3));
+          }
+          break;
+        default:
+          reader.skip(tag);
+      }
+    }
+    DataType<?> dataType = DataTypes.fromNativeCode(dataTypeCode);
+    if (dataType == TString.DTYPE) {
+      return createStringTensor(shape, values);
+    }
+    long numElements = shape.size();
+    if (numElements < 0 || numElements * dataType.byteSize() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Unsupported shape " + shape + " for a warmup tensor");
+    }
+    ByteBuffer buffer =
+        ByteBuffer.allocate((int) numElements * dataType.byteSize()).order(ByteOrder.nativeOrder());
+    if (content != null) {
+      if (content.length != buffer.capacity()) {
+        throw new IllegalArgumentException(
+            "Content of input \""
+                + key
+                + "\" has "
+                + content.length
+                + " bytes, but a tensor of shape "
+                + shape
+                + " requires "
+                + buffer.capacity());
+      }
+      buffer.put(content);
+    } else if (!values.isEmpty()) {
+      // As in TensorFlow, the last value is repeated to fill up the tensor if there are not enough
+      for (long i = 0; i < numElements; ++i) {
+        Number value = (Number) values.get((int) Math.min(i, values.size() - 1));
+        putNumber(buffer, dataType, value);
+      }
+    }
+    buffer.rewind();
+    return Tensor.create(dataType, shape.asArray(), buffer);
+  }
+
+  private static Number readNumber(ProtoReader reader, int field) {
+    switch (field) {
+      case FLOAT_VAL:
+        return Float.intBitsToFloat(reader.readFixed32());
+      case DOUBLE_VAL:
+        return Double.longBitsToDouble(reader.readFixed64());
+      default:
+        return reader.readVarint();
+    }
+  }
+
+  private static void putNumber(ByteBuffer buffer, DataType<?> dataType, Number value) {
+    if (dataType == TFloat.DTYPE) {
+      buffer.putFloat(value.floatValue());
+    } else if (dataType == TDouble.DTYPE) {
+      buffer.putDouble(value.doubleValue());
+    } else if (dataType == TInt32.DTYPE) {
+      buffer.putInt(value.intValue());
+    } else if (dataType == TInt64.DTYPE) {
+      buffer.putLong(value.longValue());
+    } else if (dataType == TBool.DTYPE || dataType == TUInt8.DTYPE) {
+      buffer.put(value.byteValue());
+    } else {
+      throw new IllegalArgumentException(
+          "Unsupported datatype " + dataType.name() + " for a warmup tensor");
+    }
+  }
+
+  private static Tensor<?> createStringTensor(Shape shape, List<Object> values) {
+    if (shape.numDimensions() < 0 || values.isEmpty()) {
+      throw new IllegalArgumentException(
+          "String warmup tensors must have a known shape and values");
+    }
+    int[] dims = new int[shape.numDimensions()];
+    for (int i = 0; i < dims.length; ++i) {
+      dims[i] = (int) shape.size(i);
+    }
+    if (dims.length == 0) {
+      return Tensors.create((byte[]) values.get(0));
+    }
+    Object array = Array.newInstance(byte[].class, dims);
+    fillStrings(array, values, new int[] {0});
+    return Tensor.create(array, TString.DTYPE);
+  }
+
+  private static void fillStrings(Object array, List<Object> values, int[] next) {
+    for (int i = 0; i < Array.getLength(array); ++i) {
+      Object element = Array.get(array, i);
+      if (element == null || element instanceof byte[]) {
+        Array.set(array, i, values.get(Math.min(next[0]++, values.size() - 1)));
+      } else {
+        fillStrings(element, values, next);
+      }
+    }
+  }
+
+  private static void closeAll(Collection<Tensor<?>> tensors) {
+    for (Tensor<?> tensor : tensors) {
+      tensor.close();
+    }
+  }
+
+  private SavedModelWarmup() {}
+}
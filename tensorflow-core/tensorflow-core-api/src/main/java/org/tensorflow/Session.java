@@ -16,6 +16,8 @@ limitations under the License.
 package org.tensorflow;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -413,6 +415,23 @@ public final class Session implements AutoCloseable {
     return new Runner();
   }
 
+  /**
+   * Returns the devices available to this session.
+   *
+   * <p>Operations can be placed explicitly on any of these devices using their name.
+   *
+   * @throws IllegalStateException if this session has been closed
+   */
+  public List<Device> listDevices() {
+    synchronized (nativeHandleLock) {
+      if (nativeHandle == 0) {
+        throw new IllegalStateException(
+            "listDevices() cannot be called on the Session after close()");
+      }
+      return Collections.unmodifiableList(Arrays.asList(listDevices(nativeHandle)));
+    }
+  }
+
   /**
    * Output tensors and metadata obtained when executing a session.
    *
@@ -450,6 +469,8 @@ public final class Session implements AutoCloseable {
 
   private static native void delete(long handle);
 
+  private static native Device[] listDevices(long handle);
+
   /**
    * Execute a session.
    *
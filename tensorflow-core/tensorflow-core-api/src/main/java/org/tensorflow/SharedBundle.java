@@ -0,0 +1,73 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A saved model bundle shared by multiple users, closed once all of them have released it.
+ *
+ * <p>The owner of the bundle holds the first reference on it, released when the bundle is
+ * retired. Once the last reference is released, the bundle is handed to a closer and can no longer
+ * be acquired.
+ */
+final class SharedBundle {
+
+  /**
+   * Shares a bundle.
+   *
+   * @param bundle bundle to share
+   * @param closer closes the bundle once its last reference has been released
+   */
+  SharedBundle(SavedModelBundle bundle, Consumer<SavedModelBundle> closer) {
+    this.bundle = bundle;
+    this.closer = closer;
+  }
+
+  /** Returns the shared bundle. */
+  SavedModelBundle bundle() {
+    return bundle;
+  }
+
+  /**
+   * Acquires a new reference on the bundle.
+   *
+   * @return false if the bundle has been released by all its users and cannot be acquired anymore
+   */
+  boolean tryAcquire() {
+    while (true) {
+      int count = references.get();
+      if (count == 0) {
+        return false;
+      }
+      if (references.compareAndSet(count, count + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /** Releases a reference on the bundle, closing it if it was the last one. */
+  void release() {
+    if (references.decrementAndGet() == 0) {
+      closer.accept(bundle);
+    }
+  }
+
+  private final SavedModelBundle bundle;
+  private final Consumer<SavedModelBundle> closer;
+  private final AtomicInteger references = new AtomicInteger(1);
+}
@@ -0,0 +1,229 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import org.tensorflow.tools.Shape;
+
+/**
+ * Describes the inputs and outputs of a computation exported in a saved model.
+ *
+ * <p>Signatures are decoded from the <a
+ * href="https://www.tensorflow.org/code/tensorflow/core/protobuf/meta_graph.proto">SignatureDef
+ * protocol buffers</a> found in the {@link SavedModelBundle#metaGraphDef() MetaGraphDef} of a saved
+ * model. Each input and output is identified by a key, which maps to a tensor of the graph.
+ *
+ * @see SavedModelBundle#signatures()
+ * @see SavedModelBundle#function(String)
+ */
+public final class Signature {
+
+  /** Key of the signature used by default when serving a model. */
+  public static final String DEFAULT_KEY = "serving_default";
+
+  /** Describes a tensor of the graph that is an input or an output of a signature. */
+  public static final class TensorInfo {
+
+    /** Returns the name of the tensor in the graph, in the form {@code operation_name:index}. */
+    public String name() {
+      return name;
+    }
+
+    /**
+     * Returns the datatype of the tensor.
+     *
+     * @throws IllegalArgumentException if the datatype is not supported in Java
+     */
+    public DataType<?> dataType() {
+      return DataTypes.fromNativeCode(dataTypeCode);
+    }
+
+    /** Returns the (possibly partially known) shape of the tensor. */
+    public Shape shape() {
+      return shape;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("<%s shape=%s dtype=%d>", name, shape, dataTypeCode);
+    }
+
+    private final String name;
+    private final int dataTypeCode;
+    private final Shape shape;
+
+    private TensorInfo(String name, int dataTypeCode, Shape shape) {
+      this.name = name;
+      this.dataTypeCode = dataTypeCode;
+      this.shape = shape;
+    }
+  }
+
+  /** Returns the key of this signature in the saved model. */
+  public String key() {
+    return key;
+  }
+
+  /**
+   * Returns the name of the method implemented by this signature, e.g. {@code
+   * tensorflow/serving/predict}.
+   */
+  public String methodName() {
+    return methodName;
+  }
+
+  /** Returns the inputs of this signature, sorted by key. */
+  public Map<String, TensorInfo> inputs() {
+    return inputs;
+  }
+
+  /** Returns the outputs of this signature, sorted by key. */
+  public Map<String, TensorInfo> outputs() {
+    return outputs;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Signature '%s' (%s): %s -> %s", key, methodName, inputs, outputs);
+  }
+
+  /**
+   * Decodes all signatures found in a serialized MetaGraphDef.
+   *
+   * @param metaGraphDef serialized MetaGraphDef protocol buffer
+   * @return signatures, sorted by key
+   * @throws IllegalArgumentException if the protocol buffer is malformed
+   */
+  static Map<String, Signature> fromMetaGraphDef(byte[] metaGraphDef) {
+    Map<String, Signature> signatures = new TreeMap<>();
+    if (metaGraphDef == null) {
+      return signatures;
+    }
+    ProtoReader reader = new ProtoReader(metaGraphDef);
+    while (reader.hasMore()) {
+      int tag = reader.readTag();
+      if (tag == SIGNATURE_DEF_TAG) {
+        // Map entries are encoded as messages where the key is field 1 and the value is field 2
+        ProtoReader entry = reader.readMessage();
+        String key = "";
+        ProtoReader value = null;
+        while (entry.hasMore()) {
+          int entryTag = entry.readTag();
+          if (entryTag == MAP_KEY_TAG) {
+            key = entry.readString();
+          } else if (entryTag == MAP_VALUE_TAG) {
+            value = entry.readMessage();
+          } else {
+            entry.skip(entryTag);
+          }
+        }
+        if (value != null) {
+          signatures.put(key, parseSignatureDef(key, value));
+        }
+      } else {
+        reader.skip(tag);
+      }
+    }
+    return signatures;
+  }
+
+  // Field tags of the messages that are decoded, i.e. (field_number << 3) | wire_type
+  private static final int SIGNATURE_DEF_TAG = ProtoReader.tag(5, ProtoReader.LENGTH_DELIMITED);
+  private static final int MAP_KEY_TAG = ProtoReader.tag(1, ProtoReader.LENGTH_DELIMITED);
+  private static final int MAP_VALUE_TAG = ProtoReader.tag(2, ProtoReader.LENGTH_DELIMITED);
+  private static final int INPUTS_TAG = ProtoReader.tag(1, ProtoReader.LENGTH_DELIMITED);
+  private static final int OUTPUTS_TAG = ProtoReader.tag(2, ProtoReader.LENGTH_DELIMITED);
+  private static final int METHOD_NAME_TAG = ProtoReader.tag(3, ProtoReader.LENGTH_DELIMITED);
+  private static final int TENSOR_NAME_TAG = ProtoReader.tag(1, ProtoReader.LENGTH_DELIMITED);
+  private static final int TENSOR_DTYPE_TAG = ProtoReader.tag(2, ProtoReader.VARINT);
+  private static final int TENSOR_SHAPE_TAG = ProtoReader.tag(3, ProtoReader.LENGTH_DELIMITED);
+
+  private final String key;
+  private final String methodName;
+  private final Map<String, TensorInfo> inputs;
+  private final Map<String, TensorInfo> outputs;
+
+  private Signature(
+      String key,
+      String methodName,
+      Map<String, TensorInfo> inputs,
+      Map<String, TensorInfo> outputs) {
+    this.key = key;
+    this.methodName = methodName;
+    this.inputs = Collections.unmodifiableMap(inputs);
+    this.outputs = Collections.unmodifiableMap(outputs);
+  }
+
+  private static Signature parseSignatureDef(String key, ProtoReader reader) {
+    Map<String, TensorInfo> inputs = new TreeMap<>();
+    Map<String, TensorInfo> outputs = new TreeMap<>();
+    String methodName = "";
+    while (reader.hasMore()) {
+      int tag = reader.readTag();
+      if (tag == INPUTS_TAG) {
+        parseTensorInfoEntry(reader.readMessage(), inputs);
+      } else if (tag == OUTPUTS_TAG) {
+        parseTensorInfoEntry(reader.readMessage(), outputs);
+      } else if (tag == METHOD_NAME_TAG) {
+        methodName = reader.readString();
+      } else {
+        reader.skip(tag);
+      }
+    }
+    return new Signature(key, methodName, inputs, outputs);
+  }
+
+  private static void parseTensorInfoEntry(ProtoReader reader, Map<String, TensorInfo> infos) {
+    String key = "";
+    TensorInfo info = null;
+    while (reader.hasMore()) {
+      int tag = reader.readTag();
+      if (tag == MAP_KEY_TAG) {
+        key = reader.readString();
+      } else if (tag == MAP_VALUE_TAG) {
+        info = parseTensorInfo(reader.readMessage());
+      } else {
+        reader.skip(tag);
+      }
+    }
+    // Only dense tensors, identified by their name, are supported; sparse and composite tensors are
+    // ignored
+    if (info != null && !info.name.isEmpty()) {
+      infos.put(key, info);
+    }
+  }
+
+  private static TensorInfo parseTensorInfo(ProtoReader reader) {
+    String name = "";
+    int dataTypeCode = 0;
+    Shape shape = Shape.unknown();
+    while (reader.hasMore()) {
+      int tag = reader.readTag();
+      if (tag == TENSOR_NAME_TAG) {
+        name = reader.readString();
+      } else if (tag == TENSOR_DTYPE_TAG) {
+        dataTypeCode = (int) reader.readVarint();
+      } else if (tag == TENSOR_SHAPE_TAG) {
+        shape = reader.readMessage().readTensorShape();
+      } else {
+        reader.skip(tag);
+      }
+    }
+    return new TensorInfo(name, dataTypeCode, shape);
+  }
+}
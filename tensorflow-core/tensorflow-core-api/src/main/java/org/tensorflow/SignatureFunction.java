@@ -0,0 +1,151 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A callable bound to a {@link Signature} of a saved model.
+ *
+ * <p>The tensors referred to by the signature are looked up in the graph once, when the function is
+ * created, so calling it does not require parsing tensor names nor searching the graph for their
+ * operations.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * try (SavedModelBundle bundle = SavedModelBundle.load(exportDir, "serve")) {
+ *   SignatureFunction predict = bundle.function(Signature.DEFAULT_KEY);
+ *   try (Tensor<TFloat> x = Tensors.create(new float[] {1.0f, 2.0f});
+ *       Tensor<?> y = predict.call(x)) {
+ *     ...
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p><b>WARNING:</b> The caller assumes ownership of all tensors returned by this function and must
+ * close them explicitly.
+ *
+ * <p>Instances of a {@code SignatureFunction} are thread-safe, and are valid as long as the {@link
+ * SavedModelBundle} they have been created from is not closed.
+ */
+public final class SignatureFunction {
+
+  /** Returns the signature of this function. */
+  public Signature signature() {
+    return signature;
+  }
+
+  /**
+   * Calls this function with a single input and returns its single output.
+   *
+   * @param input tensor to feed to the input of the signature
+   * @return output tensor
+   * @throws IllegalArgumentException if the signature does not have exactly one input and one
+   *     output
+   */
+  public Tensor<?> call(Tensor<?> input) {
+    if (inputKeys.length != 1 || outputKeys.length != 1) {
+      throw new IllegalArgumentException(
+          "Signature '"
+              + signature.key()
+              + "' must have exactly one input and one output to be called with a single tensor");
+    }
+    return session.runner().feed(inputs[0], input).fetch(outputs[0]).run().get(0);
+  }
+
+  /**
+   * Calls this function.
+   *
+   * @param arguments tensors to feed to each input of the signature, by key
+   * @return output tensors of the signature, by key
+   * @throws IllegalArgumentException if {@code arguments} does not provide a tensor for each input
+   *     of the signature, or refers to an unknown input
+   */
+  public Map<String, Tensor<?>> call(Map<String, Tensor<?>> arguments) {
+    if (arguments.size() != inputKeys.length) {
+      throw new IllegalArgumentException(
+          "Signature '" + signature.key() + "' expects inputs " + signature.inputs().keySet()
+              + " but got " + arguments.keySet());
+    }
+    Session.Runner runner = session.runner();
+    for (int i = 0; i < inputKeys.length; ++i) {
+      Tensor<?> argument = arguments.get(inputKeys[i]);
+      if (argument == null) {
+        throw new IllegalArgumentException(
+            "Missing input '" + inputKeys[i] + "' for signature '" + signature.key() + "'");
+      }
+      runner.feed(inputs[i], argument);
+    }
+    for (Output<?> output : outputs) {
+      runner.fetch(output);
+    }
+    List<Tensor<?>> results = runner.run();
+    Map<String, Tensor<?>> resultsByKey = new LinkedHashMap<>(outputKeys.length * 2);
+    for (int i = 0; i < outputKeys.length; ++i) {
+      resultsByKey.put(outputKeys[i], results.get(i));
+    }
+    return resultsByKey;
+  }
+
+  /**
+   * Creates a function bound to a signature.
+   *
+   * @throws IllegalArgumentException if a tensor of the signature is not found in the graph
+   */
+  SignatureFunction(Signature signature, Graph graph, Session session) {
+    this.signature = signature;
+    this.session = session;
+    this.inputKeys = signature.inputs().keySet().toArray(new String[0]);
+    this.inputs = new Output<?>[inputKeys.length];
+    for (int i = 0; i < inputKeys.length; ++i) {
+      inputs[i] = lookup(graph, signature.inputs().get(inputKeys[i]).name());
+    }
+    this.outputKeys = signature.outputs().keySet().toArray(new String[0]);
+    this.outputs = new Output<?>[outputKeys.length];
+    for (int i = 0; i < outputKeys.length; ++i) {
+      outputs[i] = lookup(graph, signature.outputs().get(outputKeys[i]).name());
+    }
+  }
+
+  private final Signature signature;
+  private final Session session;
+  private final String[] inputKeys;
+  private final Output<?>[] inputs;
+  private final String[] outputKeys;
+  private final Output<?>[] outputs;
+
+  private static Output<?> lookup(Graph graph, String tensorName) {
+    String opName = tensorName;
+    int index = 0;
+    int colon = tensorName.lastIndexOf(':');
+    if (colon > 0 && colon < tensorName.length() - 1) {
+      try {
+        index = Integer.parseInt(tensorName.substring(colon + 1));
+        opName = tensorName.substring(0, colon);
+      } catch (NumberFormatException e) {
+        // the colon is part of the operation name
+      }
+    }
+    GraphOperation op = graph.operation(opName);
+    if (op == null) {
+      throw new IllegalArgumentException("No Operation named [" + opName + "] in the Graph");
+    }
+    return op.output(index);
+  }
+}
@@ -15,6 +15,8 @@ limitations under the License.
 
 package org.tensorflow;
 
+import java.util.Map;
+
 /** Static utility methods describing the TensorFlow runtime. */
 public final class TensorFlow {
   /** Returns the version of the underlying TensorFlow runtime. */
@@ -53,6 +55,19 @@ public final class TensorFlow {
     }
   }
 
+  /**
+   * Returns the time spent in each phase of the initialization of the TensorFlow runtime.
+   *
+   * <p>The keys of the returned map are the names of the phases, in the order they have been
+   * executed, and the values their duration in nanoseconds. The phases include loading the C API
+   * bindings ({@code javacpp}), looking up the native library ({@code lookup}) and, if it needed to
+   * be extracted from the class path, extracting it or retrieving it from the extraction cache
+   * ({@code extract}) before linking it ({@code link}).
+   */
+  public static Map<String, Long> initTimes() {
+    return NativeLibrary.loadTimes();
+  }
+
   private static native long libraryLoad(String filename);
 
   private static native void libraryDelete(long handle);
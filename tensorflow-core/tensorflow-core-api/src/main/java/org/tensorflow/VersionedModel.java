@@ -0,0 +1,211 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A handle to a saved model whose version can be replaced without interrupting its users.
+ *
+ * <p>New versions of the model are loaded and warmed up in background. Once ready, a new version
+ * atomically replaces the current one, so that all models {@link #acquire() acquired} afterwards
+ * refer to it. The previous version is retired: it is closed asynchronously, as soon as all leases
+ * acquired on it have been released, so that neither the runs in progress nor the thread updating
+ * the model have to wait.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * try (VersionedModel model = VersionedModel.load(SavedModelBundle.loader("/models/v1"))) {
+ *   ...
+ *   // on request
+ *   try (VersionedModel.Lease lease = model.acquire()) {
+ *     Tensor<?> result = lease.bundle().function(Signature.DEFAULT_KEY).call(input);
+ *     ...
+ *   }
+ *   ...
+ *   // on deployment of a new version
+ *   model.update(SavedModelBundle.loader("/models/v2"), bundle -> warmup(bundle));
+ * }
+ * }</pre>
+ *
+ * <p>Instances of a {@code VersionedModel} are thread-safe.
+ */
+public final class VersionedModel implements AutoCloseable {
+
+  /**
+   * Loads the first version of a model.
+   *
+   * @param loader loader of the model
+   * @return a handle to the model
+   * @throws TensorFlowException if the model failed to load
+   */
+  public static VersionedModel load(SavedModelBundle.Loader loader) {
+    return new VersionedModel(loader.load());
+  }
+
+  /** A version of the model acquired for use. */
+  public static final class Lease extends BundleLease {
+
+    /** Returns the version number of the model, starting at 1 for the first version loaded. */
+    public long version() {
+      return version.number;
+    }
+
+    @Override
+    String describe() {
+      return "model version " + version.number;
+    }
+
+    private final Version version;
+
+    private Lease(Version version) {
+      super(version.sharedBundle);
+      this.version = version;
+    }
+  }
+
+  /**
+   * Acquires the current version of the model.
+   *
+   * @return a lease on the current version, that must be closed once the model is no longer used
+   * @throws IllegalStateException if this model has been closed
+   */
+  public Lease acquire() {
+    while (true) {
+      Version version = current.get();
+      if (version == null) {
+        throw new IllegalStateException("Versioned model has been closed");
+      }
+      // The version might have been retired and released meanwhile, in which case we retry with
+      // the one that replaced it
+      if (version.sharedBundle.tryAcquire()) {
+        return new Lease(version);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of the current version of the model.
+   *
+   * @throws IllegalStateException if this model has been closed
+   */
+  public long version() {
+    Version version = current.get();
+    if (version == null) {
+      throw new IllegalStateException("Versioned model has been closed");
+    }
+    return version.number;
+  }
+
+  /**
+   * Loads a new version of the model in background and makes it current once it is loaded.
+   *
+   * @see #update(SavedModelBundle.Loader, Consumer)
+   */
+  public CompletableFuture<Long> update(SavedModelBundle.Loader loader) {
+    return update(loader, null);
+  }
+
+  /**
+   * Loads a new version of the model in background and makes it current once it is warmed up.
+   *
+   * <p>The warmup function is invoked with the new bundle before it replaces the current version,
+   * so that the first requests served by the new version do not pay the cost of initializing it.
+   * If loading or warming up the new version fails, it is discarded and the current version is
+   * kept.
+   *
+   * @param loader loader of the new version
+   * @param warmup function warming up the new bundle, or null if not required
+   * @return a future completed with the number of the new version once it is current
+   */
+  public CompletableFuture<Long> update(
+      final SavedModelBundle.Loader loader, final Consumer<SavedModelBundle> warmup) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          SavedModelBundle bundle = loader.load();
+          try {
+            if (warmup != null) {
+              warmup.accept(bundle);
+            }
+          } catch (RuntimeException e) {
+            bundle.close();
+            throw e;
+          }
+          return swap(bundle);
+        },
+        BACKGROUND);
+  }
+
+  /**
+   * Closes this model.
+   *
+   * <p>The current version is retired, and closed asynchronously once all its leases are
+   * released.
+   */
+  @Override
+  public void close() {
+    Version version = current.getAndSet(null);
+    if (version != null) {
+      version.sharedBundle.release();
+    }
+  }
+
+  /** A loaded version of the model. */
+  private static final class Version {
+
+    Version(long number, SavedModelBundle bundle) {
+      this.number = number;
+      // The current version of a model holds the first reference on its bundle, released when it
+      // is retired. Closing a bundle can be slow, so do it without blocking the releasing thread.
+      this.sharedBundle = new SharedBundle(bundle, b -> BACKGROUND.execute(b::close));
+    }
+
+    private final long number;
+    private final SharedBundle sharedBundle;
+  }
+
+  private static final ExecutorService BACKGROUND =
+      Executors.newCachedThreadPool(new DaemonThreadFactory("tensorflow-model-update"));
+
+  private final AtomicLong lastVersion = new AtomicLong();
+  private final AtomicReference<Version> current;
+
+  private VersionedModel(SavedModelBundle bundle) {
+    current = new AtomicReference<>(new Version(lastVersion.incrementAndGet(), bundle));
+  }
+
+  // Swaps are serialized so that version numbers increase in the order versions become current
+  private synchronized long swap(SavedModelBundle bundle) {
+    Version newVersion = new Version(lastVersion.incrementAndGet(), bundle);
+    while (true) {
+      Version oldVersion = current.get();
+      if (oldVersion == null) {
+        bundle.close();
+        throw new IllegalStateException("Versioned model has been closed");
+      }
+      if (current.compareAndSet(oldVersion, newVersion)) {
+        oldVersion.sharedBundle.release();
+        return newVersion.number;
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.op;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.tensorflow.DataType;
+import org.tensorflow.Tensor;
+import org.tensorflow.tools.Shape;
+
+/**
+ * A cache of constants already added to an execution environment, indexed by their value.
+ *
+ * <p>Constants are identified by their device, data type, shape and the content of their tensor.
+ * Only constants whose data does not exceed a given size are cached, so that the cache does not
+ * retain a copy of large tensors.
+ *
+ * <p>This class is package private, user code enables the interning of constants with {@link
+ * Scope#withInternedConstants()}.
+ *
+ * <p>This class is thread-safe, as a scope may be shared by multiple threads building the same
+ * graph. A constant is created only once per value, even when interned concurrently.
+ */
+final class ConstantCache {
+
+  ConstantCache(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Returns the constant previously created for the value of a tensor, or creates it.
+   *
+   * @param value value of the constant
+   * @param device device on which the constant is placed, or null if unspecified
+   * @param factory creates the constant if it is not found in this cache
+   * @return the cached constant, or the one returned by {@code factory}
+   */
+  @SuppressWarnings("unchecked")
+  <O> O intern(Tensor<?> value, String device, Supplier<O> factory) {
+    if (value.numBytes() > maxBytes) {
+      return factory.get();
+    }
+    Object constant = constants.computeIfAbsent(new Key(value, device), k -> factory.get());
+    // Safe, as the key includes the data type of the constant
+    return (O) constant;
+  }
+
+  private static final class Key {
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return hashCode == other.hashCode
+          && dataType == other.dataType
+          && Objects.equals(device, other.device)
+          && shape.equals(other.shape)
+          && Arrays.equals(data, other.data);
+    }
+
+    private final DataType<?> dataType;
+    private final String device;
+    private final Shape shape;
+    private final byte[] data;
+    private final int hashCode;
+
+    private Key(Tensor<?> value, String device) {
+      dataType = value.dataType();
+      this.device = device;
+      shape = value.shape();
+      ByteBuffer buffer = ByteBuffer.allocate((int) value.numBytes());
+      value.writeTo(buffer);
+      data = buffer.array();
+      hashCode = 31 * (31 * dataType.name().hashCode() + shape.hashCode()) + Arrays.hashCode(data);
+    }
+  }
+
+  private final long maxBytes;
+  private final Map<Key, Object> constants = new ConcurrentHashMap<>();
+}
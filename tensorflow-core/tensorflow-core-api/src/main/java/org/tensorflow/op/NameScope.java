@@ -50,6 +50,10 @@ final class NameScope {
     return new NameScope(opPrefix, name, ids);
   }
 
+  boolean hasOpName() {
+    return opName != null;
+  }
+
   String makeOpName(String name) {
     checkPattern(NAME_REGEX, name);
     // Override with opName if it exists.
@@ -16,9 +16,11 @@ limitations under the License.
 package org.tensorflow.op;
 
 import java.util.ArrayList;
+import java.util.function.Supplier;
 import org.tensorflow.ExecutionEnvironment;
 import org.tensorflow.Operand;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.Tensor;
 
 /**
  * Manages groups of related properties when creating Tensorflow Operations, such as a common name
@@ -84,7 +86,7 @@ public final class Scope {
    * @param env The execution environment used by the scope.
    */
   public Scope(ExecutionEnvironment env) {
-    this(env, new NameScope(), new ArrayList<>());
+    this(env, new NameScope(), new ArrayList<>(), null, null);
   }
 
   /** Returns the execution environment used by this scope. */
@@ -106,7 +108,8 @@ public final class Scope {
    * @throws IllegalArgumentException if the name is invalid
    */
   public Scope withSubScope(String childScopeName) {
-    return new Scope(env, nameScope.withSubScope(childScopeName), controlDependencies);
+    return new Scope(
+        env, nameScope.withSubScope(childScopeName), controlDependencies, device, constantCache);
   }
 
   /**
@@ -122,7 +125,8 @@ public final class Scope {
    * @throws IllegalArgumentException if the name is invalid
    */
   public Scope withName(String opName) {
-    return new Scope(env, nameScope.withName(opName), controlDependencies);
+    return new Scope(
+        env, nameScope.withName(opName), controlDependencies, device, constantCache);
   }
 
   /**
@@ -149,11 +153,74 @@ public final class Scope {
     return nameScope.makeOpName(defaultName);
   }
 
+  /**
+   * Returns a new scope where constants are interned.
+   *
+   * <p>Constants created with the returned scope, or any scope derived from it, are added only once
+   * to the execution environment: creating a constant with the same data type, shape and value as
+   * a previous one returns the existing constant instead of adding a new operation. This reduces
+   * the size of graphs that repeatedly use the same values, like scalars or small lookup tables,
+   * and the time needed to build and import them.
+   *
+   * <p>Since an interned constant may have been created in another subscope, its name does not
+   * necessarily reflect the scope it is retrieved from. Constants created with an explicit {@link
+   * #withName(String) name} or {@link #withControlDependencies(Iterable) control dependencies} are
+   * never interned. Only constants of up to {@link #DEFAULT_MAX_INTERNED_BYTES} bytes are interned.
+   *
+   * @return a new scope interning constants
+   */
+  public Scope withInternedConstants() {
+    return withInternedConstants(DEFAULT_MAX_INTERNED_BYTES);
+  }
+
+  /**
+   * Returns a new scope where constants are interned, up to a given size.
+   *
+   * <p>Interning a constant retains a copy of its value, so constants larger than {@code maxBytes}
+   * are always added to the execution environment.
+   *
+   * @param maxBytes maximum size, in bytes, of the data of the constants to intern
+   * @return a new scope interning constants
+   * @see #withInternedConstants()
+   */
+  public Scope withInternedConstants(long maxBytes) {
+    return new Scope(env, nameScope, controlDependencies, device, new ConstantCache(maxBytes));
+  }
+
+  /**
+   * Returns the constant already created for a value, or creates it.
+   *
+   * <p>This is normally called only by operator building classes, to honor the interning of
+   * constants enabled with {@link #withInternedConstants()}. If constants are not interned in this
+   * scope, {@code factory} is always invoked.
+   *
+   * @param value value of the constant
+   * @param factory creates the constant if it does not exist yet
+   * @return the existing constant, or the one returned by {@code factory}
+   */
+  public <O> O internConstant(Tensor<?> value, Supplier<O> factory) {
+    if (constantCache == null
+        || nameScope.hasOpName()
+        || controlDependencies.iterator().hasNext()) {
+      return factory.get();
+    }
+    return constantCache.intern(value, device, factory);
+  }
+
+  /** Maximum size, in bytes, of the constants interned by default. */
+  public static final long DEFAULT_MAX_INTERNED_BYTES = 64 * 1024;
+
   private Scope(
-      ExecutionEnvironment env, NameScope nameScope, Iterable<Operand<?>> controlDependencies) {
+      ExecutionEnvironment env,
+      NameScope nameScope,
+      Iterable<Operand<?>> controlDependencies,
+      String device,
+      ConstantCache constantCache) {
     this.env = env;
     this.nameScope = nameScope;
     this.controlDependencies = controlDependencies;
+    this.device = device;
+    this.constantCache = constantCache;
   }
 
   /**
@@ -166,7 +233,31 @@ public final class Scope {
    * @return a new scope with the provided control dependencies
    */
   public Scope withControlDependencies(Iterable<Operand<?>> controls) {
-    return new Scope(env, nameScope, controls);
+    return new Scope(env, nameScope, controls, device, constantCache);
+  }
+
+  /**
+   * Returns a new scope where added operations will be placed on the provided device.
+   *
+   * <p>The device is a device specification as accepted by {@link
+   * OperationBuilder#setDevice(String)}, like {@code /device:CPU:0}, or the name of one of the
+   * devices returned by {@link org.tensorflow.Session#listDevices()}. Parts of the specification
+   * that are left unspecified are chosen by the runtime. All other properties are inherited from
+   * the current scope.
+   *
+   * <p>Placing independent subgraphs on distinct devices allows to control how their operations
+   * are distributed, e.g. across the CPUs of different NUMA nodes.
+   *
+   * @param device device specification, or null to let the runtime place the operations
+   * @return a new scope placing operations on the provided device
+   */
+  public Scope withDevice(String device) {
+    return new Scope(env, nameScope, controlDependencies, device, constantCache);
+  }
+
+  /** Returns the device on which operations are placed in this scope, or null if unspecified. */
+  public String device() {
+    return device;
   }
 
   /**
@@ -181,7 +272,22 @@ public final class Scope {
     return builder;
   }
 
+  /**
+   * Places the operation of the provided builder on the {@link #withDevice(String) device} of this
+   * scope, if any.
+   *
+   * @param builder OperationBuilder to place on the device of this scope
+   */
+  public OperationBuilder applyDevice(OperationBuilder builder) {
+    if (device != null) {
+      builder = builder.setDevice(device);
+    }
+    return builder;
+  }
+
   private final ExecutionEnvironment env;
   private final Iterable<Operand<?>> controlDependencies;
   private final NameScope nameScope;
+  private final String device;
+  private final ConstantCache constantCache;
 }
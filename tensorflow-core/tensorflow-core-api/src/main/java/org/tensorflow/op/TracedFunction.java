@@ -0,0 +1,335 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.op;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.tensorflow.DataType;
+import org.tensorflow.Graph;
+import org.tensorflow.Operand;
+import org.tensorflow.Output;
+import org.tensorflow.Session;
+import org.tensorflow.Tensor;
+import org.tensorflow.op.core.Placeholder;
+import org.tensorflow.tools.Shape;
+
+/**
+ * A computation written against the {@link Ops} API that is traced once into a graph and then
+ * replayed on each call.
+ *
+ * <p>When executing operations eagerly, each of them is dispatched individually to the native
+ * library, allocating new resources on every call. For computations that are executed repeatedly,
+ * it is more efficient to capture all their operations in a {@link Graph} and execute that graph as
+ * a whole.
+ *
+ * <p>The first time a {@code TracedFunction} is called with inputs of a given signature (i.e. the
+ * data types and shapes of all inputs), its body is invoked in a new graph, where each input is
+ * replaced by a placeholder. Subsequent calls with a matching signature run the recorded graph in
+ * a {@link Session} without invoking the body again. Calls with a different signature trace a new
+ * variant of the function. Only a limited number of variants are retained, the least recently used
+ * ones being released first.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * try (TracedFunction square = TracedFunction.create((tf, inputs) -> {
+ *     Operand<TFloat> x = (Operand<TFloat>)inputs.get(0);
+ *     return Arrays.asList(tf.math().mul(x, x));
+ *   });
+ *   Tensor<TFloat> x = Tensors.create(2.0f)) {
+ *
+ *   List<Tensor<?>> y = square.call(x);  // traces the body, then runs the graph
+ *   List<Tensor<?>> z = square.call(x);  // runs the same graph, without tracing
+ * }
+ * }</pre>
+ *
+ * <p><b>WARNING:</b> The caller assumes ownership of all tensors returned by {@link #call(List)}
+ * and must close them explicitly. A {@code TracedFunction} owns native resources that must be freed
+ * by invoking {@link #close()}.
+ *
+ * <p>Instances of a {@code TracedFunction} are thread-safe.
+ */
+public final class TracedFunction implements AutoCloseable {
+
+  /** Default maximum number of traced variants retained by a function. */
+  public static final int DEFAULT_MAX_TRACES = 8;
+
+  /** Body of a function to trace. */
+  @FunctionalInterface
+  public interface Body {
+
+    /**
+     * Builds the operations of this function.
+     *
+     * @param tf API for building operations in the graph being traced
+     * @param inputs placeholders for each input of the function, in order
+     * @return the outputs of the function
+     */
+    List<Operand<?>> build(Ops tf, List<Operand<?>> inputs);
+  }
+
+  /**
+   * Creates a function retaining up to {@link #DEFAULT_MAX_TRACES} traced variants.
+   *
+   * @param body body of the function
+   * @return a new function
+   */
+  public static TracedFunction create(Body body) {
+    return create(body, DEFAULT_MAX_TRACES);
+  }
+
+  /**
+   * Creates a function retaining up to {@code maxTraces} traced variants.
+   *
+   * @param body body of the function
+   * @param maxTraces maximum number of traced variants to retain
+   * @return a new function
+   * @throws IllegalArgumentException if {@code maxTraces} is not positive
+   */
+  public static TracedFunction create(Body body, int maxTraces) {
+    if (maxTraces <= 0) {
+      throw new IllegalArgumentException("Maximum number of traces must be positive");
+    }
+    return new TracedFunction(body, maxTraces);
+  }
+
+  /**
+   * Calls this function with the given inputs.
+   *
+   * @see #call(List)
+   */
+  public List<Tensor<?>> call(Tensor<?>... inputs) {
+    return call(Arrays.asList(inputs));
+  }
+
+  /**
+   * Calls this function with the given inputs.
+   *
+   * <p>If the function has not yet been traced for the data types and shapes of these inputs, its
+   * body is first invoked to record a new graph.
+   *
+   * @param inputs input tensors, in the order expected by the body of the function
+   * @return output tensors, in the order returned by the body of the function
+   * @throws IllegalStateException if this function has been closed
+   */
+  public List<Tensor<?>> call(List<Tensor<?>> inputs) {
+    Trace trace = acquire(new Signature(inputs));
+    try {
+      return trace.run(inputs);
+    } finally {
+      release(trace);
+    }
+  }
+
+  /** Returns the number of traced variants currently retained by this function. */
+  public int numTraces() {
+    synchronized (traces) {
+      return traces.size();
+    }
+  }
+
+  /**
+   * Releases all traced variants of this function.
+   *
+   * <p>Variants still running are released as soon as they complete.
+   */
+  @Override
+  public void close() {
+    synchronized (traces) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      for (Trace trace : traces.values()) {
+        trace.retire();
+      }
+      traces.clear();
+    }
+  }
+
+  /** Data types and shapes of the inputs of a call. */
+  private static final class Signature {
+
+    Signature(List<Tensor<?>> inputs) {
+      dataTypes = new DataType<?>[inputs.size()];
+      shapes = new Shape[inputs.size()];
+      for (int i = 0; i < dataTypes.length; ++i) {
+        Tensor<?> input = inputs.get(i);
+        dataTypes[i] = input.dataType();
+        shapes[i] = input.shape();
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Arrays.hashCode(dataTypes) + Arrays.hashCode(shapes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Signature)) {
+        return false;
+      }
+      Signature other = (Signature) obj;
+      return Arrays.equals(dataTypes, other.dataTypes) && Arrays.equals(shapes, other.shapes);
+    }
+
+    private final DataType<?>[] dataTypes;
+    private final Shape[] shapes;
+  }
+
+  /** A variant of the function, traced for a given signature. */
+  private static final class Trace {
+
+    Trace(Graph graph, List<Output<?>> inputs, List<Output<?>> outputs) {
+      this.graph = graph;
+      this.session = new Session(graph);
+      this.inputs = inputs;
+      this.outputs = outputs;
+    }
+
+    List<Tensor<?>> run(List<Tensor<?>> inputTensors) {
+      Session.Runner runner = session.runner();
+      for (int i = 0; i < inputs.size(); ++i) {
+        runner.feed(inputs.get(i), inputTensors.get(i));
+      }
+      for (Output<?> output : outputs) {
+        runner.fetch(output);
+      }
+      return runner.run();
+    }
+
+    // Must be called while holding the lock on the traces of the function
+    void retire() {
+      retired = true;
+      if (users == 0) {
+        close();
+      }
+    }
+
+    void close() {
+      session.close();
+      graph.close();
+    }
+
+    private final Graph graph;
+    private final Session session;
+    private final List<Output<?>> inputs;
+    private final List<Output<?>> outputs;
+    private int users = 0;
+    private boolean retired = false;
+  }
+
+  private final Body body;
+  private final Map<Signature, Trace> traces;
+  private boolean closed = false;
+
+  private TracedFunction(Body body, final int maxTraces) {
+    this.body = body;
+    this.traces =
+        new LinkedHashMap<Signature, Trace>(16, 0.75f, true) {
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Signature, Trace> eldest) {
+            if (size() > maxTraces) {
+              eldest.getValue().retire();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  private Trace acquire(Signature signature) {
+    synchronized (traces) {
+      checkNotClosed();
+      Trace trace = traces.get(signature);
+      if (trace != null) {
+        ++trace.users;
+        return trace;
+      }
+    }
+    // Trace the body without holding the lock, so calls with other signatures are not blocked. If
+    // another thread traced the same signature meanwhile, discard our copy and reuse theirs.
+    Trace newTrace = trace(signature);
+    synchronized (traces) {
+      if (closed) {
+        newTrace.close();
+        checkNotClosed();
+      }
+      Trace trace = traces.get(signature);
+      if (trace == null) {
+        trace = newTrace;
+        traces.put(signature, trace);
+      } else {
+        newTrace.close();
+      }
+      ++trace.users;
+      return trace;
+    }
+  }
+
+  private void release(Trace trace) {
+    synchronized (traces) {
+      if (--trace.users == 0 && trace.retired) {
+        trace.close();
+      }
+    }
+  }
+
+  private Trace trace(Signature signature) {
+    Graph graph = new Graph();
+    try {
+      Ops tf = Ops.create(graph);
+      List<Operand<?>> placeholders = new ArrayList<>(signature.dataTypes.length);
+      for (int i = 0; i < signature.dataTypes.length; ++i) {
+        placeholders.add(
+            tf.withName("input_" + i)
+                .placeholder(signature.dataTypes[i], Placeholder.shape(signature.shapes[i])));
+      }
+      List<Operand<?>> results = body.build(tf, Collections.unmodifiableList(placeholders));
+      if (results == null) {
+        throw new IllegalArgumentException("Body of a traced function must return its outputs");
+      }
+      List<Output<?>> inputs = new ArrayList<>(placeholders.size());
+      for (Operand<?> placeholder : placeholders) {
+        inputs.add(placeholder.asOutput());
+      }
+      List<Output<?>> outputs = new ArrayList<>(results.size());
+      for (Operand<?> result : results) {
+        outputs.add(result.asOutput());
+      }
+      return new Trace(graph, inputs, outputs);
+
+    } catch (RuntimeException e) {
+      graph.close();
+      throw e;
+    }
+  }
+
+  private void checkNotClosed() {
+    if (closed) {
+      throw new IllegalStateException("Traced function has been closed");
+    }
+  }
+}
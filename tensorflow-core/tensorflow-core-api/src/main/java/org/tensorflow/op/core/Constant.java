@@ -650,18 +650,23 @@ public final class Constant<T extends TType> extends PrimitiveOp implements Oper
   /**
    * Create a constant from a Tensor.
    *
+   * <p>If constants are {@link Scope#withInternedConstants() interned} in {@code scope}, an
+   * existing constant with the same value may be returned instead.
+   *
    * @param scope is a scope used to add the underlying operation.
    * @param tensor a Tensor holding the constant value
    * @return a constant of the same data type as `tensor`
    */
   public static <T extends TType> Constant<T> create(Scope scope, Tensor<T> tensor) {
-    return new Constant<>(
-        scope
-            .env()
-            .opBuilder("Const", scope.makeOpName("Const"))
-            .setAttr("value", tensor)
-            .setAttr("dtype", tensor.dataType())
-            .build());
+    return scope.internConstant(
+        tensor,
+        () ->
+            new Constant<>(
+                scope
+                    .applyDevice(scope.env().opBuilder("Const", scope.makeOpName("Const")))
+                    .setAttr("value", tensor)
+                    .setAttr("dtype", tensor.dataType())
+                    .build()));
   }
 
   @Override
@@ -20,6 +20,7 @@ limitations under the License.
 #include <set>
 
 #include "tensorflow/c/eager/c_api.h"
+#include "tensorflow/c/eager/c_api_experimental.h"
 #include "src/main/native/exception_jni.h"
 
 // This value should be >= to the maximum number of outputs in any op
@@ -82,6 +83,24 @@ JNIEXPORT jlong JNICALL Java_org_tensorflow_EagerOperationBuilder_allocate(
   return reinterpret_cast<jlong>(op);
 }
 
+JNIEXPORT void JNICALL Java_org_tensorflow_EagerOperationBuilder_reset(
+    JNIEnv* env, jclass clazz, jlong context_handle, jlong op_handle,
+    jstring name) {
+  TFE_Context* context = requireContext(env, context_handle);
+  if (context == nullptr) return;
+  TFE_Op* op = requireOp(env, op_handle);
+  if (op == nullptr) return;
+  const char* op_or_function_name = env->GetStringUTFChars(name, nullptr);
+  TF_Status* status = TF_NewStatus();
+  // TFE_OpReset replaces the device of the op by the one passed in argument, so
+  // passing none resets it to the default placement. The device is not kept
+  // between reuses and must be set again by the builder if required.
+  TFE_OpReset(context, op_or_function_name, nullptr, status, op);
+  env->ReleaseStringUTFChars(name, op_or_function_name);
+  throwExceptionIfNotOK(env, status);
+  TF_DeleteStatus(status);
+}
+
 JNIEXPORT void JNICALL Java_org_tensorflow_EagerOperationBuilder_delete(
     JNIEnv* env, jclass clazz, jlong op_handle) {
   if (op_handle == 0) return;
@@ -30,6 +30,14 @@ extern "C" {
 JNIEXPORT jlong JNICALL Java_org_tensorflow_EagerOperationBuilder_allocate(
     JNIEnv *, jclass, jlong, jstring);
 
+/*
+ * Class:     org_tensorflow_EagerOperationBuilder
+ * Method:    reset
+ * Signature: (JJLjava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_org_tensorflow_EagerOperationBuilder_reset(
+    JNIEnv *, jclass, jlong, jlong, jstring);
+
 /*
  * Class:     org_tensorflow_EagerOperationBuilder
  * Method:    delete
@@ -115,32 +115,62 @@ JNIEXPORT jint JNICALL Java_org_tensorflow_EagerOperation_dataType(
   return static_cast<jint>(data_type);
 }
 
-JNIEXPORT jint JNICALL Java_org_tensorflow_EagerOperation_numDims(
+JNIEXPORT jlongArray JNICALL Java_org_tensorflow_EagerOperation_shape(
     JNIEnv* env, jclass clazz, jlong handle) {
   TFE_TensorHandle* tensor_handle = requireTensorHandle(env, handle);
-  if (tensor_handle == nullptr) return 0;
+  if (tensor_handle == nullptr) return nullptr;
   TF_Status* status = TF_NewStatus();
   int num_dims = TFE_TensorHandleNumDims(tensor_handle, status);
   if (!throwExceptionIfNotOK(env, status)) {
     TF_DeleteStatus(status);
-    return 0;
+    return nullptr;
+  }
+  std::unique_ptr<jlong[]> dims(new jlong[num_dims]);
+  for (int i = 0; i < num_dims; ++i) {
+    dims[i] = static_cast<jlong>(TFE_TensorHandleDim(tensor_handle, i, status));
+    if (!throwExceptionIfNotOK(env, status)) {
+      TF_DeleteStatus(status);
+      return nullptr;
+    }
   }
   TF_DeleteStatus(status);
-  return static_cast<jint>(num_dims);
+  jlongArray ret = env->NewLongArray(num_dims);
+  env->SetLongArrayRegion(ret, 0, num_dims, dims.get());
+  return ret;
 }
 
-JNIEXPORT jlong JNICALL Java_org_tensorflow_EagerOperation_dim(JNIEnv* env,
-                                                               jclass clazz,
-                                                               jlong handle,
-                                                               jint dim_index) {
+JNIEXPORT void JNICALL Java_org_tensorflow_EagerOperation_readBytes(
+    JNIEnv* env, jclass clazz, jlong handle, jlong byte_offset,
+    jbyteArray dst) {
   TFE_TensorHandle* tensor_handle = requireTensorHandle(env, handle);
-  if (tensor_handle == nullptr) return 0;
+  if (tensor_handle == nullptr) return;
   TF_Status* status = TF_NewStatus();
-  int64_t dim = TFE_TensorHandleDim(tensor_handle, dim_index, status);
+  // For tensors in host memory, resolving only adds a reference to the
+  // existing buffer, which is released right after the bytes are copied
+  TF_Tensor* tensor = TFE_TensorHandleResolve(tensor_handle, status);
   if (!throwExceptionIfNotOK(env, status)) {
     TF_DeleteStatus(status);
-    return 0;
+    return;
   }
   TF_DeleteStatus(status);
-  return static_cast<jlong>(dim);
+  if (TF_TensorType(tensor) == TF_STRING) {
+    throwException(env, kIllegalArgumentException,
+                   "Cannot read raw bytes of a string tensor");
+    TF_DeleteTensor(tensor);
+    return;
+  }
+  const jsize num_bytes = env->GetArrayLength(dst);
+  const size_t byte_size = TF_TensorByteSize(tensor);
+  if (byte_offset < 0 ||
+      static_cast<size_t>(byte_offset) + num_bytes > byte_size) {
+    throwException(env, kIndexOutOfBoundsException,
+                   "Cannot read %d bytes at offset %lld of a %zu bytes tensor",
+                   num_bytes, static_cast<long long>(byte_offset), byte_size);
+    TF_DeleteTensor(tensor);
+    return;
+  }
+  const char* data = static_cast<const char*>(TF_TensorData(tensor));
+  env->SetByteArrayRegion(dst, 0, num_bytes,
+                          reinterpret_cast<const jbyte*>(data + byte_offset));
+  TF_DeleteTensor(tensor);
 }
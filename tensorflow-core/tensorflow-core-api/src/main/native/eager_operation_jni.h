@@ -73,20 +73,20 @@ JNIEXPORT jint JNICALL Java_org_tensorflow_EagerOperation_dataType(JNIEnv *,
 
 /**
  * Class:     org_tensorflow_EagerOperation
- * Method:    numDims
- * Signature: (J)I
+ * Method:    shape
+ * Signature: (J)[J
  */
-JNIEXPORT jint JNICALL Java_org_tensorflow_EagerOperation_numDims(JNIEnv *,
-                                                                  jclass,
-                                                                  jlong);
+JNIEXPORT jlongArray JNICALL Java_org_tensorflow_EagerOperation_shape(JNIEnv *,
+                                                                      jclass,
+                                                                      jlong);
 
 /**
  * Class:     org_tensorflow_EagerOperation
- * Method:    dim
- * Signature: (JI)J
+ * Method:    readBytes
+ * Signature: (JJ[B)V
  */
-JNIEXPORT jlong JNICALL Java_org_tensorflow_EagerOperation_dim(JNIEnv *, jclass,
-                                                               jlong, jint);
+JNIEXPORT void JNICALL Java_org_tensorflow_EagerOperation_readBytes(
+    JNIEnv *, jclass, jlong, jlong, jbyteArray);
 
 #ifdef __cplusplus
 }  // extern "C"
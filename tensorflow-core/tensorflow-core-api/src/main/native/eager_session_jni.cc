@@ -20,6 +20,7 @@ limitations under the License.
 
 #include "tensorflow/c/eager/c_api.h"
 #include "src/main/native/exception_jni.h"
+#include "src/main/native/utils_jni.h"
 
 JNIEXPORT jlong JNICALL Java_org_tensorflow_EagerSession_allocate(
     JNIEnv* env, jclass clazz, jboolean async, jint dpp, jbyteArray config) {
@@ -62,3 +63,42 @@ JNIEXPORT void JNICALL Java_org_tensorflow_EagerSession_delete(JNIEnv* env,
   if (handle == 0) return;
   TFE_DeleteContext(reinterpret_cast<TFE_Context*>(handle));
 }
+
+JNIEXPORT void JNICALL Java_org_tensorflow_EagerSession_asyncWait(JNIEnv* env,
+                                                                  jclass clazz,
+                                                                  jlong handle) {
+  if (handle == 0) {
+    throwException(env, kIllegalStateException,
+                   "Eager session has been closed");
+    return;
+  }
+  TFE_Context* context = reinterpret_cast<TFE_Context*>(handle);
+  TF_Status* status = TF_NewStatus();
+  TFE_ContextAsyncWait(context, status);
+  if (TF_GetCode(status) != TF_OK) {
+    // Clear the error so the context can keep executing new operations once
+    // it has been reported to the caller
+    TFE_ContextAsyncClearError(context);
+  }
+  throwExceptionIfNotOK(env, status);
+  TF_DeleteStatus(status);
+}
+
+JNIEXPORT jobjectArray JNICALL Java_org_tensorflow_EagerSession_listDevices(
+    JNIEnv* env, jclass clazz, jlong handle) {
+  if (handle == 0) {
+    throwException(env, kIllegalStateException,
+                   "Eager session has been closed");
+    return nullptr;
+  }
+  TFE_Context* context = reinterpret_cast<TFE_Context*>(handle);
+  TF_Status* status = TF_NewStatus();
+  TF_DeviceList* devices = TFE_ContextListDevices(context, status);
+  jobjectArray ret = nullptr;
+  if (throwExceptionIfNotOK(env, status)) {
+    ret = toJavaDevices(env, devices);
+  }
+  if (devices != nullptr) TF_DeleteDeviceList(devices);
+  TF_DeleteStatus(status);
+  return ret;
+}
@@ -38,6 +38,23 @@ JNIEXPORT jlong JNICALL Java_org_tensorflow_EagerSession_allocate(
 JNIEXPORT void JNICALL Java_org_tensorflow_EagerSession_delete(JNIEnv *, jclass,
                                                                jlong);
 
+/*
+ * Class:     org_tensorflow_EagerSession
+ * Method:    asyncWait
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_tensorflow_EagerSession_asyncWait(JNIEnv *,
+                                                                  jclass,
+                                                                  jlong);
+
+/*
+ * Class:     org_tensorflow_EagerSession
+ * Method:    listDevices
+ * Signature: (J)[Lorg/tensorflow/Device;
+ */
+JNIEXPORT jobjectArray JNICALL
+Java_org_tensorflow_EagerSession_listDevices(JNIEnv *, jclass, jlong);
+
 #ifdef __cplusplus
 }  // extern "C"
 #endif  // __cplusplus
@@ -201,3 +201,18 @@ JNIEXPORT jbyteArray JNICALL Java_org_tensorflow_Session_run(
   TF_DeleteStatus(status);
   return ret;
 }
+
+JNIEXPORT jobjectArray JNICALL Java_org_tensorflow_Session_listDevices(
+    JNIEnv* env, jclass clazz, jlong handle) {
+  TF_Session* session = requireHandle(env, handle);
+  if (session == nullptr) return nullptr;
+  TF_Status* status = TF_NewStatus();
+  TF_DeviceList* devices = TF_SessionListDevices(session, status);
+  jobjectArray ret = nullptr;
+  if (throwExceptionIfNotOK(env, status)) {
+    ret = toJavaDevices(env, devices);
+  }
+  if (devices != nullptr) TF_DeleteDeviceList(devices);
+  TF_DeleteStatus(status);
+  return ret;
+}
@@ -56,6 +56,14 @@ JNIEXPORT jbyteArray JNICALL Java_org_tensorflow_Session_run(
     JNIEnv *, jclass, jlong, jbyteArray, jlongArray, jlongArray, jintArray,
     jlongArray, jintArray, jlongArray, jboolean, jlongArray);
 
+/*
+ * Class:     org_tensorflow_Session
+ * Method:    listDevices
+ * Signature: (J)[Lorg/tensorflow/Device;
+ */
+JNIEXPORT jobjectArray JNICALL Java_org_tensorflow_Session_listDevices(
+    JNIEnv *, jclass, jlong);
+
 #ifdef __cplusplus
 }  // extern "C"
 #endif  // __cplusplus
@@ -48,6 +48,33 @@ void resolveOutputs(JNIEnv* env, const char* type, jlongArray src_op,
   env->ReleaseLongArrayElements(src_op, op_handles, JNI_ABORT);
 }
 
-
-
-
+jobjectArray toJavaDevices(JNIEnv* env, const TF_DeviceList* devices) {
+  jclass clazz = env->FindClass("org/tensorflow/Device");
+  if (clazz == nullptr) return nullptr;
+  jmethodID ctor = env->GetMethodID(clazz, "<init>",
+                                    "(Ljava/lang/String;Ljava/lang/String;J)V");
+  if (ctor == nullptr) return nullptr;
+  const int count = TF_DeviceListCount(devices);
+  jobjectArray ret = env->NewObjectArray(count, clazz, nullptr);
+  if (ret == nullptr) return nullptr;
+  TF_Status* status = TF_NewStatus();
+  for (int i = 0; i < count; ++i) {
+    const char* name = TF_DeviceListName(devices, i, status);
+    if (!throwExceptionIfNotOK(env, status)) break;
+    const char* type = TF_DeviceListType(devices, i, status);
+    if (!throwExceptionIfNotOK(env, status)) break;
+    int64_t memory_bytes = TF_DeviceListMemoryBytes(devices, i, status);
+    if (!throwExceptionIfNotOK(env, status)) break;
+    jstring jname = env->NewStringUTF(name);
+    jstring jtype = env->NewStringUTF(type);
+    jobject device = env->NewObject(clazz, ctor, jname, jtype,
+                                    static_cast<jlong>(memory_bytes));
+    env->SetObjectArrayElement(ret, i, device);
+    env->DeleteLocalRef(device);
+    env->DeleteLocalRef(jtype);
+    env->DeleteLocalRef(jname);
+  }
+  TF_DeleteStatus(status);
+  env->DeleteLocalRef(clazz);
+  return env->ExceptionCheck() ? nullptr : ret;
+}
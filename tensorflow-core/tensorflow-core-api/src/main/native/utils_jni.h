@@ -27,6 +27,11 @@ extern "C" {
 void resolveOutputs(JNIEnv* env, const char* type, jlongArray src_op,
                     jintArray src_index, TF_Output* dst, jint n);
 
+// Converts a list of devices to an array of org.tensorflow.Device.
+//
+// Returns nullptr if a Java exception has been thrown.
+jobjectArray toJavaDevices(JNIEnv* env, const TF_DeviceList* devices);
+
 #ifdef __cplusplus
 }  // extern "C"
 #endif  // __cplusplus
@@ -15,6 +15,9 @@ limitations under the License.
 
 package org.tensorflow;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.junit.Test;
@@ -142,6 +145,51 @@ public class EagerOperationBuilderTest {
     }
   }
 
+  @Test
+  public void reuseOpHandles() throws InterruptedException {
+    try (EagerSession session =
+        EagerSession.options()
+            .resourceCleanupStrategy(EagerSession.ResourceCleanupStrategy.ON_SAFE_POINTS)
+            .opHandleCacheSize(4)
+            .build()) {
+      // Handles of garbage-collected operations are given back to the cache when reaching a safe
+      // point, i.e. when building the next operation
+      for (int i = 0; i < 100 && session.opHandleCache().hitCount() == 0; ++i) {
+        Operation add =
+            opBuilder(session, "Add", "add")
+                .addInput(TestUtil.constant(session, "Const1", i))
+                .addInput(TestUtil.constant(session, "Const2", 1))
+                .build();
+        assertEquals(i + 1, add.output(0).tensor().intValue());
+        System.gc();
+        Thread.sleep(10);
+      }
+      assertTrue(session.opHandleCache().hitCount() > 0);
+    }
+  }
+
+  @Test
+  public void opHandleCacheIsBoundedPerType() {
+    EagerSession.OpHandleCache cache = new EagerSession.OpHandleCache(2);
+    assertEquals(0L, cache.poll("Add"));
+    assertTrue(cache.offer("Add", 1L));
+    assertTrue(cache.offer("Add", 2L));
+    assertFalse(cache.offer("Add", 3L));
+    assertTrue(cache.offer("Mul", 4L));
+    assertEquals(0L, cache.poll("Sub"));
+    assertEquals(4L, cache.poll("Mul"));
+    assertEquals(1L, cache.poll("Add"));
+    assertEquals(2L, cache.poll("Add"));
+    assertEquals(0L, cache.poll("Add"));
+  }
+
+  @Test
+  public void disabledOpHandleCacheRejectsHandles() {
+    EagerSession.OpHandleCache cache = new EagerSession.OpHandleCache(0);
+    assertFalse(cache.offer("Add", 1L));
+    assertEquals(0L, cache.poll("Add"));
+  }
+
   private static EagerOperationBuilder opBuilder(EagerSession session, String type, String name) {
     return new EagerOperationBuilder(session, type, name);
   }
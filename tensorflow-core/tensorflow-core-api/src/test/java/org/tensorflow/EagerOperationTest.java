@@ -72,6 +72,60 @@ public class EagerOperationTest {
     }
   }
 
+  @Test
+  public void readOutputValuesWithoutResolvingTensor() {
+    try (EagerSession session = EagerSession.create()) {
+      Output<TInt32> scalar = TestUtil.constant(session, "Scalar", 42);
+      assertEquals(42, scalar.intValue());
+      try {
+        scalar.floatValue();
+        fail();
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      Output<TFloat> vector = TestUtil.constant(session, "Vector", new float[] {1f, 2f, 3f});
+      assertEquals(3f, vector.readBytes(8, 4).getFloat(0), 0.0f);
+      try {
+        vector.readBytes(8, 8);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void outputTensorAsync() throws Exception {
+    try (EagerSession session = EagerSession.options().async(true).build()) {
+      EagerOperation add =
+          opBuilder(session, "Add", "AsyncResult")
+              .addInput(TestUtil.constant(session, "Const1", 2))
+              .addInput(TestUtil.constant(session, "Const2", 4))
+              .build();
+      Output<TInt32> output = add.output(0);
+      assertEquals(6, output.tensorAsync().get().intValue());
+      session.sync();
+    }
+  }
+
+  @Test
+  public void asyncErrorsAreReportedAtSync() {
+    try (EagerSession session = EagerSession.options().async(true).build()) {
+      opBuilder(session, "Div", "DivByZero")
+          .addInput(TestUtil.constant(session, "Const1", 2))
+          .addInput(TestUtil.constant(session, "Const2", 0))
+          .build();
+      try {
+        session.sync();
+        fail();
+      } catch (TensorFlowException e) {
+        // expected
+      }
+      // the error has been cleared, so the session can still be used
+      session.sync();
+    }
+  }
+
   @Test
   public void inputAndOutputListLengths() {
     try (EagerSession session = EagerSession.create()) {
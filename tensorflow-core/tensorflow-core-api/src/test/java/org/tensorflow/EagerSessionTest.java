@@ -24,6 +24,8 @@ import static org.junit.Assert.fail;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -97,6 +99,37 @@ public class EagerSessionTest {
     }
   }
 
+  @Test
+  public void resourceStatsTrackAttachedAndReleasedReferences() {
+    TestGarbageCollectorQueue gcQueue = new TestGarbageCollectorQueue();
+    try (EagerSession s =
+        EagerSession.options()
+            .resourceCleanupStrategy(ResourceCleanupStrategy.ON_SAFE_POINTS)
+            .buildForGcTest(gcQueue)) {
+
+      long initialAttached = s.resourceStats().attachedReferences();
+      TestReference ref1 = new TestReference(s, new Object());
+      TestReference ref2 = new TestReference(s, new Object());
+      new TestReference(s, new Object());
+      assertEquals(initialAttached + 3, s.resourceStats().attachedReferences());
+
+      gcQueue.collect(ref1);
+      gcQueue.collect(ref2);
+      sleep(10); // let the references wait in the queue
+      buildOp(s); // safe point
+      assertTrue(ref1.isDeleted());
+      assertTrue(ref2.isDeleted());
+
+      EagerSession.ResourceStats stats = s.resourceStats();
+      assertEquals(2, stats.releasedReferences());
+      assertEquals(2, stats.lastCleanupBatchSize());
+      assertTrue(stats.lastCleanupDelayNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+      assertTrue(stats.lastCleanupDelayNanos() >= stats.lastCleanupDurationNanos());
+      // the remaining reference, plus the one attached by the operation builder
+      assertEquals(initialAttached + 2, stats.attachedReferences());
+    }
+  }
+
   @Test
   public void clearedResourcesAreNotCleanedUp() {
     TestReference ref;
@@ -131,6 +164,25 @@ public class EagerSessionTest {
     }
   }
 
+  @Test
+  public void pendingResolutionsFailWhenSessionIsClosed() {
+    EagerSession s = EagerSession.create();
+    CompletableFuture<Integer> future =
+        s.resolveAsync(
+            () -> {
+              sleep(200); // still running when the session is closed
+              return 1;
+            });
+    s.close();
+    assertTrue(future.isCompletedExceptionally());
+    try {
+      future.join();
+      fail();
+    } catch (CompletionException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
   @Test
   public void defaultSession() throws Exception {
     EagerSession.Options options =
@@ -0,0 +1,112 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.tensorflow.types.TFloat;
+
+/** Unit tests for {@link org.tensorflow.ModelRegistry}. */
+@RunWith(JUnit4.class)
+public class ModelRegistryTest {
+
+  private static final String SAVED_MODEL_PATH;
+  static {
+    try {
+      SAVED_MODEL_PATH =
+          Paths.get(ModelRegistryTest.class.getResource("/saved_model").toURI()).toString();
+    } catch (URISyntaxException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Test
+  public void loadModelOnFirstAcquire() {
+    try (ModelRegistry registry = ModelRegistry.create(Long.MAX_VALUE)) {
+      registry.register("a", loader());
+      assertFalse(registry.isLoaded("a"));
+      assertEquals(0L, registry.memoryUsage());
+
+      try (ModelRegistry.Lease lease1 = registry.acquire("a");
+          ModelRegistry.Lease lease2 = registry.acquire("a")) {
+        assertTrue(registry.isLoaded("a"));
+        assertSame(lease1.bundle(), lease2.bundle());
+        assertTrue(registry.memoryUsage() > 0L);
+      }
+    }
+  }
+
+  @Test
+  public void evictLeastRecentlyUsedModels() {
+    try (ModelRegistry registry = ModelRegistry.create(1L)) {
+      registry.register("a", loader());
+      registry.register("b", loader());
+
+      ModelRegistry.Lease leaseA = registry.acquire("a");
+      long modelMemoryUsage = registry.memoryUsage();
+      try (ModelRegistry.Lease leaseB = registry.acquire("b")) {
+        // the budget cannot hold both models, so "a" has been evicted...
+        assertFalse(registry.isLoaded("a"));
+        assertTrue(registry.isLoaded("b"));
+        assertEquals(2 * modelMemoryUsage, registry.memoryUsage());
+
+        // ...but is not closed until its lease is released
+        try (Tensor<TFloat> x = Tensors.create(new float[][] {{1.0f}});
+            Tensor<?> y = leaseA.bundle().function(Signature.DEFAULT_KEY).call(x)) {
+          assertEquals(2.5f, y.copyTo(new float[1][1])[0][0], 0.0f);
+        }
+        leaseA.close();
+        assertEquals(modelMemoryUsage, registry.memoryUsage());
+      }
+    }
+  }
+
+  @Test
+  public void acquireUnknownModelFails() {
+    try (ModelRegistry registry = ModelRegistry.create(Long.MAX_VALUE)) {
+      registry.acquire("a");
+      fail();
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void acquireFromClosedRegistryFails() {
+    ModelRegistry registry = ModelRegistry.create(Long.MAX_VALUE);
+    registry.register("a", loader());
+    registry.close();
+    try {
+      registry.acquire("a");
+      fail();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  private static SavedModelBundle.Loader loader() {
+    return SavedModelBundle.loader(SAVED_MODEL_PATH).withTags("serve");
+  }
+}
@@ -15,15 +15,23 @@ limitations under the License.
 
 package org.tensorflow;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.tensorflow.tools.Shape;
+import org.tensorflow.types.TFloat;
 
 /** Unit tests for {@link org.tensorflow.SavedModelBundle}. */
 @RunWith(JUnit4.class)
@@ -72,6 +80,125 @@ public class SavedModelBundleTest {
     }
   }
 
+  @Test
+  public void signatures() {
+    try (SavedModelBundle bundle = SavedModelBundle.load(SAVED_MODEL_PATH, "serve")) {
+      Signature signature = bundle.signatures().get(Signature.DEFAULT_KEY);
+      assertNotNull(signature);
+      assertEquals("tensorflow/serving/predict", signature.methodName());
+      Signature.TensorInfo x = signature.inputs().get("x");
+      assertEquals("x:0", x.name());
+      assertEquals(TFloat.DTYPE, x.dataType());
+      assertEquals(2, x.shape().numDimensions());
+      assertEquals(Shape.UNKNOWN_SIZE, x.shape().size(0));
+      assertEquals(1, x.shape().size(1));
+      assertEquals("y:0", signature.outputs().get("y").name());
+    }
+  }
+
+  @Test
+  public void callSignatureFunction() {
+    try (SavedModelBundle bundle = SavedModelBundle.load(SAVED_MODEL_PATH, "serve")) {
+      SignatureFunction function = bundle.function(Signature.DEFAULT_KEY);
+      try (Tensor<TFloat> x = Tensors.create(new float[][] {{1.0f}, {2.0f}});
+          Tensor<?> y = function.call(x)) {
+        float[][] values = y.copyTo(new float[2][1]);
+        assertEquals(2.5f, values[0][0], 0.0f);
+        assertEquals(3.0f, values[1][0], 0.0f);
+      }
+      Map<String, Tensor<?>> args = new HashMap<>();
+      try (Tensor<TFloat> x = Tensors.create(new float[][] {{4.0f}})) {
+        args.put("x", x);
+        try (Tensor<?> y = function.call(args).get("y")) {
+          assertEquals(4.0f, y.copyTo(new float[1][1])[0][0], 0.0f);
+        }
+      }
+      try {
+        bundle.function("__BAD__");
+        fail();
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void warmupWithRequests() {
+    try (Tensor<TFloat> x = Tensors.create(new float[][] {{1.0f}})) {
+      Map<String, Tensor<?>> inputs = new HashMap<>();
+      inputs.put("x", x);
+      try (SavedModelBundle bundle = SavedModelBundle.loader(SAVED_MODEL_PATH)
+          .withTags("serve")
+          .withWarmupRequest(Signature.DEFAULT_KEY, inputs)
+          .withWarmupThreads(2)
+          .withWarmupIterations(4)
+          .load()) {
+        assertNotNull(bundle.session());
+      }
+    }
+  }
+
+  @Test
+  public void failedWarmupFailsToLoad() {
+    try (Tensor<TFloat> x = Tensors.create(new float[][] {{1.0f}})) {
+      Map<String, Tensor<?>> inputs = new HashMap<>();
+      inputs.put("x", x);
+      SavedModelBundle.loader(SAVED_MODEL_PATH)
+          .withTags("serve")
+          .withWarmupRequest("__BAD__", inputs)
+          .load();
+      fail();
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void loadAsync() throws Exception {
+    try (SavedModelBundle bundle =
+        SavedModelBundle.loader(SAVED_MODEL_PATH).withTags("serve").loadAsync().get()) {
+      assertNotNull(bundle.session());
+      SavedModelBundle.LoadTimings timings = bundle.loadTimings();
+      assertTrue(timings.sessionNanos() > 0);
+      assertEquals(0L, timings.warmupNanos());
+      assertTrue(timings.totalNanos() >= timings.sessionNanos() + timings.signaturesNanos());
+    }
+  }
+
+  @Test
+  public void loadAll() throws Exception {
+    List<SavedModelBundle> bundles =
+        SavedModelBundle.loadAll(
+                2,
+                Arrays.asList(
+                    SavedModelBundle.loader(SAVED_MODEL_PATH).withTags("serve"),
+                    SavedModelBundle.loader(SAVED_MODEL_PATH).withTags("serve"),
+                    SavedModelBundle.loader(SAVED_MODEL_PATH).withTags("serve")))
+            .get();
+    try {
+      assertEquals(3, bundles.size());
+    } finally {
+      for (SavedModelBundle bundle : bundles) {
+        bundle.close();
+      }
+    }
+  }
+
+  @Test
+  public void loadAllFailsIfAnyModelFails() throws Exception {
+    try {
+      SavedModelBundle.loadAll(
+              2,
+              Arrays.asList(
+                  SavedModelBundle.loader(SAVED_MODEL_PATH).withTags("serve"),
+                  SavedModelBundle.loader("__BAD__").withTags("serve")))
+          .get();
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof TensorFlowException);
+    }
+  }
+
   private static byte[] sillyRunOptions() {
     // Ideally this would use the generated Java sources for protocol buffers
     // and end up with something like the snippet below. However, generating
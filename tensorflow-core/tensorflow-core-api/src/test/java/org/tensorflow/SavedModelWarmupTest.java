@@ -0,0 +1,141 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.tensorflow.types.TFloat;
+
+/** Unit tests for {@link org.tensorflow.SavedModelWarmup}. */
+@RunWith(JUnit4.class)
+public class SavedModelWarmupTest {
+
+  @Test
+  public void readPredictRequests() throws Exception {
+    // PredictionLog { predict_log { request {
+    //   model_spec { signature_name: "serving_default" }
+    //   inputs { key: "x" value { dtype: DT_FLOAT tensor_shape { dim { size: 2 } dim { size: 1 } }
+    //     float_val: [1.0, 2.0] } } } } }
+    byte[] tensor =
+        concat(
+            varintField(1, 1),
+            field(2, concat(field(2, varintField(1, 2)), field(2, varintField(1, 1)))),
+            field(5, floats(1.0f, 2.0f)));
+    byte[] request =
+        concat(
+            field(1, field(3, "serving_default".getBytes(StandardCharsets.UTF_8))),
+            field(2, concat(field(1, "x".getBytes(StandardCharsets.UTF_8)), field(2, tensor))));
+    byte[] predictionLog = field(6, field(1, request));
+
+    Path file = Files.createTempFile("tf_serving_warmup_requests", "");
+    try {
+      Files.write(file, concat(record(predictionLog), record(predictionLog)));
+      List<SavedModelWarmup.Request> requests = SavedModelWarmup.readRequests(file);
+      try {
+        assertEquals(2, requests.size());
+        SavedModelWarmup.Request first = requests.get(0);
+        assertEquals(Signature.DEFAULT_KEY, first.signatureKey);
+        Tensor<?> x = first.inputs.get("x");
+        assertEquals(TFloat.DTYPE, x.dataType());
+        float[][] values = x.copyTo(new float[2][1]);
+        assertEquals(1.0f, values[0][0], 0.0f);
+        assertEquals(2.0f, values[1][0], 0.0f);
+      } finally {
+        SavedModelWarmup.closeRequests(requests);
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void rejectTensorContentNotMatchingShape() throws Exception {
+    // inputs { key: "x" value { dtype: DT_FLOAT tensor_shape { dim { size: 2 } }
+    //   tensor_content: <a single float> } }
+    byte[] tensor =
+        concat(
+            varintField(1, 1),
+            field(2, field(2, varintField(1, 2))),
+            field(4, floats(1.0f)));
+    byte[] request =
+        field(2, concat(field(1, "x".getBytes(StandardCharsets.UTF_8)), field(2, tensor)));
+    byte[] predictionLog = field(6, field(1, request));
+
+    Path file = Files.createTempFile("tf_serving_warmup_requests", "");
+    try {
+      Files.write(file, record(predictionLog));
+      SavedModelWarmup.readRequests(file);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("record 0"));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static byte[] record(byte[] data) {
+    // checksums are not verified by the reader
+    ByteBuffer buffer = ByteBuffer.allocate(data.length + 16).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putLong(data.length).putInt(0).put(data).putInt(0);
+    return buffer.array();
+  }
+
+  private static byte[] field(int number, byte[] value) {
+    return concat(varint((number << 3) | 2), varint(value.length), value);
+  }
+
+  private static byte[] varintField(int number, long value) {
+    return concat(varint(number << 3), varint(value));
+  }
+
+  private static byte[] floats(float... values) {
+    ByteBuffer buffer = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+    for (float value : values) {
+      buffer.putFloat(value);
+    }
+    return buffer.array();
+  }
+
+  private static byte[] varint(long value) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+    return out.toByteArray();
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      out.write(part, 0, part.length);
+    }
+    return out.toByteArray();
+  }
+}
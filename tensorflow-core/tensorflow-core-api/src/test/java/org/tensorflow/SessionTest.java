@@ -17,9 +17,11 @@ package org.tensorflow;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -157,6 +159,20 @@ public class SessionTest {
     }
   }
 
+  @Test
+  public void listDevices() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      List<Device> devices = s.listDevices();
+      assertFalse(devices.isEmpty());
+      boolean foundCpu = false;
+      for (Device device : devices) {
+        foundCpu |= "CPU".equals(device.type());
+      }
+      assertTrue(foundCpu);
+    }
+  }
+
   @Test
   public void createWithConfigProto() {
     try (Graph g = new Graph();
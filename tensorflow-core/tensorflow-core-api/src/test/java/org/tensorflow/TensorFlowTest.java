@@ -18,6 +18,7 @@ package org.tensorflow;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Map;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,6 +40,17 @@ public class TensorFlowTest {
     assertTrue(TensorFlow.registeredOpList().length > 0);
   }
 
+  @Test
+  public void initTimes() {
+    TensorFlow.version(); // make sure the runtime is initialized
+    Map<String, Long> initTimes = TensorFlow.initTimes();
+    assertTrue(initTimes.containsKey("javacpp"));
+    assertTrue(initTimes.containsKey("lookup"));
+    for (long time : initTimes.values()) {
+      assertTrue(time >= 0);
+    }
+  }
+
   @Ignore // FIXME This test requires to build native test sources
   @Test
   public void loadLibrary() {
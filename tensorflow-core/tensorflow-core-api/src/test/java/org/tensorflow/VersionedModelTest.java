@@ -0,0 +1,113 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.tensorflow.types.TFloat;
+
+/** Unit tests for {@link org.tensorflow.VersionedModel}. */
+@RunWith(JUnit4.class)
+public class VersionedModelTest {
+
+  private static final String SAVED_MODEL_PATH;
+  static {
+    try {
+      SAVED_MODEL_PATH =
+          Paths.get(VersionedModelTest.class.getResource("/saved_model").toURI()).toString();
+    } catch (URISyntaxException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Test
+  public void swapVersionWithoutInterruptingLeases() throws Exception {
+    try (VersionedModel model = VersionedModel.load(loader())) {
+      assertEquals(1L, model.version());
+
+      try (VersionedModel.Lease oldLease = model.acquire()) {
+        AtomicBoolean warmedUp = new AtomicBoolean();
+        long version = model.update(loader(), b -> warmedUp.set(true)).get();
+        assertEquals(2L, version);
+        assertEquals(2L, model.version());
+        assertTrue(warmedUp.get());
+
+        try (VersionedModel.Lease newLease = model.acquire()) {
+          assertEquals(2L, newLease.version());
+          assertNotSame(oldLease.bundle(), newLease.bundle());
+        }
+        // the old version remains usable until its lease is released
+        assertEquals(1L, oldLease.version());
+        assertEquals(2.5f, predict(oldLease.bundle(), 1.0f), 0.0f);
+      }
+    }
+  }
+
+  @Test
+  public void failedWarmupKeepsCurrentVersion() throws Exception {
+    try (VersionedModel model = VersionedModel.load(loader())) {
+      try {
+        model
+            .update(
+                loader(),
+                b -> {
+                  throw new IllegalStateException("warmup failed");
+                })
+            .get();
+        fail();
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof IllegalStateException);
+      }
+      assertEquals(1L, model.version());
+      try (VersionedModel.Lease lease = model.acquire()) {
+        assertEquals(2.5f, predict(lease.bundle(), 1.0f), 0.0f);
+      }
+    }
+  }
+
+  @Test
+  public void acquireFromClosedModelFails() {
+    VersionedModel model = VersionedModel.load(loader());
+    model.close();
+    try {
+      model.acquire();
+      fail();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  private static SavedModelBundle.Loader loader() {
+    return SavedModelBundle.loader(SAVED_MODEL_PATH).withTags("serve");
+  }
+
+  private static float predict(SavedModelBundle bundle, float value) {
+    try (Tensor<TFloat> x = Tensors.create(new float[][] {{value}});
+        Tensor<?> y = bundle.function(Signature.DEFAULT_KEY).call(x)) {
+      return y.copyTo(new float[1][1])[0][0];
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.benchmark;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+/**
+ * Runs the benchmarks of this module and compares their results against a baseline.
+ *
+ * <p>Arguments are passed as is to JMH, so they can be used to select the benchmarks to run or to
+ * override their settings. The comparison is controlled by the following system properties:
+ *
+ * <ul>
+ *   <li>{@code tensorflow.benchmark.baseline}: path of the baseline file. If not set, the
+ *       benchmarks are only run.
+ *   <li>{@code tensorflow.benchmark.mode}: {@code save} to record the results as the new
+ *       baseline, or {@code compare} (default) to compare them against the baseline.
+ *   <li>{@code tensorflow.benchmark.threshold}: relative degradation of a score, compared to the
+ *       baseline, above which a benchmark is reported as a regression (default 0.1, i.e. 10%).
+ * </ul>
+ *
+ * <p>In comparison mode, the process exits with a non-zero status if any regression is found, so
+ * it can be used to gate a release. Benchmarks missing from the baseline, or all of them if there
+ * is no baseline yet, are ignored.
+ */
+public final class BenchmarkSuite {
+
+  public static void main(String[] args) throws Exception {
+    Collection<RunResult> results = new Runner(new CommandLineOptions(args)).run();
+
+    String baseline = System.getProperty(BASELINE_PROPERTY);
+    if (baseline == null) {
+      return;
+    }
+    Path baselineFile = Paths.get(baseline);
+    Map<String, Score> scores = scoresOf(results);
+    if ("save".equals(System.getProperty(MODE_PROPERTY, "compare"))) {
+      save(scores, baselineFile);
+      System.out.println("Saved " + scores.size() + " benchmark scores to " + baselineFile);
+      return;
+    }
+    if (!Files.exists(baselineFile)) {
+      System.out.println("No baseline found at " + baselineFile + ", skipping comparison");
+      return;
+    }
+    double threshold = Double.parseDouble(System.getProperty(THRESHOLD_PROPERTY, "0.1"));
+    List<String> regressions = compare(load(baselineFile), scores, threshold);
+    if (!regressions.isEmpty()) {
+      System.err.println("Performance regressions found, compared to " + baselineFile + ":");
+      for (String regression : regressions) {
+        System.err.println("  " + regression);
+      }
+      System.exit(1);
+    }
+    System.out.println("No performance regressions found, compared to " + baselineFile);
+  }
+
+  /**
+   * Returns the benchmarks whose score degraded by more than {@code threshold}.
+   *
+   * @param baseline scores of the baseline
+   * @param scores scores to compare against the baseline
+   * @param threshold maximum relative degradation of a score
+   * @return a description of each regression
+   */
+  static List<String> compare(
+      Map<String, Score> baseline, Map<String, Score> scores, double threshold) {
+    List<String> regressions = new ArrayList<>();
+    for (Map.Entry<String, Score> entry : scores.entrySet()) {
+      Score before = baseline.get(entry.getKey());
+      if (before == null) {
+        continue;
+      }
+      Score after = entry.getValue();
+      // Throughput is the only mode where a higher score is better
+      double degradation =
+          after.mode == Mode.Throughput
+              ? (before.value - after.value) / before.value
+              : (after.value - before.value) / before.value;
+      if (degradation > threshold) {
+        regressions.add(
+            String.format(
+                "%s: %.3f -> %.3f %s (%+.1f%%)",
+                entry.getKey(),
+                before.value,
+                after.value,
+                after.unit,
+                degradation * 100.0));
+      }
+    }
+    return regressions;
+  }
+
+  /** Score of a benchmark. */
+  static final class Score {
+
+    Score(Mode mode, double value, String unit) {
+      this.mode = mode;
+      this.value = value;
+      this.unit = unit;
+    }
+
+    final Mode mode;
+    final double value;
+    final String unit;
+  }
+
+  private static final String BASELINE_PROPERTY = "tensorflow.benchmark.baseline";
+  private static final String MODE_PROPERTY = "tensorflow.benchmark.mode";
+  private static final String THRESHOLD_PROPERTY = "tensorflow.benchmark.threshold";
+
+  private static Map<String, Score> scoresOf(Collection<RunResult> results) {
+    Map<String, Score> scores = new TreeMap<>();
+    for (RunResult result : results) {
+      BenchmarkParams params = result.getParams();
+      StringBuilder key = new StringBuilder(params.getBenchmark());
+      for (String param : params.getParamsKeys()) {
+        key.append(':').append(param).append('=').append(params.getParam(param));
+      }
+      scores.put(
+          key.toString(),
+          new Score(
+              params.getMode(),
+              result.getPrimaryResult().getScore(),
+              result.getPrimaryResult().getScoreUnit()));
+    }
+    return scores;
+  }
+
+  private static void save(Map<String, Score> scores, Path file) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      for (Map.Entry<String, Score> entry : scores.entrySet()) {
+        Score score = entry.getValue();
+        writer.write(
+            String.join(
+                "\t",
+                entry.getKey(),
+                score.mode.shortLabel(),
+                Double.toString(score.value),
+                score.unit));
+        writer.newLine();
+      }
+    }
+  }
+
+  private static Map<String, Score> load(Path file) throws IOException {
+    Map<String, Score> scores = new TreeMap<>();
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] fields = line.split("\t");
+        if (fields.length != 4) {
+          throw new IOException("Invalid line in baseline file " + file + ": " + line);
+        }
+        scores.put(
+            fields[0],
+            new Score(Mode.deepValueOf(fields[1]), Double.parseDouble(fields[2]), fields[3]));
+      }
+    }
+    return scores;
+  }
+
+  private BenchmarkSuite() {}
+}
@@ -0,0 +1,98 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.EagerSession;
+import org.tensorflow.Operand;
+import org.tensorflow.op.Ops;
+import org.tensorflow.types.TInt32;
+
+/**
+ * Measures the overhead of building operations with the {@link Ops} API in eager mode.
+ *
+ * <p>Rebinding the API to a new scope, e.g. to name an operation, is measured separately from the
+ * execution of an operation, so the cost of the facade itself can be compared with the cost of
+ * dispatching an eager operation to the runtime.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms1G", "-Xmx1G"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class EagerOpsBenchmark {
+
+  private EagerSession session;
+  private Ops tf;
+  private Operand<TInt32> a;
+  private Operand<TInt32> b;
+
+  @Setup
+  public void setUp() {
+    session = EagerSession.create();
+    tf = Ops.create(session);
+    a = tf.constant(new int[] {1, 2, 3, 4});
+    b = tf.constant(new int[] {5, 6, 7, 8});
+  }
+
+  @TearDown
+  public void tearDown() {
+    session.close();
+  }
+
+  @Benchmark
+  public Ops createApi() {
+    return Ops.create(session);
+  }
+
+  @Benchmark
+  public Ops withName() {
+    return tf.withName("op");
+  }
+
+  @Benchmark
+  public Ops withSubScope() {
+    return tf.withSubScope("sub");
+  }
+
+  @Benchmark
+  public Operand<TInt32> add() {
+    return tf.math().add(a, b);
+  }
+
+  @Benchmark
+  public Operand<TInt32> addWithName() {
+    return tf.withName("add").math().add(a, b);
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+}
@@ -0,0 +1,120 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.Graph;
+import org.tensorflow.Operand;
+import org.tensorflow.Session;
+import org.tensorflow.Tensor;
+import org.tensorflow.Tensors;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Placeholder;
+import org.tensorflow.types.TFloat;
+
+/**
+ * Measures the construction of graph operations and the overhead of running a session.
+ *
+ * <p>The graph run by the session is trivial, so that the measures reflect the cost of feeding,
+ * fetching and dispatching rather than the cost of the computation itself.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms1G", "-Xmx1G"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class GraphBenchmark {
+
+  private Graph graph;
+  private Session session;
+  private Placeholder<TFloat> x;
+  private Operand<TFloat> y;
+  private Tensor<TFloat> input;
+
+  // Operations are added to a new graph at every iteration, so it does not grow indefinitely
+  private Graph constructionGraph;
+  private Ops tf;
+  private Operand<TFloat> a;
+  private Operand<TFloat> b;
+
+  @Setup
+  public void setUp() {
+    graph = new Graph();
+    Ops ops = Ops.create(graph);
+    x = ops.placeholder(TFloat.DTYPE);
+    y = ops.math().add(x, ops.constant(1.0f));
+    session = new Session(graph);
+    input = Tensors.create(1.0f);
+  }
+
+  @TearDown
+  public void tearDown() {
+    input.close();
+    session.close();
+    graph.close();
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() {
+    constructionGraph = new Graph();
+    tf = Ops.create(constructionGraph);
+    a = tf.constant(1.0f);
+    b = tf.constant(2.0f);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() {
+    constructionGraph.close();
+  }
+
+  @Benchmark
+  public float runSession() {
+    List<Tensor<?>> outputs = session.runner().feed(x, input).fetch(y).run();
+    try (Tensor<?> output = outputs.get(0)) {
+      return output.floatValue();
+    }
+  }
+
+  @Benchmark
+  public Operand<TFloat> buildOperation() {
+    return tf.math().add(a, b);
+  }
+
+  @Benchmark
+  public Operand<TFloat> buildConstant() {
+    return tf.constant(3.0f);
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+}
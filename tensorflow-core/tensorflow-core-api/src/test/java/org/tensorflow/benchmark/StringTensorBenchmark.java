@@ -0,0 +1,82 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.Tensor;
+import org.tensorflow.types.TString;
+
+/** Measures the encoding and decoding of string tensors. */
+@Fork(value = 1, jvmArgs = {"-Xms1G", "-Xmx1G"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class StringTensorBenchmark {
+
+  @Param({"16", "4096"})
+  public int numStrings;
+
+  private String[] values;
+  private Tensor<TString> tensor;
+
+  @Setup
+  public void setUp() {
+    values = new String[numStrings];
+    for (int i = 0; i < numStrings; ++i) {
+      values[i] = "value #" + i;
+    }
+    tensor = TString.vectorOf(values);
+  }
+
+  @TearDown
+  public void tearDown() {
+    tensor.close();
+  }
+
+  @Benchmark
+  public long encode() {
+    try (Tensor<TString> t = TString.vectorOf(values)) {
+      return t.numBytes();
+    }
+  }
+
+  @Benchmark
+  public String[] decode() {
+    String[] dst = new String[numStrings];
+    tensor.data().read(dst);
+    return dst;
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+}
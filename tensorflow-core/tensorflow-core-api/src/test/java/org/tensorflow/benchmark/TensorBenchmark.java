@@ -0,0 +1,149 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.Tensor;
+import org.tensorflow.Tensors;
+import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.buffer.DataBuffers;
+import org.tensorflow.tools.buffer.FloatDataBuffer;
+import org.tensorflow.tools.ndarray.FloatNdArray;
+import org.tensorflow.tools.ndarray.NdArrays;
+import org.tensorflow.types.TFloat;
+
+/**
+ * Measures the creation of float tensors from Java data and the extraction of their data.
+ *
+ * <p>Benchmarks creating a tensor also include the cost of releasing it.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class TensorBenchmark {
+
+  @Param({"16", "512"})
+  public int size;
+
+  private float[][] array;
+  private FloatBuffer buffer;
+  private FloatNdArray ndArray;
+  private Tensor<TFloat> tensor;
+  private float[][] dstArray;
+  private FloatBuffer dstBuffer;
+  private FloatDataBuffer dstDataBuffer;
+
+  @Setup
+  public void setUp() {
+    array = new float[size][size];
+    for (int i = 0; i < size; ++i) {
+      for (int j = 0; j < size; ++j) {
+        array[i][j] = i * size + j;
+      }
+    }
+    buffer =
+        ByteBuffer.allocateDirect(size * size * Float.BYTES)
+            .order(ByteOrder.nativeOrder())
+            .asFloatBuffer();
+    for (float[] row : array) {
+      buffer.put(row);
+    }
+    buffer.flip();
+    ndArray = NdArrays.ofFloats(Shape.make(size, size));
+    for (int i = 0; i < size; ++i) {
+      ndArray.get(i).write(array[i]);
+    }
+    tensor = Tensors.create(array);
+    dstArray = new float[size][size];
+    dstBuffer = FloatBuffer.allocate(size * size);
+    dstDataBuffer = DataBuffers.ofFloats(size * size);
+  }
+
+  @TearDown
+  public void tearDown() {
+    tensor.close();
+  }
+
+  @Benchmark
+  public long createFromObject() {
+    try (Tensor<?> t = Tensor.create(array)) {
+      return t.numBytes();
+    }
+  }
+
+  @Benchmark
+  public long createFromArray() {
+    try (Tensor<TFloat> t = Tensors.create(array)) {
+      return t.numBytes();
+    }
+  }
+
+  @Benchmark
+  public long createFromBuffer() {
+    try (Tensor<TFloat> t = Tensor.create(new long[] {size, size}, buffer.duplicate())) {
+      return t.numBytes();
+    }
+  }
+
+  @Benchmark
+  public long createFromNdArray() {
+    try (Tensor<TFloat> t = TFloat.copyOf(ndArray)) {
+      return t.numBytes();
+    }
+  }
+
+  @Benchmark
+  public float[][] copyToArray() {
+    return tensor.copyTo(dstArray);
+  }
+
+  @Benchmark
+  public FloatBuffer writeToBuffer() {
+    dstBuffer.clear();
+    tensor.writeTo(dstBuffer);
+    return dstBuffer;
+  }
+
+  @Benchmark
+  public FloatDataBuffer readData() {
+    tensor.data().read(dstDataBuffer);
+    return dstDataBuffer;
+  }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+}
@@ -17,6 +17,7 @@ package org.tensorflow.op;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 import java.util.HashMap;
@@ -30,6 +31,7 @@ import org.tensorflow.Output;
 import org.tensorflow.Session;
 import org.tensorflow.Tensor;
 import org.tensorflow.Tensors;
+import org.tensorflow.op.core.Constant;
 import org.tensorflow.types.TBool;
 import org.tensorflow.types.TDouble;
 import org.tensorflow.types.TFloat;
@@ -155,6 +157,23 @@ public class ScopeTest {
     }
   }
 
+  @Test
+  public void device() {
+    try (Graph g = new Graph();
+        Session sess = new Session(g)) {
+      Scope root = new Scope(g);
+      assertNull(root.device());
+      Scope cpu = root.withDevice("/device:CPU:0");
+      assertEquals("/device:CPU:0", cpu.withSubScope("child").withName("c").device());
+      assertNull(cpu.withDevice(null).device());
+
+      Constant<TInt32> c = Constant.create(cpu, 42);
+      try (Tensor<TInt32> result = sess.runner().fetch(c).run().get(0).expect(TInt32.DTYPE)) {
+        assertEquals(42, result.intValue());
+      }
+    }
+  }
+
   @Test
   public void composite() {
     try (Graph g = new Graph();
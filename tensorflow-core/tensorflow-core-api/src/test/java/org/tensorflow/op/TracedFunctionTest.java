@@ -0,0 +1,108 @@
+/* Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.op;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.tensorflow.Operand;
+import org.tensorflow.Tensor;
+import org.tensorflow.Tensors;
+import org.tensorflow.types.TFloat;
+
+/** Unit tests for {@link org.tensorflow.op.TracedFunction}. */
+@RunWith(JUnit4.class)
+public class TracedFunctionTest {
+
+  @Test
+  public void traceOncePerSignature() {
+    AtomicInteger numCalls = new AtomicInteger();
+    try (TracedFunction square = TracedFunction.create(squareBody(numCalls));
+        Tensor<TFloat> x = Tensors.create(3.0f);
+        Tensor<TFloat> v = Tensors.create(new float[] {1.0f, 2.0f})) {
+
+      assertEquals(9.0f, callScalar(square, x), 0.0f);
+      assertEquals(9.0f, callScalar(square, x), 0.0f);
+      assertEquals(1, numCalls.get());
+      assertEquals(1, square.numTraces());
+
+      List<Tensor<?>> results = square.call(v);
+      try {
+        float[] values = results.get(0).copyTo(new float[2]);
+        assertEquals(1.0f, values[0], 0.0f);
+        assertEquals(4.0f, values[1], 0.0f);
+      } finally {
+        results.get(0).close();
+      }
+      assertEquals(2, numCalls.get());
+      assertEquals(2, square.numTraces());
+    }
+  }
+
+  @Test
+  public void evictLeastRecentlyUsedTraces() {
+    AtomicInteger numCalls = new AtomicInteger();
+    try (TracedFunction square = TracedFunction.create(squareBody(numCalls), 1);
+        Tensor<TFloat> x = Tensors.create(3.0f);
+        Tensor<TFloat> v = Tensors.create(new float[] {1.0f, 2.0f})) {
+
+      callScalar(square, x);
+      square.call(v).get(0).close();
+      assertEquals(1, square.numTraces());
+
+      // previous variant was evicted and must be traced again
+      callScalar(square, x);
+      assertEquals(3, numCalls.get());
+    }
+  }
+
+  @Test
+  public void callingClosedFunctionFails() {
+    TracedFunction square = TracedFunction.create(squareBody(new AtomicInteger()));
+    square.close();
+    try (Tensor<TFloat> x = Tensors.create(3.0f)) {
+      square.call(x);
+      fail();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  private static TracedFunction.Body squareBody(final AtomicInteger numCalls) {
+    return new TracedFunction.Body() {
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public List<Operand<?>> build(Ops tf, List<Operand<?>> inputs) {
+        numCalls.incrementAndGet();
+        Operand<TFloat> x = (Operand<TFloat>) inputs.get(0);
+        return Arrays.<Operand<?>>asList(tf.math().mul(x, x));
+      }
+    };
+  }
+
+  private static float callScalar(TracedFunction function, Tensor<?> input) {
+    try (Tensor<?> result = function.call(input).get(0)) {
+      return result.floatValue();
+    }
+  }
+}
@@ -17,6 +17,8 @@ package org.tensorflow.op.core;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
@@ -208,4 +210,19 @@ public class ConstantTest {
       }
     }
   }
+
+  @Test
+  public void internedConstants() {
+    try (Graph g = new Graph()) {
+      Scope scope = new Scope(g).withInternedConstants();
+      Constant<TInt32> c1 = Constant.create(scope, new int[] {1, 2, 3});
+      Constant<TInt32> c2 = Constant.create(scope.withSubScope("sub"), new int[] {1, 2, 3});
+      assertSame(c1, c2);
+      assertNotSame(c1, Constant.create(scope, new int[] {1, 2, 4}));
+      assertNotSame(c1, Constant.create(scope, new long[] {1, 2, 3}));
+      assertNotSame(c1, Constant.create(scope, new int[][] {{1, 2, 3}}));
+      assertNotSame(c1, Constant.create(scope.withName("c"), new int[] {1, 2, 3}));
+      assertNotSame(c1, Constant.create(new Scope(g), new int[] {1, 2, 3}));
+    }
+  }
 }
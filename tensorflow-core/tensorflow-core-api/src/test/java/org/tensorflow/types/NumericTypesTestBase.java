@@ -57,7 +57,7 @@ abstract class NumericTypesTestBase<T extends TNumber & NdArray<U>, U> {
       Constant<T> y = tf.constant(tensor);
 
       // Subtract y from x and validate the result
-      Sub<T> sub = tf.math.sub(x, y);
+      Sub<T> sub = tf.math().sub(x, y);
       sub.data().scalars().forEach(scalar ->
           assertEquals(valueOf(-1), scalar.getObject())
       );
@@ -96,7 +96,7 @@ abstract class NumericTypesTestBase<T extends TNumber & NdArray<U>, U> {
 
         // Compute the power of the tensor by itself
         Constant<TInt32> x = tf.constant(tensor);
-        IntNdArray result = tf.math.pow(x, x).data();
+        IntNdArray result = tf.math().pow(x, x).data();
 
         // Validate result by computing the same operation in Java
         tensorData.scalars().forEachIndexed((coords, s) ->
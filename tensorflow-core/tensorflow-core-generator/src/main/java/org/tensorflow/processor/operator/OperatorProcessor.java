@@ -338,10 +338,6 @@ public final class OperatorProcessor extends AbstractProcessor {
             .addParameter(T_SCOPE, "scope")
             .addStatement("this.scope = scope", T_SCOPE);
 
-    for (Map.Entry<String, ClassName> entry : groupToClass.entrySet()) {
-      ctorBuilder.addStatement("$L = new $T(scope)", entry.getKey(), entry.getValue());
-    }
-
     TypeSpec.Builder opsBuilder =
         TypeSpec.classBuilder("Ops")
             .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
@@ -360,20 +356,24 @@ public final class OperatorProcessor extends AbstractProcessor {
                     + "  Operand four = ops.constant(4);\n"
                     + "  // Most builders are found within a group, and accept\n"
                     + "  // Operand types as operands\n"
-                    + "  Operand nine = ops.math.add(four, ops.constant(5));\n"
+                    + "  Operand nine = ops.math().add(four, ops.constant(5));\n"
                     + "  // Multi-result operations however offer methods to\n"
                     + "  // select a particular result for use.\n"
                     + "  Operand result = \n"
-                    + "      ops.math.add(ops.unique(s, a).y(), b);\n"
+                    + "      ops.math().add(ops.unique(s, a).y(), b);\n"
                     + "  // Optional attributes\n"
-                    + "  ops.linalg.matMul(a, b, MatMul.transposeA(true));\n"
+                    + "  ops.linalg().matMul(a, b, MatMul.transposeA(true));\n"
                     + "  // Naming operators\n"
                     + "  ops.withName(\"foo\").constant(5); // name \"foo\"\n"
                     + "  // Names can exist in a hierarchy\n"
                     + "  Ops sub = ops.withSubScope(\"sub\");\n"
                     + "  sub.withName(\"bar\").constant(4); // \"sub/bar\"\n"
                     + "}\n"
-                    + "}</pre>\n",
+                    + "}</pre>\n"
+                    + "<p>\n"
+                    + "Instances of the operation groups are only created when first accessed, so\n"
+                    + "that deriving a new API with {@link #withName(String)} or similar methods\n"
+                    + "remains cheap.\n",
                 T_OP,
                 T_OPERATOR)
             .addMethods(methods)
@@ -415,6 +415,18 @@ public final class OperatorProcessor extends AbstractProcessor {
                 T_SCOPE)
             .build());
 
+    opsBuilder.addMethod(
+        MethodSpec.methodBuilder("withDevice")
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(T_STRING, "device")
+            .returns(T_OPS)
+            .addStatement("return new Ops(scope.withDevice(device))")
+            .addJavadoc(
+                "Returns an API that places operations on the provided device.\n\n"
+                    + "@see {@link $T#withDevice(String)}\n",
+                T_SCOPE)
+            .build());
+
     opsBuilder.addField(
         FieldSpec.builder(T_SCOPE, "scope").addModifiers(Modifier.PRIVATE, Modifier.FINAL).build());
 
@@ -426,17 +438,25 @@ public final class OperatorProcessor extends AbstractProcessor {
             .addJavadoc("Returns the current {@link $T scope} of this API\n", T_SCOPE)
             .build());
 
+    // Groups are created lazily, as most APIs derived from this one (e.g. to name a single
+    // operation) only use a few of them, if any. Groups are immutable, so a race between two
+    // threads creating the same group is harmless.
     for (Map.Entry<String, ClassName> entry : groupToClass.entrySet()) {
       opsBuilder.addField(
           FieldSpec.builder(entry.getValue(), entry.getKey())
-              .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+              .addModifiers(Modifier.PRIVATE)
               .build());
 
       opsBuilder.addMethod(
           MethodSpec.methodBuilder(entry.getKey())
               .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
               .returns(entry.getValue())
-              .addStatement("return $L", entry.getKey())
+              .addStatement("$T group = $L", entry.getValue(), entry.getKey())
+              .beginControlFlow("if (group == null)")
+              .addStatement("group = new $T(scope)", entry.getValue())
+              .addStatement("$L = group", entry.getKey())
+              .endControlFlow()
+              .addStatement("return group")
               .addJavadoc("Returns an API for building {@code $L} operations\n", entry.getKey())
               .build());
     }
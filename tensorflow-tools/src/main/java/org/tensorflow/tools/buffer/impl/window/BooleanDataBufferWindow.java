@@ -0,0 +1,75 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.tools.buffer.impl.window;
+
+import org.tensorflow.tools.buffer.BooleanDataBuffer;
+import org.tensorflow.tools.buffer.DataBuffer;
+import org.tensorflow.tools.buffer.impl.Validator;
+
+class BooleanDataBufferWindow extends DataBufferWindow<Boolean> implements BooleanDataBuffer {
+
+  @Override
+  public boolean getBoolean(long index) {
+    Validator.getArgs(this, index);
+    return buffer.getBoolean(start + index);
+  }
+
+  @Override
+  public BooleanDataBuffer setBoolean(boolean value, long index) {
+    Validator.setArgs(this, index);
+    buffer.setBoolean(value, start + index);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer read(boolean[] dst, int offset, int length) {
+    buffer.offset(start).read(dst, offset, length);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer write(boolean[] src, int offset, int length) {
+    buffer.offset(start).write(src, offset, length);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer copyTo(DataBuffer<Boolean> dst, long size) {
+    Validator.copyToArgs(this, dst, size);
+    buffer.offset(start).copyTo(dst, size);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer offset(long index) {
+    Validator.offsetArgs(this, index);
+    return buffer.offset(start + index);
+  }
+
+  @Override
+  public BooleanDataBuffer narrow(long size) {
+    Validator.narrowArgs(this, size);
+    return buffer.offset(start).narrow(size);
+  }
+
+  BooleanDataBufferWindow(BooleanDataBuffer buffer) {
+    super(buffer);
+    this.buffer = buffer;
+  }
+
+  private final BooleanDataBuffer buffer;
+}
@@ -0,0 +1,114 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.tools.buffer.impl.window;
+
+import org.tensorflow.tools.buffer.BooleanDataBuffer;
+import org.tensorflow.tools.buffer.ByteDataBuffer;
+import org.tensorflow.tools.buffer.DataBuffer;
+import org.tensorflow.tools.buffer.DoubleDataBuffer;
+import org.tensorflow.tools.buffer.FloatDataBuffer;
+import org.tensorflow.tools.buffer.IntDataBuffer;
+import org.tensorflow.tools.buffer.LongDataBuffer;
+import org.tensorflow.tools.buffer.ShortDataBuffer;
+import org.tensorflow.tools.buffer.impl.AbstractDataBuffer;
+
+/**
+ * A view of a buffer starting at a given index, that can slide to another index without
+ * reallocating a new buffer.
+ *
+ * <p>This is the mutable equivalent of {@link DataBuffer#offset(long)}: a window always covers the
+ * buffer from its current index up to the end of the buffer. Any buffer returned by
+ * {@link DataBuffer#offset(long)} or {@link DataBuffer#narrow(long)} on a window is a regular buffer
+ * that does not follow the window when it slides.
+ *
+ * @param <T> type of data stored in the buffer
+ */
+@SuppressWarnings("unchecked")
+public abstract class DataBufferWindow<T> extends AbstractDataBuffer<T> {
+
+  /**
+   * Creates a window over the given buffer, initially positioned at its first index.
+   *
+   * <p>The returned window implements the same typed buffer interface as {@code buffer} (e.g. a
+   * window over a {@link FloatDataBuffer} is also a {@link FloatDataBuffer}).
+   *
+   * @param buffer buffer to slide over
+   * @return a window over this buffer
+   */
+  public static <T> DataBufferWindow<T> create(DataBuffer<T> buffer) {
+    if (buffer instanceof FloatDataBuffer) {
+      return (DataBufferWindow<T>)new FloatDataBufferWindow((FloatDataBuffer)buffer);
+    }
+    if (buffer instanceof DoubleDataBuffer) {
+      return (DataBufferWindow<T>)new DoubleDataBufferWindow((DoubleDataBuffer)buffer);
+    }
+    if (buffer instanceof IntDataBuffer) {
+      return (DataBufferWindow<T>)new IntDataBufferWindow((IntDataBuffer)buffer);
+    }
+    if (buffer instanceof LongDataBuffer) {
+      return (DataBufferWindow<T>)new LongDataBufferWindow((LongDataBuffer)buffer);
+    }
+    if (buffer instanceof ShortDataBuffer) {
+      return (DataBufferWindow<T>)new ShortDataBufferWindow((ShortDataBuffer)buffer);
+    }
+    if (buffer instanceof ByteDataBuffer) {
+      return (DataBufferWindow<T>)new ByteDataBufferWindow((ByteDataBuffer)buffer);
+    }
+    if (buffer instanceof BooleanDataBuffer) {
+      return (DataBufferWindow<T>)new BooleanDataBufferWindow((BooleanDataBuffer)buffer);
+    }
+    return new ObjectDataBufferWindow<>(buffer);
+  }
+
+  /**
+   * Moves this window to the given index of the original buffer.
+   *
+   * @param index index of the original buffer where this window now starts
+   * @throws IllegalArgumentException if index is negative or greater than the original buffer size
+   */
+  public void slideTo(long index) {
+    if (index < 0 || index > buffer.size()) {
+      throw new IllegalArgumentException();
+    }
+    start = index;
+  }
+
+  /**
+   * Returns the index of the original buffer where this window currently starts.
+   */
+  public long position() {
+    return start;
+  }
+
+  @Override
+  public long size() {
+    return buffer.size() - start;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return buffer.isReadOnly();
+  }
+
+  DataBufferWindow(DataBuffer<T> buffer) {
+    this.buffer = buffer;
+  }
+
+  long start;
+
+  private final DataBuffer<T> buffer;
+}
@@ -16,6 +16,7 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.BooleanDataBuffer;
 import org.tensorflow.tools.buffer.DataBuffer;
 import org.tensorflow.tools.ndarray.index.Index;
@@ -67,6 +68,95 @@ public interface BooleanNdArray extends NdArray<Boolean> {
    */
   BooleanNdArray setBoolean(boolean value, long... coordinates);
 
+  /**
+   * Returns the boolean value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #getBoolean(long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default boolean getBoolean(long i) {
+    return getBoolean(new long[] {i});
+  }
+
+  /**
+   * Returns the boolean value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #getBoolean(long)
+   */
+  default boolean getBoolean(long i, long j) {
+    return getBoolean(new long[] {i, j});
+  }
+
+  /**
+   * Returns the boolean value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #getBoolean(long)
+   */
+  default boolean getBoolean(long i, long j, long k) {
+    return getBoolean(new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the boolean value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #getBoolean(long)
+   */
+  default boolean getBoolean(long i, long j, long k, long l) {
+    return getBoolean(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the boolean value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #setBoolean(boolean, long...)}, but does not allocate an array
+   * of coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default BooleanNdArray setBoolean(boolean value, long i) {
+    return setBoolean(value, new long[] {i});
+  }
+
+  /**
+   * Assigns the boolean value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #setBoolean(boolean, long)
+   */
+  default BooleanNdArray setBoolean(boolean value, long i, long j) {
+    return setBoolean(value, new long[] {i, j});
+  }
+
+  /**
+   * Assigns the boolean value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #setBoolean(boolean, long)
+   */
+  default BooleanNdArray setBoolean(boolean value, long i, long j, long k) {
+    return setBoolean(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the boolean value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #setBoolean(boolean, long)
+   */
+  default BooleanNdArray setBoolean(boolean value, long i, long j, long k, long l) {
+    return setBoolean(value, new long[] {i, j, k, l});
+  }
+
   /**
    * Reads the content of this N-dimensional array into the destination boolean array.
    *
@@ -127,9 +217,35 @@ public interface BooleanNdArray extends NdArray<Boolean> {
    */
   BooleanNdArray write(boolean[] src, int offset);
 
+  /**
+   * Visits the boolean value of each scalar of this array and their respective coordinates.
+   *
+   * <p>Values are read directly from the array, without instantiating an {@code NdArray} for each
+   * scalar like {@link #scalars()} does, which makes it the fastest way to scan all values of an
+   * array.
+   *
+   * <p><i>Important: the consumer method should not keep a reference to the coordinates
+   * as they are mutable and reused during the iteration to improve performance.</i>
+   *
+   * @param consumer method to invoke for each scalar
+   */
+  void forEachBoolean(CoordsBooleanConsumer consumer);
+
   @Override
   BooleanNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<BooleanNdArray> slicePlan(Index... indices);
+
+  @Override
+  BooleanNdArray permute(int... axes);
+
+  @Override
+  BooleanNdArray broadcastTo(Shape shape);
+
+  @Override
+  BooleanNdArray reshape(Shape shape);
+
   @Override
   BooleanNdArray get(long... coordinates);
 
@@ -155,6 +271,12 @@ public interface BooleanNdArray extends NdArray<Boolean> {
   @Override
   BooleanNdArray copyTo(NdArray<Boolean> dst);
 
+  @Override
+  BooleanNdArray gather(int axis, LongNdArray indices, NdArray<Boolean> dst);
+
+  @Override
+  BooleanNdArray scatter(int axis, LongNdArray indices, NdArray<Boolean> src);
+
   @Override
   BooleanNdArray read(DataBuffer<Boolean> dst);
 
@@ -176,4 +298,14 @@ public interface BooleanNdArray extends NdArray<Boolean> {
 
   @Override
   BooleanNdArray write(Boolean[] src, int offset);
+
+  /**
+   * Consumes the coordinates and the value of a scalar.
+   *
+   * @see #forEachBoolean(CoordsBooleanConsumer)
+   */
+  @FunctionalInterface
+  interface CoordsBooleanConsumer {
+    void consume(long[] coords, boolean value);
+  }
 }
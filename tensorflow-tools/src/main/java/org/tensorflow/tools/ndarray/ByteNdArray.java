@@ -16,6 +16,7 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.ByteDataBuffer;
 import org.tensorflow.tools.buffer.DataBuffer;
 import org.tensorflow.tools.ndarray.index.Index;
@@ -67,6 +68,95 @@ public interface ByteNdArray extends NdArray<Byte> {
    */
   ByteNdArray setByte(byte value, long... coordinates);
 
+  /**
+   * Returns the byte value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #getByte(long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default byte getByte(long i) {
+    return getByte(new long[] {i});
+  }
+
+  /**
+   * Returns the byte value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #getByte(long)
+   */
+  default byte getByte(long i, long j) {
+    return getByte(new long[] {i, j});
+  }
+
+  /**
+   * Returns the byte value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #getByte(long)
+   */
+  default byte getByte(long i, long j, long k) {
+    return getByte(new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the byte value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #getByte(long)
+   */
+  default byte getByte(long i, long j, long k, long l) {
+    return getByte(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the byte value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #setByte(byte, long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default ByteNdArray setByte(byte value, long i) {
+    return setByte(value, new long[] {i});
+  }
+
+  /**
+   * Assigns the byte value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #setByte(byte, long)
+   */
+  default ByteNdArray setByte(byte value, long i, long j) {
+    return setByte(value, new long[] {i, j});
+  }
+
+  /**
+   * Assigns the byte value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #setByte(byte, long)
+   */
+  default ByteNdArray setByte(byte value, long i, long j, long k) {
+    return setByte(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the byte value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #setByte(byte, long)
+   */
+  default ByteNdArray setByte(byte value, long i, long j, long k, long l) {
+    return setByte(value, new long[] {i, j, k, l});
+  }
+
   /**
    * Reads the content of this N-dimensional array into the destination byte array.
    *
@@ -127,9 +217,35 @@ public interface ByteNdArray extends NdArray<Byte> {
    */
   ByteNdArray write(byte[] src, int offset);
 
+  /**
+   * Visits the byte value of each scalar of this array and their respective coordinates.
+   *
+   * <p>Values are read directly from the array, without instantiating an {@code NdArray} for each
+   * scalar like {@link #scalars()} does, which makes it the fastest way to scan all values of an
+   * array.
+   *
+   * <p><i>Important: the consumer method should not keep a reference to the coordinates
+   * as they are mutable and reused during the iteration to improve performance.</i>
+   *
+   * @param consumer method to invoke for each scalar
+   */
+  void forEachByte(CoordsByteConsumer consumer);
+
   @Override
   ByteNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<ByteNdArray> slicePlan(Index... indices);
+
+  @Override
+  ByteNdArray permute(int... axes);
+
+  @Override
+  ByteNdArray broadcastTo(Shape shape);
+
+  @Override
+  ByteNdArray reshape(Shape shape);
+
   @Override
   ByteNdArray get(long... coordinates);
 
@@ -155,6 +271,12 @@ public interface ByteNdArray extends NdArray<Byte> {
   @Override
   ByteNdArray copyTo(NdArray<Byte> dst);
 
+  @Override
+  ByteNdArray gather(int axis, LongNdArray indices, NdArray<Byte> dst);
+
+  @Override
+  ByteNdArray scatter(int axis, LongNdArray indices, NdArray<Byte> src);
+
   @Override
   ByteNdArray read(DataBuffer<Byte> dst);
 
@@ -176,4 +298,14 @@ public interface ByteNdArray extends NdArray<Byte> {
 
   @Override
   ByteNdArray write(Byte[] src, int offset);
+
+  /**
+   * Consumes the coordinates and the value of a scalar.
+   *
+   * @see #forEachByte(CoordsByteConsumer)
+   */
+  @FunctionalInterface
+  interface CoordsByteConsumer {
+    void consume(long[] coords, byte value);
+  }
 }
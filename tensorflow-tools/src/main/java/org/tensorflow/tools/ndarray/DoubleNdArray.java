@@ -16,6 +16,7 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.DataBuffer;
 import org.tensorflow.tools.buffer.DoubleDataBuffer;
 import org.tensorflow.tools.ndarray.index.Index;
@@ -67,6 +68,95 @@ public interface DoubleNdArray extends NdArray<Double> {
    */
   DoubleNdArray setDouble(double value, long... coordinates);
 
+  /**
+   * Returns the double value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #getDouble(long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default double getDouble(long i) {
+    return getDouble(new long[] {i});
+  }
+
+  /**
+   * Returns the double value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #getDouble(long)
+   */
+  default double getDouble(long i, long j) {
+    return getDouble(new long[] {i, j});
+  }
+
+  /**
+   * Returns the double value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #getDouble(long)
+   */
+  default double getDouble(long i, long j, long k) {
+    return getDouble(new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the double value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #getDouble(long)
+   */
+  default double getDouble(long i, long j, long k, long l) {
+    return getDouble(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the double value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #setDouble(double, long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default DoubleNdArray setDouble(double value, long i) {
+    return setDouble(value, new long[] {i});
+  }
+
+  /**
+   * Assigns the double value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #setDouble(double, long)
+   */
+  default DoubleNdArray setDouble(double value, long i, long j) {
+    return setDouble(value, new long[] {i, j});
+  }
+
+  /**
+   * Assigns the double value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #setDouble(double, long)
+   */
+  default DoubleNdArray setDouble(double value, long i, long j, long k) {
+    return setDouble(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the double value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #setDouble(double, long)
+   */
+  default DoubleNdArray setDouble(double value, long i, long j, long k, long l) {
+    return setDouble(value, new long[] {i, j, k, l});
+  }
+
   /**
    * Reads the content of this N-dimensional array into the destination double array.
    *
@@ -127,9 +217,35 @@ public interface DoubleNdArray extends NdArray<Double> {
    */
   DoubleNdArray write(double[] src, int offset);
 
+  /**
+   * Visits the double value of each scalar of this array and their respective coordinates.
+   *
+   * <p>Values are read directly from the array, without instantiating an {@code NdArray} for each
+   * scalar like {@link #scalars()} does, which makes it the fastest way to scan all values of an
+   * array.
+   *
+   * <p><i>Important: the consumer method should not keep a reference to the coordinates
+   * as they are mutable and reused during the iteration to improve performance.</i>
+   *
+   * @param consumer method to invoke for each scalar
+   */
+  void forEachDouble(CoordsDoubleConsumer consumer);
+
   @Override
   DoubleNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<DoubleNdArray> slicePlan(Index... indices);
+
+  @Override
+  DoubleNdArray permute(int... axes);
+
+  @Override
+  DoubleNdArray broadcastTo(Shape shape);
+
+  @Override
+  DoubleNdArray reshape(Shape shape);
+
   @Override
   DoubleNdArray get(long... coordinates);
 
@@ -155,6 +271,12 @@ public interface DoubleNdArray extends NdArray<Double> {
   @Override
   DoubleNdArray copyTo(NdArray<Double> dst);
 
+  @Override
+  DoubleNdArray gather(int axis, LongNdArray indices, NdArray<Double> dst);
+
+  @Override
+  DoubleNdArray scatter(int axis, LongNdArray indices, NdArray<Double> src);
+
   @Override
   DoubleNdArray read(DataBuffer<Double> dst);
 
@@ -176,4 +298,14 @@ public interface DoubleNdArray extends NdArray<Double> {
 
   @Override
   DoubleNdArray write(Double[] src, int offset);
+
+  /**
+   * Consumes the coordinates and the value of a scalar.
+   *
+   * @see #forEachDouble(CoordsDoubleConsumer)
+   */
+  @FunctionalInterface
+  interface CoordsDoubleConsumer {
+    void consume(long[] coords, double value);
+  }
 }
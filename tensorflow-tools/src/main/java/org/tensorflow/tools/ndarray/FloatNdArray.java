@@ -16,6 +16,7 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.DataBuffer;
 import org.tensorflow.tools.buffer.FloatDataBuffer;
 import org.tensorflow.tools.ndarray.index.Index;
@@ -67,6 +68,95 @@ public interface FloatNdArray extends NdArray<Float> {
    */
   FloatNdArray setFloat(float value, long... coordinates);
 
+  /**
+   * Returns the float value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #getFloat(long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default float getFloat(long i) {
+    return getFloat(new long[] {i});
+  }
+
+  /**
+   * Returns the float value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #getFloat(long)
+   */
+  default float getFloat(long i, long j) {
+    return getFloat(new long[] {i, j});
+  }
+
+  /**
+   * Returns the float value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #getFloat(long)
+   */
+  default float getFloat(long i, long j, long k) {
+    return getFloat(new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the float value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #getFloat(long)
+   */
+  default float getFloat(long i, long j, long k, long l) {
+    return getFloat(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the float value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #setFloat(float, long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default FloatNdArray setFloat(float value, long i) {
+    return setFloat(value, new long[] {i});
+  }
+
+  /**
+   * Assigns the float value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #setFloat(float, long)
+   */
+  default FloatNdArray setFloat(float value, long i, long j) {
+    return setFloat(value, new long[] {i, j});
+  }
+
+  /**
+   * Assigns the float value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #setFloat(float, long)
+   */
+  default FloatNdArray setFloat(float value, long i, long j, long k) {
+    return setFloat(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the float value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #setFloat(float, long)
+   */
+  default FloatNdArray setFloat(float value, long i, long j, long k, long l) {
+    return setFloat(value, new long[] {i, j, k, l});
+  }
+
   /**
    * Reads the content of this N-dimensional array into the destination float array.
    *
@@ -127,9 +217,35 @@ public interface FloatNdArray extends NdArray<Float> {
    */
   FloatNdArray write(float[] src, int offset);
 
+  /**
+   * Visits the float value of each scalar of this array and their respective coordinates.
+   *
+   * <p>Values are read directly from the array, without instantiating an {@code NdArray} for each
+   * scalar like {@link #scalars()} does, which makes it the fastest way to scan all values of an
+   * array.
+   *
+   * <p><i>Important: the consumer method should not keep a reference to the coordinates
+   * as they are mutable and reused during the iteration to improve performance.</i>
+   *
+   * @param consumer method to invoke for each scalar
+   */
+  void forEachFloat(CoordsFloatConsumer consumer);
+
   @Override
   FloatNdArray slice(Index... coordinates);
 
+  @Override
+  SlicePlan<FloatNdArray> slicePlan(Index... indices);
+
+  @Override
+  FloatNdArray permute(int... axes);
+
+  @Override
+  FloatNdArray broadcastTo(Shape shape);
+
+  @Override
+  FloatNdArray reshape(Shape shape);
+
   @Override
   FloatNdArray get(long... coordinates);
 
@@ -155,6 +271,12 @@ public interface FloatNdArray extends NdArray<Float> {
   @Override
   FloatNdArray copyTo(NdArray<Float> dst);
 
+  @Override
+  FloatNdArray gather(int axis, LongNdArray indices, NdArray<Float> dst);
+
+  @Override
+  FloatNdArray scatter(int axis, LongNdArray indices, NdArray<Float> src);
+
   @Override
   FloatNdArray read(DataBuffer<Float> dst);
 
@@ -176,4 +298,14 @@ public interface FloatNdArray extends NdArray<Float> {
 
   @Override
   FloatNdArray write(Float[] src, int offset);
+
+  /**
+   * Consumes the coordinates and the value of a scalar.
+   *
+   * @see #forEachFloat(CoordsFloatConsumer)
+   */
+  @FunctionalInterface
+  interface CoordsFloatConsumer {
+    void consume(long[] coords, float value);
+  }
 }
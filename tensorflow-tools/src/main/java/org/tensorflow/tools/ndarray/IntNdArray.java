@@ -16,6 +16,7 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.DataBuffer;
 import org.tensorflow.tools.buffer.IntDataBuffer;
 import org.tensorflow.tools.ndarray.index.Index;
@@ -67,6 +68,95 @@ public interface IntNdArray extends NdArray<Integer> {
    */
   IntNdArray setInt(int value, long... coordinates);
 
+  /**
+   * Returns the int value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #getInt(long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default int getInt(long i) {
+    return getInt(new long[] {i});
+  }
+
+  /**
+   * Returns the int value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #getInt(long)
+   */
+  default int getInt(long i, long j) {
+    return getInt(new long[] {i, j});
+  }
+
+  /**
+   * Returns the int value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #getInt(long)
+   */
+  default int getInt(long i, long j, long k) {
+    return getInt(new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the int value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #getInt(long)
+   */
+  default int getInt(long i, long j, long k, long l) {
+    return getInt(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the int value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #setInt(int, long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default IntNdArray setInt(int value, long i) {
+    return setInt(value, new long[] {i});
+  }
+
+  /**
+   * Assigns the int value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #setInt(int, long)
+   */
+  default IntNdArray setInt(int value, long i, long j) {
+    return setInt(value, new long[] {i, j});
+  }
+
+  /**
+   * Assigns the int value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #setInt(int, long)
+   */
+  default IntNdArray setInt(int value, long i, long j, long k) {
+    return setInt(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the int value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #setInt(int, long)
+   */
+  default IntNdArray setInt(int value, long i, long j, long k, long l) {
+    return setInt(value, new long[] {i, j, k, l});
+  }
+
   /**
    * Reads the content of this N-dimensional array into the destination int array.
    *
@@ -127,9 +217,35 @@ public interface IntNdArray extends NdArray<Integer> {
    */
   IntNdArray write(int[] src, int offset);
 
+  /**
+   * Visits the int value of each scalar of this array and their respective coordinates.
+   *
+   * <p>Values are read directly from the array, without instantiating an {@code NdArray} for each
+   * scalar like {@link #scalars()} does, which makes it the fastest way to scan all values of an
+   * array.
+   *
+   * <p><i>Important: the consumer method should not keep a reference to the coordinates
+   * as they are mutable and reused during the iteration to improve performance.</i>
+   *
+   * @param consumer method to invoke for each scalar
+   */
+  void forEachInt(CoordsIntConsumer consumer);
+
   @Override
   IntNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<IntNdArray> slicePlan(Index... indices);
+
+  @Override
+  IntNdArray permute(int... axes);
+
+  @Override
+  IntNdArray broadcastTo(Shape shape);
+
+  @Override
+  IntNdArray reshape(Shape shape);
+
   @Override
   IntNdArray get(long... coordinates);
 
@@ -155,6 +271,12 @@ public interface IntNdArray extends NdArray<Integer> {
   @Override
   IntNdArray copyTo(NdArray<Integer> dst);
 
+  @Override
+  IntNdArray gather(int axis, LongNdArray indices, NdArray<Integer> dst);
+
+  @Override
+  IntNdArray scatter(int axis, LongNdArray indices, NdArray<Integer> src);
+
   @Override
   IntNdArray read(DataBuffer<Integer> dst);
 
@@ -176,4 +298,14 @@ public interface IntNdArray extends NdArray<Integer> {
 
   @Override
   IntNdArray write(Integer[] src, int offset);
+
+  /**
+   * Consumes the coordinates and the value of a scalar.
+   *
+   * @see #forEachInt(CoordsIntConsumer)
+   */
+  @FunctionalInterface
+  interface CoordsIntConsumer {
+    void consume(long[] coords, int value);
+  }
 }
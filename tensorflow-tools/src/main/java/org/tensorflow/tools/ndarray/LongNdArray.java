@@ -16,6 +16,7 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.DataBuffer;
 import org.tensorflow.tools.buffer.LongDataBuffer;
 import org.tensorflow.tools.ndarray.index.Index;
@@ -67,6 +68,95 @@ public interface LongNdArray extends NdArray<Long> {
    */
   LongNdArray setLong(long value, long... coordinates);
 
+  /**
+   * Returns the long value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #getLong(long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default long getLong(long i) {
+    return getLong(new long[] {i});
+  }
+
+  /**
+   * Returns the long value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #getLong(long)
+   */
+  default long getLong(long i, long j) {
+    return getLong(new long[] {i, j});
+  }
+
+  /**
+   * Returns the long value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #getLong(long)
+   */
+  default long getLong(long i, long j, long k) {
+    return getLong(new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the long value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #getLong(long)
+   */
+  default long getLong(long i, long j, long k, long l) {
+    return getLong(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the long value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #setLong(long, long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default LongNdArray setLong(long value, long i) {
+    return setLong(value, new long[] {i});
+  }
+
+  /**
+   * Assigns the long value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #setLong(long, long)
+   */
+  default LongNdArray setLong(long value, long i, long j) {
+    return setLong(value, new long[] {i, j});
+  }
+
+  /**
+   * Assigns the long value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #setLong(long, long)
+   */
+  default LongNdArray setLong(long value, long i, long j, long k) {
+    return setLong(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the long value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #setLong(long, long)
+   */
+  default LongNdArray setLong(long value, long i, long j, long k, long l) {
+    return setLong(value, new long[] {i, j, k, l});
+  }
+
   /**
    * Reads the content of this N-dimensional array into the destination long array.
    *
@@ -127,9 +217,35 @@ public interface LongNdArray extends NdArray<Long> {
    */
   LongNdArray write(long[] src, int offset);
 
+  /**
+   * Visits the long value of each scalar of this array and their respective coordinates.
+   *
+   * <p>Values are read directly from the array, without instantiating an {@code NdArray} for each
+   * scalar like {@link #scalars()} does, which makes it the fastest way to scan all values of an
+   * array.
+   *
+   * <p><i>Important: the consumer method should not keep a reference to the coordinates
+   * as they are mutable and reused during the iteration to improve performance.</i>
+   *
+   * @param consumer method to invoke for each scalar
+   */
+  void forEachLong(CoordsLongConsumer consumer);
+
   @Override
   LongNdArray slice(Index... indices);
 
+  @Override
+  SlicePlan<LongNdArray> slicePlan(Index... indices);
+
+  @Override
+  LongNdArray permute(int... axes);
+
+  @Override
+  LongNdArray broadcastTo(Shape shape);
+
+  @Override
+  LongNdArray reshape(Shape shape);
+
   @Override
   LongNdArray get(long... coordinates);
 
@@ -155,6 +271,12 @@ public interface LongNdArray extends NdArray<Long> {
   @Override
   LongNdArray copyTo(NdArray<Long> dst);
 
+  @Override
+  LongNdArray gather(int axis, LongNdArray indices, NdArray<Long> dst);
+
+  @Override
+  LongNdArray scatter(int axis, LongNdArray indices, NdArray<Long> src);
+
   @Override
   LongNdArray read(DataBuffer<Long> dst);
 
@@ -176,4 +298,14 @@ public interface LongNdArray extends NdArray<Long> {
 
   @Override
   LongNdArray write(Long[] src, int offset);
+
+  /**
+   * Consumes the coordinates and the value of a scalar.
+   *
+   * @see #forEachLong(CoordsLongConsumer)
+   */
+  @FunctionalInterface
+  interface CoordsLongConsumer {
+    void consume(long[] coords, long value);
+  }
 }
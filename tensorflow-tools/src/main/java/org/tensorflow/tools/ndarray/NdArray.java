@@ -161,6 +161,108 @@ public interface NdArray<T> {
    */
   NdArray<T> slice(Index... indices);
 
+  /**
+   * Compiles a slicing pattern for this array, to be applied repeatedly at different coordinates.
+   *
+   * <p>Each point index of the pattern, like {@code at()}, is replaced by the coordinates given
+   * to the returned plan, while the other indices are resolved only once, here. This is more
+   * efficient than calling {@link #slice(Index...)} with the same pattern many times.
+   *
+   * <pre>{@code
+   *    SlicePlan<FloatNdArray> plan = matrix3d.slicePlan(at(0), all(), at(0));
+   *    for (long x = 0; x < 3; ++x) {
+   *      FloatNdArray vector = plan.slice(x, 2);  // same as matrix3d.slice(at(x), all(), at(2))
+   *    }
+   * }</pre>
+   *
+   * @param indices index selectors per dimensions, starting from dimension 0 of this array.
+   * @return a plan for slicing this array with the given pattern
+   * @see SlicePlan
+   */
+  SlicePlan<? extends NdArray<T>> slicePlan(Index... indices);
+
+  /**
+   * Creates a view of this array with its dimensions reordered.
+   *
+   * <p>The dimension {@code i} of the returned view is the dimension {@code axes[i]} of this array.
+   * For example, permuting a matrix with {@code permute(1, 0)} returns its transpose, while
+   * {@code permute(0, 3, 1, 2)} converts a batch of images from the NHWC to the NCHW format.
+   *
+   * <p>Any changes applied to the returned view affect the data of this array as well, as there
+   * is no copy involved. Since the elements of a permuted view are not contiguous in memory
+   * anymore, copying it to a new array, e.g. with {@link #copyTo(NdArray)}, is the preferred way
+   * to obtain a compact version of its data when it is read intensively. Such copies traverse the
+   * data by blocks, to make good use of the processor caches.
+   *
+   * <p>Example of usage:
+   * <pre>{@code
+   *    FloatNdArray images = ndArrayOfFloats(shape(10, 28, 28, 3));  // NHWC
+   *    FloatNdArray nchwImages = images.permute(0, 3, 1, 2);
+   *    assertEquals(shape(10, 3, 28, 28), nchwImages.shape());
+   *    assertEquals(images.getFloat(0, 1, 2, 1), nchwImages.getFloat(0, 1, 1, 2), 0.0f);
+   * }</pre>
+   *
+   * @param axes index of the dimension of this array to use for each dimension of the view
+   * @return a permuted view of this array
+   * @throws IllegalArgumentException if {@code axes} is not a permutation of the dimensions of
+   * this array
+   */
+  NdArray<T> permute(int... axes);
+
+  /**
+   * Creates a view of this array with a larger shape, by repeating its data along the dimensions
+   * it does not have or that are of size 1.
+   *
+   * <p>Broadcasting follows the same rules as NumPy: the dimensions of this array are matched with
+   * the last dimensions of {@code shape}, and each of them must be either equal to the target
+   * dimension or of size 1. For example, a vector of shape {@code [3]} can be broadcast to a
+   * shape {@code [10, 28, 28, 3]}, repeating its values for each pixel of a batch of images.
+   *
+   * <p>All elements of a broadcast dimension are backed by the same data, so any change applied to
+   * one of them, or to this array, is visible in all of them. Broadcast views are mostly used as a
+   * source of data: when copied to another array, their data is copied in bulk.
+   *
+   * <p>Example of usage:
+   * <pre>{@code
+   *    FloatNdArray bias = NdArrays.vectorOf(1.0f, 2.0f, 3.0f);
+   *    FloatNdArray images = ndArrayOfFloats(shape(10, 28, 28, 3));
+   *    bias.broadcastTo(images.shape()).copyTo(images);  // or images.set(bias)
+   *    assertEquals(2.0f, images.getFloat(9, 27, 0, 1), 0.0f);
+   * }</pre>
+   *
+   * @param shape shape of the view
+   * @return a broadcast view of this array, or this array if {@code shape} is equal to its shape
+   * @throws IllegalArgumentException if this array cannot be broadcast to {@code shape}
+   */
+  NdArray<T> broadcastTo(Shape shape);
+
+  /**
+   * Returns an array with the same data as this one, but organized in a different shape.
+   *
+   * <p>Values are taken from this array in the order of their coordinates, i.e. with the last
+   * dimension varying the fastest. For example, a matrix of shape {@code [2, 6]} can be reshaped to
+   * {@code [2, 2, 3]}, where the first row of the matrix becomes the first element of the new array.
+   *
+   * <p>If the layout of this array allows it, the returned array is a view of this one, with no
+   * copy involved: this is always the case for arrays, or slices of arrays, whose values are all
+   * contiguous. Otherwise, e.g. when reshaping a strided slice of an array or a permuted view,
+   * the data of this array is first copied to a new buffer and both arrays can then be altered
+   * independently.
+   *
+   * <p>Example of usage:
+   * <pre>{@code
+   *    FloatNdArray features = ndArrayOfFloats(shape(10, 28 * 28 * 3));
+   *    FloatNdArray images = features.reshape(shape(10, 28, 28, 3));
+   *    assertEquals(features.getFloat(0, 5), images.getFloat(0, 0, 1, 2), 0.0f);
+   * }</pre>
+   *
+   * @param shape shape of the reshaped array
+   * @return an array of the given shape, with the same data as this array
+   * @throws IllegalArgumentException if shape is null, has unknown dimensions or has a different
+   * size than this array
+   */
+  NdArray<T> reshape(Shape shape);
+
   /**
    * Returns the N-dimensional element of this array at the given coordinates.
    *
@@ -192,6 +294,10 @@ public interface NdArray<T> {
    *  matrix.set(scalar(10.0f), 1, 0); // success
    * }</pre>
    *
+   * <p>The source array is broadcast to the shape of the assigned element if needed, as in
+   * {@link #copyTo(NdArray)}. For example, {@code matrix.set(vector(10.0f, 20.0f))} assigns the
+   * same values to all rows of the matrix.
+   *
    * @param coordinates coordinates of the element to assign
    * @return this array
    * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
@@ -255,16 +361,62 @@ public interface NdArray<T> {
    * Copy the content of this array to the destination array.
    *
    * <p>The {@link #shape()} of the destination array must be equal to the shape of this array, or
-   * an exception is thrown. After the copy, the content of both arrays can be altered
-   * independently, without affecting each other.
+   * this array must be broadcastable to it (see {@link #broadcastTo(Shape)}), or an exception is
+   * thrown. After the copy, the content of both arrays can be altered independently, without
+   * affecting each other.
    *
    * @param dst array to receive a copy of the content of this array
    * @return this array
    * @throws IllegalArgumentException if the shape of {@code dst} is not equal to the shape of this
-   * array
+   * array and this array cannot be broadcast to it
    */
   NdArray<T> copyTo(NdArray<T> dst);
 
+  /**
+   * Gathers the elements found at the given indices of a dimension of this array into the
+   * destination array.
+   *
+   * <p>The shape of the destination array must be the shape of this array where dimension
+   * {@code axis} is replaced by the shape of {@code indices}, or an exception is thrown. For
+   * example, gathering the rows {@code [4, 0, 4]} of a matrix of shape {@code [10, 8]} results in a
+   * matrix of shape {@code [3, 8]}:
+   * <pre>{@code
+   *    FloatNdArray embeddings = NdArrays.ofFloats(shape(10, 8));
+   *    FloatNdArray rows = NdArrays.ofFloats(shape(3, 8));
+   *    embeddings.gather(0, NdArrays.vectorOf(4L, 0L, 4L), rows);
+   * }</pre>
+   *
+   * <p>The position of each index is computed once, and elements are copied in bulk when their data
+   * is contiguous. To gather large amounts of data in parallel, see {@link ParallelTransfer}.
+   *
+   * @param axis dimension of this array where indices apply
+   * @param indices indices of the elements to gather
+   * @param dst array receiving the gathered elements
+   * @return this array
+   * @throws IllegalArgumentException if axis is not a dimension of this array or if the
+   * destination array is not of the expected shape
+   * @throws IndexOutOfBoundsException if some indices are outside the limits of the dimension
+   */
+  NdArray<T> gather(int axis, LongNdArray indices, NdArray<T> dst);
+
+  /**
+   * Scatters the elements of the source array to the given indices of a dimension of this array.
+   *
+   * <p>This is the reverse operation of {@link #gather(int, LongNdArray, NdArray)}: the shape of
+   * the source array must be the shape of this array where dimension {@code axis} is replaced by
+   * the shape of {@code indices}, and each of its elements is copied to this array at the
+   * corresponding index. If an index is repeated, only the last element copied to it remains.
+   *
+   * @param axis dimension of this array where indices apply
+   * @param indices indices where to copy the elements of the source array
+   * @param src array with the elements to scatter
+   * @return this array
+   * @throws IllegalArgumentException if axis is not a dimension of this array or if the
+   * source array is not of the expected shape
+   * @throws IndexOutOfBoundsException if some indices are outside the limits of the dimension
+   */
+  NdArray<T> scatter(int axis, LongNdArray indices, NdArray<T> src);
+
   /**
    * Read the content of this N-dimensional array into the destination buffer.
    *
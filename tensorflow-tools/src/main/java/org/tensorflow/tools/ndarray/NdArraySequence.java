@@ -35,4 +35,25 @@ public interface NdArraySequence<T extends NdArray<?>> extends Iterable<T> {
    * @param consumer method to invoke for each elements
    */
   void forEachIndexed(BiConsumer<long[], T> consumer);
+
+  /**
+   * Returns each element as a view of the same instance, which slides over the sequence.
+   *
+   * <p>By default, a new instance of {@code T} is returned for each element of a sequence. A sliding
+   * window instead reuses a single view per iteration, repositioned on each element in turn, so that
+   * iterating a large number of elements does not result in as many allocations.
+   *
+   * <p>For example, the following code doubles all scalars of {@code array} with a constant amount
+   * of memory:
+   * <pre>{@code
+   *    array.scalars().asSlidingWindow().forEach(s -> s.setFloat(s.getFloat() * 2));
+   * }</pre>
+   *
+   * <p><i>Important: the consumer method should not keep a reference to the elements, as their
+   * content changes at each step of the iteration. Use {@link NdArray#copyTo(NdArray)} to retain the
+   * values of an element.</i>
+   *
+   * @return a sequence returning the same element instance at each step
+   */
+  NdArraySequence<T> asSlidingWindow();
 }
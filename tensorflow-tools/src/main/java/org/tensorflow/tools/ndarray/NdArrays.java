@@ -16,6 +16,9 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.BooleanDataBuffer;
 import org.tensorflow.tools.buffer.ByteDataBuffer;
@@ -26,6 +29,8 @@ import org.tensorflow.tools.buffer.FloatDataBuffer;
 import org.tensorflow.tools.buffer.IntDataBuffer;
 import org.tensorflow.tools.buffer.LongDataBuffer;
 import org.tensorflow.tools.buffer.ShortDataBuffer;
+import org.tensorflow.tools.ndarray.impl.AbstractNdArray;
+import org.tensorflow.tools.ndarray.impl.dense.AbstractDenseNdArray;
 import org.tensorflow.tools.ndarray.impl.dense.BooleanDenseNdArray;
 import org.tensorflow.tools.ndarray.impl.dense.ByteDenseNdArray;
 import org.tensorflow.tools.ndarray.impl.dense.DenseNdArray;
@@ -34,6 +39,8 @@ import org.tensorflow.tools.ndarray.impl.dense.FloatDenseNdArray;
 import org.tensorflow.tools.ndarray.impl.dense.IntDenseNdArray;
 import org.tensorflow.tools.ndarray.impl.dense.LongDenseNdArray;
 import org.tensorflow.tools.ndarray.impl.dense.ShortDenseNdArray;
+import org.tensorflow.tools.ndarray.index.Index;
+import org.tensorflow.tools.ndarray.index.Indices;
 
 /**
  * Helper class for instantiating {@link NdArray} objects.
@@ -464,5 +471,239 @@ public final class NdArrays {
   public static <T> NdArray<T> wrap(DataBuffer<T> buffer, Shape shape) {
     return DenseNdArray.wrap(buffer, shape);
   }
-}
 
+  // STACKING AND SPLITTING
+
+  /**
+   * Stacks arrays of the same shape into a new array with one more dimension.
+   *
+   * <p>If all arrays are of shape {@code S}, the returned array is of shape {@code [n, ...S]},
+   * where {@code n} is the number of arrays, and its element {@code i} is a copy of
+   * {@code arrays.get(i)}. The returned array is of the same type as the first array of the list.
+   *
+   * <p>This is typically used for batching multiple inputs of a model into a single one. When all
+   * arrays are dense and contiguous in memory, each of them is copied in bulk to a contiguous region
+   * of the result.
+   *
+   * @param arrays arrays to stack
+   * @return a new array with the content of all arrays
+   * @throws IllegalArgumentException if the list is empty or if arrays have different shapes
+   * @see #stack(List, NdArray)
+   */
+  public static <T, U extends NdArray<T>> U stack(List<U> arrays) {
+    Shape shape = stackedShape(arrays);
+    return stack(arrays, allocateLike(arrays.get(0), shape));
+  }
+
+  /**
+   * Stacks arrays of the same shape into the given destination array.
+   *
+   * <p>This is the equivalent of {@link #stack(List)} but writes the result to an existing array,
+   * like the data of a tensor, instead of allocating a new one.
+   *
+   * @param arrays arrays to stack
+   * @param dst array receiving the content of all arrays
+   * @return the destination array
+   * @throws IllegalArgumentException if the list is empty, if arrays have different shapes or if
+   * the destination array is not of shape {@code [n, ...S]}
+   */
+  public static <T, U extends NdArray<T>> U stack(List<? extends NdArray<T>> arrays, U dst) {
+    Shape shape = stackedShape(arrays);
+    if (!shape.equals(dst.shape())) {
+      throw new IllegalArgumentException("Cannot stack arrays into an array of shape " +
+          dst.shape() + ", expecting " + shape);
+    }
+    // the layout of the stacked arrays is the same as if they were concatenated on their first axis
+    if (!concatInBulk(arrays, 0, dst)) {
+      long i = 0;
+      for (NdArray<T> array : arrays) {
+        array.copyTo(dst.get(i++));
+      }
+    }
+    return dst;
+  }
+
+  /**
+   * Unstacks the elements of the first dimension of an array.
+   *
+   * <p>This is the reverse operation of {@link #stack(List)}. The returned elements are views of
+   * the original array, no copy is involved.
+   *
+   * @param array array to unstack
+   * @return a view of each element of the first dimension of this array
+   * @throws IllegalRankException if the array is a scalar
+   */
+  @SuppressWarnings("unchecked")
+  public static <T, U extends NdArray<T>> List<U> unstack(U array) {
+    if (array.rank() == 0) {
+      throw new IllegalRankException("Cannot unstack a scalar");
+    }
+    long numElements = array.shape().size(0);
+    List<U> elements = new ArrayList<>((int)numElements);
+    for (long i = 0; i < numElements; ++i) {
+      elements.add((U)array.get(i));
+    }
+    return elements;
+  }
+
+  /**
+   * Concatenates arrays along one of their dimensions into a new array.
+   *
+   * <p>All arrays must have the same shape, except for the concatenated dimension. The returned
+   * array is of the same type as the first array of the list.
+   *
+   * @param arrays arrays to concatenate
+   * @param axis index of the dimension to concatenate
+   * @return a new array with the content of all arrays
+   * @throws IllegalArgumentException if the list is empty or if arrays have incompatible shapes
+   * @see #concat(List, int, NdArray)
+   */
+  public static <T, U extends NdArray<T>> U concat(List<U> arrays, int axis) {
+    Shape shape = concatenatedShape(arrays, axis);
+    return concat(arrays, axis, allocateLike(arrays.get(0), shape));
+  }
+
+  /**
+   * Concatenates arrays along one of their dimensions into the given destination array.
+   *
+   * <p>This is the equivalent of {@link #concat(List, int)} but writes the result to an existing
+   * array, like the data of a tensor, instead of allocating a new one. When the destination and
+   * all arrays are dense and contiguous in memory, each array is copied in bulk, as a single block
+   * when concatenating along the first dimension or one block per row of the preceding dimensions
+   * otherwise.
+   *
+   * @param arrays arrays to concatenate
+   * @param axis index of the dimension to concatenate
+   * @param dst array receiving the content of all arrays
+   * @return the destination array
+   * @throws IllegalArgumentException if the list is empty, if arrays have incompatible shapes or if
+   * the destination array is not of the shape resulting of the concatenation
+   */
+  public static <T, U extends NdArray<T>> U concat(
+      List<? extends NdArray<T>> arrays, int axis, U dst) {
+    Shape shape = concatenatedShape(arrays, axis);
+    if (!shape.equals(dst.shape())) {
+      throw new IllegalArgumentException("Cannot concatenate arrays into an array of shape " +
+          dst.shape() + ", expecting " + shape);
+    }
+    if (!concatInBulk(arrays, axis, dst)) {
+      long start = 0;
+      for (NdArray<T> array : arrays) {
+        long end = start + array.shape().size(axis);
+        array.copyTo(sliceAxis(dst, axis, start, end));
+        start = end;
+      }
+    }
+    return dst;
+  }
+
+  /**
+   * Splits an array along one of its dimensions.
+   *
+   * <p>This is the reverse operation of {@link #concat(List, int)}. The returned parts are views
+   * of the original array, no copy is involved. For example, the output of a model for a batch of
+   * multiple requests can be split back into one array per request.
+   *
+   * @param array array to split
+   * @param axis index of the dimension to split
+   * @param sizes number of elements of the split dimension in each part
+   * @return a view of each part of the array
+   * @throws IllegalArgumentException if the sum of all sizes is not equal to the number of elements
+   * of the split dimension
+   */
+  @SuppressWarnings("unchecked")
+  public static <T, U extends NdArray<T>> List<U> split(U array, int axis, long... sizes) {
+    if (axis < 0 || axis >= array.rank()) {
+      throw new IllegalArgumentException("Cannot split dimension " + axis +
+          " of an array of shape " + array.shape());
+    }
+    long total = 0;
+    for (long size : sizes) {
+      if (size < 0) {
+        throw new IllegalArgumentException("Sizes of the parts must be non-negative");
+      }
+      total += size;
+    }
+    if (total != array.shape().size(axis)) {
+      throw new IllegalArgumentException("Cannot split dimension " + axis +
+          " of an array of shape " + array.shape() + " in parts of " + total + " elements");
+    }
+    List<U> parts = new ArrayList<>(sizes.length);
+    long start = 0;
+    for (long size : sizes) {
+      parts.add((U)sliceAxis(array, axis, start, start + size));
+      start += size;
+    }
+    return parts;
+  }
+
+  private static Shape stackedShape(List<? extends NdArray<?>> arrays) {
+    if (arrays == null || arrays.isEmpty()) {
+      throw new IllegalArgumentException("At least one array is required");
+    }
+    Shape shape = arrays.get(0).shape();
+    for (NdArray<?> array : arrays) {
+      if (!shape.equals(array.shape())) {
+        throw new IllegalArgumentException("Can only stack arrays of the same shape (" + shape +
+            " != " + array.shape() + ")");
+      }
+    }
+    long[] dimensionSizes = new long[shape.numDimensions() + 1];
+    dimensionSizes[0] = arrays.size();
+    for (int i = 0; i < shape.numDimensions(); ++i) {
+      dimensionSizes[i + 1] = shape.size(i);
+    }
+    return Shape.make(dimensionSizes);
+  }
+
+  private static Shape concatenatedShape(List<? extends NdArray<?>> arrays, int axis) {
+    if (arrays == null || arrays.isEmpty()) {
+      throw new IllegalArgumentException("At least one array is required");
+    }
+    long[] dimensionSizes = arrays.get(0).shape().asArray().clone();
+    if (axis < 0 || axis >= dimensionSizes.length) {
+      throw new IllegalArgumentException("Cannot concatenate dimension " + axis +
+          " of arrays of shape " + arrays.get(0).shape());
+    }
+    dimensionSizes[axis] = 0;
+    for (NdArray<?> array : arrays) {
+      Shape shape = array.shape();
+      if (shape.numDimensions() != dimensionSizes.length) {
+        throw new IllegalArgumentException("Can only concatenate arrays of the same rank");
+      }
+      for (int i = 0; i < dimensionSizes.length; ++i) {
+        if (i == axis) {
+          dimensionSizes[i] += shape.size(i);
+        } else if (dimensionSizes[i] != shape.size(i)) {
+          throw new IllegalArgumentException("Can only concatenate arrays with the same " +
+              "dimensions, except on the concatenated one (" + arrays.get(0).shape() + " != " +
+              shape + ")");
+        }
+      }
+    }
+    return Shape.make(dimensionSizes);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T, U extends NdArray<T>> U allocateLike(U array, Shape shape) {
+    if (!(array instanceof AbstractNdArray)) {
+      throw new IllegalArgumentException("Cannot allocate an array of type " +
+          array.getClass().getName() + ", a destination array must be provided");
+    }
+    return ((AbstractNdArray<T, U>)array).allocate(shape);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> boolean concatInBulk(
+      List<? extends NdArray<T>> arrays, int axis, NdArray<T> dst) {
+    return dst instanceof AbstractDenseNdArray
+        && ((AbstractDenseNdArray<T, ?>)dst).concatInBulk(arrays, axis);
+  }
+
+  private static <T> NdArray<T> sliceAxis(NdArray<T> array, int axis, long start, long end) {
+    Index[] indices = new Index[axis + 1];
+    Arrays.fill(indices, Indices.all());
+    indices[axis] = Indices.range(start, end);
+    return array.slice(indices);
+  }
+}
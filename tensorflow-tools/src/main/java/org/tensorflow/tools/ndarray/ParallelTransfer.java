@@ -0,0 +1,522 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.tools.ndarray;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.buffer.DataBuffer;
+import org.tensorflow.tools.ndarray.impl.AbstractNdArray;
+import org.tensorflow.tools.ndarray.impl.Validator;
+import org.tensorflow.tools.ndarray.index.Index;
+import org.tensorflow.tools.ndarray.index.Indices;
+
+/**
+ * Transfers large amounts of data between N-dimensional arrays and buffers using multiple threads.
+ *
+ * <p>Operations of this class are the parallel equivalent of {@link NdArray#copyTo(NdArray)},
+ * {@link NdArray#read(DataBuffer)}, {@link NdArray#write(DataBuffer)},
+ * {@link NdArray#gather(int, LongNdArray, NdArray)}, {@link NdArray#scatter(int, LongNdArray,
+ * NdArray)} and {@link DataBuffer#copyTo(DataBuffer, long)}. The data is split along the first
+ * dimension of the arrays (or of the indices, for gathering and scattering), or in ranges of values
+ * for buffers, into tasks that are executed by a {@link ForkJoinPool}. If the first dimension is
+ * too small to be split enough, its elements are split in turn along their own first dimension.
+ *
+ * <p>Splitting stops when a part contains no more values than the {@link #threshold()} of this
+ * transfer, so transfers below that threshold are executed serially on the calling thread.
+ *
+ * <p>Since different parts of the destination are written concurrently, it must support writes to
+ * distinct values from multiple threads. This is the case of all arrays and buffers allocated by
+ * {@link NdArrays} and {@link org.tensorflow.tools.buffer.DataBuffers}, but not of buffers mapping
+ * multiple values to a same memory word, like a buffer of booleans backed by a {@link
+ * java.util.BitSet}.
+ *
+ * <p>Instances of this class are immutable and can be shared between threads.
+ *
+ * <pre>{@code
+ *    ParallelTransfer transfer = ParallelTransfer.create().withThreshold(1 << 20);
+ *    transfer.copy(images, batch.get(0));
+ * }</pre>
+ */
+public final class ParallelTransfer {
+
+  /**
+   * Default number of values under which a transfer is no longer split.
+   */
+  public static final long DEFAULT_THRESHOLD = 1L << 16;
+
+  /**
+   * Creates a transfer running its tasks in the common {@link ForkJoinPool}, with the
+   * {@link #DEFAULT_THRESHOLD default threshold}.
+   *
+   * @return a new transfer
+   */
+  public static ParallelTransfer create() {
+    return new ParallelTransfer(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Returns a copy of this transfer that runs its tasks in the given pool.
+   *
+   * @param pool pool of threads executing the transfers
+   * @return a new transfer
+   */
+  public ParallelTransfer withPool(ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool cannot be null");
+    }
+    return new ParallelTransfer(pool, threshold);
+  }
+
+  /**
+   * Returns a copy of this transfer that stops splitting the data when a part has no more values
+   * than {@code threshold}.
+   *
+   * @param threshold maximum number of values transferred serially
+   * @return a new transfer
+   * @throws IllegalArgumentException if threshold is not positive
+   */
+  public ParallelTransfer withThreshold(long threshold) {
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("Threshold must be positive");
+    }
+    return new ParallelTransfer(pool, threshold);
+  }
+
+  /**
+   * @return the pool of threads executing the transfers
+   */
+  public ForkJoinPool pool() {
+    return pool;
+  }
+
+  /**
+   * @return the maximum number of values transferred serially
+   */
+  public long threshold() {
+    return threshold;
+  }
+
+  /**
+   * Copy the content of an array to the destination array, in parallel.
+   *
+   * @param src array to copy
+   * @param dst array to receive a copy of the content of {@code src}
+   * @return the source array
+   * @throws IllegalArgumentException if the shape of {@code dst} is not equal to the shape of
+   * {@code src} and {@code src} cannot be broadcast to it
+   * @see NdArray#copyTo(NdArray)
+   */
+  public <T> NdArray<T> copy(NdArray<T> src, NdArray<T> dst) {
+    execute(new ArrayCopy<>(src.broadcastTo(dst.shape()), dst));
+    return src;
+  }
+
+  /**
+   * Read the content of an array into the destination buffer, in parallel.
+   *
+   * @param src array to read
+   * @param dst the destination buffer
+   * @return the source array
+   * @throws BufferOverflowException if the buffer cannot hold the content of the array
+   * @see NdArray#read(DataBuffer)
+   */
+  public <T> NdArray<T> read(NdArray<T> src, DataBuffer<T> dst) {
+    if (dst.size() < src.size()) {
+      throw new BufferOverflowException();
+    }
+    execute(new ArrayRead<>(src, dst));
+    return src;
+  }
+
+  /**
+   * Write the content of an array from the source buffer, in parallel.
+   *
+   * @param dst array to write
+   * @param src the source buffer
+   * @return the destination array
+   * @throws BufferUnderflowException if the buffer has not enough remaining data to write into the
+   * array
+   * @see NdArray#write(DataBuffer)
+   */
+  public <T> NdArray<T> write(NdArray<T> dst, DataBuffer<T> src) {
+    if (src.size() < dst.size()) {
+      throw new BufferUnderflowException();
+    }
+    execute(new ArrayWrite<>(dst, src));
+    return dst;
+  }
+
+  /**
+   * Copy the first {@code size} values of a buffer to the destination buffer, in parallel.
+   *
+   * @param src buffer to copy
+   * @param dst the destination buffer; must not be the source buffer
+   * @param size number of values to copy
+   * @return the source buffer
+   * @throws IllegalArgumentException if the destination buffer is the source buffer
+   * @throws java.nio.ReadOnlyBufferException if the destination buffer is read-only
+   * @throws BufferOverflowException if there is not enough space in destination buffer
+   * @throws BufferUnderflowException if there are not enough values in the source buffer
+   * @see DataBuffer#copyTo(DataBuffer, long)
+   */
+  public <T> DataBuffer<T> copy(DataBuffer<T> src, DataBuffer<T> dst, long size) {
+    org.tensorflow.tools.buffer.impl.Validator.copyToArgs(src, dst, size);
+    execute(new BufferCopy<>(src, dst, size));
+    return src;
+  }
+
+  /**
+   * Gathers the elements found at the given indices of a dimension of an array, in parallel.
+   *
+   * <p>The indices are split along their first dimension, so each task gathers a distinct part of
+   * the destination array.
+   *
+   * @param src array to gather elements from
+   * @param axis dimension of {@code src} where indices apply
+   * @param indices indices of the elements to gather
+   * @param dst array receiving the gathered elements
+   * @return the source array
+   * @throws IllegalArgumentException if axis is not a dimension of the source array or if the
+   * destination array is not of the expected shape
+   * @throws IndexOutOfBoundsException if some indices are outside the limits of the dimension
+   * @see NdArray#gather(int, LongNdArray, NdArray)
+   */
+  public <T> NdArray<T> gather(NdArray<T> src, int axis, LongNdArray indices, NdArray<T> dst) {
+    Validator.gatherArgs(src, axis, indices, dst);
+    execute(new IndexedTransfer<>(src, axis, indices, dst, true));
+    return src;
+  }
+
+  /**
+   * Scatters the elements of an array to the given indices of a dimension of another, in
+   * parallel.
+   *
+   * <p>The indices are split along their first dimension, so each task scatters a distinct part of
+   * the source array. If an index is repeated, which of the elements copied to it remains is
+   * undefined.
+   *
+   * @param dst array to scatter elements to
+   * @param axis dimension of {@code dst} where indices apply
+   * @param indices indices where to copy the elements of the source array
+   * @param src array with the elements to scatter
+   * @return the destination array
+   * @throws IllegalArgumentException if axis is not a dimension of the destination array or if
+   * the source array is not of the expected shape
+   * @throws IndexOutOfBoundsException if some indices are outside the limits of the dimension
+   * @see NdArray#scatter(int, LongNdArray, NdArray)
+   */
+  public <T> NdArray<T> scatter(NdArray<T> dst, int axis, LongNdArray indices, NdArray<T> src) {
+    Validator.scatterArgs(dst, axis, indices, src);
+    execute(new IndexedTransfer<>(dst, axis, indices, src, false));
+    return dst;
+  }
+
+  /**
+   * Assigns a value to all scalars of an array, in parallel.
+   *
+   * @param dst array to fill
+   * @param value value to assign
+   * @return the destination array
+   */
+  public <T> NdArray<T> fill(NdArray<T> dst, T value) {
+    execute(new ArrayCopy<>(scalarOf(dst, value).broadcastTo(dst.shape()), dst));
+    return dst;
+  }
+
+  /**
+   * A transfer of data that can be split in smaller ones.
+   */
+  private interface Transfer {
+
+    /** Number of values to transfer */
+    long size();
+
+    /** Number of elements along which this transfer can be split, or 0 if it cannot */
+    long numElements();
+
+    /** Returns the transfer of the elements in the range {@code [from, to)} */
+    Transfer slice(long from, long to);
+
+    /** Returns the transfer of a single element, to be split along its own elements */
+    Transfer element(long index);
+
+    /** Executes this transfer on the current thread */
+    void execute();
+  }
+
+  private static final class ArrayCopy<T> implements Transfer {
+
+    @Override
+    public long size() {
+      return dst.size();
+    }
+
+    @Override
+    public long numElements() {
+      return dst.rank() > 0 ? dst.shape().size(0) : 0;
+    }
+
+    @Override
+    public Transfer slice(long from, long to) {
+      Index range = Indices.range(from, to);
+      return new ArrayCopy<>(src.slice(range), dst.slice(range));
+    }
+
+    @Override
+    public Transfer element(long index) {
+      return new ArrayCopy<>(src.get(index), dst.get(index));
+    }
+
+    @Override
+    public void execute() {
+      src.copyTo(dst);
+    }
+
+    ArrayCopy(NdArray<T> src, NdArray<T> dst) {
+      this.src = src;
+      this.dst = dst;
+    }
+
+    private final NdArray<T> src;
+    private final NdArray<T> dst;
+  }
+
+  private static abstract class ArrayBufferTransfer<T> implements Transfer {
+
+    @Override
+    public long size() {
+      return array.size();
+    }
+
+    @Override
+    public long numElements() {
+      return array.rank() > 0 ? array.shape().size(0) : 0;
+    }
+
+    @Override
+    public Transfer slice(long from, long to) {
+      long elementSize = array.size() / numElements();
+      return create(
+          array.slice(Indices.range(from, to)),
+          buffer.offset(from * elementSize).narrow((to - from) * elementSize)
+      );
+    }
+
+    @Override
+    public Transfer element(long index) {
+      long elementSize = array.size() / numElements();
+      return create(array.get(index), buffer.offset(index * elementSize).narrow(elementSize));
+    }
+
+    abstract Transfer create(NdArray<T> array, DataBuffer<T> buffer);
+
+    ArrayBufferTransfer(NdArray<T> array, DataBuffer<T> buffer) {
+      this.array = array;
+      this.buffer = buffer;
+    }
+
+    final NdArray<T> array;
+    final DataBuffer<T> buffer;
+  }
+
+  private static final class ArrayRead<T> extends ArrayBufferTransfer<T> {
+
+    @Override
+    public void execute() {
+      array.read(buffer);
+    }
+
+    @Override
+    Transfer create(NdArray<T> array, DataBuffer<T> buffer) {
+      return new ArrayRead<>(array, buffer);
+    }
+
+    ArrayRead(NdArray<T> array, DataBuffer<T> buffer) {
+      super(array, buffer);
+    }
+  }
+
+  private static final class ArrayWrite<T> extends ArrayBufferTransfer<T> {
+
+    @Override
+    public void execute() {
+      array.write(buffer);
+    }
+
+    @Override
+    Transfer create(NdArray<T> array, DataBuffer<T> buffer) {
+      return new ArrayWrite<>(array, buffer);
+    }
+
+    ArrayWrite(NdArray<T> array, DataBuffer<T> buffer) {
+      super(array, buffer);
+    }
+  }
+
+  private static final class IndexedTransfer<T> implements Transfer {
+
+    @Override
+    public long size() {
+      return other.size();
+    }
+
+    @Override
+    public long numElements() {
+      return indices.rank() > 0 ? indices.shape().size(0) : 0;
+    }
+
+    @Override
+    public Transfer slice(long from, long to) {
+      Index range = Indices.range(from, to);
+      return new IndexedTransfer<>(array, axis, indices.slice(range),
+          other.slice(otherIndices(range)), gather);
+    }
+
+    @Override
+    public Transfer element(long index) {
+      return new IndexedTransfer<>(array, axis, indices.get(index),
+          other.slice(otherIndices(Indices.at(index))), gather);
+    }
+
+    @Override
+    public void execute() {
+      if (gather) {
+        array.gather(axis, indices, other);
+      } else {
+        array.scatter(axis, indices, other);
+      }
+    }
+
+    IndexedTransfer(NdArray<T> array, int axis, LongNdArray indices, NdArray<T> other,
+        boolean gather) {
+      this.array = array;
+      this.axis = axis;
+      this.indices = indices;
+      this.other = other;
+      this.gather = gather;
+    }
+
+    private final NdArray<T> array;
+    private final int axis;
+    private final LongNdArray indices;
+    private final NdArray<T> other;
+    private final boolean gather;
+
+    /** Returns indices selecting all elements of {@code other} but at the indexed dimension */
+    private Index[] otherIndices(Index index) {
+      Index[] otherIndices = new Index[axis + 1];
+      Arrays.fill(otherIndices, Indices.all());
+      otherIndices[axis] = index;
+      return otherIndices;
+    }
+  }
+
+  private static final class BufferCopy<T> implements Transfer {
+
+    @Override
+    public long size() {
+      return size;
+    }
+
+    @Override
+    public long numElements() {
+      return size;
+    }
+
+    @Override
+    public Transfer slice(long from, long to) {
+      return new BufferCopy<>(src.offset(from), dst.offset(from), to - from);
+    }
+
+    @Override
+    public Transfer element(long index) {
+      return slice(index, index + 1);
+    }
+
+    @Override
+    public void execute() {
+      src.copyTo(dst, size);
+    }
+
+    BufferCopy(DataBuffer<T> src, DataBuffer<T> dst, long size) {
+      this.src = src;
+      this.dst = dst;
+      this.size = size;
+    }
+
+    private final DataBuffer<T> src;
+    private final DataBuffer<T> dst;
+    private final long size;
+  }
+
+  private final class TransferTask extends RecursiveAction {
+
+    @Override
+    protected void compute() {
+      long numElements = transfer.numElements();
+      if (transfer.size() <= threshold || numElements == 0) {
+        transfer.execute();
+      } else if (numElements == 1) {
+        new TransferTask(transfer.element(0)).compute();
+      } else {
+        long half = numElements / 2;
+        invokeAll(
+            new TransferTask(transfer.slice(0, half)),
+            new TransferTask(transfer.slice(half, numElements))
+        );
+      }
+    }
+
+    TransferTask(Transfer transfer) {
+      this.transfer = transfer;
+    }
+
+    private final Transfer transfer;
+  }
+
+  private final ForkJoinPool pool;
+  private final long threshold;
+
+  /**
+   * Returns a scalar of the same type as {@code array}, so that copying it to the array does not
+   * box each value.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> NdArray<T> scalarOf(NdArray<T> array, T value) {
+    if (array instanceof AbstractNdArray) {
+      return ((AbstractNdArray<T, ?>)array).allocate(Shape.scalar()).setObject(value);
+    }
+    return NdArrays.scalarOfObject(value);
+  }
+
+  private void execute(Transfer transfer) {
+    if (transfer.size() <= threshold) {
+      transfer.execute();
+    } else {
+      pool.invoke(new TransferTask(transfer));
+    }
+  }
+
+  private ParallelTransfer(ForkJoinPool pool, long threshold) {
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+}
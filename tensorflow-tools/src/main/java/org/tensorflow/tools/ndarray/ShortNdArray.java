@@ -16,6 +16,7 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.DataBuffer;
 import org.tensorflow.tools.buffer.ShortDataBuffer;
 import org.tensorflow.tools.ndarray.index.Index;
@@ -67,6 +68,95 @@ public interface ShortNdArray extends NdArray<Short> {
    */
   ShortNdArray setShort(short value, long... coordinates);
 
+  /**
+   * Returns the short value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #getShort(long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return value of that scalar
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default short getShort(long i) {
+    return getShort(new long[] {i});
+  }
+
+  /**
+   * Returns the short value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #getShort(long)
+   */
+  default short getShort(long i, long j) {
+    return getShort(new long[] {i, j});
+  }
+
+  /**
+   * Returns the short value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #getShort(long)
+   */
+  default short getShort(long i, long j, long k) {
+    return getShort(new long[] {i, j, k});
+  }
+
+  /**
+   * Returns the short value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #getShort(long)
+   */
+  default short getShort(long i, long j, long k, long l) {
+    return getShort(new long[] {i, j, k, l});
+  }
+
+  /**
+   * Assigns the short value of the scalar found at the given coordinate of a vector.
+   *
+   * <p>This is equivalent to {@link #setShort(short, long...)}, but does not allocate an array of
+   * coordinates and computes the position of the scalar more directly, for accessing values of
+   * arrays of a small rank at a lower cost.
+   *
+   * @param value value to assign
+   * @param i coordinate of the scalar in the 1st dimension
+   * @return this array
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension, or if this array is of rank 0
+   * @throws IllegalRankException if this array is not of rank 1
+   */
+  default ShortNdArray setShort(short value, long i) {
+    return setShort(value, new long[] {i});
+  }
+
+  /**
+   * Assigns the short value of the scalar found at the given coordinates of a matrix.
+   *
+   * @see #setShort(short, long)
+   */
+  default ShortNdArray setShort(short value, long i, long j) {
+    return setShort(value, new long[] {i, j});
+  }
+
+  /**
+   * Assigns the short value of the scalar found at the given coordinates of an array of rank 3.
+   *
+   * @see #setShort(short, long)
+   */
+  default ShortNdArray setShort(short value, long i, long j, long k) {
+    return setShort(value, new long[] {i, j, k});
+  }
+
+  /**
+   * Assigns the short value of the scalar found at the given coordinates of an array of rank 4.
+   *
+   * @see #setShort(short, long)
+   */
+  default ShortNdArray setShort(short value, long i, long j, long k, long l) {
+    return setShort(value, new long[] {i, j, k, l});
+  }
+
   /**
    * Reads the content of this N-dimensional array into the destination short array.
    *
@@ -127,9 +217,35 @@ public interface ShortNdArray extends NdArray<Short> {
    */
   ShortNdArray write(short[] src, int offset);
 
+  /**
+   * Visits the short value of each scalar of this array and their respective coordinates.
+   *
+   * <p>Values are read directly from the array, without instantiating an {@code NdArray} for each
+   * scalar like {@link #scalars()} does, which makes it the fastest way to scan all values of an
+   * array.
+   *
+   * <p><i>Important: the consumer method should not keep a reference to the coordinates
+   * as they are mutable and reused during the iteration to improve performance.</i>
+   *
+   * @param consumer method to invoke for each scalar
+   */
+  void forEachShort(CoordsShortConsumer consumer);
+
   @Override
   ShortNdArray slice(Index... coordinates);
 
+  @Override
+  SlicePlan<ShortNdArray> slicePlan(Index... indices);
+
+  @Override
+  ShortNdArray permute(int... axes);
+
+  @Override
+  ShortNdArray broadcastTo(Shape shape);
+
+  @Override
+  ShortNdArray reshape(Shape shape);
+
   @Override
   ShortNdArray get(long... coordinates);
 
@@ -155,6 +271,12 @@ public interface ShortNdArray extends NdArray<Short> {
   @Override
   ShortNdArray copyTo(NdArray<Short> dst);
 
+  @Override
+  ShortNdArray gather(int axis, LongNdArray indices, NdArray<Short> dst);
+
+  @Override
+  ShortNdArray scatter(int axis, LongNdArray indices, NdArray<Short> src);
+
   @Override
   ShortNdArray read(DataBuffer<Short> dst);
 
@@ -176,4 +298,14 @@ public interface ShortNdArray extends NdArray<Short> {
 
   @Override
   ShortNdArray write(Short[] src, int offset);
+
+  /**
+   * Consumes the coordinates and the value of a scalar.
+   *
+   * @see #forEachShort(CoordsShortConsumer)
+   */
+  @FunctionalInterface
+  interface CoordsShortConsumer {
+    void consume(long[] coords, short value);
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.tools.ndarray;
+
+import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.ndarray.index.Index;
+import org.tensorflow.tools.ndarray.index.Indices;
+
+/**
+ * A slicing pattern compiled for an N-dimensional array, to be applied repeatedly at different
+ * coordinates.
+ *
+ * <p>Each point index of the pattern, like {@link Indices#at(long) at()}, is a parameter of the
+ * plan: its coordinate is provided at each call to {@link #slice(long...)} or
+ * {@link #positionOf(long...)}, in the same order as in the pattern, and the one passed to the
+ * pattern is ignored. The other indices are resolved once, when the plan is created, so the cost
+ * of slicing is reduced to the computation of an offset.
+ *
+ * <p>Example of usage:
+ * <pre>{@code
+ *    FloatNdArray matrix3d = NdArrays.ofFloats(shape(3, 2, 4));  // with [x, y, z] axes
+ *    SlicePlan<FloatNdArray> plan = matrix3d.slicePlan(at(0), all(), at(0));
+ *
+ *    FloatNdArray vector = plan.slice(2, 3);  // same as matrix3d.slice(at(2), all(), at(3))
+ *    assertEquals(shape(2), vector.shape());
+ * }</pre>
+ *
+ * @param <U> type of the slices
+ */
+public interface SlicePlan<U extends NdArray<?>> {
+
+  /**
+   * Returns the shape of the slices returned by this plan.
+   */
+  Shape shape();
+
+  /**
+   * Returns the number of coordinates required by this plan, one per point index of its pattern.
+   */
+  int numCoordinates();
+
+  /**
+   * Returns the position of a slice in the data of the sliced array.
+   *
+   * <p>The position is the index, in the buffer of the sliced array, of the first value of the
+   * slice, which is the value itself if the slice is a scalar.
+   *
+   * @param coordinates coordinate of each point index of the pattern
+   * @return position of the slice
+   * @throws IllegalArgumentException if the number of coordinates does not match the number of
+   * point indices of the pattern
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension
+   */
+  long positionOf(long... coordinates);
+
+  /**
+   * Returns a slice of the array at the given coordinates.
+   *
+   * <p>This is equivalent to call {@link NdArray#slice(Index...)} with the pattern of this plan,
+   * where each point index targets the given coordinates.
+   *
+   * @param coordinates coordinate of each point index of the pattern
+   * @return the slice
+   * @throws IllegalArgumentException if the number of coordinates does not match the number of
+   * point indices of the pattern
+   * @throws IndexOutOfBoundsException if some coordinates are outside the limits of their
+   * respective dimension
+   */
+  U slice(long... coordinates);
+}
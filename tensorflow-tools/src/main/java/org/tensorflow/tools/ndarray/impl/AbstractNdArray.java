@@ -22,12 +22,17 @@ import org.tensorflow.tools.ndarray.NdArray;
 import org.tensorflow.tools.ndarray.NdArraySequence;
 import org.tensorflow.tools.ndarray.impl.dimension.DimensionalSpace;
 import org.tensorflow.tools.ndarray.impl.sequence.ElementSequence;
+import org.tensorflow.tools.ndarray.impl.sequence.ElementWindow;
 
 @SuppressWarnings("unchecked")
 public abstract class AbstractNdArray<T, U extends NdArray<T>> implements NdArray<T> {
 
   public abstract U slice(long position, DimensionalSpace dimensions);
 
+  public abstract ElementWindow<U> elementWindow(DimensionalSpace dimensions);
+
+  public abstract U allocate(Shape shape);
+
   public DimensionalSpace dimensions() {
     return dimensions;
   }
@@ -76,7 +81,9 @@ public abstract class AbstractNdArray<T, U extends NdArray<T>> implements NdArra
   }
 
   protected void slowCopyTo(NdArray<T> array) {
-    scalars().forEachIndexed((coords, e) -> array.setObject(e.getObject(), coords));
+    broadcastTo(array.shape()).scalars().forEachIndexed((coords, e) ->
+        array.setObject(e.getObject(), coords)
+    );
   }
 
   private DimensionalSpace dimensions;
@@ -18,8 +18,10 @@ package org.tensorflow.tools.ndarray.impl;
 
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.DataBuffer;
 import org.tensorflow.tools.ndarray.NdArray;
+import org.tensorflow.tools.ndarray.impl.dimension.DimensionalSpace;
 
 public class Validator {
 
@@ -38,9 +40,41 @@ public class Validator {
   }
 
   public static void copyToNdArrayArgs(NdArray<?> ndArray, NdArray<?> otherNdArray) {
-    if (!ndArray.shape().equals(otherNdArray.shape())) {
-      throw new IllegalArgumentException("Can only copy to arrays of the same shape (" +
-          ndArray.shape() + " != " + otherNdArray.shape() + ")");
+    if (!ndArray.shape().equals(otherNdArray.shape())
+        && !DimensionalSpace.isBroadcastable(ndArray.shape(), otherNdArray.shape())) {
+      throw new IllegalArgumentException("Can only copy to arrays of the same shape or to which " +
+          "the source can be broadcast (" + ndArray.shape() + " != " + otherNdArray.shape() + ")");
+    }
+  }
+
+  public static void reshapeArgs(NdArray<?> ndArray, Shape shape) {
+    if (shape == null) {
+      throw new IllegalArgumentException("Shape cannot be null");
+    }
+    if (shape.hasUnknownDimension()) {
+      throw new IllegalArgumentException("Cannot reshape an array to a shape with unknown dimension(s)");
+    }
+    if (shape.size() != ndArray.size()) {
+      throw new IllegalArgumentException("Cannot reshape an array of shape " + ndArray.shape() +
+          " to shape " + shape + " of a different size");
+    }
+  }
+
+  public static void gatherArgs(NdArray<?> ndArray, int axis, NdArray<?> indices,
+      NdArray<?> dst) {
+    Shape shape = indexedShape(ndArray, axis, indices);
+    if (!shape.equals(dst.shape())) {
+      throw new IllegalArgumentException("Cannot gather values into an array of shape " +
+          dst.shape() + ", expecting " + shape);
+    }
+  }
+
+  public static void scatterArgs(NdArray<?> ndArray, int axis, NdArray<?> indices,
+      NdArray<?> src) {
+    Shape shape = indexedShape(ndArray, axis, indices);
+    if (!shape.equals(src.shape())) {
+      throw new IllegalArgumentException("Cannot scatter values from an array of shape " +
+          src.shape() + ", expecting " + shape);
     }
   }
 
@@ -56,6 +90,25 @@ public class Validator {
     }
   }
 
+  private static Shape indexedShape(NdArray<?> ndArray, int axis, NdArray<?> indices) {
+    if (axis < 0 || axis >= ndArray.rank()) {
+      throw new IllegalArgumentException("Cannot index dimension " + axis +
+          " of an array of shape " + ndArray.shape());
+    }
+    long[] dimensionSizes = new long[ndArray.rank() - 1 + indices.rank()];
+    int dimIdx = 0;
+    for (int i = 0; i < axis; ++i) {
+      dimensionSizes[dimIdx++] = ndArray.shape().size(i);
+    }
+    for (int i = 0; i < indices.rank(); ++i) {
+      dimensionSizes[dimIdx++] = indices.shape().size(i);
+    }
+    for (int i = axis + 1; i < ndArray.rank(); ++i) {
+      dimensionSizes[dimIdx++] = ndArray.shape().size(i);
+    }
+    return Shape.make(dimensionSizes);
+  }
+
   private static void copyArrayArgs(int arrayLength, int arrayOffset) {
     if (arrayOffset < 0) {
       throw new IndexOutOfBoundsException("Offset must be non-negative");
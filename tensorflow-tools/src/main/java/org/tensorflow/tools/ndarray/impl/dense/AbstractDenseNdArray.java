@@ -16,12 +16,21 @@
  */
 package org.tensorflow.tools.ndarray.impl.dense;
 
+import java.util.List;
+import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.DataBuffer;
+import org.tensorflow.tools.buffer.impl.window.DataBufferWindow;
 import org.tensorflow.tools.ndarray.IllegalRankException;
+import org.tensorflow.tools.ndarray.LongNdArray;
 import org.tensorflow.tools.ndarray.NdArray;
+import org.tensorflow.tools.ndarray.SlicePlan;
 import org.tensorflow.tools.ndarray.impl.AbstractNdArray;
+import org.tensorflow.tools.ndarray.impl.dimension.Dimension;
 import org.tensorflow.tools.ndarray.impl.dimension.DimensionalSpace;
 import org.tensorflow.tools.ndarray.impl.dimension.RelativeDimensionalSpace;
+import org.tensorflow.tools.ndarray.impl.sequence.ElementWindow;
+import org.tensorflow.tools.ndarray.impl.sequence.IndexedPositionIterator.CoordsLongConsumer;
+import org.tensorflow.tools.ndarray.impl.sequence.PositionIterator;
 import org.tensorflow.tools.ndarray.index.Index;
 
 @SuppressWarnings("unchecked")
@@ -32,6 +41,24 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     return instantiate(buffer().offset(position), dimensions);
   }
 
+  @Override
+  public ElementWindow<U> elementWindow(DimensionalSpace dimensions) {
+    DataBufferWindow<T> window = DataBufferWindow.create(buffer());
+    U element = instantiate(window, dimensions);
+    return new ElementWindow<U>() {
+
+      @Override
+      public U element() {
+        return element;
+      }
+
+      @Override
+      public void slideTo(long position) {
+        window.slideTo(position);
+      }
+    };
+  }
+
   @Override
   public U slice(Index... indices) {
     if (indices == null) {
@@ -41,6 +68,45 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     return slice(sliceDimensions.position(), sliceDimensions);
   }
 
+  @Override
+  public SlicePlan<U> slicePlan(Index... indices) {
+    if (indices == null) {
+      throw new IllegalArgumentException("Slicing requires at least one index");
+    }
+    return new DenseSlicePlan<>(this, indices);
+  }
+
+  @Override
+  public U permute(int... axes) {
+    return instantiate(buffer(), dimensions().permute(axes));
+  }
+
+  @Override
+  public U broadcastTo(Shape shape) {
+    if (shape.equals(shape())) {
+      return (U)this;
+    }
+    return instantiate(buffer(), dimensions().broadcastTo(shape));
+  }
+
+  @Override
+  public U reshape(Shape shape) {
+    Validator.reshapeArgs(this, shape);
+    DimensionalSpace reshapedDimensions = dimensions().reshape(shape);
+    if (reshapedDimensions != null) {
+      return instantiate(buffer(), reshapedDimensions);
+    }
+    // The layout of this array cannot be remapped to the new shape, copy its data first
+    DataBuffer<T> copy = allocateBuffer(size());
+    read(copy);
+    return instantiate(copy, DimensionalSpace.create(shape));
+  }
+
+  @Override
+  public U allocate(Shape shape) {
+    return instantiate(allocateBuffer(shape.size()), DimensionalSpace.create(shape));
+  }
+
   @Override
   public U get(long... coords) {
     return slice(positionOf(coords, false), dimensions().from(coords.length));
@@ -77,6 +143,76 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     return (U)this;
   }
 
+  @Override
+  public U gather(int axis, LongNdArray indices, NdArray<T> dst) {
+    Validator.gatherArgs(this, axis, indices, dst);
+    if (dst instanceof AbstractDenseNdArray) {
+      transferIndexedElements(axis, indices, (AbstractDenseNdArray<T, ?>)dst, true);
+    } else {
+      U denseDst = allocate(dst.shape());
+      transferIndexedElements(axis, indices, (AbstractDenseNdArray<T, ?>)denseDst, true);
+      denseDst.copyTo(dst);
+    }
+    return (U)this;
+  }
+
+  @Override
+  public U scatter(int axis, LongNdArray indices, NdArray<T> src) {
+    Validator.scatterArgs(this, axis, indices, src);
+    if (src instanceof AbstractDenseNdArray) {
+      transferIndexedElements(axis, indices, (AbstractDenseNdArray<T, ?>)src, false);
+    } else {
+      U denseSrc = allocate(src.shape());
+      src.copyTo(denseSrc);
+      transferIndexedElements(axis, indices, (AbstractDenseNdArray<T, ?>)denseSrc, false);
+    }
+    return (U)this;
+  }
+
+  /**
+   * Copies arrays into this one, concatenated along dimension {@code axis}, in bulk.
+   *
+   * <p>Each array is copied as one contiguous block of elements per position of the dimensions
+   * preceding {@code axis}. This is only possible if this array and all source arrays are dense
+   * and not segmented, otherwise nothing is copied. Shapes must have been validated by the caller.
+   *
+   * @param arrays arrays to concatenate
+   * @param axis index of the concatenated dimension
+   * @return true if the arrays have been copied, false if they must be copied element by element
+   */
+  public boolean concatInBulk(List<? extends NdArray<T>> arrays, int axis) {
+    if (dimensions().isSegmented()) {
+      return false;
+    }
+    for (NdArray<T> array : arrays) {
+      if (!(array instanceof AbstractDenseNdArray)
+          || ((AbstractDenseNdArray<T, ?>)array).dimensions().isSegmented()) {
+        return false;
+      }
+    }
+    long numBlocks = 1;
+    for (int i = 0; i < axis; ++i) {
+      numBlocks *= shape().size(i);
+    }
+    if (numBlocks == 0) {
+      return true;
+    }
+    long dstBlockSize = size() / numBlocks;
+    long dstOffset = 0;
+    for (NdArray<T> array : arrays) {
+      DataBuffer<T> srcBuffer = ((AbstractDenseNdArray<T, ?>)array).buffer();
+      long blockSize = array.size() / numBlocks;
+      if (blockSize > 0) {
+        for (long i = 0; i < numBlocks; ++i) {
+          srcBuffer.offset(i * blockSize)
+              .copyTo(buffer().offset(i * dstBlockSize + dstOffset), blockSize);
+        }
+      }
+      dstOffset += blockSize;
+    }
+    return true;
+  }
+
   protected AbstractDenseNdArray(DimensionalSpace dimensions) {
     super(dimensions);
   }
@@ -85,6 +221,36 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
 
   abstract U instantiate(DataBuffer<T> buffer, DimensionalSpace dimensions);
 
+  abstract DataBuffer<T> allocateBuffer(long size);
+
+  void forEachScalarPosition(CoordsLongConsumer consumer) {
+    if (rank() == 0) {
+      consumer.consume(new long[0], 0);
+    } else {
+      PositionIterator.createIndexed(dimensions(), rank() - 1).forEachIndexed(consumer);
+    }
+  }
+
+  long positionOf(long i) {
+    validateScalarRank(1);
+    return dimensions().positionOf(i);
+  }
+
+  long positionOf(long i, long j) {
+    validateScalarRank(2);
+    return dimensions().positionOf(i, j);
+  }
+
+  long positionOf(long i, long j, long k) {
+    validateScalarRank(3);
+    return dimensions().positionOf(i, j, k);
+  }
+
+  long positionOf(long i, long j, long k, long l) {
+    validateScalarRank(4);
+    return dimensions().positionOf(i, j, k, l);
+  }
+
   long positionOf(long[] coords, boolean isValue) {
     if (coords == null || coords.length == 0) {
       return 0;
@@ -98,12 +264,87 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     return dimensions().positionOf(coords);
   }
 
+  /**
+   * Copies the elements found at the given indices of a dimension of this array to (gather) or
+   * from (scatter) the consecutive elements of another array.
+   *
+   * <p>The position of each index in the dimension is computed only once. Then, for each element of
+   * the dimensions preceding the indexed one, elements are copied in bulk when they are contiguous
+   * in both arrays.
+   */
+  private void transferIndexedElements(int axis, LongNdArray indices,
+      AbstractDenseNdArray<T, ?> other, boolean gather) {
+    if (size() == 0 || other.size() == 0) {
+      return;
+    }
+    long[] indexPositions = new long[(int)indices.size()];
+    indices.read(indexPositions);
+    Dimension indexedDimension = dimensions().get(axis);
+    for (int i = 0; i < indexPositions.length; ++i) {
+      if (indexPositions[i] < 0) {
+        throw new IndexOutOfBoundsException();
+      }
+      indexPositions[i] = indexedDimension.positionOf(indexPositions[i]);
+    }
+    int otherAxis = axis + indices.rank();
+    DimensionalSpace elementDimensions = dimensions().from(axis + 1);
+    DimensionalSpace otherElementDimensions = other.dimensions().from(otherAxis);
+    boolean contiguous = !elementDimensions.isSegmented() && !otherElementDimensions.isSegmented();
+    long elementSize = elementDimensions.shape().size();
+
+    PositionIterator outerPositions = positionsOf(dimensions(), axis);
+    PositionIterator otherPositions = positionsOf(other.dimensions(), otherAxis);
+    while (outerPositions.hasNext()) {
+      long outerPosition = outerPositions.nextLong();
+      for (long indexPosition : indexPositions) {
+        long position = outerPosition + indexPosition;
+        long otherPosition = otherPositions.nextLong();
+        if (contiguous) {
+          DataBuffer<T> buffer = buffer().offset(position);
+          DataBuffer<T> otherBuffer = other.buffer().offset(otherPosition);
+          if (gather) {
+            buffer.copyTo(otherBuffer, elementSize);
+          } else {
+            otherBuffer.copyTo(buffer, elementSize);
+          }
+        } else {
+          U element = slice(position, elementDimensions);
+          NdArray<T> otherElement = other.slice(otherPosition, otherElementDimensions);
+          if (gather) {
+            element.copyTo(otherElement);
+          } else {
+            otherElement.copyTo(element);
+          }
+        }
+      }
+    }
+  }
+
+  private static PositionIterator positionsOf(DimensionalSpace dimensions, int numDimensions) {
+    if (numDimensions == 0) {
+      return PositionIterator.sequence(1, 1);  // a single element, at the origin
+    }
+    return PositionIterator.create(dimensions, numDimensions - 1);
+  }
+
+  private void validateScalarRank(int numCoordinates) {
+    int numDimensions = dimensions().numDimensions();
+    if (numCoordinates > numDimensions) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (numCoordinates < numDimensions) {
+      throw new IllegalRankException("Not a scalar value");
+    }
+  }
+
   @Override
   protected void slowCopyTo(NdArray<T> array) {
-    if (array instanceof AbstractDenseNdArray) {
+    // Values can only be written sequentially if they are contiguous in the destination buffer
+    if (array instanceof AbstractDenseNdArray
+        && !((AbstractDenseNdArray)array).dimensions().isSegmented()) {
       AbstractDenseNdArray<T, U> dst = (AbstractDenseNdArray)array;
       long offset = 0L;
-      for (NdArray<T> s : scalars()) {
+      for (NdArray<T> s : broadcastTo(array.shape()).scalars()) {
         dst.buffer().setObject(s.getObject(), offset++);
       }
     } else {
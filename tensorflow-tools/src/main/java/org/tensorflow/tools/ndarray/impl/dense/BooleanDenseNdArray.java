@@ -43,6 +43,57 @@ public class BooleanDenseNdArray extends AbstractDenseNdArray<Boolean, BooleanNd
     return this;
   }
 
+  @Override
+  public boolean getBoolean(long i) {
+    return buffer.getBoolean(positionOf(i));
+  }
+
+  @Override
+  public boolean getBoolean(long i, long j) {
+    return buffer.getBoolean(positionOf(i, j));
+  }
+
+  @Override
+  public boolean getBoolean(long i, long j, long k) {
+    return buffer.getBoolean(positionOf(i, j, k));
+  }
+
+  @Override
+  public boolean getBoolean(long i, long j, long k, long l) {
+    return buffer.getBoolean(positionOf(i, j, k, l));
+  }
+
+  @Override
+  public BooleanNdArray setBoolean(boolean value, long i) {
+    buffer.setBoolean(value, positionOf(i));
+    return this;
+  }
+
+  @Override
+  public BooleanNdArray setBoolean(boolean value, long i, long j) {
+    buffer.setBoolean(value, positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public BooleanNdArray setBoolean(boolean value, long i, long j, long k) {
+    buffer.setBoolean(value, positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public BooleanNdArray setBoolean(boolean value, long i, long j, long k, long l) {
+    buffer.setBoolean(value, positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public void forEachBoolean(CoordsBooleanConsumer consumer) {
+    forEachScalarPosition((coords, position) ->
+        consumer.consume(coords, buffer.getBoolean(position))
+    );
+  }
+
   @Override
   public BooleanNdArray read(boolean[] dst, int offset) {
     Validator.getArrayArgs(this, dst.length, offset);
@@ -90,6 +141,11 @@ public class BooleanDenseNdArray extends AbstractDenseNdArray<Boolean, BooleanNd
     return new BooleanDenseNdArray((BooleanDataBuffer)buffer, dimensions);
   }
 
+  @Override
+  BooleanDataBuffer allocateBuffer(long size) {
+    return DataBuffers.ofBooleans(size);
+  }
+
   @Override
   protected BooleanDataBuffer buffer() {
     return buffer;
@@ -43,6 +43,57 @@ public class ByteDenseNdArray extends AbstractDenseNdArray<Byte, ByteNdArray>
     return this;
   }
 
+  @Override
+  public byte getByte(long i) {
+    return buffer.getByte(positionOf(i));
+  }
+
+  @Override
+  public byte getByte(long i, long j) {
+    return buffer.getByte(positionOf(i, j));
+  }
+
+  @Override
+  public byte getByte(long i, long j, long k) {
+    return buffer.getByte(positionOf(i, j, k));
+  }
+
+  @Override
+  public byte getByte(long i, long j, long k, long l) {
+    return buffer.getByte(positionOf(i, j, k, l));
+  }
+
+  @Override
+  public ByteNdArray setByte(byte value, long i) {
+    buffer.setByte(value, positionOf(i));
+    return this;
+  }
+
+  @Override
+  public ByteNdArray setByte(byte value, long i, long j) {
+    buffer.setByte(value, positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public ByteNdArray setByte(byte value, long i, long j, long k) {
+    buffer.setByte(value, positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public ByteNdArray setByte(byte value, long i, long j, long k, long l) {
+    buffer.setByte(value, positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public void forEachByte(CoordsByteConsumer consumer) {
+    forEachScalarPosition((coords, position) ->
+        consumer.consume(coords, buffer.getByte(position))
+    );
+  }
+
   @Override
   public ByteNdArray read(byte[] dst, int offset) {
     Validator.getArrayArgs(this, dst.length, offset);
@@ -90,6 +141,11 @@ public class ByteDenseNdArray extends AbstractDenseNdArray<Byte, ByteNdArray>
     return new ByteDenseNdArray((ByteDataBuffer)buffer, dimensions);
   }
 
+  @Override
+  ByteDataBuffer allocateBuffer(long size) {
+    return DataBuffers.ofBytes(size);
+  }
+
   @Override
   protected ByteDataBuffer buffer() {
     return buffer;
@@ -25,6 +25,7 @@ import org.tensorflow.tools.buffer.FloatDataBuffer;
 import org.tensorflow.tools.buffer.IntDataBuffer;
 import org.tensorflow.tools.buffer.LongDataBuffer;
 import org.tensorflow.tools.buffer.ShortDataBuffer;
+import org.tensorflow.tools.ndarray.impl.dimension.Dimension;
 import org.tensorflow.tools.ndarray.impl.dimension.DimensionalSpace;
 import org.tensorflow.tools.ndarray.impl.sequence.PositionIterator;
 
@@ -68,7 +69,10 @@ final class DataTransfer {
   }
 
   static <T, B extends DataBuffer<T>> void execute(B srcBuffer, DimensionalSpace srcDimensions, B dstBuffer, DimensionalSpace dstDimensions, OfValue<B> valueTransfer) {
-    if (srcDimensions.isSegmented() || dstDimensions.isSegmented()) {
+    srcDimensions = srcDimensions.broadcastTo(dstDimensions.shape());
+    if (isTransposed(srcDimensions) || isTransposed(dstDimensions)) {
+      copyByBlock(srcBuffer, srcDimensions, dstBuffer, dstDimensions, valueTransfer);
+    } else if (srcDimensions.isSegmented() || dstDimensions.isSegmented()) {
       int segmentationIdx = Math.max(srcDimensions.segmentationIdx(), dstDimensions.segmentationIdx());
       copyByElement(
           srcBuffer,
@@ -79,12 +83,14 @@ final class DataTransfer {
           valueTransfer
       );
     } else {
-      srcBuffer.copyTo(dstBuffer, srcDimensions.get(0).totalSize());
+      srcBuffer.copyTo(dstBuffer, srcDimensions.shape().size());
     }
   }
 
   static <T, B extends DataBuffer<T>> void execute(B srcBuffer, B dstBuffer, DimensionalSpace dstDimensions, OfValue<B> valueTransfer) {
-    if (dstDimensions.isSegmented()) {
+    if (isTransposed(dstDimensions)) {
+      copyByBlock(srcBuffer, DimensionalSpace.create(dstDimensions.shape()), dstBuffer, dstDimensions, valueTransfer);
+    } else if (dstDimensions.isSegmented()) {
       long elementSize = dstDimensions.get(dstDimensions.segmentationIdx()).elementSize();
       copyByElement(
           srcBuffer,
@@ -95,12 +101,14 @@ final class DataTransfer {
           valueTransfer
       );
     } else {
-      srcBuffer.copyTo(dstBuffer, dstDimensions.get(0).totalSize());
+      srcBuffer.copyTo(dstBuffer, dstDimensions.shape().size());
     }
   }
 
   static <T, B extends DataBuffer<T>> void execute(B srcBuffer, DimensionalSpace srcDimensions, B dstBuffer, OfValue<B> valueTransfer) {
-    if (srcDimensions.isSegmented()) {
+    if (isTransposed(srcDimensions)) {
+      copyByBlock(srcBuffer, srcDimensions, dstBuffer, DimensionalSpace.create(srcDimensions.shape()), valueTransfer);
+    } else if (srcDimensions.isSegmented()) {
       long elementSize = srcDimensions.get(srcDimensions.segmentationIdx()).elementSize();
       copyByElement(
           srcBuffer,
@@ -111,7 +119,7 @@ final class DataTransfer {
           valueTransfer
       );
     } else {
-      srcBuffer.copyTo(dstBuffer, srcDimensions.get(0).totalSize());
+      srcBuffer.copyTo(dstBuffer, srcDimensions.shape().size());
     }
   }
 
@@ -133,4 +141,99 @@ final class DataTransfer {
       }
     }
   }
+
+  /**
+   * Checks if scalars of the last dimension are farther from each other than the elements of the
+   * dimension before, like in a transposed matrix.
+   *
+   * <p>Copying such data value by value, in the order of its coordinates, would jump across the
+   * memory at each value.
+   */
+  private static boolean isTransposed(DimensionalSpace dimensions) {
+    int numDimensions = dimensions.numDimensions();
+    if (!dimensions.isSegmented() || numDimensions < 2) {
+      return false;
+    }
+    Dimension columns = dimensions.get(numDimensions - 1);
+    Dimension rows = dimensions.get(numDimensions - 2);
+    if (columns.numElements() < 2 || rows.numElements() < 2) {
+      return false;
+    }
+    // Broadcast rows have no stride and are not considered as transposed
+    long rowStride = Math.abs(rows.positionOf(1) - rows.positionOf(0));
+    return rowStride > 0 && Math.abs(columns.positionOf(1) - columns.positionOf(0)) > rowStride;
+  }
+
+  /**
+   * Copies the matrices found in the two last dimensions by square blocks, so that both source and
+   * destination values of a block remain in the processor caches while being copied.
+   */
+  private static <T, B extends DataBuffer<T>> void copyByBlock(
+      B srcBuffer,
+      DimensionalSpace srcDimensions,
+      B dstBuffer,
+      DimensionalSpace dstDimensions,
+      OfValue<B> valueTransfer
+  ) {
+    int numDimensions = srcDimensions.numDimensions();
+    if (numDimensions == 2) {
+      copyMatrixByBlock(srcBuffer, 0L, srcDimensions, dstBuffer, 0L, dstDimensions, valueTransfer);
+    } else {
+      PositionIterator srcIterator = PositionIterator.create(srcDimensions, numDimensions - 3);
+      PositionIterator dstIterator = PositionIterator.create(dstDimensions, numDimensions - 3);
+      while (srcIterator.hasNext()) {
+        copyMatrixByBlock(
+            srcBuffer,
+            srcIterator.nextLong(),
+            srcDimensions,
+            dstBuffer,
+            dstIterator.nextLong(),
+            dstDimensions,
+            valueTransfer
+        );
+      }
+    }
+  }
+
+  private static <T, B extends DataBuffer<T>> void copyMatrixByBlock(
+      B srcBuffer,
+      long srcPosition,
+      DimensionalSpace srcDimensions,
+      B dstBuffer,
+      long dstPosition,
+      DimensionalSpace dstDimensions,
+      OfValue<B> valueTransfer
+  ) {
+    int numDimensions = srcDimensions.numDimensions();
+    Dimension srcRows = srcDimensions.get(numDimensions - 2);
+    Dimension srcColumns = srcDimensions.get(numDimensions - 1);
+    Dimension dstRows = dstDimensions.get(numDimensions - 2);
+    Dimension dstColumns = dstDimensions.get(numDimensions - 1);
+    long numRows = srcRows.numElements();
+    long numColumns = srcColumns.numElements();
+
+    for (long rowStart = 0; rowStart < numRows; rowStart += BLOCK_SIZE) {
+      long rowEnd = Math.min(rowStart + BLOCK_SIZE, numRows);
+      for (long columnStart = 0; columnStart < numColumns; columnStart += BLOCK_SIZE) {
+        long columnEnd = Math.min(columnStart + BLOCK_SIZE, numColumns);
+        for (long row = rowStart; row < rowEnd; ++row) {
+          long srcRowPosition = srcPosition + srcRows.positionOf(row);
+          long dstRowPosition = dstPosition + dstRows.positionOf(row);
+          for (long column = columnStart; column < columnEnd; ++column) {
+            valueTransfer.copy(
+                srcBuffer,
+                srcRowPosition + srcColumns.positionOf(column),
+                dstBuffer,
+                dstRowPosition + dstColumns.positionOf(column)
+            );
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Number of rows and columns of a block, when copying transposed matrices.
+   */
+  private static final int BLOCK_SIZE = 64;
 }
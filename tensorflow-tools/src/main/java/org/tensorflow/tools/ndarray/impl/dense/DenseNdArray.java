@@ -18,6 +18,7 @@ package org.tensorflow.tools.ndarray.impl.dense;
 
 import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.buffer.DataBuffer;
+import org.tensorflow.tools.buffer.DataBuffers;
 import org.tensorflow.tools.ndarray.NdArray;
 import org.tensorflow.tools.ndarray.impl.dimension.DimensionalSpace;
 
@@ -49,6 +50,12 @@ public class DenseNdArray<T> extends AbstractDenseNdArray<T, NdArray<T>> {
     return new DenseNdArray<>(buffer, dimensions);
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  DataBuffer<T> allocateBuffer(long size) {
+    return DataBuffers.ofObjects((Class<T>)Object.class, size);
+  }
+
   @Override
   protected DataBuffer<T> buffer() {
     return buffer;
@@ -0,0 +1,78 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.tools.ndarray.impl.dense;
+
+import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.ndarray.NdArray;
+import org.tensorflow.tools.ndarray.SlicePlan;
+import org.tensorflow.tools.ndarray.impl.dimension.Dimension;
+import org.tensorflow.tools.ndarray.impl.dimension.DimensionalSpace;
+import org.tensorflow.tools.ndarray.index.Index;
+
+final class DenseSlicePlan<T, U extends NdArray<T>> implements SlicePlan<U> {
+
+  @Override
+  public Shape shape() {
+    return sliceDimensions.shape();
+  }
+
+  @Override
+  public int numCoordinates() {
+    return pointDimensions.length;
+  }
+
+  @Override
+  public long positionOf(long... coordinates) {
+    if (coordinates.length != pointDimensions.length) {
+      throw new IllegalArgumentException("Slice plan requires " + pointDimensions.length +
+          " coordinates, got " + coordinates.length);
+    }
+    long position = 0L;
+    for (int i = 0; i < coordinates.length; ++i) {
+      position += pointDimensions[i].positionOf(coordinates[i]);
+    }
+    return position;
+  }
+
+  @Override
+  public U slice(long... coordinates) {
+    return array.slice(positionOf(coordinates), sliceDimensions);
+  }
+
+  DenseSlicePlan(AbstractDenseNdArray<T, U> array, Index[] indices) {
+    DimensionalSpace dimensions = array.dimensions();
+    this.array = array;
+    this.sliceDimensions = dimensions.mapToPattern(indices);
+
+    int numPoints = 0;
+    for (Index index : indices) {
+      if (index.isPoint()) {
+        ++numPoints;
+      }
+    }
+    pointDimensions = new Dimension[numPoints];
+    for (int i = 0, pointIdx = 0; i < indices.length; ++i) {
+      if (indices[i].isPoint()) {
+        pointDimensions[pointIdx++] = dimensions.get(i);
+      }
+    }
+  }
+
+  private final AbstractDenseNdArray<T, U> array;
+  private final DimensionalSpace sliceDimensions;
+  private final Dimension[] pointDimensions;
+}
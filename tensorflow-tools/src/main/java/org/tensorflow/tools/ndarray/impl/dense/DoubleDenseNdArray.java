@@ -43,6 +43,57 @@ public class DoubleDenseNdArray extends AbstractDenseNdArray<Double, DoubleNdArr
     return this;
   }
 
+  @Override
+  public double getDouble(long i) {
+    return buffer.getDouble(positionOf(i));
+  }
+
+  @Override
+  public double getDouble(long i, long j) {
+    return buffer.getDouble(positionOf(i, j));
+  }
+
+  @Override
+  public double getDouble(long i, long j, long k) {
+    return buffer.getDouble(positionOf(i, j, k));
+  }
+
+  @Override
+  public double getDouble(long i, long j, long k, long l) {
+    return buffer.getDouble(positionOf(i, j, k, l));
+  }
+
+  @Override
+  public DoubleNdArray setDouble(double value, long i) {
+    buffer.setDouble(value, positionOf(i));
+    return this;
+  }
+
+  @Override
+  public DoubleNdArray setDouble(double value, long i, long j) {
+    buffer.setDouble(value, positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public DoubleNdArray setDouble(double value, long i, long j, long k) {
+    buffer.setDouble(value, positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public DoubleNdArray setDouble(double value, long i, long j, long k, long l) {
+    buffer.setDouble(value, positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public void forEachDouble(CoordsDoubleConsumer consumer) {
+    forEachScalarPosition((coords, position) ->
+        consumer.consume(coords, buffer.getDouble(position))
+    );
+  }
+
   @Override
   public DoubleNdArray read(double[] dst, int offset) {
     Validator.getArrayArgs(this, dst.length, offset);
@@ -91,7 +142,12 @@ public class DoubleDenseNdArray extends AbstractDenseNdArray<Double, DoubleNdArr
   }
 
   @Override
-  protected DoubleDataBuffer buffer() {
+  DoubleDataBuffer allocateBuffer(long size) {
+    return DataBuffers.ofDoubles(size);
+  }
+
+  @Override
+  public DoubleDataBuffer buffer() {
     return buffer;
   }
 
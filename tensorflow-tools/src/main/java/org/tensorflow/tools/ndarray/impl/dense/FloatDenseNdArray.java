@@ -43,6 +43,57 @@ public class FloatDenseNdArray extends AbstractDenseNdArray<Float, FloatNdArray>
     return this;
   }
 
+  @Override
+  public float getFloat(long i) {
+    return buffer.getFloat(positionOf(i));
+  }
+
+  @Override
+  public float getFloat(long i, long j) {
+    return buffer.getFloat(positionOf(i, j));
+  }
+
+  @Override
+  public float getFloat(long i, long j, long k) {
+    return buffer.getFloat(positionOf(i, j, k));
+  }
+
+  @Override
+  public float getFloat(long i, long j, long k, long l) {
+    return buffer.getFloat(positionOf(i, j, k, l));
+  }
+
+  @Override
+  public FloatNdArray setFloat(float value, long i) {
+    buffer.setFloat(value, positionOf(i));
+    return this;
+  }
+
+  @Override
+  public FloatNdArray setFloat(float value, long i, long j) {
+    buffer.setFloat(value, positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public FloatNdArray setFloat(float value, long i, long j, long k) {
+    buffer.setFloat(value, positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public FloatNdArray setFloat(float value, long i, long j, long k, long l) {
+    buffer.setFloat(value, positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public void forEachFloat(CoordsFloatConsumer consumer) {
+    forEachScalarPosition((coords, position) ->
+        consumer.consume(coords, buffer.getFloat(position))
+    );
+  }
+
   @Override
   public FloatNdArray read(float[] dst, int offset) {
     Validator.getArrayArgs(this, dst.length, offset);
@@ -90,6 +141,11 @@ public class FloatDenseNdArray extends AbstractDenseNdArray<Float, FloatNdArray>
     return new FloatDenseNdArray((FloatDataBuffer) buffer, dimensions);
   }
 
+  @Override
+  FloatDataBuffer allocateBuffer(long size) {
+    return DataBuffers.ofFloats(size);
+  }
+
   @Override
   public FloatDataBuffer buffer() {
     return buffer;
@@ -43,6 +43,57 @@ public class IntDenseNdArray extends AbstractDenseNdArray<Integer, IntNdArray>
     return this;
   }
 
+  @Override
+  public int getInt(long i) {
+    return buffer.getInt(positionOf(i));
+  }
+
+  @Override
+  public int getInt(long i, long j) {
+    return buffer.getInt(positionOf(i, j));
+  }
+
+  @Override
+  public int getInt(long i, long j, long k) {
+    return buffer.getInt(positionOf(i, j, k));
+  }
+
+  @Override
+  public int getInt(long i, long j, long k, long l) {
+    return buffer.getInt(positionOf(i, j, k, l));
+  }
+
+  @Override
+  public IntNdArray setInt(int value, long i) {
+    buffer.setInt(value, positionOf(i));
+    return this;
+  }
+
+  @Override
+  public IntNdArray setInt(int value, long i, long j) {
+    buffer.setInt(value, positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public IntNdArray setInt(int value, long i, long j, long k) {
+    buffer.setInt(value, positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public IntNdArray setInt(int value, long i, long j, long k, long l) {
+    buffer.setInt(value, positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public void forEachInt(CoordsIntConsumer consumer) {
+    forEachScalarPosition((coords, position) ->
+        consumer.consume(coords, buffer.getInt(position))
+    );
+  }
+
   @Override
   public IntNdArray read(int[] dst, int offset) {
     Validator.getArrayArgs(this, dst.length, offset);
@@ -91,7 +142,12 @@ public class IntDenseNdArray extends AbstractDenseNdArray<Integer, IntNdArray>
   }
 
   @Override
-  protected IntDataBuffer buffer() {
+  IntDataBuffer allocateBuffer(long size) {
+    return DataBuffers.ofInts(size);
+  }
+
+  @Override
+  public IntDataBuffer buffer() {
     return buffer;
   }
 
@@ -43,6 +43,57 @@ public class LongDenseNdArray extends AbstractDenseNdArray<Long, LongNdArray>
     return this;
   }
 
+  @Override
+  public long getLong(long i) {
+    return buffer.getLong(positionOf(i));
+  }
+
+  @Override
+  public long getLong(long i, long j) {
+    return buffer.getLong(positionOf(i, j));
+  }
+
+  @Override
+  public long getLong(long i, long j, long k) {
+    return buffer.getLong(positionOf(i, j, k));
+  }
+
+  @Override
+  public long getLong(long i, long j, long k, long l) {
+    return buffer.getLong(positionOf(i, j, k, l));
+  }
+
+  @Override
+  public LongNdArray setLong(long value, long i) {
+    buffer.setLong(value, positionOf(i));
+    return this;
+  }
+
+  @Override
+  public LongNdArray setLong(long value, long i, long j) {
+    buffer.setLong(value, positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public LongNdArray setLong(long value, long i, long j, long k) {
+    buffer.setLong(value, positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public LongNdArray setLong(long value, long i, long j, long k, long l) {
+    buffer.setLong(value, positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public void forEachLong(CoordsLongConsumer consumer) {
+    forEachScalarPosition((coords, position) ->
+        consumer.consume(coords, buffer.getLong(position))
+    );
+  }
+
   @Override
   public LongNdArray read(long[] dst, int offset) {
     Validator.getArrayArgs(this, dst.length, offset);
@@ -91,7 +142,12 @@ public class LongDenseNdArray extends AbstractDenseNdArray<Long, LongNdArray>
   }
 
   @Override
-  protected LongDataBuffer buffer() {
+  LongDataBuffer allocateBuffer(long size) {
+    return DataBuffers.ofLongs(size);
+  }
+
+  @Override
+  public LongDataBuffer buffer() {
     return buffer;
   }
 
@@ -43,6 +43,57 @@ public class ShortDenseNdArray extends AbstractDenseNdArray<Short, ShortNdArray>
     return this;
   }
 
+  @Override
+  public short getShort(long i) {
+    return buffer.getShort(positionOf(i));
+  }
+
+  @Override
+  public short getShort(long i, long j) {
+    return buffer.getShort(positionOf(i, j));
+  }
+
+  @Override
+  public short getShort(long i, long j, long k) {
+    return buffer.getShort(positionOf(i, j, k));
+  }
+
+  @Override
+  public short getShort(long i, long j, long k, long l) {
+    return buffer.getShort(positionOf(i, j, k, l));
+  }
+
+  @Override
+  public ShortNdArray setShort(short value, long i) {
+    buffer.setShort(value, positionOf(i));
+    return this;
+  }
+
+  @Override
+  public ShortNdArray setShort(short value, long i, long j) {
+    buffer.setShort(value, positionOf(i, j));
+    return this;
+  }
+
+  @Override
+  public ShortNdArray setShort(short value, long i, long j, long k) {
+    buffer.setShort(value, positionOf(i, j, k));
+    return this;
+  }
+
+  @Override
+  public ShortNdArray setShort(short value, long i, long j, long k, long l) {
+    buffer.setShort(value, positionOf(i, j, k, l));
+    return this;
+  }
+
+  @Override
+  public void forEachShort(CoordsShortConsumer consumer) {
+    forEachScalarPosition((coords, position) ->
+        consumer.consume(coords, buffer.getShort(position))
+    );
+  }
+
   @Override
   public ShortNdArray read(short[] dst, int offset) {
     Validator.getArrayArgs(this, dst.length, offset);
@@ -90,6 +141,11 @@ public class ShortDenseNdArray extends AbstractDenseNdArray<Short, ShortNdArray>
     return new ShortDenseNdArray((ShortDataBuffer)buffer, dimensions);
   }
 
+  @Override
+  ShortDataBuffer allocateBuffer(long size) {
+    return DataBuffers.ofShorts(size);
+  }
+
   @Override
   protected ShortDataBuffer buffer() {
     return buffer;
@@ -31,6 +31,11 @@ final class Axis extends AbstractDimension {
     return elementSize * coord;
   }
 
+  @Override
+  public long stride() {
+    return elementSize;
+  }
+
   @Override
   public boolean isSegmented() {
     return false;  // all axis are continuous
@@ -20,6 +20,8 @@ import org.tensorflow.tools.ndarray.index.Index;
 
 public interface Dimension {
 
+  long VARIABLE_STRIDE = Long.MIN_VALUE;
+
   default Dimension withIndex(Index index) {
     return new IndexedDimension(index, this);
   }
@@ -34,5 +36,13 @@ public interface Dimension {
 
   long positionOf(long coord);
 
+  /**
+   * Returns the distance between the positions of two consecutive elements of this dimension, or
+   * {@link #VARIABLE_STRIDE} if this distance is not constant.
+   */
+  default long stride() {
+    return VARIABLE_STRIDE;
+  }
+
   boolean isSegmented();
 }
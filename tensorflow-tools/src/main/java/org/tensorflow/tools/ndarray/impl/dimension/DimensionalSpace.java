@@ -23,6 +23,22 @@ import org.tensorflow.tools.ndarray.index.Index;
 
 public class DimensionalSpace {
 
+  public static boolean isBroadcastable(Shape shape, Shape targetShape) {
+    int numDimensions = shape.numDimensions();
+    int targetNumDimensions = targetShape.numDimensions();
+    if (numDimensions > targetNumDimensions) {
+      return false;
+    }
+    // Dimensions are matched starting from the last one
+    for (int i = 1; i <= numDimensions; ++i) {
+      long size = shape.size(numDimensions - i);
+      if (size != 1 && size != targetShape.size(targetNumDimensions - i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public static DimensionalSpace create(Shape shape) {
     Dimension[] dimensions = new Dimension[shape.numDimensions()];
 
@@ -35,6 +51,21 @@ public class DimensionalSpace {
   }
 
   public RelativeDimensionalSpace mapTo(Index[] indices) {
+    return mapTo(indices, true);
+  }
+
+  /**
+   * Maps indices to a new space like {@link #mapTo(Index[])}, but without applying the offset of
+   * the point indices, so the returned space can be reused for any of their coordinates.
+   *
+   * <p>The offset of a given set of point coordinates is then obtained by summing their position
+   * in their respective dimension of this space.
+   */
+  public RelativeDimensionalSpace mapToPattern(Index[] indices) {
+    return mapTo(indices, false);
+  }
+
+  private RelativeDimensionalSpace mapTo(Index[] indices, boolean applyPointOffsets) {
     if (dimensions == null || indices.length > dimensions.length) {
       throw new ArrayIndexOutOfBoundsException();
     }
@@ -51,7 +82,9 @@ public class DimensionalSpace {
         // point and cumulate the offset of any subsequent point as well
         long offset = 0;
         do {
-          offset += indices[dimIdx].mapCoordinate(0, dimensions[dimIdx]);
+          if (applyPointOffsets) {
+            offset += indices[dimIdx].mapCoordinate(0, dimensions[dimIdx]);
+          }
         } while (++dimIdx < indices.length && indices[dimIdx].isPoint());
 
         // If this is the first index, then the offset is the position of the whole dimension
@@ -93,12 +126,108 @@ public class DimensionalSpace {
       throw new IndexOutOfBoundsException();
     }
     Dimension[] newDimensions = Arrays.copyOfRange(dimensions, dimensionStart, dimensions.length);
-    if (segmentationIdx > dimensionStart) {
+    if (segmentationIdx >= dimensionStart) {
       return new DimensionalSpace(newDimensions, segmentationIdx - dimensionStart);
     }
     return new DimensionalSpace(newDimensions);
   }
 
+  public DimensionalSpace permute(int[] axes) {
+    if (axes.length != dimensions.length) {
+      throw new IllegalArgumentException("Permutation " + Arrays.toString(axes) +
+          " must list all " + dimensions.length + " dimensions of the array");
+    }
+    boolean[] permuted = new boolean[axes.length];
+    for (int axis : axes) {
+      if (axis < 0 || axis >= axes.length || permuted[axis]) {
+        throw new IllegalArgumentException("Permutation " + Arrays.toString(axes) +
+            " is not valid for an array of " + dimensions.length + " dimensions");
+      }
+      permuted[axis] = true;
+    }
+    // Trailing dimensions that are not moved by the permutation preserve their original layout
+    int lastMovedIdx = axes.length - 1;
+    while (lastMovedIdx >= 0 && axes[lastMovedIdx] == lastMovedIdx) {
+      --lastMovedIdx;
+    }
+    if (lastMovedIdx < 0) {
+      return this;
+    }
+    Dimension[] newDimensions = new Dimension[axes.length];
+    int newSegmentationIdx = -1;
+    for (int i = axes.length - 1; i >= 0; --i) {
+      if (i > lastMovedIdx) {
+        newDimensions[i] = dimensions[i];
+      } else {
+        long elementSize = i < axes.length - 1 ? newDimensions[i + 1].totalSize() : 1;
+        newDimensions[i] = new PermutedDimension(dimensions[axes[i]], elementSize);
+      }
+      if (newSegmentationIdx < 0 && newDimensions[i].isSegmented()) {
+        newSegmentationIdx = i;
+      }
+    }
+    return new DimensionalSpace(newDimensions, newSegmentationIdx);
+  }
+
+  public DimensionalSpace broadcastTo(Shape targetShape) {
+    if (targetShape.equals(shape())) {
+      return this;
+    }
+    if (!isBroadcastable(shape(), targetShape)) {
+      throw new IllegalArgumentException("Cannot broadcast an array of shape " + shape() +
+          " to shape " + targetShape);
+    }
+    int targetNumDimensions = targetShape.numDimensions();
+    int leadingDimensions = targetNumDimensions - dimensions.length;
+    Dimension[] newDimensions = new Dimension[targetNumDimensions];
+    int newSegmentationIdx = -1;
+    for (int i = targetNumDimensions - 1; i >= 0; --i) {
+      long numElements = targetShape.size(i);
+      if (i >= leadingDimensions && dimensions[i - leadingDimensions].numElements() == numElements) {
+        newDimensions[i] = dimensions[i - leadingDimensions];
+      } else {
+        long elementSize = i < targetNumDimensions - 1 ? newDimensions[i + 1].totalSize() : 1;
+        newDimensions[i] = new BroadcastDimension(numElements, elementSize);
+      }
+      if (newSegmentationIdx < 0 && newDimensions[i].isSegmented()) {
+        newSegmentationIdx = i;
+      }
+    }
+    return new DimensionalSpace(newDimensions, newSegmentationIdx);
+  }
+
+  /**
+   * Returns a new space of the given shape mapping the same positions as this one, or null if the
+   * layout of this space does not allow it.
+   *
+   * <p>Positions can always be remapped if the space is not segmented. Otherwise, only the
+   * dimensions following the segmentation, which are continuous, can be reshaped.
+   */
+  public DimensionalSpace reshape(Shape newShape) {
+    int newNumDimensions = newShape.numDimensions();
+    if (!isSegmented()) {
+      return create(newShape);
+    }
+    if (newNumDimensions <= segmentationIdx) {
+      return null;
+    }
+    for (int i = 0; i <= segmentationIdx; ++i) {
+      if (newShape.size(i) != dimensions[i].numElements()) {
+        return null;
+      }
+    }
+    Dimension[] newDimensions = Arrays.copyOf(dimensions, newNumDimensions);
+    long elementSize = 1;
+    for (int i = newNumDimensions - 1; i > segmentationIdx; --i) {
+      newDimensions[i] = new Axis(newShape.size(i), elementSize);
+      elementSize *= newShape.size(i);
+    }
+    if (elementSize != dimensions[segmentationIdx].elementSize()) {
+      return null;
+    }
+    return new DimensionalSpace(newDimensions, segmentationIdx);
+  }
+
   public Shape shape() {
     if (shape == null) {
       shape = shape(dimensions);
@@ -134,6 +263,41 @@ public class DimensionalSpace {
     return position;
   }
 
+  public long positionOf(long i) {
+    Strides strides = strides();
+    if (strides == Strides.VARIABLE) {
+      return dimensions[0].positionOf(i);
+    }
+    return strides.origin + strides.of(0, i);
+  }
+
+  public long positionOf(long i, long j) {
+    Strides strides = strides();
+    if (strides == Strides.VARIABLE) {
+      return dimensions[0].positionOf(i) + dimensions[1].positionOf(j);
+    }
+    return strides.origin + strides.of(0, i) + strides.of(1, j);
+  }
+
+  public long positionOf(long i, long j, long k) {
+    Strides strides = strides();
+    if (strides == Strides.VARIABLE) {
+      return dimensions[0].positionOf(i) + dimensions[1].positionOf(j)
+          + dimensions[2].positionOf(k);
+    }
+    return strides.origin + strides.of(0, i) + strides.of(1, j) + strides.of(2, k);
+  }
+
+  public long positionOf(long i, long j, long k, long l) {
+    Strides strides = strides();
+    if (strides == Strides.VARIABLE) {
+      return dimensions[0].positionOf(i) + dimensions[1].positionOf(j)
+          + dimensions[2].positionOf(k) + dimensions[3].positionOf(l);
+    }
+    return strides.origin + strides.of(0, i) + strides.of(1, j) + strides.of(2, k)
+        + strides.of(3, l);
+  }
+
   /** Succinct description of the shape meant for debugging. */
   @Override
   public String toString() {
@@ -157,6 +321,61 @@ public class DimensionalSpace {
   private final Dimension[] dimensions;
   private final int segmentationIdx;
   private Shape shape;
+  private Strides strides;
+
+  /**
+   * Returns the strides of this space, computed on the first access by fixed-rank coordinates so
+   * that spaces that are never accessed this way do not pay for it.
+   */
+  private Strides strides() {
+    if (strides == null) {
+      strides = Strides.of(dimensions);
+    }
+    return strides;
+  }
+
+  /**
+   * Constant strides of all dimensions of a space, allowing to compute the position of fixed-rank
+   * coordinates without walking through each dimension.
+   */
+  private static final class Strides {
+
+    /** Strides of a space where at least one dimension has a variable stride */
+    static final Strides VARIABLE = new Strides(null, null, 0L);
+
+    static Strides of(Dimension[] dimensions) {
+      long[] strides = new long[dimensions.length];
+      long[] dimensionSizes = new long[dimensions.length];
+      long origin = 0L;
+      for (int i = 0; i < dimensions.length; ++i) {
+        strides[i] = dimensions[i].stride();
+        dimensionSizes[i] = dimensions[i].numElements();
+        if (strides[i] == Dimension.VARIABLE_STRIDE || dimensionSizes[i] == 0) {
+          return VARIABLE;
+        }
+        origin += dimensions[i].positionOf(0);
+      }
+      return new Strides(strides, dimensionSizes, origin);
+    }
+
+    long of(int dimensionIdx, long coord) {
+      if (coord >= dimensionSizes[dimensionIdx]) {
+        throw new IndexOutOfBoundsException();
+      }
+      return strides[dimensionIdx] * coord;
+    }
+
+    final long origin;
+
+    private final long[] strides;
+    private final long[] dimensionSizes;
+
+    private Strides(long[] strides, long[] dimensionSizes, long origin) {
+      this.strides = strides;
+      this.dimensionSizes = dimensionSizes;
+      this.origin = origin;
+    }
+  }
 
   private static Shape shape(Dimension[] dimensions) {
     long[] shapeDimSizes = new long[dimensions.length];
@@ -0,0 +1,58 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.tools.ndarray.impl.dimension;
+
+final class PermutedDimension extends AbstractDimension {
+
+  @Override
+  public long numElements() {
+    return originalDimension.numElements();
+  }
+
+  @Override
+  public long positionOf(long coord) {
+    return originalDimension.positionOf(coord);
+  }
+
+  @Override
+  public long stride() {
+    return originalDimension.stride();
+  }
+
+  @Override
+  public boolean isSegmented() {
+    return true;  // elements of a moved dimension are never continuous
+  }
+
+  @Override
+  public long elementSize() {
+    return elementSize;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(numElements());
+  }
+
+  PermutedDimension(Dimension originalDimension, long elementSize) {
+    this.originalDimension = originalDimension;
+    this.elementSize = elementSize;
+  }
+
+  private final Dimension originalDimension;
+  private final long elementSize;
+}
@@ -28,6 +28,11 @@ final class ReducedDimension extends AbstractDimension {
     return originalDimension.positionOf(coord) + offset;
   }
 
+  @Override
+  public long stride() {
+    return originalDimension.stride();
+  }
+
   @Override
   public boolean isSegmented() {
     return true;
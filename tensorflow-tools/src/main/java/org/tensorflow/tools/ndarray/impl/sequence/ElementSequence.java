@@ -59,6 +59,11 @@ public class ElementSequence<T, U extends NdArray<T>> implements NdArraySequence
     );
   }
 
+  @Override
+  public NdArraySequence<U> asSlidingWindow() {
+    return new SlidingElementSequence<>(ndArray, dimensionIdx);
+  }
+
   private ElementSequence(AbstractNdArray<T, U> ndArray, int dimensionIdx) {
     this.ndArray = ndArray;
     this.dimensionIdx = dimensionIdx;
@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.tools.ndarray.impl.sequence;
+
+import org.tensorflow.tools.ndarray.NdArray;
+
+/**
+ * A view of an element of an N-dimensional array that can slide to other elements of the same
+ * shape.
+ *
+ * @param <U> type of the element view
+ */
+public interface ElementWindow<U extends NdArray<?>> {
+
+  /**
+   * Returns the view of the element at the current position of this window.
+   *
+   * <p>The same instance is returned for the whole lifetime of this window.
+   */
+  U element();
+
+  /**
+   * Moves this window to the element found at the given position.
+   *
+   * @param position position of the element in the original array
+   */
+  void slideTo(long position);
+}
@@ -52,6 +52,11 @@ class SingleElementSequence<T, U extends NdArray<T>> implements NdArraySequence<
     throw new IllegalRankException("Single element has no coordinates to iterate on, use forEach()");
   }
 
+  @Override
+  public NdArraySequence<U> asSlidingWindow() {
+    return this;
+  }
+
   SingleElementSequence(AbstractNdArray<T, U> ndArray) {
     this.ndArray = ndArray;
   }
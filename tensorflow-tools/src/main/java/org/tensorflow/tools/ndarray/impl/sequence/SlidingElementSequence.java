@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.tools.ndarray.impl.sequence;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import org.tensorflow.tools.ndarray.NdArray;
+import org.tensorflow.tools.ndarray.NdArraySequence;
+import org.tensorflow.tools.ndarray.impl.AbstractNdArray;
+import org.tensorflow.tools.ndarray.impl.dimension.DimensionalSpace;
+
+class SlidingElementSequence<T, U extends NdArray<T>> implements NdArraySequence<U> {
+
+  @Override
+  public Iterator<U> iterator() {
+    ElementWindow<U> window = ndArray.elementWindow(ndArray.dimensions().from(dimensionIdx + 1));
+    PositionIterator positionIterator = PositionIterator.create(ndArray.dimensions(), dimensionIdx);
+    return new Iterator<U>() {
+
+      @Override
+      public boolean hasNext() {
+        return positionIterator.hasNext();
+      }
+
+      @Override
+      public U next() {
+        window.slideTo(positionIterator.nextLong());
+        return window.element();
+      }
+    };
+  }
+
+  @Override
+  public void forEachIndexed(BiConsumer<long[], U> consumer) {
+    ElementWindow<U> window = ndArray.elementWindow(ndArray.dimensions().from(dimensionIdx + 1));
+    U element = window.element();
+    PositionIterator.createIndexed(ndArray.dimensions(), dimensionIdx).forEachIndexed((long[] coords, long position) -> {
+      window.slideTo(position);
+      consumer.accept(coords, element);
+    });
+  }
+
+  @Override
+  public NdArraySequence<U> asSlidingWindow() {
+    return this;
+  }
+
+  SlidingElementSequence(AbstractNdArray<T, U> ndArray, int dimensionIdx) {
+    this.ndArray = ndArray;
+    this.dimensionIdx = dimensionIdx;
+  }
+
+  private final AbstractNdArray<T, U> ndArray;
+  private final int dimensionIdx;
+}
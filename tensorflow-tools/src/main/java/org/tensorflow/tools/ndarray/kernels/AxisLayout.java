@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.tools.ndarray.kernels;
+
+import org.tensorflow.tools.Shape;
+
+/**
+ * Layout of the data of an array reduced along one of its axes.
+ *
+ * <p>The data of an array is seen as a matrix of shape {@code [numOuter, numElements, stride]},
+ * where {@code numElements} is the size of the reduced axis. Each couple of outer and inner
+ * coordinates identifies a lane of {@code numElements} values separated by {@code stride}
+ * positions in the buffer, which are reduced to one or more values in the result.
+ */
+final class AxisLayout {
+
+  @FunctionalInterface
+  interface LaneBlockConsumer {
+
+    /**
+     * Processes a block of lanes that are contiguous in the buffer of the array.
+     *
+     * <p>The {@code i}th value of the {@code k}th lane of the block is found at position
+     * {@code position + i * stride() + k} of the buffer.
+     *
+     * @param lane index of the first lane of the block
+     * @param position position of the first value of the first lane in the buffer
+     * @param numLanes number of lanes in the block
+     */
+    void consume(int lane, long position, int numLanes);
+  }
+
+  static AxisLayout of(Shape shape, int axis) {
+    if (axis < 0 || axis >= shape.numDimensions()) {
+      throw new IllegalArgumentException("Axis " + axis + " is out of bounds for shape " + shape);
+    }
+    long numOuter = 1;
+    for (int i = 0; i < axis; ++i) {
+      numOuter *= shape.size(i);
+    }
+    long stride = 1;
+    for (int i = axis + 1; i < shape.numDimensions(); ++i) {
+      stride *= shape.size(i);
+    }
+    long numLanes = numOuter * stride;
+    if (numLanes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Shape " + shape + " is too large to be reduced along axis " + axis);
+    }
+    return new AxisLayout(shape, axis, shape.size(axis), stride, (int)numLanes);
+  }
+
+  /**
+   * Returns the shape of the array with the reduced axis removed.
+   */
+  Shape reducedShape() {
+    long[] dimSizes = new long[shape.numDimensions() - 1];
+    for (int i = 0, j = 0; i < shape.numDimensions(); ++i) {
+      if (i != axis) {
+        dimSizes[j++] = shape.size(i);
+      }
+    }
+    return Shape.make(dimSizes);
+  }
+
+  /**
+   * Returns the shape of the array with the size of the reduced axis replaced by {@code size}.
+   */
+  Shape resizedShape(long size) {
+    long[] dimSizes = shape.asArray().clone();
+    dimSizes[axis] = size;
+    return Shape.make(dimSizes);
+  }
+
+  /**
+   * Returns the number of values in each lane, i.e. the size of the reduced axis.
+   */
+  long numElements() {
+    return numElements;
+  }
+
+  /**
+   * Returns the distance between two consecutive values of a lane in the buffer.
+   */
+  long stride() {
+    return stride;
+  }
+
+  /**
+   * Returns the number of lanes to reduce.
+   */
+  int numLanes() {
+    return numLanes;
+  }
+
+  /**
+   * Returns the position of a lane value in the data of an array that has this layout but where
+   * the reduced axis is of the given size.
+   *
+   * @param lane index of the lane
+   * @param index index of the value in the lane
+   * @param size size of the reduced axis
+   */
+  long positionOf(int lane, long index, long size) {
+    return (lane / stride) * size * stride + index * stride + (lane % stride);
+  }
+
+  /**
+   * Processes all lanes, by blocks of contiguous lanes, in parallel if the array is large.
+   *
+   * @param consumer processes a block of lanes
+   */
+  void forEachLaneBlock(LaneBlockConsumer consumer) {
+    Tasks.execute(Tasks.numTasks(numLanes, numElements), numLanes, (taskIdx, from, to) -> {
+      long lane = from;
+      while (lane < to) {
+        long outer = lane / stride;
+        long blockEnd = Math.min(to, (outer + 1) * stride);
+        consumer.consume((int)lane, positionOf((int)lane, 0, numElements), (int)(blockEnd - lane));
+        lane = blockEnd;
+      }
+    });
+  }
+
+  /**
+   * Throws if the reduced axis is empty, for reductions that cannot produce a neutral value.
+   */
+  void checkNotEmpty() {
+    if (numElements == 0) {
+      throw new IllegalArgumentException("Cannot reduce empty axis " + axis + " of shape " + shape);
+    }
+  }
+
+  /**
+   * Converts the position of a value in the data of an array of the given shape into coordinates.
+   */
+  static long[] coordinatesOf(Shape shape, long position) {
+    long[] coordinates = new long[shape.numDimensions()];
+    for (int i = coordinates.length - 1; i >= 0; --i) {
+      long dimSize = shape.size(i);
+      coordinates[i] = position % dimSize;
+      position /= dimSize;
+    }
+    return coordinates;
+  }
+
+  private final Shape shape;
+  private final int axis;
+  private final long numElements;
+  private final long stride;
+  private final int numLanes;
+
+  private AxisLayout(Shape shape, int axis, long numElements, long stride, int numLanes) {
+    this.shape = shape;
+    this.axis = axis;
+    this.numElements = numElements;
+    this.stride = stride;
+    this.numLanes = numLanes;
+  }
+}
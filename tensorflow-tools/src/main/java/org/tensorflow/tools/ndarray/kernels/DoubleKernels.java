@@ -0,0 +1,479 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.tools.ndarray.kernels;
+
+import java.util.function.DoubleUnaryOperator;
+
+import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.buffer.DataBuffers;
+import org.tensorflow.tools.buffer.DoubleDataBuffer;
+import org.tensorflow.tools.ndarray.DoubleNdArray;
+import org.tensorflow.tools.ndarray.LongNdArray;
+import org.tensorflow.tools.ndarray.NdArrays;
+import org.tensorflow.tools.ndarray.impl.dense.DoubleDenseNdArray;
+
+/**
+ * Reductions and element-wise operations on N-dimensional arrays of doubles.
+ *
+ * <p>Kernels read the values of an array directly from its buffer, without boxing them, and split
+ * large arrays in multiple tasks executed in parallel, using the pool and the threshold of the
+ * {@link org.tensorflow.tools.ndarray.ParallelTransfer#create() default parallel transfer}. The
+ * values of arrays that are not contiguous in memory, like views with a custom indexation, are
+ * first copied to a temporary buffer.
+ *
+ * <p>NaN values are propagated, like in TensorFlow: a NaN is greater than any other value for
+ * {@code max}, {@code argMax} and {@code topK}, and smaller than any other value for {@code min}.
+ * When an array or a lane contains more than one NaN, the first one is selected, whatever the
+ * number of tasks the array is split into.
+ *
+ * <p>Reductions along an axis return a new array of the same shape as the reduced one, but
+ * without this axis. For example:
+ * <pre>{@code
+ *    DoubleNdArray scores = NdArrays.ofDoubles(shape(64, 1000));  // [batch, class]
+ *    LongNdArray bestClasses = DoubleKernels.argMax(scores, 1);  // of shape [64]
+ * }</pre>
+ */
+public final class DoubleKernels {
+
+  /**
+   * Returns the sum of all values of an array.
+   *
+   * @param array array to reduce
+   * @return sum of all values, 0 if the array is empty
+   */
+  public static double sum(DoubleNdArray array) {
+    DoubleDataBuffer buffer = contiguousBuffer(array);
+    long size = array.size();
+    int numTasks = Tasks.numTasks(size, 1);
+    double[] partialSums = new double[numTasks];
+    Tasks.execute(numTasks, size, (taskIdx, from, to) -> {
+      double sum = 0;
+      for (long i = from; i < to; ++i) {
+        sum += buffer.getDouble(i);
+      }
+      partialSums[taskIdx] = sum;
+    });
+    double sum = 0;
+    for (double partialSum : partialSums) {
+      sum += partialSum;
+    }
+    return (double)sum;
+  }
+
+  /**
+   * Returns the sum of the values of an array along one of its axes.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of sums, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds
+   */
+  public static DoubleNdArray sum(DoubleNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    double[] sums = sumLanes(contiguousBuffer(array), layout);
+    double[] values = new double[sums.length];
+    for (int i = 0; i < sums.length; ++i) {
+      values[i] = (double)sums[i];
+    }
+    return NdArrays.wrap(DataBuffers.from(values, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the arithmetic mean of all values of an array.
+   *
+   * @param array array to reduce
+   * @return mean of all values, NaN if the array is empty
+   */
+  public static double mean(DoubleNdArray array) {
+    return (double)((double)sum(array) / array.size());
+  }
+
+  /**
+   * Returns the arithmetic mean of the values of an array along one of its axes.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of means, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds
+   */
+  public static DoubleNdArray mean(DoubleNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    double[] sums = sumLanes(contiguousBuffer(array), layout);
+    double[] means = new double[sums.length];
+    for (int i = 0; i < sums.length; ++i) {
+      means[i] = (double)((double)sums[i] / layout.numElements());
+    }
+    return NdArrays.wrap(DataBuffers.from(means, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the minimum value of an array.
+   *
+   * @param array array to reduce
+   * @return minimum value, or NaN if the array contains NaN
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static double min(DoubleNdArray array) {
+    DoubleDataBuffer buffer = contiguousBuffer(array);
+    return buffer.getDouble(argMinPosition(buffer, array.size()));
+  }
+
+  /**
+   * Returns the minimum values of an array along one of its axes.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of minimum values, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds or is empty
+   */
+  public static DoubleNdArray min(DoubleNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    layout.checkNotEmpty();
+    DoubleDataBuffer buffer = contiguousBuffer(array);
+    double[] mins = new double[layout.numLanes()];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      for (int k = 0; k < numLanes; ++k) {
+        mins[lane + k] = buffer.getDouble(position + k);
+      }
+      long rowPosition = position;
+      for (long i = 1; i < layout.numElements(); ++i) {
+        rowPosition += layout.stride();
+        for (int k = 0; k < numLanes; ++k) {
+          double value = buffer.getDouble(rowPosition + k);
+          if (isLess(value, mins[lane + k])) {
+            mins[lane + k] = value;
+          }
+        }
+      }
+    });
+    return NdArrays.wrap(DataBuffers.from(mins, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the maximum value of an array.
+   *
+   * @param array array to reduce
+   * @return maximum value, or NaN if the array contains NaN
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static double max(DoubleNdArray array) {
+    DoubleDataBuffer buffer = contiguousBuffer(array);
+    return buffer.getDouble(argMaxPosition(buffer, array.size()));
+  }
+
+  /**
+   * Returns the maximum values of an array along one of its axes.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of maximum values, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds or is empty
+   */
+  public static DoubleNdArray max(DoubleNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    layout.checkNotEmpty();
+    DoubleDataBuffer buffer = contiguousBuffer(array);
+    double[] maxs = new double[layout.numLanes()];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      for (int k = 0; k < numLanes; ++k) {
+        maxs[lane + k] = buffer.getDouble(position + k);
+      }
+      long rowPosition = position;
+      for (long i = 1; i < layout.numElements(); ++i) {
+        rowPosition += layout.stride();
+        for (int k = 0; k < numLanes; ++k) {
+          double value = buffer.getDouble(rowPosition + k);
+          if (isGreater(value, maxs[lane + k])) {
+            maxs[lane + k] = value;
+          }
+        }
+      }
+    });
+    return NdArrays.wrap(DataBuffers.from(maxs, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the coordinates of the maximum value of an array.
+   *
+   * <p>If the maximum value is found more than once, the coordinates of its first occurrence are
+   * returned.
+   *
+   * @param array array to reduce
+   * @return coordinates of the maximum value
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static long[] argMax(DoubleNdArray array) {
+    long position = argMaxPosition(contiguousBuffer(array), array.size());
+    return AxisLayout.coordinatesOf(array.shape(), position);
+  }
+
+  /**
+   * Returns the indices of the maximum values of an array along one of its axes.
+   *
+   * <p>If the maximum value of a lane is found more than once, the index of its first occurrence
+   * is returned.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of indices in the reduced axis, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds or is empty
+   */
+  public static LongNdArray argMax(DoubleNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    layout.checkNotEmpty();
+    DoubleDataBuffer buffer = contiguousBuffer(array);
+    long[] indices = new long[layout.numLanes()];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      double[] maxs = new double[numLanes];
+      for (int k = 0; k < numLanes; ++k) {
+        maxs[k] = buffer.getDouble(position + k);
+      }
+      long rowPosition = position;
+      for (long i = 1; i < layout.numElements(); ++i) {
+        rowPosition += layout.stride();
+        for (int k = 0; k < numLanes; ++k) {
+          double value = buffer.getDouble(rowPosition + k);
+          if (isGreater(value, maxs[k])) {
+            maxs[k] = value;
+            indices[lane + k] = i;
+          }
+        }
+      }
+    });
+    return NdArrays.wrap(DataBuffers.from(indices, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the indices of the {@code k} largest values of an array along one of its axes.
+   *
+   * <p>Indices are sorted by descending order of their value, NaN first. Equal values are sorted by
+   * ascending order of their index.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @param k number of values to select in each lane of the axis
+   * @return new array of indices in the reduced axis, where the size of the reduced axis is
+   *         {@code k}
+   * @throws IllegalArgumentException if axis is out of bounds or if {@code k} is not between 1 and
+   *                                  the size of the axis
+   */
+  public static LongNdArray topK(DoubleNdArray array, int axis, int k) {
+    return topK(array, axis, k, null);
+  }
+
+  /**
+   * Returns the indices of the {@code k} largest values of an array along one of its axes, and
+   * copies these values to another array.
+   *
+   * <p>Indices are sorted by descending order of their value, NaN first. Equal values are sorted by
+   * ascending order of their index.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @param k number of values to select in each lane of the axis
+   * @param values array receiving the selected values, of the same shape as the returned indices,
+   *               or null to ignore them
+   * @return new array of indices in the reduced axis, where the size of the reduced axis is
+   *         {@code k}
+   * @throws IllegalArgumentException if axis is out of bounds, if {@code k} is not between 1 and
+   *                                  the size of the axis or if {@code values} is not of the
+   *                                  expected shape
+   */
+  public static LongNdArray topK(DoubleNdArray array, int axis, int k, DoubleNdArray values) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    if (k <= 0 || k > layout.numElements()) {
+      throw new IllegalArgumentException(
+          "Cannot select " + k + " values out of " + layout.numElements());
+    }
+    Shape resultShape = layout.resizedShape(k);
+    if (values != null && !values.shape().equals(resultShape)) {
+      throw new IllegalArgumentException(
+          "Values array must be of shape " + resultShape + ", got " + values.shape());
+    }
+    DoubleDataBuffer buffer = contiguousBuffer(array);
+    double[] topValues = new double[(int)resultShape.size()];
+    long[] topIndices = new long[topValues.length];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      double[] laneValues = new double[k];
+      long[] laneIndices = new long[k];
+      for (int l = 0; l < numLanes; ++l) {
+        int count = 0;
+        long valuePosition = position + l;
+        for (long i = 0; i < layout.numElements(); ++i, valuePosition += layout.stride()) {
+          double value = buffer.getDouble(valuePosition);
+          if (count == k && !isGreater(value, laneValues[k - 1])) {
+            continue;
+          }
+          int j = count < k ? count++ : k - 1;
+          for (; j > 0 && isGreater(value, laneValues[j - 1]); --j) {
+            laneValues[j] = laneValues[j - 1];
+            laneIndices[j] = laneIndices[j - 1];
+          }
+          laneValues[j] = value;
+          laneIndices[j] = i;
+        }
+        for (int j = 0; j < k; ++j) {
+          int resultPosition = (int)layout.positionOf(lane + l, j, k);
+          topValues[resultPosition] = laneValues[j];
+          topIndices[resultPosition] = laneIndices[j];
+        }
+      }
+    });
+    if (values != null) {
+      values.write(topValues);
+    }
+    return NdArrays.wrap(DataBuffers.from(topIndices, false, false), resultShape);
+  }
+
+  /**
+   * Replaces each value of an array by the result of an operator applied to it.
+   *
+   * <p>The operator may be invoked concurrently from multiple threads and must be stateless.
+   *
+   * @param array array to update
+   * @param operator operator to apply to each value
+   * @return the array
+   * @throws java.nio.ReadOnlyBufferException if the array is read-only
+   */
+  public static DoubleNdArray map(DoubleNdArray array, DoubleUnaryOperator operator) {
+    DoubleDataBuffer buffer = directBuffer(array);
+    boolean isDirect = buffer != null;
+    if (!isDirect) {
+      buffer = contiguousBuffer(array);
+    }
+    DoubleDataBuffer values = buffer;
+    long size = array.size();
+    Tasks.execute(Tasks.numTasks(size, 1), size, (taskIdx, from, to) -> {
+      for (long i = from; i < to; ++i) {
+        values.setDouble(operator.applyAsDouble(values.getDouble(i)), i);
+      }
+    });
+    if (!isDirect) {
+      array.write(values);
+    }
+    return array;
+  }
+
+  private static double[] sumLanes(DoubleDataBuffer buffer, AxisLayout layout) {
+    double[] sums = new double[layout.numLanes()];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      long rowPosition = position;
+      for (long i = 0; i < layout.numElements(); ++i, rowPosition += layout.stride()) {
+        for (int k = 0; k < numLanes; ++k) {
+          sums[lane + k] += buffer.getDouble(rowPosition + k);
+        }
+      }
+    });
+    return sums;
+  }
+
+  private static long argMinPosition(DoubleDataBuffer buffer, long size) {
+    if (size == 0) {
+      throw new IllegalArgumentException("Cannot reduce an empty array");
+    }
+    int numTasks = Tasks.numTasks(size, 1);
+    long[] partialPositions = new long[numTasks];
+    Tasks.execute(numTasks, size, (taskIdx, from, to) -> {
+      long minPosition = from;
+      double min = buffer.getDouble(from);
+      for (long i = from + 1; i < to; ++i) {
+        double value = buffer.getDouble(i);
+        if (isLess(value, min)) {
+          min = value;
+          minPosition = i;
+        }
+      }
+      partialPositions[taskIdx] = minPosition;
+    });
+    long minPosition = partialPositions[0];
+    for (int i = 1; i < numTasks; ++i) {
+      if (isLess(buffer.getDouble(partialPositions[i]), buffer.getDouble(minPosition))) {
+        minPosition = partialPositions[i];
+      }
+    }
+    return minPosition;
+  }
+
+  private static long argMaxPosition(DoubleDataBuffer buffer, long size) {
+    if (size == 0) {
+      throw new IllegalArgumentException("Cannot reduce an empty array");
+    }
+    int numTasks = Tasks.numTasks(size, 1);
+    long[] partialPositions = new long[numTasks];
+    Tasks.execute(numTasks, size, (taskIdx, from, to) -> {
+      long maxPosition = from;
+      double max = buffer.getDouble(from);
+      for (long i = from + 1; i < to; ++i) {
+        double value = buffer.getDouble(i);
+        if (isGreater(value, max)) {
+          max = value;
+          maxPosition = i;
+        }
+      }
+      partialPositions[taskIdx] = maxPosition;
+    });
+    long maxPosition = partialPositions[0];
+    for (int i = 1; i < numTasks; ++i) {
+      if (isGreater(buffer.getDouble(partialPositions[i]), buffer.getDouble(maxPosition))) {
+        maxPosition = partialPositions[i];
+      }
+    }
+    return maxPosition;
+  }
+
+  /**
+   * Returns true if a value is greater than another, a NaN being greater than any number.
+   */
+  private static boolean isGreater(double value, double other) {
+    return value > other || (Double.isNaN(value) && !Double.isNaN(other));
+  }
+
+  /**
+   * Returns true if a value is smaller than another, a NaN being smaller than any number.
+   */
+  private static boolean isLess(double value, double other) {
+    return value < other || (Double.isNaN(value) && !Double.isNaN(other));
+  }
+
+  /**
+   * Returns the buffer of an array if its values are contiguous in memory, null otherwise.
+   */
+  private static DoubleDataBuffer directBuffer(DoubleNdArray array) {
+    if (array instanceof DoubleDenseNdArray) {
+      DoubleDenseNdArray denseArray = (DoubleDenseNdArray)array;
+      if (!denseArray.dimensions().isSegmented()) {
+        return denseArray.buffer();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a buffer where the values of an array are contiguous, copying them if required.
+   */
+  private static DoubleDataBuffer contiguousBuffer(DoubleNdArray array) {
+    DoubleDataBuffer buffer = directBuffer(array);
+    if (buffer == null) {
+      buffer = DataBuffers.ofDoubles(array.size());
+      array.read(buffer);
+    }
+    return buffer;
+  }
+
+  private DoubleKernels() {}
+}
@@ -0,0 +1,487 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.tools.ndarray.kernels;
+
+import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.buffer.DataBuffers;
+import org.tensorflow.tools.buffer.FloatDataBuffer;
+import org.tensorflow.tools.ndarray.FloatNdArray;
+import org.tensorflow.tools.ndarray.LongNdArray;
+import org.tensorflow.tools.ndarray.NdArrays;
+import org.tensorflow.tools.ndarray.impl.dense.FloatDenseNdArray;
+
+/**
+ * Reductions and element-wise operations on N-dimensional arrays of floats.
+ *
+ * <p>Kernels read the values of an array directly from its buffer, without boxing them, and split
+ * large arrays in multiple tasks executed in parallel, using the pool and the threshold of the
+ * {@link org.tensorflow.tools.ndarray.ParallelTransfer#create() default parallel transfer}. The
+ * values of arrays that are not contiguous in memory, like views with a custom indexation, are
+ * first copied to a temporary buffer.
+ *
+ * <p>NaN values are propagated, like in TensorFlow: a NaN is greater than any other value for
+ * {@code max}, {@code argMax} and {@code topK}, and smaller than any other value for {@code min}.
+ * When an array or a lane contains more than one NaN, the first one is selected, whatever the
+ * number of tasks the array is split into.
+ *
+ * <p>Reductions along an axis return a new array of the same shape as the reduced one, but
+ * without this axis. For example:
+ * <pre>{@code
+ *    FloatNdArray scores = NdArrays.ofFloats(shape(64, 1000));  // [batch, class]
+ *    LongNdArray bestClasses = FloatKernels.argMax(scores, 1);  // of shape [64]
+ * }</pre>
+ */
+public final class FloatKernels {
+
+  /**
+   * Returns the sum of all values of an array.
+   *
+   * @param array array to reduce
+   * @return sum of all values, 0 if the array is empty
+   */
+  public static float sum(FloatNdArray array) {
+    FloatDataBuffer buffer = contiguousBuffer(array);
+    long size = array.size();
+    int numTasks = Tasks.numTasks(size, 1);
+    double[] partialSums = new double[numTasks];
+    Tasks.execute(numTasks, size, (taskIdx, from, to) -> {
+      double sum = 0;
+      for (long i = from; i < to; ++i) {
+        sum += buffer.getFloat(i);
+      }
+      partialSums[taskIdx] = sum;
+    });
+    double sum = 0;
+    for (double partialSum : partialSums) {
+      sum += partialSum;
+    }
+    return (float)sum;
+  }
+
+  /**
+   * Returns the sum of the values of an array along one of its axes.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of sums, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds
+   */
+  public static FloatNdArray sum(FloatNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    double[] sums = sumLanes(contiguousBuffer(array), layout);
+    float[] values = new float[sums.length];
+    for (int i = 0; i < sums.length; ++i) {
+      values[i] = (float)sums[i];
+    }
+    return NdArrays.wrap(DataBuffers.from(values, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the arithmetic mean of all values of an array.
+   *
+   * @param array array to reduce
+   * @return mean of all values, NaN if the array is empty
+   */
+  public static float mean(FloatNdArray array) {
+    return (float)((double)sum(array) / array.size());
+  }
+
+  /**
+   * Returns the arithmetic mean of the values of an array along one of its axes.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of means, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds
+   */
+  public static FloatNdArray mean(FloatNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    double[] sums = sumLanes(contiguousBuffer(array), layout);
+    float[] means = new float[sums.length];
+    for (int i = 0; i < sums.length; ++i) {
+      means[i] = (float)((double)sums[i] / layout.numElements());
+    }
+    return NdArrays.wrap(DataBuffers.from(means, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the minimum value of an array.
+   *
+   * @param array array to reduce
+   * @return minimum value, or NaN if the array contains NaN
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static float min(FloatNdArray array) {
+    FloatDataBuffer buffer = contiguousBuffer(array);
+    return buffer.getFloat(argMinPosition(buffer, array.size()));
+  }
+
+  /**
+   * Returns the minimum values of an array along one of its axes.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of minimum values, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds or is empty
+   */
+  public static FloatNdArray min(FloatNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    layout.checkNotEmpty();
+    FloatDataBuffer buffer = contiguousBuffer(array);
+    float[] mins = new float[layout.numLanes()];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      for (int k = 0; k < numLanes; ++k) {
+        mins[lane + k] = buffer.getFloat(position + k);
+      }
+      long rowPosition = position;
+      for (long i = 1; i < layout.numElements(); ++i) {
+        rowPosition += layout.stride();
+        for (int k = 0; k < numLanes; ++k) {
+          float value = buffer.getFloat(rowPosition + k);
+          if (isLess(value, mins[lane + k])) {
+            mins[lane + k] = value;
+          }
+        }
+      }
+    });
+    return NdArrays.wrap(DataBuffers.from(mins, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the maximum value of an array.
+   *
+   * @param array array to reduce
+   * @return maximum value, or NaN if the array contains NaN
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static float max(FloatNdArray array) {
+    FloatDataBuffer buffer = contiguousBuffer(array);
+    return buffer.getFloat(argMaxPosition(buffer, array.size()));
+  }
+
+  /**
+   * Returns the maximum values of an array along one of its axes.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of maximum values, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds or is empty
+   */
+  public static FloatNdArray max(FloatNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    layout.checkNotEmpty();
+    FloatDataBuffer buffer = contiguousBuffer(array);
+    float[] maxs = new float[layout.numLanes()];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      for (int k = 0; k < numLanes; ++k) {
+        maxs[lane + k] = buffer.getFloat(position + k);
+      }
+      long rowPosition = position;
+      for (long i = 1; i < layout.numElements(); ++i) {
+        rowPosition += layout.stride();
+        for (int k = 0; k < numLanes; ++k) {
+          float value = buffer.getFloat(rowPosition + k);
+          if (isGreater(value, maxs[lane + k])) {
+            maxs[lane + k] = value;
+          }
+        }
+      }
+    });
+    return NdArrays.wrap(DataBuffers.from(maxs, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the coordinates of the maximum value of an array.
+   *
+   * <p>If the maximum value is found more than once, the coordinates of its first occurrence are
+   * returned.
+   *
+   * @param array array to reduce
+   * @return coordinates of the maximum value
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static long[] argMax(FloatNdArray array) {
+    long position = argMaxPosition(contiguousBuffer(array), array.size());
+    return AxisLayout.coordinatesOf(array.shape(), position);
+  }
+
+  /**
+   * Returns the indices of the maximum values of an array along one of its axes.
+   *
+   * <p>If the maximum value of a lane is found more than once, the index of its first occurrence
+   * is returned.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @return new array of indices in the reduced axis, with the reduced axis removed
+   * @throws IllegalArgumentException if axis is out of bounds or is empty
+   */
+  public static LongNdArray argMax(FloatNdArray array, int axis) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    layout.checkNotEmpty();
+    FloatDataBuffer buffer = contiguousBuffer(array);
+    long[] indices = new long[layout.numLanes()];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      float[] maxs = new float[numLanes];
+      for (int k = 0; k < numLanes; ++k) {
+        maxs[k] = buffer.getFloat(position + k);
+      }
+      long rowPosition = position;
+      for (long i = 1; i < layout.numElements(); ++i) {
+        rowPosition += layout.stride();
+        for (int k = 0; k < numLanes; ++k) {
+          float value = buffer.getFloat(rowPosition + k);
+          if (isGreater(value, maxs[k])) {
+            maxs[k] = value;
+            indices[lane + k] = i;
+          }
+        }
+      }
+    });
+    return NdArrays.wrap(DataBuffers.from(indices, false, false), layout.reducedShape());
+  }
+
+  /**
+   * Returns the indices of the {@code k} largest values of an array along one of its axes.
+   *
+   * <p>Indices are sorted by descending order of their value, NaN first. Equal values are sorted by
+   * ascending order of their index.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @param k number of values to select in each lane of the axis
+   * @return new array of indices in the reduced axis, where the size of the reduced axis is
+   *         {@code k}
+   * @throws IllegalArgumentException if axis is out of bounds or if {@code k} is not between 1 and
+   *                                  the size of the axis
+   */
+  public static LongNdArray topK(FloatNdArray array, int axis, int k) {
+    return topK(array, axis, k, null);
+  }
+
+  /**
+   * Returns the indices of the {@code k} largest values of an array along one of its axes, and
+   * copies these values to another array.
+   *
+   * <p>Indices are sorted by descending order of their value, NaN first. Equal values are sorted by
+   * ascending order of their index.
+   *
+   * @param array array to reduce
+   * @param axis axis to reduce
+   * @param k number of values to select in each lane of the axis
+   * @param values array receiving the selected values, of the same shape as the returned indices,
+   *               or null to ignore them
+   * @return new array of indices in the reduced axis, where the size of the reduced axis is
+   *         {@code k}
+   * @throws IllegalArgumentException if axis is out of bounds, if {@code k} is not between 1 and
+   *                                  the size of the axis or if {@code values} is not of the
+   *                                  expected shape
+   */
+  public static LongNdArray topK(FloatNdArray array, int axis, int k, FloatNdArray values) {
+    AxisLayout layout = AxisLayout.of(array.shape(), axis);
+    if (k <= 0 || k > layout.numElements()) {
+      throw new IllegalArgumentException(
+          "Cannot select " + k + " values out of " + layout.numElements());
+    }
+    Shape resultShape = layout.resizedShape(k);
+    if (values != null && !values.shape().equals(resultShape)) {
+      throw new IllegalArgumentException(
+          "Values array must be of shape " + resultShape + ", got " + values.shape());
+    }
+    FloatDataBuffer buffer = contiguousBuffer(array);
+    float[] topValues = new float[(int)resultShape.size()];
+    long[] topIndices = new long[topValues.length];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      float[] laneValues = new float[k];
+      long[] laneIndices = new long[k];
+      for (int l = 0; l < numLanes; ++l) {
+        int count = 0;
+        long valuePosition = position + l;
+        for (long i = 0; i < layout.numElements(); ++i, valuePosition += layout.stride()) {
+          float value = buffer.getFloat(valuePosition);
+          if (count == k && !isGreater(value, laneValues[k - 1])) {
+            continue;
+          }
+          int j = count < k ? count++ : k - 1;
+          for (; j > 0 && isGreater(value, laneValues[j - 1]); --j) {
+            laneValues[j] = laneValues[j - 1];
+            laneIndices[j] = laneIndices[j - 1];
+          }
+          laneValues[j] = value;
+          laneIndices[j] = i;
+        }
+        for (int j = 0; j < k; ++j) {
+          int resultPosition = (int)layout.positionOf(lane + l, j, k);
+          topValues[resultPosition] = laneValues[j];
+          topIndices[resultPosition] = laneIndices[j];
+        }
+      }
+    });
+    if (values != null) {
+      values.write(topValues);
+    }
+    return NdArrays.wrap(DataBuffers.from(topIndices, false, false), resultShape);
+  }
+
+  /**
+   * Replaces each value of an array by the result of an operator applied to it.
+   *
+   * <p>The operator may be invoked concurrently from multiple threads and must be stateless.
+   *
+   * @param array array to update
+   * @param operator operator to apply to each value
+   * @return the array
+   * @throws java.nio.ReadOnlyBufferException if the array is read-only
+   */
+  public static FloatNdArray map(FloatNdArray array, FloatUnaryOperator operator) {
+    FloatDataBuffer buffer = directBuffer(array);
+    boolean isDirect = buffer != null;
+    if (!isDirect) {
+      buffer = contiguousBuffer(array);
+    }
+    FloatDataBuffer values = buffer;
+    long size = array.size();
+    Tasks.execute(Tasks.numTasks(size, 1), size, (taskIdx, from, to) -> {
+      for (long i = from; i < to; ++i) {
+        values.setFloat(operator.applyAsFloat(values.getFloat(i)), i);
+      }
+    });
+    if (!isDirect) {
+      array.write(values);
+    }
+    return array;
+  }
+
+  private static double[] sumLanes(FloatDataBuffer buffer, AxisLayout layout) {
+    double[] sums = new double[layout.numLanes()];
+    layout.forEachLaneBlock((lane, position, numLanes) -> {
+      long rowPosition = position;
+      for (long i = 0; i < layout.numElements(); ++i, rowPosition += layout.stride()) {
+        for (int k = 0; k < numLanes; ++k) {
+          sums[lane + k] += buffer.getFloat(rowPosition + k);
+        }
+      }
+    });
+    return sums;
+  }
+
+  private static long argMinPosition(FloatDataBuffer buffer, long size) {
+    if (size == 0) {
+      throw new IllegalArgumentException("Cannot reduce an empty array");
+    }
+    int numTasks = Tasks.numTasks(size, 1);
+    long[] partialPositions = new long[numTasks];
+    Tasks.execute(numTasks, size, (taskIdx, from, to) -> {
+      long minPosition = from;
+      float min = buffer.getFloat(from);
+      for (long i = from + 1; i < to; ++i) {
+        float value = buffer.getFloat(i);
+        if (isLess(value, min)) {
+          min = value;
+          minPosition = i;
+        }
+      }
+      partialPositions[taskIdx] = minPosition;
+    });
+    long minPosition = partialPositions[0];
+    for (int i = 1; i < numTasks; ++i) {
+      if (isLess(buffer.getFloat(partialPositions[i]), buffer.getFloat(minPosition))) {
+        minPosition = partialPositions[i];
+      }
+    }
+    return minPosition;
+  }
+
+  private static long argMaxPosition(FloatDataBuffer buffer, long size) {
+    if (size == 0) {
+      throw new IllegalArgumentException("Cannot reduce an empty array");
+    }
+    int numTasks = Tasks.numTasks(size, 1);
+    long[] partialPositions = new long[numTasks];
+    Tasks.execute(numTasks, size, (taskIdx, from, to) -> {
+      long maxPosition = from;
+      float max = buffer.getFloat(from);
+      for (long i = from + 1; i < to; ++i) {
+        float value = buffer.getFloat(i);
+        if (isGreater(value, max)) {
+          max = value;
+          maxPosition = i;
+        }
+      }
+      partialPositions[taskIdx] = maxPosition;
+    });
+    long maxPosition = partialPositions[0];
+    for (int i = 1; i < numTasks; ++i) {
+      if (isGreater(buffer.getFloat(partialPositions[i]), buffer.getFloat(maxPosition))) {
+        maxPosition = partialPositions[i];
+      }
+    }
+    return maxPosition;
+  }
+
+  /**
+   * Returns true if a value is greater than another, a NaN being greater than any number.
+   */
+  private static boolean isGreater(float value, float other) {
+    return value > other || (Float.isNaN(value) && !Float.isNaN(other));
+  }
+
+  /**
+   * Returns true if a value is smaller than another, a NaN being smaller than any number.
+   */
+  private static boolean isLess(float value, float other) {
+    return value < other || (Float.isNaN(value) && !Float.isNaN(other));
+  }
+
+  /**
+   * Returns the buffer of an array if its values are contiguous in memory, null otherwise.
+   */
+  private static FloatDataBuffer directBuffer(FloatNdArray array) {
+    if (array instanceof FloatDenseNdArray) {
+      FloatDenseNdArray denseArray = (FloatDenseNdArray)array;
+      if (!denseArray.dimensions().isSegmented()) {
+        return denseArray.buffer();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a buffer where the values of an array are contiguous, copying them if required.
+   */
+  private static FloatDataBuffer contiguousBuffer(FloatNdArray array) {
+    FloatDataBuffer buffer = directBuffer(array);
+    if (buffer == null) {
+      buffer = DataBuffers.ofFloats(array.size());
+      array.read(buffer);
+    }
+    return buffer;
+  }
+
+  /**
+   * Operation on a single float value producing a float result.
+   *
+   * @see #map(FloatNdArray, FloatUnaryOperator)
+   */
+  @FunctionalInterface
+  public interface FloatUnaryOperator {
+    float applyAsFloat(float value);
+  }
+
+  private FloatKernels() {}
+}
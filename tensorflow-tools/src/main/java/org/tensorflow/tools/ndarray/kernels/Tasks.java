@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.tools.ndarray.kernels;
+
+import java.util.concurrent.ForkJoinTask;
+import org.tensorflow.tools.ndarray.ParallelTransfer;
+
+/**
+ * Splits the work of a kernel in tasks executed in parallel.
+ *
+ * <p>Kernels share the pool and the threshold of the {@link ParallelTransfer#create() default}
+ * parallel transfer, so that the values of an array are processed by the same threads and with the
+ * same granularity whether they are copied or reduced.
+ */
+final class Tasks {
+
+  @FunctionalInterface
+  interface RangeConsumer {
+
+    /**
+     * Processes a range of the elements of a kernel.
+     *
+     * @param taskIdx index of the task processing this range
+     * @param from index of the first element to process, inclusively
+     * @param to index of the last element to process, exclusively
+     */
+    void consume(int taskIdx, long from, long to);
+  }
+
+  /**
+   * Returns the number of tasks to split the processing of a kernel.
+   *
+   * @param numElements number of elements to process
+   * @param elementSize number of values to read for processing a single element
+   * @return number of tasks, at least one
+   */
+  static int numTasks(long numElements, long elementSize) {
+    long threshold = TRANSFER.threshold();
+    long numValues = numElements * Math.max(elementSize, 1);
+    if (numValues <= threshold) {
+      return 1;
+    }
+    long maxTasks = TRANSFER.pool().getParallelism() * 4L;
+    long numTasks = Math.min((numValues + threshold - 1) / threshold, maxTasks);
+    return (int)Math.min(numTasks, numElements);
+  }
+
+  /**
+   * Processes elements by splitting them in ranges of equal size, executed in parallel.
+   *
+   * @param numTasks number of tasks, as returned by {@link #numTasks(long, long)}
+   * @param numElements number of elements to process
+   * @param consumer processes a range of elements
+   */
+  static void execute(int numTasks, long numElements, RangeConsumer consumer) {
+    if (numTasks <= 1) {
+      consumer.consume(0, 0, numElements);
+      return;
+    }
+    ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[numTasks];
+    for (int i = 0; i < numTasks; ++i) {
+      final int taskIdx = i;
+      tasks[taskIdx] = ForkJoinTask.adapt(() ->
+          consumer.consume(taskIdx, rangeStart(taskIdx, numTasks, numElements),
+              rangeStart(taskIdx + 1, numTasks, numElements))
+      );
+    }
+    TRANSFER.pool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+  }
+
+  private static final ParallelTransfer TRANSFER = ParallelTransfer.create();
+
+  private static long rangeStart(int taskIdx, int numTasks, long numElements) {
+    return numElements / numTasks * taskIdx + Math.min(taskIdx, numElements % numTasks);
+  }
+
+  private Tasks() {}
+}
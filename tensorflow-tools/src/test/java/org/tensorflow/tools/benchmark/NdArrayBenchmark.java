@@ -18,10 +18,12 @@ package org.tensorflow.tools.benchmark;
 
 import static org.tensorflow.tools.ndarray.index.Indices.all;
 import static org.tensorflow.tools.ndarray.index.Indices.at;
+import static org.tensorflow.tools.ndarray.index.Indices.seq;
 
 import java.awt.image.BufferedImage;
 import java.awt.image.Raster;
 import java.io.IOException;
+import java.util.Random;
 import javax.imageio.ImageIO;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -35,7 +37,11 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.runner.RunnerException;
 import org.tensorflow.tools.Shape;
 import org.tensorflow.tools.ndarray.FloatNdArray;
+import org.tensorflow.tools.ndarray.LongNdArray;
 import org.tensorflow.tools.ndarray.NdArrays;
+import org.tensorflow.tools.ndarray.ParallelTransfer;
+import org.tensorflow.tools.ndarray.SlicePlan;
+import org.tensorflow.tools.ndarray.kernels.FloatKernels;
 
 @Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
 @BenchmarkMode(Mode.AverageTime)
@@ -46,11 +52,16 @@ public class NdArrayBenchmark {
 
 	static final String TEST_IMAGE = "castle.jpg";
 	static final int BATCH_SIZE = 60;
+	static final int NUM_GATHERED_PIXELS = 4096;
+	static final ParallelTransfer PARALLEL_TRANSFER = ParallelTransfer.create();
 
 	private FloatNdArray pixels;
 	private FloatNdArray channels;
 	private FloatNdArray batches;
 	private FloatNdArray firstBatch;
+	private SlicePlan<FloatNdArray> batchSlicePlan;
+	private LongNdArray pixelIndices;
+	private FloatNdArray gatheredPixels;
 
 	@Setup
 	public void setUp() throws IOException {
@@ -66,11 +77,17 @@ public class NdArrayBenchmark {
 			for (int x = 0; x < image.getWidth(); ++x, ++pixelIdx) {
 				imageData.getPixel(x, y, pixel);
 				pixels.get(pixelIdx).write(pixel);
-				channels.slice(all(), at(pixelIdx)).write(pixel);
 			}
 		}
+		pixels.permute(1, 0).copyTo(channels);
 		batches = NdArrays.ofFloats(Shape.make(BATCH_SIZE, 3, numPixels));
 		firstBatch = batches.get(0);
+		batchSlicePlan = batches.slicePlan(at(0), all(), at(0));
+
+		Random random = new Random(0);
+		pixelIndices = NdArrays.ofLongs(Shape.make(NUM_GATHERED_PIXELS));
+		pixelIndices.scalars().forEach(index -> index.setLong(random.nextInt(numPixels)));
+		gatheredPixels = NdArrays.ofFloats(Shape.make(NUM_GATHERED_PIXELS, 3));
 	}
 
 	@Benchmark
@@ -85,11 +102,68 @@ public class NdArrayBenchmark {
 		batches.slice(at(0), all(), at(0));
 	}
 
+	@Benchmark
+	@Measurement(batchSize = 2049 * 1537)
+	public void slicingWithPlan() {
+		batchSlicePlan.slice(0, 0);
+	}
+
+	@Benchmark
+	public void gatheringPixels() {
+		pixels.gather(0, pixelIndices, gatheredPixels);
+	}
+
+	@Benchmark
+	public void gatheringPixelsBySlicing() {
+		pixels.slice(seq(pixelIndices)).copyTo(gatheredPixels);
+	}
+
+	@Benchmark
+	public void transposingAllPixels() {
+		pixels.permute(1, 0).copyTo(channels);
+	}
+
 	@Benchmark
 	public void iteratingAllPixels() {
 		pixels.elements(0).forEach(pixel -> {});
 	}
 
+	@Benchmark
+	public void iteratingAllPixelsWithSlidingWindow() {
+		pixels.elements(0).asSlidingWindow().forEach(pixel -> {});
+	}
+
+	@Benchmark
+	public void brightestChannelOfAllPixels() {
+		FloatKernels.argMax(pixels, 1);
+	}
+
+	@Benchmark
+	public void averageOfAllChannels() {
+		FloatKernels.mean(channels, 1);
+	}
+
+	@Benchmark
+	public float summingAllScalars() {
+		float[] sum = new float[1];
+		pixels.scalars().forEach(scalar -> sum[0] += scalar.getFloat());
+		return sum[0];
+	}
+
+	@Benchmark
+	public float summingAllScalarsWithSlidingWindow() {
+		float[] sum = new float[1];
+		pixels.scalars().asSlidingWindow().forEach(scalar -> sum[0] += scalar.getFloat());
+		return sum[0];
+	}
+
+	@Benchmark
+	public float summingAllPrimitiveScalars() {
+		float[] sum = new float[1];
+		pixels.forEachFloat((coords, value) -> sum[0] += value);
+		return sum[0];
+	}
+
 	@Benchmark
   @Measurement(batchSize = BATCH_SIZE)
 	public void writeFirstBatchChannels() {
@@ -103,6 +177,16 @@ public class NdArrayBenchmark {
 		);
 	}
 
+	@Benchmark
+	public void writeAllBatchChannelsByBroadcasting() {
+		batches.set(channels);
+	}
+
+	@Benchmark
+	public void writeAllBatchChannelsInParallel() {
+		PARALLEL_TRANSFER.copy(channels, batches);
+	}
+
 	@Benchmark
 	@Measurement(batchSize = 2049 * 1537)
 	public void writeOnePixelBySlicing() {
@@ -140,6 +224,41 @@ public class NdArrayBenchmark {
 		);
 	}
 
+	@Benchmark
+	public float readAllPixelsByIndex() {
+		float sum = 0.0f;
+		long numPixels = pixels.shape().size(0);
+		for (long i = 0; i < numPixels; ++i) {
+			sum += pixels.getFloat(i, 0) + pixels.getFloat(i, 1) + pixels.getFloat(i, 2);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public float readAllPixelsByCoordinatesArray() {
+		float sum = 0.0f;
+		long numPixels = pixels.shape().size(0);
+		for (long i = 0; i < numPixels; ++i) {
+			sum += pixels.getFloat(new long[] {i, 0})
+					+ pixels.getFloat(new long[] {i, 1})
+					+ pixels.getFloat(new long[] {i, 2});
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public void writeAllPixelsByCoordinatesArray() {
+		batches.elements(0).forEach(batch ->
+				pixels.elements(0).forEachIndexed((coords, pixel) -> {
+					long pixelIndex = coords[0];
+					batch
+							.setFloat(pixel.getFloat(0), new long[] {0, pixelIndex})
+							.setFloat(pixel.getFloat(1), new long[] {1, pixelIndex})
+							.setFloat(pixel.getFloat(2), new long[] {2, pixelIndex});
+				})
+		);
+	}
+
 	public static void main(String[] args) throws IOException, RunnerException {
 		org.openjdk.jmh.Main.main(args);
 	}
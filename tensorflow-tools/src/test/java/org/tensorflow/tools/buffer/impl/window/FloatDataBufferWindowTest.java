@@ -0,0 +1,63 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.tools.buffer.impl.window;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.tensorflow.tools.buffer.DataBuffers;
+import org.tensorflow.tools.buffer.FloatDataBuffer;
+import org.tensorflow.tools.buffer.FloatDataBufferTestBase;
+
+public class FloatDataBufferWindowTest extends FloatDataBufferTestBase {
+
+  @Override
+  protected FloatDataBuffer allocate(long size) {
+    DataBufferWindow<Float> window = DataBufferWindow.create(DataBuffers.ofFloats(size + 10));
+    window.slideTo(10);
+    return (FloatDataBuffer)window;
+  }
+
+  @Override
+  protected long maxSize() {
+    return super.maxSize() - 10;
+  }
+
+  @Test
+  public void slideWindow() {
+    FloatDataBuffer buffer = DataBuffers.ofFloats(10).write(new float[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+    DataBufferWindow<Float> window = DataBufferWindow.create(buffer);
+    FloatDataBuffer windowBuffer = (FloatDataBuffer)window;
+    assertEquals(10L, windowBuffer.size());
+    assertEquals(0.0f, windowBuffer.getFloat(0), 0.0f);
+
+    FloatDataBuffer offsetBuffer = windowBuffer.offset(2);
+
+    window.slideTo(4);
+    assertEquals(4L, window.position());
+    assertEquals(6L, windowBuffer.size());
+    assertEquals(4.0f, windowBuffer.getFloat(0), 0.0f);
+    assertEquals(9.0f, windowBuffer.getFloat(5), 0.0f);
+    assertEquals(2.0f, offsetBuffer.getFloat(0), 0.0f);
+
+    windowBuffer.setFloat(100.0f, 1);
+    assertEquals(100.0f, buffer.getFloat(5), 0.0f);
+
+    window.slideTo(10);
+    assertEquals(0L, windowBuffer.size());
+  }
+}
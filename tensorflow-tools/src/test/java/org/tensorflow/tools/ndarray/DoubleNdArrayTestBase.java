@@ -16,13 +16,17 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
+import static org.tensorflow.tools.ndarray.index.Indices.all;
+import static org.tensorflow.tools.ndarray.index.Indices.flip;
 
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import org.junit.Test;
 import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.ndarray.kernels.DoubleKernels;
 
 public abstract class DoubleNdArrayTestBase extends NdArrayTestBase<Double> {
 
@@ -139,4 +143,108 @@ public abstract class DoubleNdArrayTestBase extends NdArrayTestBase<Double> {
             // as expected
         }
     }
+
+    @Test
+    public void reduceAndMapWithKernels() {
+        DoubleNdArray matrix = allocate(Shape.make(2, 3));
+        matrix.write(new double[] { 1.0, 5.0, 3.0, 4.0, 5.0, 0.0 });
+
+        assertEquals(18.0, DoubleKernels.sum(matrix), 0.0);
+        assertEquals(3.0, DoubleKernels.mean(matrix), 0.0);
+        assertEquals(0.0, DoubleKernels.min(matrix), 0.0);
+        assertEquals(5.0, DoubleKernels.max(matrix), 0.0);
+        assertArrayEquals(new long[] { 0, 1 }, DoubleKernels.argMax(matrix));
+
+        DoubleNdArray sums = DoubleKernels.sum(matrix, 0);
+        assertEquals(Shape.make(3), sums.shape());
+        assertArrayEquals(new double[] { 5.0, 10.0, 3.0 }, toArray(sums), 0.0);
+        assertArrayEquals(new double[] { 3.0, 3.0 }, toArray(DoubleKernels.mean(matrix, 1)), 0.0);
+        assertArrayEquals(new double[] { 1.0, 5.0, 0.0 },
+                toArray(DoubleKernels.min(matrix, 0)), 0.0);
+        assertArrayEquals(new double[] { 5.0, 5.0 }, toArray(DoubleKernels.max(matrix, 1)), 0.0);
+        assertArrayEquals(new long[] { 1, 1 }, toArray(DoubleKernels.argMax(matrix, 1)));
+
+        DoubleNdArray topValues = allocate(Shape.make(2, 2));
+        LongNdArray topIndices = DoubleKernels.topK(matrix, 1, 2, topValues);
+        assertEquals(Shape.make(2, 2), topIndices.shape());
+        assertArrayEquals(new long[] { 1, 2, 1, 0 }, toArray(topIndices));
+        assertArrayEquals(new double[] { 5.0, 3.0, 5.0, 4.0 }, toArray(topValues), 0.0);
+        assertArrayEquals(new long[] { 1, 0, 0 }, toArray(DoubleKernels.topK(matrix, 0, 1)));
+
+        // Kernels also apply to views where values are not contiguous
+        DoubleNdArray flipped = matrix.slice(all(), flip());
+        assertArrayEquals(new double[] { 9.0, 9.0 }, toArray(DoubleKernels.sum(flipped, 1)), 0.0);
+        assertArrayEquals(new long[] { 1, 1 }, toArray(DoubleKernels.argMax(flipped, 1)));
+
+        DoubleKernels.map(flipped, v -> v * 2.0);
+        assertArrayEquals(new double[] { 2.0, 10.0, 6.0, 8.0, 10.0, 0.0 }, toArray(matrix), 0.0);
+        DoubleKernels.map(matrix, v -> v - 1.0);
+        assertArrayEquals(new double[] { 1.0, 9.0, 5.0, 7.0, 9.0, -1.0 }, toArray(matrix), 0.0);
+
+        // Large arrays are split in multiple tasks
+        DoubleNdArray largeMatrix = allocate(Shape.make(512, 300));
+        largeMatrix.scalars().forEachIndexed((coords, s) ->
+                s.setDouble(coords[0] + coords[1] * 0.001)
+        );
+        assertEquals(511.299, DoubleKernels.max(largeMatrix), 1e-9);
+        assertArrayEquals(new long[] { 511, 299 }, DoubleKernels.argMax(largeMatrix));
+        double expectedSum = 300.0 * 511 * 512 / 2 + 512 * 0.001 * 299 * 300 / 2;
+        assertEquals(expectedSum, DoubleKernels.sum(largeMatrix), 1e-6);
+        LongNdArray largeArgMax = DoubleKernels.argMax(largeMatrix, 0);
+        largeArgMax.scalars().forEach(s -> assertEquals(511L, s.getLong()));
+        DoubleKernels.map(largeMatrix, v -> -v);
+        assertEquals(-511.299, DoubleKernels.min(largeMatrix), 1e-9);
+        largeMatrix.setDouble(Double.NaN, 400, 0);
+        largeMatrix.setDouble(Double.NaN, 100, 0);
+        assertEquals(Double.NaN, DoubleKernels.min(largeMatrix), 0.0);
+        assertArrayEquals(new long[] { 100, 0 }, DoubleKernels.argMax(largeMatrix));
+
+        // NaN values are propagated, the first one being selected
+        DoubleNdArray nanMatrix = allocate(Shape.make(2, 3));
+        nanMatrix.write(new double[] { 1.0, Double.NaN, 3.0, Double.NaN, 5.0, Double.NaN });
+        assertEquals(Double.NaN, DoubleKernels.max(nanMatrix), 0.0);
+        assertEquals(Double.NaN, DoubleKernels.min(nanMatrix), 0.0);
+        assertArrayEquals(new long[] { 0, 1 }, DoubleKernels.argMax(nanMatrix));
+        assertArrayEquals(new double[] { Double.NaN, Double.NaN, Double.NaN },
+                toArray(DoubleKernels.max(nanMatrix, 0)), 0.0);
+        assertArrayEquals(new double[] { Double.NaN, Double.NaN },
+                toArray(DoubleKernels.min(nanMatrix, 1)), 0.0);
+        assertArrayEquals(new long[] { 1, 0, 1 }, toArray(DoubleKernels.argMax(nanMatrix, 0)));
+        assertArrayEquals(new long[] { 1, 0 }, toArray(DoubleKernels.argMax(nanMatrix, 1)));
+        LongNdArray nanTopIndices = DoubleKernels.topK(nanMatrix, 1, 2, topValues);
+        assertArrayEquals(new long[] { 1, 2, 0, 2 }, toArray(nanTopIndices));
+        assertArrayEquals(new double[] { Double.NaN, 3.0, Double.NaN, Double.NaN },
+                toArray(topValues), 0.0);
+
+        try {
+            DoubleKernels.sum(matrix, 2);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+        try {
+            DoubleKernels.topK(matrix, 1, 4);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+        try {
+            DoubleKernels.max(allocate(Shape.make(0, 2)));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+    }
+
+    private static double[] toArray(DoubleNdArray array) {
+        double[] values = new double[(int)array.size()];
+        array.read(values);
+        return values;
+    }
+
+    private static long[] toArray(LongNdArray array) {
+        long[] values = new long[(int)array.size()];
+        array.read(values);
+        return values;
+    }
 }
@@ -16,13 +16,18 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
+import static org.tensorflow.tools.ndarray.index.Indices.all;
+import static org.tensorflow.tools.ndarray.index.Indices.at;
+import static org.tensorflow.tools.ndarray.index.Indices.flip;
 
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import org.junit.Test;
 import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.ndarray.kernels.FloatKernels;
 
 public abstract class FloatNdArrayTestBase extends NdArrayTestBase<Float> {
 
@@ -57,6 +62,76 @@ public abstract class FloatNdArrayTestBase extends NdArrayTestBase<Float> {
         assertEquals(7, matrix3d.getFloat(0, 1, 2), 0.0f);
     }
 
+    @Test
+    public void visitPrimitiveScalars() {
+        FloatNdArray matrix = allocate(Shape.make(3, 2));
+        matrix.write(new float[] { 0.0f, 0.1f, 0.2f, 0.3f, 0.4f, 0.5f });
+
+        float[] values = new float[6];
+        matrix.forEachFloat((coords, value) -> values[(int)(coords[0] * 2 + coords[1])] = value);
+        assertArrayEquals(new float[] { 0.0f, 0.1f, 0.2f, 0.3f, 0.4f, 0.5f }, values, 0.0f);
+
+        float[] columnValues = new float[3];
+        matrix.slice(all(), at(1)).forEachFloat((coords, value) -> columnValues[(int)coords[0]] = value);
+        assertArrayEquals(new float[] { 0.1f, 0.3f, 0.5f }, columnValues, 0.0f);
+
+        float[] scalarValue = new float[1];
+        matrix.get(2, 0).forEachFloat((coords, value) -> scalarValue[0] = value);
+        assertEquals(0.4f, scalarValue[0], 0.0f);
+    }
+
+    @Test
+    public void accessScalarsOfFixedRank() {
+        FloatNdArray array4d = allocate(Shape.make(2, 3, 4, 5));
+        array4d.scalars().forEachIndexed((coords, scalar) ->
+            scalar.setFloat(coords[0] * 60 + coords[1] * 20 + coords[2] * 5 + coords[3]));
+
+        assertEquals(119.0f, array4d.getFloat(1, 2, 3, 4), 0.0f);
+        assertEquals(33.0f, array4d.get(0).getFloat(1, 2, 3), 0.0f);
+        assertEquals(113.0f, array4d.get(1, 2).getFloat(2, 3), 0.0f);
+        assertEquals(98.0f, array4d.get(1, 1, 3).getFloat(3), 0.0f);
+
+        array4d.setFloat(1000.0f, 1, 0, 2, 1);
+        array4d.get(1).setFloat(1001.0f, 0, 2, 2);
+        array4d.get(1, 0).setFloat(1002.0f, 2, 3);
+        array4d.get(1, 0, 2).setFloat(1003.0f, 4);
+        float[] values = new float[5];
+        array4d.get(1, 0, 2).read(values);
+        assertArrayEquals(new float[] { 70.0f, 1000.0f, 1001.0f, 1002.0f, 1003.0f }, values, 0.0f);
+
+        // Views with dimensions of variable or non-standard strides
+        assertEquals(119.0f, array4d.slice(flip()).getFloat(0, 2, 3, 4), 0.0f);
+        assertEquals(119.0f, array4d.slice(all(), all(), at(3)).getFloat(1, 2, 4), 0.0f);
+        assertEquals(119.0f, array4d.permute(3, 2, 1, 0).getFloat(4, 3, 2, 1), 0.0f);
+        FloatNdArray broadcast = array4d.get(0).broadcastTo(Shape.make(2, 3, 4, 5));
+        assertEquals(33.0f, broadcast.getFloat(1, 1, 2, 3), 0.0f);
+
+        try {
+            array4d.getFloat(1, 2, 3);
+            fail();
+        } catch (IllegalRankException e) {
+            // as expected
+        }
+        try {
+            array4d.get(1, 2, 3, 4).getFloat(0);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // as expected
+        }
+        try {
+            array4d.getFloat(1, 3, 3, 4);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // as expected
+        }
+        try {
+            array4d.get(0, 0).setFloat(0.0f, 4, 0);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // as expected
+        }
+    }
+
     @Test
     public void writeAndReadWithPrimitiveArrays() {
         float[] values = new float[] { 0.0f, 0.1f, 0.2f, 0.3f, 0.4f, 0.5f, 0.6f, 0.7f, 0.8f, 0.9f, 1.0f, 1.1f, 1.2f, 1.3f, 1.4f, 1.5f };
@@ -139,4 +214,110 @@ public abstract class FloatNdArrayTestBase extends NdArrayTestBase<Float> {
             // as expected
         }
     }
+
+    @Test
+    public void reduceAndMapWithKernels() {
+        FloatNdArray matrix = allocate(Shape.make(2, 3));
+        matrix.write(new float[] { 1.0f, 5.0f, 3.0f, 4.0f, 5.0f, 0.0f });
+
+        assertEquals(18.0f, FloatKernels.sum(matrix), 0.0f);
+        assertEquals(3.0f, FloatKernels.mean(matrix), 0.0f);
+        assertEquals(0.0f, FloatKernels.min(matrix), 0.0f);
+        assertEquals(5.0f, FloatKernels.max(matrix), 0.0f);
+        assertArrayEquals(new long[] { 0, 1 }, FloatKernels.argMax(matrix));
+
+        FloatNdArray sums = FloatKernels.sum(matrix, 0);
+        assertEquals(Shape.make(3), sums.shape());
+        assertArrayEquals(new float[] { 5.0f, 10.0f, 3.0f }, toArray(sums), 0.0f);
+        assertArrayEquals(new float[] { 3.0f, 3.0f }, toArray(FloatKernels.mean(matrix, 1)), 0.0f);
+        assertArrayEquals(new float[] { 1.0f, 5.0f, 0.0f },
+                toArray(FloatKernels.min(matrix, 0)), 0.0f);
+        assertArrayEquals(new float[] { 5.0f, 5.0f }, toArray(FloatKernels.max(matrix, 1)), 0.0f);
+        assertArrayEquals(new long[] { 1, 1 }, toArray(FloatKernels.argMax(matrix, 1)));
+
+        FloatNdArray topValues = allocate(Shape.make(2, 2));
+        LongNdArray topIndices = FloatKernels.topK(matrix, 1, 2, topValues);
+        assertEquals(Shape.make(2, 2), topIndices.shape());
+        assertArrayEquals(new long[] { 1, 2, 1, 0 }, toArray(topIndices));
+        assertArrayEquals(new float[] { 5.0f, 3.0f, 5.0f, 4.0f }, toArray(topValues), 0.0f);
+        assertArrayEquals(new long[] { 1, 0, 0 }, toArray(FloatKernels.topK(matrix, 0, 1)));
+
+        // Kernels also apply to views where values are not contiguous
+        FloatNdArray flipped = matrix.slice(all(), flip());
+        assertArrayEquals(new float[] { 9.0f, 9.0f }, toArray(FloatKernels.sum(flipped, 1)), 0.0f);
+        assertArrayEquals(new long[] { 1, 1 }, toArray(FloatKernels.argMax(flipped, 1)));
+
+        FloatKernels.map(flipped, v -> v * 2.0f);
+        assertArrayEquals(new float[] { 2.0f, 10.0f, 6.0f, 8.0f, 10.0f, 0.0f },
+                toArray(matrix), 0.0f);
+        FloatKernels.map(matrix, v -> v - 1.0f);
+        assertArrayEquals(new float[] { 1.0f, 9.0f, 5.0f, 7.0f, 9.0f, -1.0f },
+                toArray(matrix), 0.0f);
+
+        // Large arrays are split in multiple tasks
+        FloatNdArray largeMatrix = allocate(Shape.make(512, 300));
+        largeMatrix.scalars().forEachIndexed((coords, s) ->
+                s.setFloat(coords[0] + coords[1] * 0.001f)
+        );
+        assertEquals(511.299f, FloatKernels.max(largeMatrix), 1e-4f);
+        assertArrayEquals(new long[] { 511, 299 }, FloatKernels.argMax(largeMatrix));
+        float expectedSum = 300 * 511 * 512 / 2 + 512 * 0.001f * 299 * 300 / 2;
+        assertEquals(expectedSum, FloatKernels.sum(largeMatrix), 4.0f);
+        LongNdArray largeArgMax = FloatKernels.argMax(largeMatrix, 0);
+        largeArgMax.scalars().forEach(s -> assertEquals(511L, s.getLong()));
+        FloatKernels.map(largeMatrix, v -> -v);
+        assertEquals(-511.299f, FloatKernels.min(largeMatrix), 1e-4f);
+        largeMatrix.setFloat(Float.NaN, 400, 0);
+        largeMatrix.setFloat(Float.NaN, 100, 0);
+        assertEquals(Float.NaN, FloatKernels.min(largeMatrix), 0.0f);
+        assertArrayEquals(new long[] { 100, 0 }, FloatKernels.argMax(largeMatrix));
+
+        // NaN values are propagated, the first one being selected
+        FloatNdArray nanMatrix = allocate(Shape.make(2, 3));
+        nanMatrix.write(new float[] { 1.0f, Float.NaN, 3.0f, Float.NaN, 5.0f, Float.NaN });
+        assertEquals(Float.NaN, FloatKernels.max(nanMatrix), 0.0f);
+        assertEquals(Float.NaN, FloatKernels.min(nanMatrix), 0.0f);
+        assertArrayEquals(new long[] { 0, 1 }, FloatKernels.argMax(nanMatrix));
+        assertArrayEquals(new float[] { Float.NaN, Float.NaN, Float.NaN },
+                toArray(FloatKernels.max(nanMatrix, 0)), 0.0f);
+        assertArrayEquals(new float[] { Float.NaN, Float.NaN },
+                toArray(FloatKernels.min(nanMatrix, 1)), 0.0f);
+        assertArrayEquals(new long[] { 1, 0, 1 }, toArray(FloatKernels.argMax(nanMatrix, 0)));
+        assertArrayEquals(new long[] { 1, 0 }, toArray(FloatKernels.argMax(nanMatrix, 1)));
+        LongNdArray nanTopIndices = FloatKernels.topK(nanMatrix, 1, 2, topValues);
+        assertArrayEquals(new long[] { 1, 2, 0, 2 }, toArray(nanTopIndices));
+        assertArrayEquals(new float[] { Float.NaN, 3.0f, Float.NaN, Float.NaN },
+                toArray(topValues), 0.0f);
+
+        try {
+            FloatKernels.sum(matrix, 2);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+        try {
+            FloatKernels.topK(matrix, 1, 4);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+        try {
+            FloatKernels.max(allocate(Shape.make(0, 2)));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+    }
+
+    private static float[] toArray(FloatNdArray array) {
+        float[] values = new float[(int)array.size()];
+        array.read(values);
+        return values;
+    }
+
+    private static long[] toArray(LongNdArray array) {
+        long[] values = new long[(int)array.size()];
+        array.read(values);
+        return values;
+    }
 }
@@ -16,13 +16,17 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
+import static org.tensorflow.tools.ndarray.index.Indices.all;
+import static org.tensorflow.tools.ndarray.index.Indices.flip;
 
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import org.junit.Test;
 import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.ndarray.kernels.IntKernels;
 
 public abstract class IntNdArrayTestBase extends NdArrayTestBase<Integer> {
 
@@ -139,4 +143,99 @@ public abstract class IntNdArrayTestBase extends NdArrayTestBase<Integer> {
             // as expected
         }
     }
+
+    @Test
+    public void reduceAndMapWithKernels() {
+        IntNdArray matrix = allocate(Shape.make(2, 3));
+        matrix.write(new int[] { 1, 5, 3, 4, 5, 0 });
+
+        assertEquals(18L, IntKernels.sum(matrix));
+        assertEquals(3.0, IntKernels.mean(matrix), 0.0);
+        assertEquals(0, IntKernels.min(matrix));
+        assertEquals(5, IntKernels.max(matrix));
+        assertArrayEquals(new long[] { 0, 1 }, IntKernels.argMax(matrix));
+
+        LongNdArray sums = IntKernels.sum(matrix, 0);
+        assertEquals(Shape.make(3), sums.shape());
+        assertArrayEquals(new long[] { 5, 10, 3 }, toArray(sums));
+        assertArrayEquals(new double[] { 3.0, 3.0 }, toArray(IntKernels.mean(matrix, 1)), 0.0);
+        assertArrayEquals(new int[] { 1, 5, 0 }, toArray(IntKernels.min(matrix, 0)));
+        assertArrayEquals(new int[] { 5, 5 }, toArray(IntKernels.max(matrix, 1)));
+        assertArrayEquals(new long[] { 1, 1 }, toArray(IntKernels.argMax(matrix, 1)));
+
+        IntNdArray topValues = allocate(Shape.make(2, 2));
+        LongNdArray topIndices = IntKernels.topK(matrix, 1, 2, topValues);
+        assertEquals(Shape.make(2, 2), topIndices.shape());
+        assertArrayEquals(new long[] { 1, 2, 1, 0 }, toArray(topIndices));
+        assertArrayEquals(new int[] { 5, 3, 5, 4 }, toArray(topValues));
+        assertArrayEquals(new long[] { 1, 0, 0 }, toArray(IntKernels.topK(matrix, 0, 1)));
+
+        // Kernels also apply to views where values are not contiguous
+        IntNdArray flipped = matrix.slice(all(), flip());
+        assertArrayEquals(new long[] { 9, 9 }, toArray(IntKernels.sum(flipped, 1)));
+        assertArrayEquals(new long[] { 1, 1 }, toArray(IntKernels.argMax(flipped, 1)));
+
+        IntKernels.map(flipped, v -> v * 2);
+        assertArrayEquals(new int[] { 2, 10, 6, 8, 10, 0 }, toArray(matrix));
+        IntKernels.map(matrix, v -> v - 1);
+        assertArrayEquals(new int[] { 1, 9, 5, 7, 9, -1 }, toArray(matrix));
+
+        // Sums do not overflow
+        IntNdArray maxValues = allocate(Shape.make(2, 2));
+        maxValues.write(new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE, 1, 1 });
+        assertEquals(2L * Integer.MAX_VALUE + 2L, IntKernels.sum(maxValues));
+        assertArrayEquals(new long[] { Integer.MAX_VALUE + 1L, Integer.MAX_VALUE + 1L },
+                toArray(IntKernels.sum(maxValues, 0)));
+
+        // Large arrays are split in multiple tasks
+        IntNdArray largeMatrix = allocate(Shape.make(512, 300));
+        largeMatrix.scalars().forEachIndexed((coords, s) ->
+                s.setInt((int)(coords[0] * 1000 + coords[1]))
+        );
+        assertEquals(511299, IntKernels.max(largeMatrix));
+        assertArrayEquals(new long[] { 511, 299 }, IntKernels.argMax(largeMatrix));
+        long expectedSum = 300L * 1000 * 511 * 512 / 2 + 512L * 299 * 300 / 2;
+        assertEquals(expectedSum, IntKernels.sum(largeMatrix));
+        LongNdArray largeArgMax = IntKernels.argMax(largeMatrix, 0);
+        largeArgMax.scalars().forEach(s -> assertEquals(511L, s.getLong()));
+        IntKernels.map(largeMatrix, v -> -v);
+        assertEquals(-511299, IntKernels.min(largeMatrix));
+
+        try {
+            IntKernels.sum(matrix, 2);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+        try {
+            IntKernels.topK(matrix, 1, 4);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+        try {
+            IntKernels.max(allocate(Shape.make(0, 2)));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+    }
+
+    private static int[] toArray(IntNdArray array) {
+        int[] values = new int[(int)array.size()];
+        array.read(values);
+        return values;
+    }
+
+    private static long[] toArray(LongNdArray array) {
+        long[] values = new long[(int)array.size()];
+        array.read(values);
+        return values;
+    }
+
+    private static double[] toArray(DoubleNdArray array) {
+        double[] values = new double[(int)array.size()];
+        array.read(values);
+        return values;
+    }
 }
@@ -16,13 +16,17 @@
  */
 package org.tensorflow.tools.ndarray;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
+import static org.tensorflow.tools.ndarray.index.Indices.all;
+import static org.tensorflow.tools.ndarray.index.Indices.flip;
 
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import org.junit.Test;
 import org.tensorflow.tools.Shape;
+import org.tensorflow.tools.ndarray.kernels.LongKernels;
 
 public abstract class LongNdArrayTestBase extends NdArrayTestBase<Long> {
 
@@ -116,4 +120,86 @@ public abstract class LongNdArrayTestBase extends NdArrayTestBase<Long> {
             // as expected
         }
     }
+
+    @Test
+    public void reduceAndMapWithKernels() {
+        LongNdArray matrix = allocate(Shape.make(2, 3));
+        matrix.write(new long[] { 1L, 5L, 3L, 4L, 5L, 0L });
+
+        assertEquals(18L, LongKernels.sum(matrix));
+        assertEquals(3.0, LongKernels.mean(matrix), 0.0);
+        assertEquals(0L, LongKernels.min(matrix));
+        assertEquals(5L, LongKernels.max(matrix));
+        assertArrayEquals(new long[] { 0, 1 }, LongKernels.argMax(matrix));
+
+        LongNdArray sums = LongKernels.sum(matrix, 0);
+        assertEquals(Shape.make(3), sums.shape());
+        assertArrayEquals(new long[] { 5L, 10L, 3L }, toArray(sums));
+        assertArrayEquals(new double[] { 3.0, 3.0 }, toArray(LongKernels.mean(matrix, 1)), 0.0);
+        assertArrayEquals(new long[] { 1L, 5L, 0L }, toArray(LongKernels.min(matrix, 0)));
+        assertArrayEquals(new long[] { 5L, 5L }, toArray(LongKernels.max(matrix, 1)));
+        assertArrayEquals(new long[] { 1, 1 }, toArray(LongKernels.argMax(matrix, 1)));
+
+        LongNdArray topValues = allocate(Shape.make(2, 2));
+        LongNdArray topIndices = LongKernels.topK(matrix, 1, 2, topValues);
+        assertEquals(Shape.make(2, 2), topIndices.shape());
+        assertArrayEquals(new long[] { 1, 2, 1, 0 }, toArray(topIndices));
+        assertArrayEquals(new long[] { 5L, 3L, 5L, 4L }, toArray(topValues));
+        assertArrayEquals(new long[] { 1, 0, 0 }, toArray(LongKernels.topK(matrix, 0, 1)));
+
+        // Kernels also apply to views where values are not contiguous
+        LongNdArray flipped = matrix.slice(all(), flip());
+        assertArrayEquals(new long[] { 9L, 9L }, toArray(LongKernels.sum(flipped, 1)));
+        assertArrayEquals(new long[] { 1, 1 }, toArray(LongKernels.argMax(flipped, 1)));
+
+        LongKernels.map(flipped, v -> v * 2L);
+        assertArrayEquals(new long[] { 2L, 10L, 6L, 8L, 10L, 0L }, toArray(matrix));
+        LongKernels.map(matrix, v -> v - 1L);
+        assertArrayEquals(new long[] { 1L, 9L, 5L, 7L, 9L, -1L }, toArray(matrix));
+
+        // Large arrays are split in multiple tasks
+        LongNdArray largeMatrix = allocate(Shape.make(512, 300));
+        largeMatrix.scalars().forEachIndexed((coords, s) ->
+                s.setLong(coords[0] * 1000 + coords[1])
+        );
+        assertEquals(511299L, LongKernels.max(largeMatrix));
+        assertArrayEquals(new long[] { 511, 299 }, LongKernels.argMax(largeMatrix));
+        long expectedSum = 300L * 1000 * 511 * 512 / 2 + 512L * 299 * 300 / 2;
+        assertEquals(expectedSum, LongKernels.sum(largeMatrix));
+        LongNdArray largeArgMax = LongKernels.argMax(largeMatrix, 0);
+        largeArgMax.scalars().forEach(s -> assertEquals(511L, s.getLong()));
+        LongKernels.map(largeMatrix, v -> -v);
+        assertEquals(-511299L, LongKernels.min(largeMatrix));
+
+        try {
+            LongKernels.sum(matrix, 2);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+        try {
+            LongKernels.topK(matrix, 1, 4);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+        try {
+            LongKernels.max(allocate(Shape.make(0, 2)));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // as expected
+        }
+    }
+
+    private static long[] toArray(LongNdArray array) {
+        long[] values = new long[(int)array.size()];
+        array.read(values);
+        return values;
+    }
+
+    private static double[] toArray(DoubleNdArray array) {
+        double[] values = new double[(int)array.size()];
+        array.read(values);
+        return values;
+    }
 }
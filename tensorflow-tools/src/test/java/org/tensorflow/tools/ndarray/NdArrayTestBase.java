@@ -17,6 +17,7 @@
 package org.tensorflow.tools.ndarray;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.tensorflow.tools.ndarray.NdArrays.vectorOfObjects;
 import static org.tensorflow.tools.ndarray.index.Indices.all;
@@ -31,6 +32,8 @@ import static org.tensorflow.tools.ndarray.index.Indices.to;
 
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.LongStream;
 import org.junit.Test;
 import org.tensorflow.tools.Shape;
@@ -273,6 +276,415 @@ public abstract class NdArrayTestBase<T> {
     assertEquals(valueOf(14L), buffer.getObject(14));
   }
 
+  @Test
+  public void slicePlans() {
+    NdArray<T> matrix3d = allocate(Shape.make(3, 2, 4));
+    matrix3d.scalars().forEachIndexed((coords, s) ->
+        s.setObject(valueOf(coords[0] * 8 + coords[1] * 4 + coords[2])));
+
+    SlicePlan<? extends NdArray<T>> plan = matrix3d.slicePlan(at(0), all(), at(0));
+    assertEquals(Shape.make(2), plan.shape());
+    assertEquals(2, plan.numCoordinates());
+    for (long x = 0; x < 3; ++x) {
+      for (long z = 0; z < 4; ++z) {
+        NdArray<T> vector = plan.slice(x, z);
+        assertEquals(Shape.make(2), vector.shape());
+        assertEquals(matrix3d.getObject(x, 0, z), vector.getObject(0));
+        assertEquals(matrix3d.getObject(x, 1, z), vector.getObject(1));
+      }
+    }
+    plan.slice(2, 3).setObject(valueOf(100L), 1);
+    assertEquals(valueOf(100L), matrix3d.getObject(2, 1, 3));  // view
+
+    SlicePlan<? extends NdArray<T>> middlePlan = matrix3d.slicePlan(all(), at(0), odd());
+    NdArray<T> slice = middlePlan.slice(1);
+    assertEquals(Shape.make(3, 2), slice.shape());
+    assertEquals(valueOf(7L), slice.getObject(0, 1));
+    assertEquals(valueOf(21L), slice.getObject(2, 0));
+
+    SlicePlan<? extends NdArray<T>> flippedPlan = matrix3d.slice(flip()).slicePlan(at(0), at(0));
+    assertEquals(Shape.make(4), flippedPlan.shape());
+    assertEquals(valueOf(5L), flippedPlan.slice(2, 1).getObject(1));
+
+    SlicePlan<? extends NdArray<T>> scalarPlan = matrix3d.slicePlan(at(0), at(0), at(0));
+    assertEquals(Shape.scalar(), scalarPlan.shape());
+    assertEquals(14L, scalarPlan.positionOf(1, 1, 2));
+    assertEquals(valueOf(14L), scalarPlan.slice(1, 1, 2).getObject());
+
+    try {
+      plan.slice(1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      plan.slice(3, 0);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void permutedViews() {
+    NdArray<T> array = allocate(Shape.make(2, 3, 4));
+    array.scalars().forEachIndexed((coords, s) ->
+        s.setObject(valueOf(coords[0] * 12 + coords[1] * 4 + coords[2]))
+    );
+    NdArray<T> permuted = array.permute(2, 0, 1);
+    assertEquals(Shape.make(4, 2, 3), permuted.shape());
+    permuted.scalars().forEachIndexed((coords, s) ->
+        assertEquals(array.getObject(coords[1], coords[2], coords[0]), s.getObject())
+    );
+
+    DataBuffer<T> buffer = allocateBuffer(permuted.size());
+    permuted.get(1).read(buffer);
+    assertEquals(valueOf(1L), buffer.getObject(0));
+    assertEquals(valueOf(5L), buffer.getObject(1));
+    assertEquals(valueOf(9L), buffer.getObject(2));
+    assertEquals(valueOf(13L), buffer.getObject(3));
+
+    array.permute(1, 0, 2).get(1).read(buffer);
+    assertEquals(valueOf(4L), buffer.getObject(0));
+    assertEquals(valueOf(7L), buffer.getObject(3));
+    assertEquals(valueOf(16L), buffer.getObject(4));
+    assertEquals(valueOf(19L), buffer.getObject(7));
+
+    NdArray<T> copy = allocate(permuted.shape());
+    permuted.copyTo(copy);
+    copy.scalars().forEachIndexed((coords, s) ->
+        assertEquals(array.getObject(coords[1], coords[2], coords[0]), s.getObject())
+    );
+
+    permuted.setObject(valueOf(100L), 3, 1, 2);
+    assertEquals(valueOf(100L), array.getObject(1, 2, 3));
+    assertEquals(array.shape(), permuted.permute(1, 2, 0).shape());
+    assertEquals(valueOf(100L), permuted.permute(1, 2, 0).getObject(1, 2, 3));
+
+    try {
+      array.permute(0, 1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      array.permute(0, 1, 1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void transposedCopies() {
+    NdArray<T> matrix = allocate(Shape.make(70, 130));
+    matrix.scalars().forEachIndexed((coords, s) -> s.setObject(valueOf(coords[0] * 130 + coords[1])));
+
+    NdArray<T> transposed = allocate(Shape.make(130, 70));
+    matrix.permute(1, 0).copyTo(transposed);
+    transposed.scalars().forEachIndexed((coords, s) ->
+        assertEquals(matrix.getObject(coords[1], coords[0]), s.getObject())
+    );
+
+    NdArray<T> matrixCopy = allocate(Shape.make(70, 130));
+    transposed.copyTo(matrixCopy.permute(1, 0));
+    matrixCopy.scalars().forEachIndexed((coords, s) ->
+        assertEquals(matrix.getObject(coords[0], coords[1]), s.getObject())
+    );
+
+    DataBuffer<T> buffer = allocateBuffer(matrix.size());
+    matrix.permute(1, 0).read(buffer);
+    assertEquals(matrix.getObject(0, 0), buffer.getObject(0));
+    assertEquals(matrix.getObject(1, 0), buffer.getObject(1));
+    assertEquals(matrix.getObject(69, 129), buffer.getObject(matrix.size() - 1));
+  }
+
+  @Test
+  public void broadcastViews() {
+    NdArray<T> vector = allocate(Shape.make(3))
+        .setObject(valueOf(1L), 0)
+        .setObject(valueOf(2L), 1)
+        .setObject(valueOf(3L), 2);
+
+    NdArray<T> broadcast = vector.broadcastTo(Shape.make(4, 2, 3));
+    assertEquals(Shape.make(4, 2, 3), broadcast.shape());
+    broadcast.scalars().forEachIndexed((coords, s) ->
+        assertEquals(vector.getObject(coords[2]), s.getObject())
+    );
+    assertSame(vector, vector.broadcastTo(vector.shape()));
+
+    NdArray<T> array = allocate(Shape.make(4, 2, 3));
+    vector.copyTo(array);
+    array.scalars().forEachIndexed((coords, s) ->
+        assertEquals(vector.getObject(coords[2]), s.getObject())
+    );
+
+    NdArray<T> column = allocate(Shape.make(2, 1))
+        .setObject(valueOf(5L), 0, 0)
+        .setObject(valueOf(6L), 1, 0);
+    array.set(column, 3);
+    assertEquals(valueOf(5L), array.getObject(3, 0, 0));
+    assertEquals(valueOf(5L), array.getObject(3, 0, 2));
+    assertEquals(valueOf(6L), array.getObject(3, 1, 1));
+    assertEquals(valueOf(3L), array.getObject(2, 1, 2));
+
+    DataBuffer<T> buffer = allocateBuffer(6);
+    column.broadcastTo(Shape.make(2, 3)).read(buffer);
+    assertEquals(valueOf(5L), buffer.getObject(0));
+    assertEquals(valueOf(5L), buffer.getObject(2));
+    assertEquals(valueOf(6L), buffer.getObject(3));
+    assertEquals(valueOf(6L), buffer.getObject(5));
+
+    try {
+      vector.broadcastTo(Shape.make(4, 2));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      array.copyTo(vector);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void reshapedViews() {
+    NdArray<T> matrix = allocate(Shape.make(4, 6));
+    matrix.scalars().forEachIndexed((coords, s) -> s.setObject(valueOf(coords[0] * 6 + coords[1])));
+
+    NdArray<T> reshaped = matrix.reshape(Shape.make(4, 2, 3));
+    assertEquals(Shape.make(4, 2, 3), reshaped.shape());
+    assertEquals(valueOf(5L), reshaped.getObject(0, 1, 2));
+    assertEquals(valueOf(23L), reshaped.getObject(3, 1, 2));
+    reshaped.setObject(valueOf(100L), 2, 1, 0);
+    assertEquals(valueOf(100L), matrix.getObject(2, 3));  // view
+
+    NdArray<T> sliceReshaped = matrix.slice(even()).reshape(Shape.make(2, 3, 2));
+    assertEquals(valueOf(0L), sliceReshaped.getObject(0, 0, 0));
+    assertEquals(valueOf(13L), sliceReshaped.getObject(1, 0, 1));
+    sliceReshaped.setObject(valueOf(101L), 1, 0, 0);
+    assertEquals(valueOf(101L), matrix.getObject(2, 0));  // view
+
+    NdArray<T> transposedReshaped = matrix.permute(1, 0).reshape(Shape.make(24));
+    assertEquals(valueOf(0L), transposedReshaped.getObject(0));
+    assertEquals(valueOf(6L), transposedReshaped.getObject(1));
+    assertEquals(valueOf(1L), transposedReshaped.getObject(4));
+    transposedReshaped.setObject(valueOf(102L), 1);
+    assertEquals(valueOf(6L), matrix.getObject(1, 0));  // copy
+
+    try {
+      matrix.reshape(Shape.make(5, 5));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void stackedArrays() {
+    NdArray<T> vectorA = allocate(Shape.make(3)).setObject(valueOf(1L), 0);
+    NdArray<T> vectorB = allocate(Shape.make(3)).setObject(valueOf(2L), 2);
+
+    NdArray<T> batch = NdArrays.stack(Arrays.asList(vectorA, vectorB));
+    assertEquals(Shape.make(2, 3), batch.shape());
+    assertEquals(valueOf(1L), batch.getObject(0, 0));
+    assertEquals(valueOf(2L), batch.getObject(1, 2));
+
+    NdArray<T> dst = allocate(Shape.make(2, 3));
+    assertSame(dst, NdArrays.stack(Arrays.asList(vectorA, vectorB), dst));
+    assertEquals(valueOf(2L), dst.getObject(1, 2));
+
+    List<NdArray<T>> elements = NdArrays.unstack(batch);
+    assertEquals(2, elements.size());
+    assertEquals(valueOf(1L), elements.get(0).getObject(0));
+    elements.get(1).setObject(valueOf(3L), 0);
+    assertEquals(valueOf(3L), batch.getObject(1, 0));  // view
+
+    try {
+      NdArrays.stack(Arrays.asList(vectorA, allocate(Shape.make(4))));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      NdArrays.stack(Arrays.asList(vectorA, vectorB), allocate(Shape.make(3, 3)));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void concatenatedArrays() {
+    NdArray<T> matrixA = allocate(Shape.make(2, 3));
+    matrixA.scalars().forEachIndexed((coords, s) -> s.setObject(valueOf(coords[0] * 3 + coords[1])));
+    NdArray<T> matrixB = allocate(Shape.make(1, 3)).setObject(valueOf(10L), 0, 1);
+
+    NdArray<T> rows = NdArrays.concat(Arrays.asList(matrixA, matrixB), 0);
+    assertEquals(Shape.make(3, 3), rows.shape());
+    assertEquals(valueOf(5L), rows.getObject(1, 2));
+    assertEquals(valueOf(10L), rows.getObject(2, 1));
+
+    NdArray<T> columns = NdArrays.concat(Arrays.asList(matrixA, matrixA.slice(all(), to(1))), 1);
+    assertEquals(Shape.make(2, 4), columns.shape());
+    assertEquals(valueOf(5L), columns.getObject(1, 2));
+    assertEquals(valueOf(3L), columns.getObject(1, 3));
+
+    NdArray<T> column = allocate(Shape.make(2, 1)).setObject(valueOf(7L), 1, 0);
+    NdArray<T> contiguousColumns = NdArrays.concat(Arrays.asList(column, matrixA), 1);
+    assertEquals(Shape.make(2, 4), contiguousColumns.shape());
+    assertEquals(valueOf(7L), contiguousColumns.getObject(1, 0));
+    assertEquals(valueOf(2L), contiguousColumns.getObject(0, 3));
+    assertEquals(valueOf(5L), contiguousColumns.getObject(1, 3));
+
+    List<NdArray<T>> parts = NdArrays.split(rows, 0, 2, 1);
+    assertEquals(Shape.make(2, 3), parts.get(0).shape());
+    assertEquals(Shape.make(1, 3), parts.get(1).shape());
+    assertEquals(valueOf(10L), parts.get(1).getObject(0, 1));
+    parts.get(1).setObject(valueOf(11L), 0, 0);
+    assertEquals(valueOf(11L), rows.getObject(2, 0));  // view
+
+    List<NdArray<T>> columnParts = NdArrays.split(columns, 1, 3, 1);
+    assertEquals(Shape.make(2, 1), columnParts.get(1).shape());
+    assertEquals(valueOf(3L), columnParts.get(1).getObject(1, 0));
+
+    try {
+      NdArrays.concat(Arrays.asList(matrixA, matrixB), 1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      NdArrays.split(rows, 0, 2, 2);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void parallelTransfers() {
+    ParallelTransfer transfer = ParallelTransfer.create().withThreshold(4);
+    NdArray<T> src = allocate(Shape.make(2, 3, 5));
+    src.scalars().forEachIndexed((coords, s) ->
+        s.setObject(valueOf(coords[0] * 15 + coords[1] * 5 + coords[2])));
+
+    NdArray<T> dst = allocate(Shape.make(2, 3, 5));
+    transfer.copy(src, dst);
+    dst.scalars().forEachIndexed((coords, s) ->
+        assertEquals(valueOf(coords[0] * 15 + coords[1] * 5 + coords[2]), s.getObject()));
+
+    NdArray<T> transposed = allocate(Shape.make(5, 3, 2));
+    transfer.copy(src.permute(2, 1, 0), transposed);
+    assertEquals(valueOf(19L), transposed.getObject(4, 0, 1));
+
+    NdArray<T> broadcast = allocate(Shape.make(4, 3, 5));
+    transfer.copy(src.get(1), broadcast);
+    assertEquals(valueOf(29L), broadcast.getObject(3, 2, 4));
+
+    DataBuffer<T> buffer = allocateBuffer(src.size() + 2);
+    transfer.read(src, buffer);
+    assertEquals(valueOf(29L), buffer.getObject(29));
+
+    NdArray<T> written = allocate(Shape.make(2, 3, 5));
+    transfer.write(written, buffer.offset(1));
+    assertEquals(valueOf(29L), written.getObject(1, 2, 3));
+
+    DataBuffer<T> copiedBuffer = allocateBuffer(buffer.size());
+    transfer.copy(buffer, copiedBuffer, src.size());
+    assertEquals(valueOf(17L), copiedBuffer.getObject(17));
+
+    transfer.fill(written.slice(all(), all(), to(2)), valueOf(100L));
+    assertEquals(valueOf(100L), written.getObject(1, 2, 1));
+    assertEquals(valueOf(29L), written.getObject(1, 2, 3));
+
+    try {
+      transfer.read(src, allocateBuffer(src.size() - 1));
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    try {
+      transfer.write(written, allocateBuffer(src.size() - 1));
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void gatheredAndScatteredElements() {
+    NdArray<T> matrix = allocate(Shape.make(4, 3));
+    matrix.scalars().forEachIndexed((coords, s) -> s.setObject(valueOf(coords[0] * 3 + coords[1])));
+
+    NdArray<T> rows = allocate(Shape.make(3, 3));
+    matrix.gather(0, NdArrays.vectorOf(3L, 0L, 3L), rows);
+    assertEquals(valueOf(9L), rows.getObject(0, 0));
+    assertEquals(valueOf(2L), rows.getObject(1, 2));
+    assertEquals(valueOf(11L), rows.getObject(2, 2));
+
+    NdArray<T> columns = allocate(Shape.make(4, 2));
+    matrix.gather(1, NdArrays.vectorOf(2L, 0L), columns);
+    assertEquals(valueOf(2L), columns.getObject(0, 0));
+    assertEquals(valueOf(9L), columns.getObject(3, 1));
+
+    LongNdArray indexMatrix = NdArrays.ofLongs(Shape.make(2, 2));
+    indexMatrix.write(new long[] { 1L, 2L, 0L, 1L });
+    NdArray<T> rowPairs = allocate(Shape.make(2, 2, 3));
+    matrix.gather(0, indexMatrix, rowPairs);
+    assertEquals(valueOf(8L), rowPairs.getObject(0, 1, 2));
+    assertEquals(valueOf(4L), rowPairs.getObject(1, 1, 1));
+
+    NdArray<T> transposedRows = allocate(Shape.make(2, 4));
+    matrix.permute(1, 0).gather(0, NdArrays.vectorOf(1L, 2L), transposedRows);
+    assertEquals(valueOf(10L), transposedRows.getObject(0, 3));
+    assertEquals(valueOf(5L), transposedRows.getObject(1, 1));
+
+    NdArray<T> scattered = allocate(Shape.make(4, 3));
+    scattered.scatter(0, NdArrays.vectorOf(2L, 0L), matrix.slice(range(1, 3)));
+    assertEquals(valueOf(3L), scattered.getObject(2, 0));
+    assertEquals(valueOf(8L), scattered.getObject(0, 2));
+    scattered.scatter(1, NdArrays.vectorOf(1L), columns.slice(all(), range(1, 2)));
+    assertEquals(valueOf(9L), scattered.getObject(3, 1));
+
+    ParallelTransfer transfer = ParallelTransfer.create().withThreshold(2);
+    NdArray<T> parallelRowPairs = allocate(Shape.make(2, 2, 3));
+    transfer.gather(matrix, 0, indexMatrix, parallelRowPairs);
+    rowPairs.scalars().forEachIndexed((coords, s) ->
+        assertEquals(s.getObject(), parallelRowPairs.getObject(coords)));
+    NdArray<T> parallelScattered = allocate(Shape.make(4, 3));
+    transfer.scatter(parallelScattered, 0, NdArrays.vectorOf(3L, 2L, 1L, 0L), matrix);
+    assertEquals(valueOf(11L), parallelScattered.getObject(0, 2));
+    assertEquals(valueOf(0L), parallelScattered.getObject(3, 0));
+
+    try {
+      matrix.gather(0, NdArrays.vectorOf(1L, 4L), allocate(Shape.make(2, 3)));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      matrix.gather(0, NdArrays.vectorOf(-1L), allocate(Shape.make(1, 3)));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      matrix.gather(0, NdArrays.vectorOf(1L, 2L), allocate(Shape.make(3, 3)));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      matrix.scatter(2, NdArrays.vectorOf(1L), allocate(Shape.make(4, 3, 1)));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
   @Test
   public void ndArrayCopies() {
     NdArray<T> matrixA = allocate(Shape.make(3, 5));
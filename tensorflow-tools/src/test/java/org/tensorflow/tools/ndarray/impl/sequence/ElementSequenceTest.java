@@ -19,6 +19,9 @@ package org.tensorflow.tools.ndarray.impl.sequence;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.tensorflow.tools.ndarray.index.Indices.all;
+import static org.tensorflow.tools.ndarray.index.Indices.odd;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -74,4 +77,43 @@ public class ElementSequenceTest {
     assertArrayEquals(new long[] {1, 2, 0}, coords.get(10));
     assertArrayEquals(new long[] {1, 2, 1}, coords.get(11));
   }
+
+  @Test
+  public void slidingWindowReusesSameElement() {
+    IntNdArray array = NdArrays.ofInts(Shape.make(2, 3, 2));
+    array.write(new int[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 });
+
+    @SuppressWarnings("unchecked")
+    NdArraySequence<IntNdArray> sequence = ElementSequence
+        .create((AbstractNdArray<Integer, IntNdArray>)array, 1)
+        .asSlidingWindow();
+    List<IntNdArray> elements = new ArrayList<>();
+    List<Integer> values = new ArrayList<>();
+    sequence.forEach(e -> {
+      elements.add(e);
+      values.add(e.getInt(1));
+    });
+    assertEquals(6, elements.size());
+    assertSame(elements.get(0), elements.get(5));
+    assertEquals(Arrays.asList(1, 3, 5, 7, 9, 11), values);
+
+    values.clear();
+    sequence.forEachIndexed((c, e) -> {
+      e.setInt(e.getInt(0) * 10, 0);
+      values.add(e.getInt(0));
+    });
+    assertEquals(Arrays.asList(0, 20, 40, 60, 80, 100), values);
+    assertEquals(60, array.getInt(1, 0, 0));
+  }
+
+  @Test
+  public void slidingWindowOverSlice() {
+    IntNdArray array = NdArrays.ofInts(Shape.make(3, 4));
+    array.write(new int[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 });
+
+    IntNdArray slice = array.slice(all(), odd());
+    List<Integer> values = new ArrayList<>();
+    slice.scalars().asSlidingWindow().forEach(s -> values.add(s.getInt()));
+    assertEquals(Arrays.asList(1, 3, 5, 7, 9, 11), values);
+  }
 }